@@ -10,7 +10,11 @@ import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -64,8 +68,12 @@ public class Cart extends BaseEntity {
     }
 
     public void removeItemsByVariantIds(List<Long> productVariantIds) {
+        removeIf(item -> productVariantIds.contains(item.getProductVariantId()));
+    }
+
+    private void removeIf(Predicate<CartItem> condition) {
         this.cartItems.removeIf(item -> {
-            if (productVariantIds.contains(item.getProductVariantId())){
+            if (condition.test(item)){
                 item.setCart(null);
                 return true; //리스트에서 제거
             }
@@ -73,6 +81,23 @@ public class Cart extends BaseEntity {
         });
     }
 
+    // 상품 변형 id 별 수량과 같아지도록 장바구니 상품을 추가, 변경, 삭제한다
+    public void syncItems(Map<Long, Integer> quantities) {
+        removeIf(item -> !quantities.containsKey(item.getProductVariantId()));
+        Map<Long, CartItem> existItems = this.cartItems.stream()
+                .collect(Collectors.toMap(CartItem::getProductVariantId, Function.identity()));
+        quantities.forEach((productVariantId, quantity) -> {
+            CartItem existItem = existItems.get(productVariantId);
+            if (existItem != null) {
+                existItem.updateQuantity(quantity);
+                return;
+            }
+            CartItem cartItem = CartItem.create(productVariantId, quantity);
+            this.cartItems.add(cartItem);
+            cartItem.setCart(this);
+        });
+    }
+
     public boolean isOwner(Long accessUserId) {
         return this.userId.equals(accessUserId);
     }
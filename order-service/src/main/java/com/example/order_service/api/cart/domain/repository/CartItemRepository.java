@@ -13,4 +13,8 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     @Modifying
     @Query("delete from CartItem ci where ci.id in :cartItemIds and ci.cart.userId = :userId")
     int deleteAllByIdsAndUserId(@Param("userId") Long userId, @Param("cartItemIds") List<Long> cartItemIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CartItem ci where ci.cart.id = :cartId and ci.productVariantId in :productVariantIds")
+    int deleteAllByCartIdAndProductVariantIds(@Param("cartId") Long cartId, @Param("productVariantIds") List<Long> productVariantIds);
 }
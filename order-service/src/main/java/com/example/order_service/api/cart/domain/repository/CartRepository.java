@@ -11,4 +11,6 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     @Query("SELECT c FROM Cart c LEFT JOIN FETCH c.cartItems WHERE c.userId = :userId")
     Optional<Cart> findWithItemsByUserId(@Param("userId") Long userId);
     Optional<Cart> findByUserId(Long userId);
+    @Query("SELECT c.id FROM Cart c WHERE c.userId = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,29 @@
+package com.example.order_service.api.cart.domain.repository;
+
+import com.example.order_service.api.cart.domain.service.dto.result.CartItemDto;
+import com.example.order_service.api.cart.facade.dto.command.CartCommand;
+
+import java.util.List;
+
+/**
+ * 장바구니 상품 저장소
+ * <p>
+ * order.cart.store 설정으로 구현을 선택한다 (jpa: 기본값, redis)
+ * <p>
+ * 장바구니 상품 id 는 jpa 저장소에서는 cart_item.id, redis 저장소에서는 상품 변형 id 이다.
+ * 다른 유저의 장바구니 상품에 접근하면 jpa 저장소는 CART_NO_PERMISSION, redis 저장소는 CART_ITEM_NOT_FOUND 로 응답한다.
+ */
+public interface CartStore {
+
+    List<CartItemDto> addItems(Long userId, List<CartCommand.Item> items);
+
+    CartItemDto getItem(Long userId, Long cartItemId);
+
+    List<CartItemDto> getItems(Long userId);
+
+    CartItemDto updateQuantity(Long userId, Long cartItemId, int quantity);
+
+    void deleteItems(Long userId, List<Long> cartItemIds);
+
+    void deleteByProductVariantIds(Long userId, List<Long> productVariantIds);
+}
@@ -1,79 +1,41 @@
 package com.example.order_service.api.cart.domain.service;
 
-import com.example.order_service.api.cart.domain.model.Cart;
-import com.example.order_service.api.cart.domain.model.CartItem;
-import com.example.order_service.api.cart.domain.repository.CartItemRepository;
-import com.example.order_service.api.cart.domain.repository.CartRepository;
+import com.example.order_service.api.cart.domain.repository.CartStore;
 import com.example.order_service.api.cart.domain.service.dto.result.CartItemDto;
 import com.example.order_service.api.cart.facade.dto.command.CartCommand;
-import com.example.order_service.api.common.exception.business.BusinessException;
-import com.example.order_service.api.common.exception.business.code.CartErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class CartService {
-    private final CartRepository cartRepository;
-    private final CartItemRepository cartItemRepository;
+    private final CartStore cartStore;
 
     public List<CartItemDto> addItemToCart(CartCommand.AddItems command) {
-        Cart cart = cartRepository.findWithItemsByUserId(command.userId())
-                .orElseGet(() -> cartRepository.save(Cart.create(command.userId())));
-        List<CartItem> cartItems = cart.addItems(command.items());
-        cartRepository.flush();
-        return CartItemDto.from(cartItems);
+        return cartStore.addItems(command.userId(), command.items());
     }
 
-    @Transactional(readOnly = true)
     public CartItemDto getCartItem(Long userId, Long cartItemId) {
-        CartItem cartItem = getCartItemByCartItemId(cartItemId);
-        validateCartUserId(cartItem, userId);
-        return CartItemDto.from(cartItem);
+        return cartStore.getItem(userId, cartItemId);
     }
 
-    @Transactional(readOnly = true)
     public List<CartItemDto> getCartItems(Long userId) {
-        return cartRepository.findWithItemsByUserId(userId)
-                .map(this::createCartItemDtoList)
-                .orElseGet(List::of);
+        return cartStore.getItems(userId);
     }
 
     public CartItemDto updateQuantity(Long userId, Long cartItemId, int quantity) {
-        CartItem cartItem = getCartItemByCartItemId(cartItemId);
-        validateCartUserId(cartItem, userId);
-        cartItem.updateQuantity(quantity);
-        return CartItemDto.from(cartItem);
+        return cartStore.updateQuantity(userId, cartItemId, quantity);
     }
 
     public void deleteCartItems(Long userId, List<Long> cartItemIds) {
-        cartItemRepository.deleteAllByIdsAndUserId(userId, cartItemIds);
+        cartStore.deleteItems(userId, cartItemIds);
     }
 
     public void deleteByProductVariantIds(Long userId, List<Long> productVariantIds) {
-        cartRepository.findWithItemsByUserId(userId)
-                .ifPresent(cart -> cart.removeItemsByVariantIds(productVariantIds));
-    }
-
-    private List<CartItemDto> createCartItemDtoList(Cart cart) {
-        return cart.getCartItems().stream().map(CartItemDto::from)
-                .toList();
-    }
-
-    private CartItem getCartItemByCartItemId(Long cartItemId) {
-        return cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND));
-    }
-
-    private void validateCartUserId(CartItem cartItem, Long userId) {
-        if (!cartItem.getCart().isOwner(userId)) {
-            throw new BusinessException(CartErrorCode.CART_NO_PERMISSION);
-        }
+        cartStore.deleteByProductVariantIds(userId, productVariantIds);
     }
 }
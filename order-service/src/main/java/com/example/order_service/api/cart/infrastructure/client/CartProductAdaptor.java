@@ -1,7 +1,8 @@
 package com.example.order_service.api.cart.infrastructure.client;
 
 import com.example.order_service.api.cart.infrastructure.client.dto.CartProductResponse;
-import com.example.order_service.api.cart.infrastructure.client.dto.CartProductsRequest;
+import com.example.order_service.api.common.client.product.ProductLookupGateway;
+import com.example.order_service.api.common.client.product.ProductSnapshotCache;
 import com.example.order_service.api.common.exception.ExternalServiceErrorCode;
 import com.example.order_service.api.common.exception.business.BusinessException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
@@ -19,6 +20,8 @@ import java.util.List;
 public class CartProductAdaptor {
 
     private final CartProductClient cartProductClient;
+    private final ProductLookupGateway productLookupGateway;
+    private final ProductSnapshotCache productSnapshotCache;
 
     @CircuitBreaker(name = "productService", fallbackMethod = "getProductFallback")
     public CartProductResponse getProduct(Long productVariantId){
@@ -27,8 +30,9 @@ public class CartProductAdaptor {
 
     @CircuitBreaker(name = "productService", fallbackMethod = "getProductsFallback")
     public List<CartProductResponse> getProducts(List<Long> productVariantIds){
-        CartProductsRequest request = CartProductsRequest.of(productVariantIds);
-        return cartProductClient.getProductVariantByIds(request);
+        return productSnapshotCache.getAll(productVariantIds, productLookupGateway::getVariants).stream()
+                .map(CartProductResponse::from)
+                .toList();
     }
 
     private CartProductResponse getProductFallback(Long productVariantId, Throwable throwable){
@@ -1,5 +1,6 @@
 package com.example.order_service.api.cart.infrastructure.client.dto;
 
+import com.example.order_service.api.common.client.product.dto.ProductVariantResponse;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -18,6 +19,29 @@ public class CartProductResponse {
     @Builder.Default
     private List<ProductOptionInfo> itemOptions = new ArrayList<>();
 
+    public static CartProductResponse from(ProductVariantResponse response) {
+        ProductVariantResponse.UnitPrice unitPrice = response.unitPrice();
+        return CartProductResponse.builder()
+                .productId(response.productId())
+                .productVariantId(response.productVariantId())
+                .status(response.status())
+                .productName(response.productName())
+                .unitPrice(unitPrice == null ? null : UnitPrice.builder()
+                        .originalPrice(unitPrice.originalPrice())
+                        .discountRate(unitPrice.discountRate())
+                        .discountAmount(unitPrice.discountAmount())
+                        .discountedPrice(unitPrice.discountedPrice())
+                        .build())
+                .thumbnailUrl(response.thumbnailUrl())
+                .itemOptions(response.itemOptions() == null ? new ArrayList<>() : response.itemOptions().stream()
+                        .map(option -> ProductOptionInfo.builder()
+                                .optionTypeName(option.optionTypeName())
+                                .optionValueName(option.optionValueName())
+                                .build())
+                        .toList())
+                .build();
+    }
+
     @Getter
     @Builder
     public static class UnitPrice {
@@ -0,0 +1,85 @@
+package com.example.order_service.api.cart.infrastructure.executor;
+
+import com.example.order_service.api.cart.infrastructure.properties.CartCleanupProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 요청 스레드 밖에서 장바구니 정리 작업을 실행하고 실패하면 지수 백오프로 재시도한다
+ * <p>
+ * 장바구니 정리는 주문 결과에 영향을 주지 않으므로 최대 재시도 이후에도 실패하면 로그와 지표만 남긴다.
+ */
+@Slf4j
+@Component
+public class CartCleanupExecutor implements DisposableBean {
+
+    private final ScheduledExecutorService executor;
+    private final CartCleanupProperties properties;
+    private final Counter succeeded;
+    private final Counter retried;
+    private final Counter failed;
+
+    public CartCleanupExecutor(CartCleanupProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.executor = Executors.newScheduledThreadPool(properties.threads(),
+                Thread.ofPlatform().name("cart-cleanup-", 0).daemon().factory());
+        this.succeeded = taskCounter(meterRegistry, "success");
+        this.retried = taskCounter(meterRegistry, "retry");
+        this.failed = taskCounter(meterRegistry, "failure");
+    }
+
+    public void submit(String description, Runnable task) {
+        try {
+            executor.execute(() -> attempt(description, task, 1));
+        } catch (RejectedExecutionException e) {
+            failed.increment();
+            log.error("장바구니 정리 작업 등록 실패 {}", description, e);
+        }
+    }
+
+    private void attempt(String description, Runnable task, int attempt) {
+        try {
+            task.run();
+            succeeded.increment();
+        } catch (RuntimeException e) {
+            if (attempt >= properties.maxAttempts()) {
+                failed.increment();
+                log.error("장바구니 정리 실패 {}, 시도 횟수 : {}", description, attempt, e);
+                return;
+            }
+            retried.increment();
+            long backoff = properties.initialBackoff().toMillis() << (attempt - 1);
+            log.warn("장바구니 정리 실패 {}, {}ms 후 재시도", description, backoff, e);
+            try {
+                executor.schedule(() -> attempt(description, task, attempt + 1), backoff, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException rejected) {
+                failed.increment();
+                log.error("장바구니 정리 재시도 등록 실패 {}", description, rejected);
+            }
+        }
+    }
+
+    private Counter taskCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cart.cleanup.tasks")
+                .description("결제 완료 후 장바구니 정리 작업 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("장바구니 정리 실행기 종료 대기 시간 초과");
+            executor.shutdownNow();
+        }
+    }
+}
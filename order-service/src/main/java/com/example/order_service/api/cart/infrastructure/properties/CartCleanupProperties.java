@@ -0,0 +1,23 @@
+package com.example.order_service.api.cart.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 결제 완료 후 장바구니 정리 설정
+ * <p>
+ * 실패한 정리 작업은 initialBackoff 부터 두배씩 늘려가며 maxAttempts 까지 재시도한다
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.cart.cleanup")
+public record CartCleanupProperties(
+        @DefaultValue("2") @Min(value = 1) int threads,
+        @DefaultValue("3") @Min(value = 1) int maxAttempts,
+        @DefaultValue("500ms") @NotNull Duration initialBackoff
+) {
+}
@@ -0,0 +1,27 @@
+package com.example.order_service.api.cart.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 장바구니 저장소 설정
+ *
+ * @param store                저장소 구현 (jpa, redis). redis 는 기존 장바구니를 옮긴 이후에 사용한다
+ * @param ttl                  마지막 변경 이후 Redis 장바구니 보관 기간
+ * @param writeBehindEnabled   Redis 장바구니를 분석용으로 MySQL 에 비동기 반영할지 여부
+ * @param writeBehindBatchSize 한번에 MySQL 에 반영할 장바구니 수
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.cart")
+public record CartStoreProperties(
+        @DefaultValue("jpa") @NotNull String store,
+        @DefaultValue("30d") @NotNull Duration ttl,
+        @DefaultValue("false") boolean writeBehindEnabled,
+        @DefaultValue("100") @Min(value = 1) int writeBehindBatchSize
+) {
+}
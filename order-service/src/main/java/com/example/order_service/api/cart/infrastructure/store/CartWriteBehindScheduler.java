@@ -0,0 +1,61 @@
+package com.example.order_service.api.cart.infrastructure.store;
+
+import com.example.order_service.api.cart.domain.model.Cart;
+import com.example.order_service.api.cart.domain.repository.CartRepository;
+import com.example.order_service.api.cart.infrastructure.properties.CartStoreProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 장바구니를 분석용 MySQL 테이블에 비동기로 반영한다
+ * <p>
+ * 변경된 유저를 cart:dirty 에서 꺼내 해당 유저의 장바구니 전체를 덮어쓴다.
+ * 반영에 실패한 유저는 다시 cart:dirty 에 넣어 다음 주기에 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.cart", name = "write-behind-enabled", havingValue = "true")
+public class CartWriteBehindScheduler {
+    private final StringRedisTemplate redisTemplate;
+    private final CartRepository cartRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CartStoreProperties properties;
+
+    @Scheduled(fixedDelayString = "${order.cart.write-behind-interval-ms:10000}")
+    public void flush() {
+        List<String> userIds = redisTemplate.opsForSet().pop(RedisCartStore.DIRTY_KEY, properties.writeBehindBatchSize());
+        if (userIds == null) {
+            return;
+        }
+        for (String userId : userIds) {
+            try {
+                write(Long.valueOf(userId));
+            } catch (RuntimeException e) {
+                log.warn("장바구니 MySQL 반영 실패 userId={}", userId, e);
+                redisTemplate.opsForSet().add(RedisCartStore.DIRTY_KEY, userId);
+            }
+        }
+    }
+
+    private void write(Long userId) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        redisTemplate.opsForHash().entries(RedisCartStore.key(userId)).forEach((variantId, quantity) ->
+                quantities.put(Long.valueOf((String) variantId), Integer.valueOf((String) quantity)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Cart cart = cartRepository.findWithItemsByUserId(userId)
+                    .orElseGet(() -> cartRepository.save(Cart.create(userId)));
+            cart.syncItems(quantities);
+        });
+    }
+}
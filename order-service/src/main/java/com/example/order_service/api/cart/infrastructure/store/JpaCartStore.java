@@ -0,0 +1,85 @@
+package com.example.order_service.api.cart.infrastructure.store;
+
+import com.example.order_service.api.cart.domain.model.Cart;
+import com.example.order_service.api.cart.domain.model.CartItem;
+import com.example.order_service.api.cart.domain.repository.CartItemRepository;
+import com.example.order_service.api.cart.domain.repository.CartRepository;
+import com.example.order_service.api.cart.domain.repository.CartStore;
+import com.example.order_service.api.cart.domain.service.dto.result.CartItemDto;
+import com.example.order_service.api.cart.facade.dto.command.CartCommand;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.common.exception.business.code.CartErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.cart", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class JpaCartStore implements CartStore {
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+
+    @Override
+    public List<CartItemDto> addItems(Long userId, List<CartCommand.Item> items) {
+        Cart cart = cartRepository.findWithItemsByUserId(userId)
+                .orElseGet(() -> cartRepository.save(Cart.create(userId)));
+        List<CartItem> cartItems = cart.addItems(items);
+        cartRepository.flush();
+        return CartItemDto.from(cartItems);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CartItemDto getItem(Long userId, Long cartItemId) {
+        CartItem cartItem = getCartItemByCartItemId(cartItemId);
+        validateCartUserId(cartItem, userId);
+        return CartItemDto.from(cartItem);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CartItemDto> getItems(Long userId) {
+        return cartRepository.findWithItemsByUserId(userId)
+                .map(cart -> CartItemDto.from(cart.getCartItems()))
+                .orElseGet(List::of);
+    }
+
+    @Override
+    public CartItemDto updateQuantity(Long userId, Long cartItemId, int quantity) {
+        CartItem cartItem = getCartItemByCartItemId(cartItemId);
+        validateCartUserId(cartItem, userId);
+        cartItem.updateQuantity(quantity);
+        return CartItemDto.from(cartItem);
+    }
+
+    @Override
+    public void deleteItems(Long userId, List<Long> cartItemIds) {
+        cartItemRepository.deleteAllByIdsAndUserId(userId, cartItemIds);
+    }
+
+    @Override
+    public void deleteByProductVariantIds(Long userId, List<Long> productVariantIds) {
+        if (productVariantIds.isEmpty()) {
+            return;
+        }
+        // 장바구니 상품을 읽지 않고 한번의 DELETE 로 삭제
+        cartRepository.findIdByUserId(userId)
+                .ifPresent(cartId -> cartItemRepository.deleteAllByCartIdAndProductVariantIds(cartId, productVariantIds));
+    }
+
+    private CartItem getCartItemByCartItemId(Long cartItemId) {
+        return cartItemRepository.findById(cartItemId)
+                .orElseThrow(() -> new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND));
+    }
+
+    private void validateCartUserId(CartItem cartItem, Long userId) {
+        if (!cartItem.getCart().isOwner(userId)) {
+            throw new BusinessException(CartErrorCode.CART_NO_PERMISSION);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.order_service.api.cart.infrastructure.store;
+
+import com.example.order_service.api.cart.domain.repository.CartStore;
+import com.example.order_service.api.cart.domain.service.dto.result.CartItemDto;
+import com.example.order_service.api.cart.facade.dto.command.CartCommand;
+import com.example.order_service.api.cart.infrastructure.properties.CartStoreProperties;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.common.exception.business.code.CartErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 해시 기반 장바구니 저장소
+ * <p>
+ * 유저별 해시(cart:{userId}) 에 상품 변형 id -> 수량을 저장하고 수량 증가는 HINCRBY 로 원자적으로 처리한다.
+ * 장바구니 상품 id 는 상품 변형 id 와 같으며, 다른 유저의 장바구니는 키가 달라 조회되지 않으므로 찾을 수 없음으로 응답한다.
+ * JPA 저장소의 장바구니 상품 id(cart_item.id) 및 권한 없음(CART_NO_PERMISSION) 응답과 다르고 기존 cart, cart_item 데이터를 읽지 않으므로,
+ * 기존 장바구니를 옮기고 클라이언트가 상품 변형 id 를 장바구니 상품 id 로 사용하도록 바뀐 이후에 order.cart.store=redis 로 전환한다.
+ * write-behind 가 켜져 있으면 변경된 유저를 cart:dirty 에 기록해 {@link CartWriteBehindScheduler} 가 MySQL 에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.cart", name = "store", havingValue = "redis")
+public class RedisCartStore implements CartStore {
+    static final String DIRTY_KEY = "cart:dirty";
+    private static final String KEY_PREFIX = "cart:";
+    // 장바구니에 있는 상품만 수량을 변경한다
+    private static final RedisScript<Long> UPDATE_IF_EXISTS = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CartStoreProperties properties;
+
+    @Override
+    public List<CartItemDto> addItems(Long userId, List<CartCommand.Item> items) {
+        items.forEach(item -> validateQuantity(item.quantity()));
+        byte[] key = bytes(key(userId));
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (CartCommand.Item item : items) {
+                connection.hashCommands().hIncrBy(key, bytes(String.valueOf(item.productVariantId())), item.quantity());
+            }
+            connection.keyCommands().pExpire(key, properties.ttl().toMillis());
+            return null;
+        });
+        markDirty(userId);
+
+        List<CartItemDto> cartItems = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            Long productVariantId = items.get(i).productVariantId();
+            cartItems.add(toDto(productVariantId, ((Number) results.get(i)).intValue()));
+        }
+        return cartItems;
+    }
+
+    @Override
+    public CartItemDto getItem(Long userId, Long cartItemId) {
+        Object quantity = redisTemplate.opsForHash().get(key(userId), String.valueOf(cartItemId));
+        if (quantity == null) {
+            throw new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND);
+        }
+        return toDto(cartItemId, Integer.parseInt((String) quantity));
+    }
+
+    @Override
+    public List<CartItemDto> getItems(Long userId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(userId));
+        return entries.entrySet().stream()
+                .map(entry -> toDto(Long.valueOf((String) entry.getKey()), Integer.parseInt((String) entry.getValue())))
+                .toList();
+    }
+
+    @Override
+    public CartItemDto updateQuantity(Long userId, Long cartItemId, int quantity) {
+        validateQuantity(quantity);
+        Long updated = redisTemplate.execute(UPDATE_IF_EXISTS, List.of(key(userId)),
+                String.valueOf(cartItemId), String.valueOf(quantity), String.valueOf(properties.ttl().toMillis()));
+        if (updated == null || updated == 0) {
+            throw new BusinessException(CartErrorCode.CART_ITEM_NOT_FOUND);
+        }
+        markDirty(userId);
+        return toDto(cartItemId, quantity);
+    }
+
+    @Override
+    public void deleteItems(Long userId, List<Long> cartItemIds) {
+        deleteFields(userId, cartItemIds);
+    }
+
+    @Override
+    public void deleteByProductVariantIds(Long userId, List<Long> productVariantIds) {
+        deleteFields(userId, productVariantIds);
+    }
+
+    private void deleteFields(Long userId, List<Long> productVariantIds) {
+        if (productVariantIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForHash().delete(key(userId), productVariantIds.stream().map(String::valueOf).toArray());
+        markDirty(userId);
+    }
+
+    private void markDirty(Long userId) {
+        if (properties.writeBehindEnabled()) {
+            redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(userId));
+        }
+    }
+
+    private void validateQuantity(Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new BusinessException(CartErrorCode.CART_ITEM_MINIMUM_ONE_REQUIRED);
+        }
+    }
+
+    private CartItemDto toDto(Long productVariantId, int quantity) {
+        return CartItemDto.builder()
+                .id(productVariantId)
+                .productVariantId(productVariantId)
+                .quantity(quantity)
+                .build();
+    }
+
+    static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
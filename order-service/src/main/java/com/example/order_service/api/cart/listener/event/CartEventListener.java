@@ -1,19 +1,24 @@
 package com.example.order_service.api.cart.listener.event;
 
 import com.example.order_service.api.cart.facade.CartFacade;
+import com.example.order_service.api.cart.infrastructure.executor.CartCleanupExecutor;
 import com.example.order_service.api.order.facade.event.PaymentCompletedEvent;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
 public class CartEventListener {
 
     private final CartFacade cartFacade;
+    private final CartCleanupExecutor cartCleanupExecutor;
 
-    @EventListener
+    // 결제 승인 응답이 장바구니 크기에 영향받지 않도록 커밋 이후 별도 스레드에서 정리한다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handlePaymentCompletedEvent(PaymentCompletedEvent event){
-        cartFacade.removePurchasedItems(event.getUserId(), event.getProductVariantIds());
+        cartCleanupExecutor.submit("orderNo=" + event.getOrderNo(),
+                () -> cartFacade.removePurchasedItems(event.getUserId(), event.getProductVariantIds()));
     }
 }
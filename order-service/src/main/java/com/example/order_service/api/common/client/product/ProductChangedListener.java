@@ -0,0 +1,55 @@
+package com.example.order_service.api.common.client.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 서비스의 상품 변경 알림으로 로컬 상품 캐시를 무효화한다
+ * <p>
+ * 모든 인스턴스가 각자의 로컬 캐시를 비워야 하므로 인스턴스마다 다른 그룹으로 구독하고, 기동 이전의 알림은 읽지 않는다.
+ * 메시지 타입이 상품 서비스 패키지에 있으므로 문자열로 받아 필요한 필드만 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductChangedListener {
+    private final ProductSnapshotCache productSnapshotCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "${order.topics.product-changed}",
+            groupId = "order-service-product-snapshot-${random.uuid}",
+            batch = "true",
+            properties = {
+                    "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                    "auto.offset.reset=latest"
+            })
+    public void handleProductChanged(@Payload List<String> messages) {
+        List<Long> variantIds = new ArrayList<>();
+        for (String message : messages) {
+            try {
+                variantIds.addAll(objectMapper.readValue(message, ProductChangedMessage.class).variantIds());
+            } catch (JsonProcessingException | RuntimeException e) {
+                // 어떤 변형이 바뀌었는지 알 수 없으므로 전체를 비운다
+                log.warn("상품 변경 알림 파싱 실패 message={}", message, e);
+                productSnapshotCache.evictAll();
+                return;
+            }
+        }
+        productSnapshotCache.evict(variantIds);
+    }
+
+    record ProductChangedMessage(Long productId, List<Long> variantIds) {
+        ProductChangedMessage {
+            variantIds = variantIds == null ? List.of() : variantIds;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.order_service.api.common.client.product;
+
+import com.example.order_service.api.common.client.product.dto.ProductVariantResponse;
+import com.example.order_service.api.common.client.product.dto.ProductVariantsRequest;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+
+import java.util.List;
+
+@FeignClient(name = "product-service", contextId = "productLookupClient", configuration = ProductFeignConfig.class)
+public interface ProductLookupClient {
+    @PostMapping("/internal/variants/by-ids")
+    List<ProductVariantResponse> getVariants(ProductVariantsRequest request);
+}
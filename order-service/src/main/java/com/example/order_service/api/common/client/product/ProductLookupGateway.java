@@ -0,0 +1,189 @@
+package com.example.order_service.api.common.client.product;
+
+import com.example.order_service.api.common.client.product.dto.ProductVariantResponse;
+import com.example.order_service.api.common.client.product.dto.ProductVariantsRequest;
+import com.example.order_service.api.common.exception.ExternalServiceErrorCode;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 장바구니, 주문서, 주문이 공유하는 상품 변형 조회 게이트웨이
+ * <p>
+ * 이미 조회 중인 변형 id 는 진행중인 요청의 결과를 함께 기다리고(single-flight),
+ * 새로운 id 는 window 동안 모았다가 하나의 by-ids 요청으로 조회한다.
+ * 같은 인기 상품을 동시에 조회하는 요청이 많아도 상품 서비스에는 window 당 한번만 요청이 전달된다.
+ */
+@Slf4j
+@Component
+public class ProductLookupGateway {
+
+    private final ProductLookupClient client;
+    private final ProductLookupProperties properties;
+    private final ConcurrentHashMap<Long, CompletableFuture<Optional<ProductVariantResponse>>> inFlight = new ConcurrentHashMap<>();
+    private final Object pendingLock = new Object();
+    private final ScheduledExecutorService flusher;
+    private final ExecutorService fetcher;
+    private final Counter coalesced;
+    private final Counter fetched;
+    private final Counter batches;
+
+    private List<Long> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public ProductLookupGateway(ProductLookupClient client, ProductLookupProperties properties, MeterRegistry meterRegistry) {
+        this.client = client;
+        this.properties = properties;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("product-lookup-flusher").daemon().factory());
+        this.fetcher = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-lookup-", 0).factory());
+        this.coalesced = lookupCounter(meterRegistry, "coalesced");
+        this.fetched = lookupCounter(meterRegistry, "fetched");
+        this.batches = Counter.builder("product.lookup.batches")
+                .description("상품 서비스로 전달된 by-ids 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상품 변형 정보를 조회한다
+     *
+     * @return 요청한 id 순서의 변형 정보, 존재하지 않는 변형은 포함되지 않는다
+     */
+    public List<ProductVariantResponse> getVariants(List<Long> variantIds) {
+        if (variantIds == null || variantIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CompletableFuture<Optional<ProductVariantResponse>>> futures = new LinkedHashMap<>();
+        for (Long variantId : new LinkedHashSet<>(variantIds)) {
+            futures.put(variantId, join(variantId));
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new));
+        try {
+            all.get(properties.timeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("상품 조회 대기 시간 초과 variantIds={}", variantIds);
+            throw new BusinessException(ExternalServiceErrorCode.UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ExternalServiceErrorCode.UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException(ExternalServiceErrorCode.SYSTEM_ERROR);
+        }
+
+        return futures.values().stream()
+                .map(CompletableFuture::join)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    // 진행중인 조회가 있으면 합류하고 없으면 다음 배치에 추가한다
+    private CompletableFuture<Optional<ProductVariantResponse>> join(Long variantId) {
+        boolean[] created = {false};
+        CompletableFuture<Optional<ProductVariantResponse>> future = inFlight.computeIfAbsent(variantId, id -> {
+            created[0] = true;
+            return new CompletableFuture<>();
+        });
+        if (created[0]) {
+            enqueue(variantId);
+        } else {
+            coalesced.increment();
+        }
+        return future;
+    }
+
+    private void enqueue(Long variantId) {
+        List<Long> ready = null;
+        synchronized (pendingLock) {
+            pending.add(variantId);
+            if (pending.size() >= properties.maxBatchSize()) {
+                ready = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = flusher.schedule(this::flush, properties.window().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (ready != null) {
+            dispatch(ready);
+        }
+    }
+
+    private void flush() {
+        List<Long> ready;
+        synchronized (pendingLock) {
+            ready = drain();
+        }
+        dispatch(ready);
+    }
+
+    private List<Long> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<Long> ready = pending;
+        pending = new ArrayList<>();
+        return ready;
+    }
+
+    private void dispatch(List<Long> variantIds) {
+        if (variantIds.isEmpty()) {
+            return;
+        }
+        fetched.increment(variantIds.size());
+        batches.increment();
+        try {
+            fetcher.execute(() -> fetch(variantIds));
+        } catch (RejectedExecutionException e) {
+            complete(variantIds, null, new BusinessException(ExternalServiceErrorCode.UNAVAILABLE));
+        }
+    }
+
+    private void fetch(List<Long> variantIds) {
+        try {
+            List<ProductVariantResponse> responses = client.getVariants(ProductVariantsRequest.of(variantIds));
+            complete(variantIds, responses, null);
+        } catch (Throwable throwable) {
+            complete(variantIds, null, throwable);
+        }
+    }
+
+    // 결과를 전달하기 전에 inFlight 에서 제거해야 이후 요청이 완료된 결과에 합류하지 않는다
+    private void complete(List<Long> variantIds, List<ProductVariantResponse> responses, Throwable throwable) {
+        Map<Long, ProductVariantResponse> byId = new HashMap<>();
+        if (responses != null) {
+            responses.forEach(response -> byId.put(response.productVariantId(), response));
+        }
+        for (Long variantId : variantIds) {
+            CompletableFuture<Optional<ProductVariantResponse>> future = inFlight.remove(variantId);
+            if (future == null) {
+                continue;
+            }
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else {
+                future.complete(Optional.ofNullable(byId.get(variantId)));
+            }
+        }
+    }
+
+    private Counter lookupCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("product.lookup.ids")
+                .description("상품 변형 조회 요청 id 수, coalesced / (coalesced + fetched) 로 병합 비율을 구한다")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        fetcher.shutdown();
+    }
+}
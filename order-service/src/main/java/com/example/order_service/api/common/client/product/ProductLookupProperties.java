@@ -0,0 +1,23 @@
+package com.example.order_service.api.common.client.product;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 상품 조회 게이트웨이 설정
+ * <p>
+ * window 동안 들어온 조회를 모아 한번에 요청하고, 모인 id 가 maxBatchSize 에 도달하면 바로 요청한다
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.product-lookup")
+public record ProductLookupProperties(
+        @DefaultValue("5ms") @NotNull Duration window,
+        @DefaultValue("100") @Min(value = 1) int maxBatchSize,
+        @DefaultValue("3s") @NotNull Duration timeout
+) {
+}
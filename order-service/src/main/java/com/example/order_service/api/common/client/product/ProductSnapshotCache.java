@@ -0,0 +1,74 @@
+package com.example.order_service.api.common.client.product;
+
+import com.example.order_service.api.common.client.product.dto.ProductVariantResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 장바구니, 주문서 조회용 상품 정보 로컬 캐시
+ * <p>
+ * 상품명, 가격, 할인, 썸네일, 옵션, 판매 상태를 캐시하며 상품 서비스의 변경 알림으로 무효화한다.
+ * 캐시된 재고는 마지막으로 조회한 시점의 값이므로 주문 생성시에는 캐시를 거치지 않고 상품 서비스에서 다시 검증한다.
+ */
+@Component
+public class ProductSnapshotCache {
+
+    private final Cache<Long, ProductVariantResponse> cache;
+    private final Counter hit;
+    private final Counter miss;
+
+    public ProductSnapshotCache(ProductSnapshotCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .build();
+        this.hit = requestCounter(meterRegistry, "hit");
+        this.miss = requestCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 캐시에 없는 변형만 loader 로 조회해 캐시에 채운다
+     *
+     * @param loader 캐시에 없는 변형 id 목록으로 상품 서비스를 조회하는 함수
+     * @return 요청한 id 순서의 변형 정보, 존재하지 않는 변형은 포함되지 않는다
+     */
+    public List<ProductVariantResponse> getAll(List<Long> variantIds, Function<List<Long>, List<ProductVariantResponse>> loader) {
+        Set<Long> ids = new LinkedHashSet<>(variantIds);
+        Map<Long, ProductVariantResponse> found = new HashMap<>(cache.getAllPresent(ids));
+        hit.increment(found.size());
+        List<Long> missIds = ids.stream().filter(id -> !found.containsKey(id)).toList();
+        miss.increment(missIds.size());
+
+        if (!missIds.isEmpty()) {
+            for (ProductVariantResponse response : loader.apply(missIds)) {
+                cache.put(response.productVariantId(), response);
+                found.put(response.productVariantId(), response);
+            }
+        }
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public void evict(Collection<Long> variantIds) {
+        cache.invalidateAll(variantIds);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("product.snapshot.cache.requests")
+                .description("상품 정보 로컬 캐시 조회 수, hit / (hit + miss) 로 적중률을 구한다")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.order_service.api.common.client.product;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 상품 정보 로컬 캐시 설정
+ * <p>
+ * 상품 변경 알림을 놓치더라도 ttl 이 지나면 상품 서비스에서 다시 조회한다
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.product-snapshot-cache")
+public record ProductSnapshotCacheProperties(
+        @DefaultValue("10000") @Min(value = 1) long maximumSize,
+        @DefaultValue("1m") @NotNull Duration ttl
+) {
+}
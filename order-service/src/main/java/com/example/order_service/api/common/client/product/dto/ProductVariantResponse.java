@@ -0,0 +1,40 @@
+package com.example.order_service.api.common.client.product.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 상품 서비스 /internal/variants/by-ids 응답
+ * <p>
+ * 장바구니, 주문서, 주문이 공유하는 조회 결과이므로 각 도메인은 필요한 형태로 변환해서 사용한다
+ */
+@Builder
+public record ProductVariantResponse(
+        Long productId,
+        Long productVariantId,
+        String status,
+        String sku,
+        String productName,
+        UnitPrice unitPrice,
+        Integer stockQuantity,
+        String thumbnailUrl,
+        List<ItemOption> itemOptions
+) {
+
+    @Builder
+    public record UnitPrice(
+            long originalPrice,
+            int discountRate,
+            long discountAmount,
+            long discountedPrice
+    ) {
+    }
+
+    @Builder
+    public record ItemOption(
+            String optionTypeName,
+            String optionValueName
+    ) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.order_service.api.common.client.product.dto;
+
+import java.util.List;
+
+public record ProductVariantsRequest(List<Long> variantIds) {
+
+    public static ProductVariantsRequest of(List<Long> variantIds) {
+        return new ProductVariantsRequest(variantIds);
+    }
+}
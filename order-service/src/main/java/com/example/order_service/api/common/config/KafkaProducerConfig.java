@@ -0,0 +1,23 @@
+package com.example.order_service.api.common.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class KafkaProducerConfig {
+
+    // outbox 릴레이가 재시도하더라도 브로커에 중복/순서 역전이 생기지 않도록 멱등 프로듀서를 사용
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer idempotentProducerCustomizer() {
+        return producerFactory -> producerFactory.updateConfigs(Map.of(
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+                ProducerConfig.ACKS_CONFIG, "all",
+                ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION_CONFIG, 5,
+                ProducerConfig.LINGER_MS_CONFIG, 5
+        ));
+    }
+}
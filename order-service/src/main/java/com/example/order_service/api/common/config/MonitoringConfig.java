@@ -1,6 +1,9 @@
 package com.example.order_service.api.common.config;
 
+import com.example.order_service.api.order.saga.infrastructure.kafka.producer.SagaOutboxRelay;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.instrument.config.MeterFilter;
 import io.micrometer.core.instrument.config.MeterFilterReply;
 import io.micrometer.observation.ObservationPredicate;
@@ -35,4 +38,17 @@ public class MonitoringConfig {
             }
         };
     }
+
+    @Bean
+    public MeterBinder sagaOutboxRelayMetrics(SagaOutboxRelay sagaOutboxRelay) {
+        return registry -> {
+            Gauge.builder("saga.outbox.relay.lag", sagaOutboxRelay, SagaOutboxRelay::getLagMillis)
+                    .description("발행 대기중인 가장 오래된 saga 메시지의 지연 시간")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder("saga.outbox.relay.batch.size", sagaOutboxRelay, SagaOutboxRelay::getLastBatchSize)
+                    .description("마지막 릴레이 주기에 처리한 saga 메시지 수")
+                    .register(registry);
+        };
+    }
 }
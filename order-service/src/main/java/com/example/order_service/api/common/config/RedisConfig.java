@@ -0,0 +1,23 @@
+package com.example.order_service.api.common.config;
+
+import com.example.order_service.api.notification.infrastructure.relay.RedisNotificationRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order.notification", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       RedisNotificationRelay notificationRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(notificationRelay, new ChannelTopic(RedisNotificationRelay.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.order_service.api.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Builder
+public class CursorPageDto<T> {
+    private List<T> content;
+    private int pageSize;
+    private boolean hasNext;
+    // 다음 페이지 요청에 전달할 커서, 마지막 페이지면 null
+    private String nextCursor;
+
+    public static <E, T> CursorPageDto<T> of(Slice<E> slice, Function<E, T> mapper, Function<E, String> cursorMapper) {
+        List<E> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorMapper.apply(content.getLast())
+                : null;
+        return CursorPageDto.<T>builder()
+                .content(content.stream().map(mapper).toList())
+                .pageSize(slice.getSize())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
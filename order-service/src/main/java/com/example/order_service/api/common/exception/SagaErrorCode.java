@@ -7,7 +7,8 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum SagaErrorCode implements ErrorCode {
-    SAGA_NOT_FOUND(404, "SAGA_001", "SAGA 인스턴스를 찾을 수 없습니다");
+    SAGA_NOT_FOUND(404, "SAGA_001", "SAGA 인스턴스를 찾을 수 없습니다"),
+    SAGA_NOT_STARTED(409, "SAGA_002", "진행중인 SAGA 인스턴스만 다음 단계로 진행할 수 있습니다");
     private final int status;
     private final String code;
     private final String message;
@@ -17,7 +17,9 @@ public enum OrderErrorCode implements ErrorCode {
     ORDER_ITEM_MINIMUM_ONE_REQUIRED(400, "ORDER_008", "주문 상품은 1개 이상이여야 합니다"),
     ORDER_DUPLICATE_ORDER_PRODUCT(400, "ORDER_009", "중복된 주문 상품이 존재합니다"),
     ORDER_PRODUCT_NOT_ON_SALE(409, "ORDER_010", "주문 상품중 판매중이 아닌 상품이 존재합니다"),
-    ORDER_PRODUCT_INSUFFICIENT_STOCK(409, "ORDER_010", "주문 상품중 재고가 부족한 상품이 있습니다");
+    ORDER_PRODUCT_INSUFFICIENT_STOCK(409, "ORDER_010", "주문 상품중 재고가 부족한 상품이 있습니다"),
+    ORDER_INVALID_CURSOR(400, "ORDER_011", "잘못된 주문 목록 커서입니다"),
+    ORDER_PAYMENT_IN_PROGRESS(409, "ORDER_012", "다른 결제 키로 결제 승인이 진행중인 주문입니다");
     private final int status;
     private final String code;
     private final String message;
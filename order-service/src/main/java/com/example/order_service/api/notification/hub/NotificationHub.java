@@ -0,0 +1,136 @@
+package com.example.order_service.api.notification.hub;
+
+import com.example.order_service.api.notification.infrastructure.properties.NotificationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이 인스턴스에 연결된 SSE 연결을 관리하고 알림을 전달한다
+ * <p>
+ * 유저마다 여러 탭의 연결을 maxConnectionsPerUser 개까지 유지하고 넘치면 가장 오래된 연결을 끊는다.
+ * 주기적으로 heartbeat 를 보내고 전송에 실패하거나 전송 큐가 가득 차 있는 연결은 정리한다.
+ */
+@Slf4j
+@Component
+public class NotificationHub {
+    private static final String CONNECT_EVENT = "CONNECT";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final NotificationProperties properties;
+    private final Map<Long, List<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final Thread.Builder writerThreadBuilder = Thread.ofVirtual().name("sse-writer-", 0);
+    private final Counter queueFullDrops;
+    private final Counter evictions;
+
+    public NotificationHub(NotificationProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("notification.connections.active", activeConnections, AtomicInteger::get)
+                .description("이 인스턴스에 연결된 SSE 연결 수")
+                .register(meterRegistry);
+        this.queueFullDrops = Counter.builder("notification.messages.dropped")
+                .description("전송 큐가 가득 차 버린 알림 수")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("notification.connections.evicted")
+                .description("heartbeat 실패나 연결 수 제한으로 정리한 연결 수")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter connect(Long userId) {
+        SseEmitter emitter = new SseEmitter(properties.emitterTimeout().toMillis());
+        SseConnection connection = new SseConnection(userId, emitter, properties.sendQueueCapacity());
+        register(connection);
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+        connection.start(writerThreadBuilder, () -> remove(connection));
+
+        connection.offer(SseEmitter.event().name(CONNECT_EVENT).data("CONNECTED SUCCESSFULLY"));
+        return emitter;
+    }
+
+    /**
+     * 이 인스턴스에 연결된 유저의 모든 탭에 알림을 전달한다
+     * 전송은 연결별 전송 스레드에서 처리하므로 호출한 스레드는 기다리지 않는다
+     */
+    public void deliver(Long userId, String eventName, Object data) {
+        List<SseConnection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        for (SseConnection connection : userConnections) {
+            if (!connection.offer(SseEmitter.event().name(eventName).data(data))) {
+                queueFullDrops.increment();
+                log.warn("SSE 전송 큐가 가득 차 알림을 버림 userId={}, event={}", userId, eventName);
+            }
+        }
+    }
+
+    // 전송 큐가 가득 찬 연결은 heartbeat 도 보낼 수 없으므로 멈춘 클라이언트로 보고 끊는다
+    @Scheduled(fixedDelayString = "${order.notification.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> {
+            if (!connection.offer(SseEmitter.event().comment(HEARTBEAT_COMMENT))) {
+                evict(connection);
+            }
+        }));
+    }
+
+    public int activeConnections() {
+        return activeConnections.get();
+    }
+
+    private void register(SseConnection connection) {
+        // 빈 목록을 제거하는 remove 와 겹쳐도 연결이 유실되지 않도록 compute 안에서 추가한다
+        List<SseConnection> userConnections = connections.compute(connection.getUserId(), (userId, current) -> {
+            List<SseConnection> list = current == null ? new CopyOnWriteArrayList<>() : current;
+            list.add(connection);
+            return list;
+        });
+        activeConnections.incrementAndGet();
+        while (userConnections.size() > properties.maxConnectionsPerUser()) {
+            evict(userConnections.getFirst());
+        }
+    }
+
+    private void evict(SseConnection connection) {
+        if (remove(connection)) {
+            evictions.increment();
+        }
+        connection.getEmitter().complete();
+    }
+
+    private boolean remove(SseConnection connection) {
+        if (!connection.close()) {
+            return false;
+        }
+        activeConnections.decrementAndGet();
+        connections.computeIfPresent(connection.getUserId(), (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> {
+            remove(connection);
+            connection.getEmitter().complete();
+        }));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.order_service.api.notification.hub;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 브라우저 탭 하나의 SSE 연결
+ * <p>
+ * 메시지는 전송 큐에 넣고 연결마다 하나인 가상 스레드가 순서대로 전송한다.
+ * 느린 클라이언트는 자신의 전송 스레드만 막고 알림을 발행한 스레드는 기다리지 않는다.
+ */
+class SseConnection {
+    @Getter
+    private final Long userId;
+    @Getter
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private Thread writer;
+
+    SseConnection(Long userId, SseEmitter emitter, int queueCapacity) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    void start(Thread.Builder threadBuilder, Runnable onFailure) {
+        writer = threadBuilder.start(() -> drain(onFailure));
+    }
+
+    // 큐가 가득 찼거나 닫힌 연결이면 false
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        return !closed.get() && queue.offer(event);
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    boolean close() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        if (writer != null) {
+            writer.interrupt();
+        }
+        return true;
+    }
+
+    private void drain(Runnable onFailure) {
+        try {
+            while (!closed.get()) {
+                emitter.send(queue.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 에미터
+            onFailure.run();
+        }
+    }
+}
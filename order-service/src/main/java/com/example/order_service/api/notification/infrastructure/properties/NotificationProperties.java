@@ -0,0 +1,25 @@
+package com.example.order_service.api.notification.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * SSE 알림 설정
+ * <p>
+ * 연결마다 sendQueueCapacity 크기의 전송 큐를 두고, 큐가 가득 찬 연결로 보내는 메시지는 버린다.
+ * relayEnabled 가 켜져 있으면 Redis pub/sub 으로 모든 인스턴스에 알림을 전달한다.
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.notification")
+public record NotificationProperties(
+        @DefaultValue("5m") @NotNull Duration emitterTimeout,
+        @DefaultValue("32") @Min(value = 1) int sendQueueCapacity,
+        @DefaultValue("5") @Min(value = 1) int maxConnectionsPerUser,
+        @DefaultValue("true") boolean relayEnabled
+) {
+}
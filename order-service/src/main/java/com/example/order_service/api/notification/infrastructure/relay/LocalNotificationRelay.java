@@ -0,0 +1,21 @@
+package com.example.order_service.api.notification.infrastructure.relay;
+
+import com.example.order_service.api.notification.hub.NotificationHub;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인스턴스가 하나일 때 사용하는 전달 방식, 이 인스턴스의 연결에만 전달한다
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.notification", name = "relay-enabled", havingValue = "false")
+public class LocalNotificationRelay implements NotificationRelay {
+    private final NotificationHub notificationHub;
+
+    @Override
+    public void publish(Long userId, String eventName, Object data) {
+        notificationHub.deliver(userId, eventName, data);
+    }
+}
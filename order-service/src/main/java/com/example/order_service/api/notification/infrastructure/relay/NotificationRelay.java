@@ -0,0 +1,8 @@
+package com.example.order_service.api.notification.infrastructure.relay;
+
+/**
+ * 알림을 유저가 연결된 인스턴스까지 전달한다
+ */
+public interface NotificationRelay {
+    void publish(Long userId, String eventName, Object data);
+}
@@ -0,0 +1,60 @@
+package com.example.order_service.api.notification.infrastructure.relay;
+
+import com.example.order_service.api.notification.hub.NotificationHub;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Redis pub/sub 으로 모든 인스턴스에 알림을 전달한다
+ * <p>
+ * 사가 응답을 처리한 인스턴스와 유저가 SSE 로 연결된 인스턴스가 다를 수 있으므로
+ * 알림을 채널에 발행하고 각 인스턴스는 자신에게 연결된 유저에게만 전달한다.
+ * Redis 발행에 실패하면 이 인스턴스의 연결에라도 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.notification", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class RedisNotificationRelay implements NotificationRelay, MessageListener {
+    public static final String CHANNEL = "order:notification";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationHub notificationHub;
+
+    @Override
+    public void publish(Long userId, String eventName, Object data) {
+        try {
+            NotificationMessage message = new NotificationMessage(userId, eventName, objectMapper.valueToTree(data));
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.error("알림 변환 실패 userId={}, event={}", userId, eventName, e);
+        } catch (RuntimeException e) {
+            log.warn("알림 발행 실패, 이 인스턴스의 연결에만 전달 userId={}, event={}", userId, eventName, e);
+            notificationHub.deliver(userId, eventName, data);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NotificationMessage notification = objectMapper.readValue(message.getBody(), NotificationMessage.class);
+            notificationHub.deliver(notification.userId(), notification.eventName(), notification.data());
+        } catch (IOException e) {
+            log.warn("알림 메시지 파싱 실패", e);
+        }
+    }
+
+    record NotificationMessage(Long userId, String eventName, JsonNode data) {
+    }
+}
@@ -1,55 +1,25 @@
 package com.example.order_service.api.notification.service;
 
+import com.example.order_service.api.notification.hub.NotificationHub;
+import com.example.order_service.api.notification.infrastructure.relay.NotificationRelay;
 import com.example.order_service.api.notification.service.dto.command.SendNotificationDto;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 5;
+    private final NotificationHub notificationHub;
+    private final NotificationRelay notificationRelay;
 
     public SseEmitter createEmitter(Long userId) {
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        this.emitters.put(userId, emitter);
-
-        initEmitter(userId, emitter);
-
-        send(userId, "CONNECT", "CONNECTED SUCCESSFULLY");
-
-        return emitter;
+        return notificationHub.connect(userId);
     }
 
+    // 유저가 다른 인스턴스에 연결되어 있을 수 있으므로 relay 를 통해 전달한다
     public void sendMessage(SendNotificationDto dto) {
-        send(dto.getSendUserId(), dto.getEventName(), dto.getSendObject());
-    }
-
-    private void initEmitter(Long userId, SseEmitter emitter) {
-        emitter.onCompletion(() -> this.emitters.remove(userId, emitter));
-        emitter.onTimeout(() -> this.emitters.remove(userId, emitter));
-        emitter.onError((e) -> this.emitters.remove(userId, emitter));
-    }
-
-    private void send(Long userId, String eventName, Object data) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name(eventName)
-                        .data(data));
-            } catch (IOException e) {
-                emitters.remove(userId);
-                log.error("SSE 전송 실패 : {}", e.getMessage());
-            }
-        }
+        notificationRelay.publish(dto.getSendUserId(), dto.getEventName(), dto.getSendObject());
     }
 }
@@ -1,5 +1,6 @@
 package com.example.order_service.api.order.controller;
 
+import com.example.order_service.api.common.dto.CursorPageDto;
 import com.example.order_service.api.common.dto.PageDto;
 import com.example.order_service.api.common.security.model.UserPrincipal;
 import com.example.order_service.api.order.controller.dto.request.CreateOrderRequest;
@@ -20,6 +21,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -60,12 +62,21 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    // cursor 파라미터가 있으면 커서 모드로 조회, 첫 페이지는 빈 값으로 요청한다
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageDto<OrderListResponse>> getOrdersByCursor(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                                              @ModelAttribute OrderSearchCondition condition) {
+        CursorPageDto<OrderListResponse> orders = orderFacade.getOrdersByCursor(userPrincipal.getUserId(), condition);
+        return ResponseEntity.ok(orders);
+    }
+
     @PostMapping("/confirm")
-    public ResponseEntity<OrderDetailResponse> confirm(@AuthenticationPrincipal UserPrincipal userPrincipal,
-                                                       @RequestBody @Validated OrderConfirmRequest request) {
-        OrderDetailResponse response = orderFacade.confirmOrderPayment(request.getOrderNo(),
-                userPrincipal.getUserId(), request.getPaymentKey(), request.getAmount());
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<OrderDetailResponse>> confirm(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                                          @RequestBody @Validated OrderConfirmRequest request) {
+        // 결제 승인이 끝날때까지 요청 스레드를 반납하고 비동기로 응답
+        return orderFacade.confirmOrderPayment(request.getOrderNo(),
+                        userPrincipal.getUserId(), request.getPaymentKey(), request.getAmount())
+                .thenApply(ResponseEntity::ok);
     }
 
     private List<CreateOrderItemCommand> mappingCreateOrderItemDto(CreateOrderRequest request){
@@ -0,0 +1,37 @@
+package com.example.order_service.api.order.controller.dto.request;
+
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.common.exception.business.code.OrderErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 목록 커서, 마지막으로 조회한 주문의 (주문일시, id)
+ * <p>
+ * 같은 시각에 생성된 주문이 있어도 id 로 순서가 정해지므로 페이지 사이에 누락이나 중복이 생기지 않는다.
+ */
+public record OrderCursor(LocalDateTime createdAt, Long id) {
+    private static final String DELIMITER = "_";
+
+    public static OrderCursor of(LocalDateTime createdAt, Long id) {
+        return new OrderCursor(createdAt, id);
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(DELIMITER);
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, delimiter)), Long.valueOf(raw.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException(OrderErrorCode.ORDER_INVALID_CURSOR);
+        }
+    }
+}
@@ -21,14 +21,18 @@ public class OrderSearchCondition {
     private String year;
     @Setter
     private String productName;
+    // 커서 모드에서 이전 페이지의 마지막 주문 위치, 비어 있으면 첫 페이지
+    @Setter
+    private String cursor;
 
     @Builder
-    private OrderSearchCondition(Integer page, Integer size, String sort, String year, String productName) {
+    private OrderSearchCondition(Integer page, Integer size, String sort, String year, String productName, String cursor) {
         setPage(page);
         setSize(size);
         setSort(sort);
         this.year = year;
         this.productName = productName;
+        this.cursor = cursor;
     }
 
     public void setPage(Integer page) {
@@ -36,7 +40,7 @@ public class OrderSearchCondition {
     }
 
     public void setSize(Integer size) {
-        if (size == null) {
+        if (size == null || size <= 0) {
             this.size = DEFAULT_SIZE;
         } else {
             this.size = Math.min(size, MAX_SIZE);
@@ -2,13 +2,22 @@ package com.example.order_service.api.order.domain.repository;
 
 import com.example.order_service.api.order.domain.model.Order;
 import com.example.order_service.api.order.domain.repository.query.OrderQueryDslRepository;
+import com.example.order_service.api.order.domain.model.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long>, OrderQueryDslRepository {
     @Query("select o from Order o where o.orderNo = :orderNo")
     Optional<Order> findByOrderNo(@Param("orderNo") String orderNo);
+
+    // 여러 인스턴스에서 같은 주문을 동시에 변경하지 않도록 현재 상태를 조건으로 변경
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :to, o.updatedAt = :updatedAt where o.orderNo = :orderNo and o.status = :from")
+    int changeStatusIf(@Param("orderNo") String orderNo, @Param("from") OrderStatus from, @Param("to") OrderStatus to,
+                       @Param("updatedAt") LocalDateTime updatedAt);
 }
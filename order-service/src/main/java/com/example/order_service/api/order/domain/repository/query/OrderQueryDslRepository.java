@@ -3,7 +3,11 @@ package com.example.order_service.api.order.domain.repository.query;
 import com.example.order_service.api.order.controller.dto.request.OrderSearchCondition;
 import com.example.order_service.api.order.domain.model.Order;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface OrderQueryDslRepository {
     Page<Order> findByUserIdAndCondition(Long userId, OrderSearchCondition condition);
+
+    // 커서 이후의 주문을 조회한다, 전체 개수는 조회하지 않는다
+    Slice<Order> findByUserIdAndCursor(Long userId, OrderSearchCondition condition);
 }
@@ -1,22 +1,35 @@
 package com.example.order_service.api.order.domain.repository.query;
 
+import com.example.order_service.api.order.controller.dto.request.OrderCursor;
 import com.example.order_service.api.order.controller.dto.request.OrderSearchCondition;
 import com.example.order_service.api.order.domain.model.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.example.order_service.api.order.domain.model.QCoupon.coupon;
 import static com.example.order_service.api.order.domain.model.QOrder.order;
 import static com.example.order_service.api.order.domain.model.QOrderItem.orderItem;
+import static com.example.order_service.api.order.domain.model.QOrderItemOption.orderItemOption;
+import static com.example.order_service.api.order.domain.model.QPayment.payment;
 
+/**
+ * 주문 목록 조회
+ * <p>
+ * 먼저 (user_id, created_at) 인덱스로 페이지에 해당하는 주문 id 만 조회하고,
+ * 주문 상품, 옵션, 쿠폰, 결제는 조회한 id 로 한번씩 묶어서 가져온다.
+ * 상품명 조건은 주문 상품과 조인하지 않고 exists 로 확인해 distinct 가 필요 없다.
+ */
 @Repository
 public class OrderQueryDslRepositoryImpl implements OrderQueryDslRepository{
 
@@ -30,36 +43,93 @@ public class OrderQueryDslRepositoryImpl implements OrderQueryDslRepository{
     public Page<Order> findByUserIdAndCondition(Long userId, OrderSearchCondition condition) {
         Pageable pageable = condition.getPageable();
         OrderSpecifier<?> sortOrder = OrderQueryMapper.toOrderSpecifier(condition.getSort());
-        List<Order> result = queryFactory.select(order).distinct()
+        List<Long> orderIds = queryFactory.select(order.id)
                 .from(order)
-                .join(order.orderItems, orderItem)
                 .where(
-                        yearEq(condition.getYear()),
                         order.orderer.userId.eq(userId),
+                        yearEq(condition.getYear()),
                         productNameEq(condition.getProductName())
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(sortOrder, order.id.desc())
+                .orderBy(sortOrder, OrderQueryMapper.isAscending(condition.getSort()) ? order.id.asc() : order.id.desc())
                 .fetch();
 
-        Long totalElement = queryFactory.select(order.countDistinct())
+        Long totalElement = queryFactory.select(order.count())
                 .from(order)
-                .leftJoin(order.orderItems, orderItem)
                 .where(
-                        yearEq(condition.getYear()),
                         order.orderer.userId.eq(userId),
+                        yearEq(condition.getYear()),
                         productNameEq(condition.getProductName())
                 )
                 .fetchOne();
 
         return new PageImpl<>(
-                result,
+                fetchOrders(orderIds),
                 pageable,
                 totalElement != null ? totalElement : 0L
         );
     }
 
+    @Override
+    public Slice<Order> findByUserIdAndCursor(Long userId, OrderSearchCondition condition) {
+        boolean ascending = OrderQueryMapper.isAscending(condition.getSort());
+        int size = condition.getSize();
+        // 다음 페이지 존재 여부를 확인하기 위해 하나 더 조회한다
+        List<Long> orderIds = queryFactory.select(order.id)
+                .from(order)
+                .where(
+                        order.orderer.userId.eq(userId),
+                        yearEq(condition.getYear()),
+                        productNameEq(condition.getProductName()),
+                        cursorAfter(condition.getCursor(), ascending)
+                )
+                .orderBy(ascending ? order.createdAt.asc() : order.createdAt.desc(),
+                        ascending ? order.id.asc() : order.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = orderIds.size() > size;
+        List<Long> pageIds = hasNext ? orderIds.subList(0, size) : orderIds;
+        return new SliceImpl<>(fetchOrders(pageIds), PageRequest.of(0, size), hasNext);
+    }
+
+    // 컬렉션마다 한번씩 페치 조인해 같은 영속성 컨텍스트의 주문에 채우고 id 순서대로 반환한다
+    private List<Order> fetchOrders(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        List<Order> orders = queryFactory.selectFrom(order).distinct()
+                .leftJoin(order.coupon, coupon).fetchJoin()
+                .leftJoin(order.orderItems, orderItem).fetchJoin()
+                .where(order.id.in(orderIds))
+                .fetch();
+        queryFactory.selectFrom(orderItem).distinct()
+                .leftJoin(orderItem.orderItemOptions, orderItemOption).fetchJoin()
+                .where(orderItem.order.id.in(orderIds))
+                .fetch();
+        queryFactory.selectFrom(order).distinct()
+                .leftJoin(order.payments, payment).fetchJoin()
+                .where(order.id.in(orderIds))
+                .fetch();
+
+        Map<Long, Order> byId = orders.stream().collect(Collectors.toMap(Order::getId, Function.identity()));
+        return orderIds.stream().map(byId::get).toList();
+    }
+
+    private BooleanExpression cursorAfter(String cursor, boolean ascending) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        OrderCursor position = OrderCursor.decode(cursor);
+        if (ascending) {
+            return order.createdAt.gt(position.createdAt())
+                    .or(order.createdAt.eq(position.createdAt()).and(order.id.gt(position.id())));
+        }
+        return order.createdAt.lt(position.createdAt())
+                .or(order.createdAt.eq(position.createdAt()).and(order.id.lt(position.id())));
+    }
+
     private BooleanExpression yearEq(String yearString) {
         if (yearString == null || yearString.isEmpty()){
             return null;
@@ -77,6 +147,10 @@ public class OrderQueryDslRepositoryImpl implements OrderQueryDslRepository{
         if (productName == null || productName.isEmpty()) {
             return null;
         }
-        return orderItem.orderedProduct.productName.contains(productName);
+        return JPAExpressions.selectOne()
+                .from(orderItem)
+                .where(orderItem.order.id.eq(order.id),
+                        orderItem.orderedProduct.productName.contains(productName))
+                .exists();
     }
 }
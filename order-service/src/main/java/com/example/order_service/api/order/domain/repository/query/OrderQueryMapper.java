@@ -29,4 +29,8 @@ public class OrderQueryMapper {
     public static OrderSpecifier<?> toOrderSpecifier(String code) {
         return SortType.fromCode(code).getSpecifier();
     }
+
+    public static boolean isAscending(String code) {
+        return SortType.fromCode(code) == SortType.OLDEST;
+    }
 }
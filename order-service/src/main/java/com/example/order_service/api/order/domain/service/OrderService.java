@@ -5,17 +5,21 @@ import com.example.order_service.api.common.exception.business.code.OrderErrorCo
 import com.example.order_service.api.order.controller.dto.request.OrderSearchCondition;
 import com.example.order_service.api.order.domain.model.Order;
 import com.example.order_service.api.order.domain.model.OrderFailureCode;
+import com.example.order_service.api.order.domain.model.OrderStatus;
 import com.example.order_service.api.order.domain.repository.OrderRepository;
 import com.example.order_service.api.order.domain.service.dto.command.OrderCreationContext;
 import com.example.order_service.api.order.domain.service.dto.command.PaymentCreationContext;
 import com.example.order_service.api.order.domain.service.dto.result.OrderDto;
+import com.example.order_service.api.order.saga.infrastructure.kafka.producer.SagaEventProducer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -24,6 +28,7 @@ import java.util.List;
 @Transactional
 public class OrderService {
     private final OrderRepository orderRepository;
+    private final SagaEventProducer sagaEventProducer;
 
     public OrderDto saveOrder(OrderCreationContext context){
         Order order = Order.create(context);
@@ -40,6 +45,7 @@ public class OrderService {
         return OrderDto.from(order);
     }
 
+    // 주문 조회 모델 backfill 이 끝나기 전의 주문 목록 조회 (OrderFacade 참고)
     @Transactional(readOnly = true)
     public Page<OrderDto> getOrders(Long userId, OrderSearchCondition condition) {
         Page<Order> orders = orderRepository.findByUserIdAndCondition(userId, condition);
@@ -47,6 +53,11 @@ public class OrderService {
         return new PageImpl<>(orderDtoList, orders.getPageable(), orders.getTotalElements());
     }
 
+    @Transactional(readOnly = true)
+    public Slice<OrderDto> getOrdersByCursor(Long userId, OrderSearchCondition condition) {
+        return orderRepository.findByUserIdAndCursor(userId, condition).map(OrderDto::from);
+    }
+
     public OrderDto preparePaymentWaiting(String orderNo){
         Order order = getByOrderNo(orderNo);
         order.preparePaymentWaiting();
@@ -60,9 +71,16 @@ public class OrderService {
     }
 
     public OrderDto completePayment(PaymentCreationContext context) {
+        // 다른 인스턴스에서 같은 주문을 먼저 완료했다면 결제를 중복 저장하지 않는다
+        if (orderRepository.changeStatusIf(context.getOrderNo(), OrderStatus.PAYMENT_WAITING, OrderStatus.COMPLETED,
+                LocalDateTime.now()) == 0) {
+            throw new BusinessException(OrderErrorCode.ORDER_NOT_PAYABLE);
+        }
         Order order = getByOrderNo(context.getOrderNo());
         order.completePayment(context);
         orderRepository.flush();
+        // 결제 완료와 같은 트랜잭션에서 Saga 결제 단계 응답을 outbox 에 기록해 장애가 나도 Saga 가 진행되도록 한다
+        sagaEventProducer.replyPaymentCompleted(order.getOrderNo());
         return OrderDto.from(order);
     }
 
@@ -1,11 +1,12 @@
 package com.example.order_service.api.order.facade;
 
+import com.example.order_service.api.common.dto.CursorPageDto;
 import com.example.order_service.api.common.dto.PageDto;
 import com.example.order_service.api.common.exception.business.BusinessException;
 import com.example.order_service.api.common.exception.business.code.ErrorCode;
 import com.example.order_service.api.common.exception.business.code.OrderErrorCode;
 import com.example.order_service.api.common.exception.business.code.PaymentErrorCode;
-import com.example.order_service.api.common.util.AsyncUtil;
+import com.example.order_service.api.order.controller.dto.request.OrderCursor;
 import com.example.order_service.api.order.controller.dto.request.OrderSearchCondition;
 import com.example.order_service.api.order.domain.model.OrderFailureCode;
 import com.example.order_service.api.order.domain.model.OrderStatus;
@@ -20,18 +21,20 @@ import com.example.order_service.api.order.facade.dto.result.CreateOrderResponse
 import com.example.order_service.api.order.facade.dto.result.OrderDetailResponse;
 import com.example.order_service.api.order.facade.dto.result.OrderListResponse;
 import com.example.order_service.api.order.facade.event.*;
-import io.micrometer.context.ContextSnapshot;
-import io.micrometer.context.ContextSnapshotFactory;
+import com.example.order_service.api.order.infrastructure.executor.PaymentConfirmExecutor;
+import com.example.order_service.api.order.readmodel.infrastructure.backfill.OrderViewBackfill;
+import com.example.order_service.api.order.readmodel.service.OrderQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -40,25 +43,23 @@ import java.util.stream.Collectors;
 public class OrderFacade {
 
     private final OrderPaymentService orderPaymentService;
-    private final OrderUserService orderUserService;
-    private final Executor applicationTaskExecutor;
-    private final OrderProductService orderProductService;
-    private final OrderCouponService orderCouponService;
+    private final OrderPreparationPipeline orderPreparationPipeline;
     private final OrderPriceCalculator calculator;
     private final OrderCreationContextMapper mapper;
     private final OrderService orderService;
+    private final OrderQueryService orderQueryService;
+    private final OrderViewBackfill orderViewBackfill;
+    private final PaymentConfirmExecutor paymentConfirmExecutor;
     private final ApplicationEventPublisher eventPublisher;
 
     public CreateOrderResponse initialOrder(CreateOrderCommand command){
         // 중복 상품이 있는지 검증
         validateUniqueItems(command.getOrderItemCommands());
-        //CompletableFuture 을 사용해서 상품, 유저 요청을 비동기로 동시에 조회
-        OrderPreparationData orderPreparationData = getOrderPreparationData(command);
-        //주문 상품 가격 정보 계산
-        OrderProductAmount productAmount = calculator.calculateItemAmounts(command.getOrderItemCommands(), orderPreparationData.getProducts());
-        OrderCouponInfo coupon = orderCouponService.calculateCouponDiscount(command.getUserId(), command.getCouponId(), productAmount);
+        //유저, 상품 정보를 가상 스레드에서 동시에 조회하고 상품 소계가 계산되면 바로 쿠폰 할인을 계산
+        OrderPreparationData orderPreparationData = orderPreparationPipeline.prepare(command);
+        OrderCouponInfo coupon = orderPreparationData.getCoupon();
         //할인 적용 최종 금액 계산
-        CalculatedOrderAmounts calculatedOrderAmounts = calculator.calculateOrderPrice(productAmount, coupon, command.getPointToUse(), command.getExpectedPrice());
+        CalculatedOrderAmounts calculatedOrderAmounts = calculator.calculateOrderPrice(orderPreparationData.getProductAmount(), coupon, command.getPointToUse(), command.getExpectedPrice());
         // 주문 생성 Context 매핑
         OrderCreationContext creationContext =
                 mapper.mapOrderCreationContext(orderPreparationData.getUser(), calculatedOrderAmounts, coupon, command, orderPreparationData.getProducts());
@@ -81,27 +82,64 @@ public class OrderFacade {
         eventPublisher.publishEvent(OrderFailedEvent.from(orderDto));
     }
 
-    public OrderDetailResponse confirmOrderPayment(String orderNo, Long userId, String paymentKey, Long amount) {
+    public CompletableFuture<OrderDetailResponse> confirmOrderPayment(String orderNo, Long userId, String paymentKey, Long amount) {
+        AtomicBoolean confirmed = new AtomicBoolean(false);
+        // 결제 승인은 전용 실행기에서 진행하고 결제 완료 이벤트는 승인 결과를 응답한 뒤에 발행
+        // 이 이벤트는 알림, 장바구니, 조회 모델 갱신에만 쓰이고 Saga 진행은 outbox 로 기록된 응답으로 한다
+        return paymentConfirmExecutor.submit(orderNo, paymentKey,
+                        () -> confirm(orderNo, userId, paymentKey, amount, confirmed),
+                        orderDto -> {
+                            if (confirmed.get()) {
+                                publishPaymentCompleted(orderDto);
+                            }
+                        })
+                .thenApply(OrderDetailResponse::from);
+    }
+
+    private OrderDto confirm(String orderNo, Long userId, String paymentKey, Long amount, AtomicBoolean confirmed) {
         OrderDto order = orderService.getOrder(orderNo, userId);
+        // 같은 결제 키로 이미 승인된 주문이면 클라이언트 재시도로 보고 승인 결과를 그대로 반환
+        // Saga 결제 단계 응답은 결제 완료와 같은 트랜잭션에서 outbox 에 기록되었으므로 다시 발행하지 않는다
+        if (isConfirmedWith(order, paymentKey)) {
+            return order;
+        }
         // 결제 가능한 상태인지 검증
         validBeforePayment(order, amount);
         // 결제 서비스 결제 승인 요청
         OrderPaymentInfo orderPaymentInfo = confirmPayment(order.getOrderNo(), paymentKey, order.getOrderPriceInfo().getFinalPaymentAmount());
         PaymentCreationContext paymentContext = mapper.mapPaymentCreationContext(orderPaymentInfo);
         OrderDto orderDto = orderService.completePayment(paymentContext);
+        confirmed.set(true);
+        return orderDto;
+    }
+
+    private void publishPaymentCompleted(OrderDto orderDto) {
         List<Long> orderedItemVariantIds = orderDto.getOrderItems().stream().map(i -> i.getOrderedProduct().getProductVariantId()).toList();
         eventPublisher.publishEvent(PaymentCompletedEvent.of(orderDto.getOrderNo(), orderDto.getOrderer().getUserId(), orderedItemVariantIds));
-        return OrderDetailResponse.from(orderDto);
     }
 
     public OrderDetailResponse getOrder(Long userId, String orderNo) {
-        OrderDto order = orderService.getOrder(orderNo, userId);
-        return OrderDetailResponse.from(order);
+        // 조회 모델에 아직 반영되지 않은 주문은 쓰기 모델에서 조회
+        return orderQueryService.findOrder(orderNo, userId)
+                .orElseGet(() -> OrderDetailResponse.from(orderService.getOrder(orderNo, userId)));
     }
 
     public PageDto<OrderListResponse> getOrders(Long userId, OrderSearchCondition condition){
-        Page<OrderDto> orders = orderService.getOrders(userId, condition);
-        return PageDto.of(orders, OrderListResponse::from);
+        // 조회 모델 backfill 이 끝나기 전에는 이전 주문이 목록에서 빠지므로 쓰기 모델에서 조회
+        if (!orderViewBackfill.isCompleted()) {
+            Page<OrderDto> orders = orderService.getOrders(userId, condition);
+            return PageDto.of(orders, OrderListResponse::from);
+        }
+        return orderQueryService.getOrders(userId, condition);
+    }
+
+    public CursorPageDto<OrderListResponse> getOrdersByCursor(Long userId, OrderSearchCondition condition){
+        if (!orderViewBackfill.isCompleted()) {
+            Slice<OrderDto> orders = orderService.getOrdersByCursor(userId, condition);
+            return CursorPageDto.of(orders, OrderListResponse::from,
+                    order -> OrderCursor.of(order.getOrderedAt(), order.getId()).encode());
+        }
+        return orderQueryService.getOrdersByCursor(userId, condition);
     }
 
     private OrderPaymentInfo confirmPayment(String orderNo, String paymentKey, Long amount) {
@@ -121,6 +159,12 @@ public class OrderFacade {
         }
     }
 
+    private boolean isConfirmedWith(OrderDto order, String paymentKey) {
+        return order.getStatus() == OrderStatus.COMPLETED
+                && order.getPaymentInfo() != null
+                && paymentKey.equals(order.getPaymentInfo().getPaymentKey());
+    }
+
     private void validBeforePayment(OrderDto order, Long amount) {
         if (!order.getStatus().equals(OrderStatus.PAYMENT_WAITING)) {
             throw new BusinessException(OrderErrorCode.ORDER_NOT_PAYABLE);
@@ -150,28 +194,4 @@ public class OrderFacade {
             throw new BusinessException(OrderErrorCode.ORDER_DUPLICATE_ORDER_PRODUCT);
         }
     }
-
-    // 유저정보, 상품 정보를 비동기로 동시 조회
-    private OrderPreparationData getOrderPreparationData(CreateOrderCommand command) {
-        Executor contextAwareExecutor = task -> {
-            ContextSnapshot snapshot = ContextSnapshotFactory.builder().build().captureAll();
-            applicationTaskExecutor.execute(snapshot.wrap(task));
-        };
-
-        CompletableFuture<OrderUserInfo> userFuture = CompletableFuture.supplyAsync(
-                () -> orderUserService.getUser(command.getUserId(), command.getPointToUse()),
-                contextAwareExecutor
-        );
-
-        CompletableFuture<List<OrderProductInfo>> productFuture = CompletableFuture.supplyAsync(
-                () -> orderProductService.getProducts(command.getOrderItemCommands()),
-                contextAwareExecutor
-        );
-        CompletableFuture.allOf(userFuture, productFuture).join();
-
-        return OrderPreparationData.builder()
-                .user(AsyncUtil.join(userFuture))
-                .products(AsyncUtil.join(productFuture))
-                .build();
-    }
 }
@@ -0,0 +1,108 @@
+package com.example.order_service.api.order.facade;
+
+import com.example.order_service.api.common.exception.ExternalServiceErrorCode;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.order.domain.service.OrderCouponService;
+import com.example.order_service.api.order.domain.service.OrderPriceCalculator;
+import com.example.order_service.api.order.domain.service.OrderProductService;
+import com.example.order_service.api.order.domain.service.OrderUserService;
+import com.example.order_service.api.order.domain.service.dto.result.OrderCouponInfo;
+import com.example.order_service.api.order.domain.service.dto.result.OrderProductAmount;
+import com.example.order_service.api.order.domain.service.dto.result.OrderProductInfo;
+import com.example.order_service.api.order.domain.service.dto.result.OrderUserInfo;
+import com.example.order_service.api.order.facade.dto.OrderPreparationData;
+import com.example.order_service.api.order.facade.dto.command.CreateOrderCommand;
+import com.example.order_service.api.order.infrastructure.properties.OrderPreparationProperties;
+import io.micrometer.context.ContextSnapshotFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 주문 생성에 필요한 유저, 상품, 쿠폰 정보를 가상 스레드에서 동시에 조회한다
+ * <p>
+ * 요청마다 가상 스레드 실행기를 하나의 범위로 열고 범위를 벗어나기 전에 모든 작업이 끝나도록 보장한다.
+ * 쿠폰 할인 계산은 상품 소계가 계산되는 즉시 시작하고, 하나의 호출이 실패하거나 제한 시간을 넘기면
+ * 범위 안의 나머지 호출을 인터럽트해 중단한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderPreparationPipeline {
+    private static final ContextSnapshotFactory SNAPSHOT_FACTORY = ContextSnapshotFactory.builder().build();
+    private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name("order-preparation-", 0).factory();
+
+    private final OrderUserService orderUserService;
+    private final OrderProductService orderProductService;
+    private final OrderCouponService orderCouponService;
+    private final OrderPriceCalculator calculator;
+    private final OrderPreparationProperties properties;
+
+    public OrderPreparationData prepare(CreateOrderCommand command) {
+        try (ExecutorService scope = Executors.newThreadPerTaskExecutor(THREAD_FACTORY)) {
+            Executor executor = task -> scope.execute(SNAPSHOT_FACTORY.captureAll().wrap(task));
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+
+            CompletableFuture<OrderUserInfo> userFuture = fork(scope, executor, failure, properties.userTimeout(),
+                    () -> orderUserService.getUser(command.getUserId(), command.getPointToUse()));
+            CompletableFuture<List<OrderProductInfo>> productFuture = fork(scope, executor, failure, properties.productTimeout(),
+                    () -> orderProductService.getProducts(command.getOrderItemCommands()));
+            CompletableFuture<OrderProductAmount> amountFuture = watch(scope, failure,
+                    productFuture.thenApply(products -> calculator.calculateItemAmounts(command.getOrderItemCommands(), products)));
+            CompletableFuture<OrderCouponInfo> couponFuture = amountFuture.thenCompose(amount ->
+                    fork(scope, executor, failure, properties.couponTimeout(),
+                            () -> orderCouponService.calculateCouponDiscount(command.getUserId(), command.getCouponId(), amount)));
+
+            // 모든 작업이 끝날때까지 기다린 뒤 가장 먼저 발생한 실패를 던진다
+            CompletableFuture.allOf(userFuture, couponFuture).exceptionally(throwable -> null).join();
+            if (failure.get() != null) {
+                throw translate(failure.get());
+            }
+
+            return OrderPreparationData.builder()
+                    .user(userFuture.join())
+                    .products(productFuture.join())
+                    .productAmount(amountFuture.join())
+                    .coupon(couponFuture.join())
+                    .build();
+        }
+    }
+
+    private <T> CompletableFuture<T> fork(ExecutorService scope, Executor executor, AtomicReference<Throwable> failure,
+                                          Duration deadline, Supplier<T> task) {
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(task, executor)
+                .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        return watch(scope, failure, future);
+    }
+
+    // 처음 실패한 작업이 범위 안의 나머지 작업을 중단시킨다
+    private <T> CompletableFuture<T> watch(ExecutorService scope, AtomicReference<Throwable> failure, CompletableFuture<T> future) {
+        return future.whenComplete((result, throwable) -> {
+            if (throwable != null && failure.compareAndSet(null, unwrap(throwable))) {
+                scope.shutdownNow();
+            }
+        });
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private RuntimeException translate(Throwable throwable) {
+        if (throwable instanceof TimeoutException) {
+            return new BusinessException(ExternalServiceErrorCode.UNAVAILABLE);
+        }
+        if (throwable instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new BusinessException(ExternalServiceErrorCode.SYSTEM_ERROR);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.order_service.api.order.facade.dto;
 
+import com.example.order_service.api.order.domain.service.dto.result.OrderCouponInfo;
+import com.example.order_service.api.order.domain.service.dto.result.OrderProductAmount;
 import com.example.order_service.api.order.domain.service.dto.result.OrderProductInfo;
 import com.example.order_service.api.order.domain.service.dto.result.OrderUserInfo;
 import lombok.Builder;
@@ -12,4 +14,6 @@ import java.util.List;
 public class OrderPreparationData {
     private OrderUserInfo user;
     private List<OrderProductInfo> products;
+    private OrderProductAmount productAmount;
+    private OrderCouponInfo coupon;
 }
@@ -7,11 +7,13 @@ import com.example.order_service.api.order.domain.service.dto.result.OrderDto.Or
 import com.example.order_service.api.order.domain.service.dto.result.OrderDto.PaymentInfo;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class OrderDetailResponse {
     private String orderNo;
     private String status;
@@ -42,6 +44,7 @@ public class OrderDetailResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class OrderPriceResponse {
         private Long totalOriginPrice;
         private Long totalProductDiscount;
@@ -62,6 +65,7 @@ public class OrderDetailResponse {
     }
     @Getter
     @Builder
+    @Jacksonized
     public static class CouponResponse {
         private Long couponId;
         private String couponName;
@@ -81,6 +85,7 @@ public class OrderDetailResponse {
     }
     @Getter
     @Builder
+    @Jacksonized
     public static class OrdererResponse {
         private Long userId;
         private String userName;
@@ -97,6 +102,7 @@ public class OrderDetailResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class PaymentResponse {
         private Long paymentId;
         private String paymentKey;
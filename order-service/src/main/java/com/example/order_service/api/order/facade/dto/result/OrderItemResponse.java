@@ -5,11 +5,13 @@ import com.example.order_service.api.order.domain.service.dto.result.OrderItemDt
 import com.example.order_service.api.order.domain.service.dto.result.OrderItemDto.OrderItemPriceInfo;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class OrderItemResponse {
     private Long productId;
     private Long productVariantId;
@@ -36,6 +38,7 @@ public class OrderItemResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class OrderItemPriceResponse {
         private long originalPrice;
         private int discountRate;
@@ -53,6 +56,7 @@ public class OrderItemResponse {
     }
     @Getter
     @Builder
+    @Jacksonized
     public static class OrderItemOptionResponse {
         private String optionTypeName;
         private String optionValueName;
@@ -23,4 +23,13 @@ public class OrderListResponse {
                 .createdAt(orderDto.getOrderedAt().toString())
                 .build();
     }
+
+    public static OrderListResponse of(OrderDetailResponse detail){
+        return OrderListResponse.builder()
+                .orderNo(detail.getOrderNo())
+                .orderStatus(detail.getStatus())
+                .orderItems(detail.getOrderItems())
+                .createdAt(detail.getCreatedAt())
+                .build();
+    }
 }
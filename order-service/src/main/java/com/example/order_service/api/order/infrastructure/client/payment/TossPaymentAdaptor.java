@@ -21,7 +21,7 @@ public class TossPaymentAdaptor {
     @CircuitBreaker(name = "tossPaymentService", fallbackMethod = "confirmPaymentFallback")
     public TossPaymentConfirmResponse confirmPayment(String orderNo, String paymentKey, Long amount){
         TossPaymentConfirmRequest request = TossPaymentConfirmRequest.of(orderNo, paymentKey, amount);
-        return tossPaymentClient.confirmPayment(request);
+        return tossPaymentClient.confirmPayment(idempotencyKey(orderNo, paymentKey), request);
     }
 
     @CircuitBreaker(name = "tossPaymentService", fallbackMethod = "cancelPaymentFallback")
@@ -30,6 +30,11 @@ public class TossPaymentAdaptor {
         return tossPaymentClient.cancelPayment(paymentKey, request);
     }
 
+    // 재시도, 다른 인스턴스로 전달된 중복 요청도 같은 키를 사용하도록 주문 번호와 결제 키로 만든다
+    static String idempotencyKey(String orderNo, String paymentKey) {
+        return orderNo + ":" + paymentKey;
+    }
+
     private TossPaymentCancelResponse cancelPaymentFallback(String paymentKey, String cancelReason, Long cancelAmount, Throwable throwable) {
         if (throwable instanceof CallNotPermittedException) {
             log.warn("토스 서킷 브레이커 열림");
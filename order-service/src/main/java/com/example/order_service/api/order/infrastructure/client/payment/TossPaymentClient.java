@@ -9,6 +9,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 @FeignClient(
         name = "tossPaymentClient",
@@ -16,8 +17,10 @@ import org.springframework.web.bind.annotation.RequestBody;
         configuration = TossPaymentFeignConfig.class
 )
 public interface TossPaymentClient {
+    // 같은 멱등키로 다시 요청하면 토스는 결제를 다시 승인하지 않고 처음 응답을 그대로 반환한다
     @PostMapping("/v1/payments/confirm")
-    TossPaymentConfirmResponse confirmPayment(@RequestBody TossPaymentConfirmRequest request);
+    TossPaymentConfirmResponse confirmPayment(@RequestHeader("Idempotency-Key") String idempotencyKey,
+                                              @RequestBody TossPaymentConfirmRequest request);
 
     @PostMapping("/v1/payments/{paymentKey}/cancel")
     TossPaymentCancelResponse cancelPayment(@PathVariable("paymentKey") String paymentKey,
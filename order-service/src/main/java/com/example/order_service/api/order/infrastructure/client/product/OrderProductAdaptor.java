@@ -1,9 +1,9 @@
 package com.example.order_service.api.order.infrastructure.client.product;
 
+import com.example.order_service.api.common.client.product.ProductLookupGateway;
 import com.example.order_service.api.common.exception.ExternalServiceErrorCode;
 import com.example.order_service.api.common.exception.business.BusinessException;
 import com.example.order_service.api.order.infrastructure.client.product.dto.OrderProductResponse;
-import com.example.order_service.api.order.infrastructure.client.product.dto.OrderProductsRequest;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
@@ -17,12 +17,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderProductAdaptor {
 
-    private final OrderProductClient orderProductClient;
+    private final ProductLookupGateway productLookupGateway;
 
+    // 주문 생성시 재고와 가격을 검증하므로 로컬 상품 캐시를 거치지 않고 상품 서비스에서 조회한다
     @CircuitBreaker(name = "productService", fallbackMethod = "getProductsFallback")
     public List<OrderProductResponse> getProducts(List<Long> variantIds) {
-        OrderProductsRequest request = OrderProductsRequest.of(variantIds);
-        return orderProductClient.getProductVariantByIds(request);
+        return productLookupGateway.getVariants(variantIds).stream()
+                .map(OrderProductResponse::from)
+                .toList();
     }
 
     private List<OrderProductResponse> getProductsFallback(List<Long> variantIds, Throwable throwable){
@@ -1,5 +1,6 @@
 package com.example.order_service.api.order.infrastructure.client.product.dto;
 
+import com.example.order_service.api.common.client.product.dto.ProductVariantResponse;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -20,6 +21,31 @@ public class OrderProductResponse {
     @Builder.Default
     private List<ProductOptionInfo> itemOptions = new ArrayList<>();
 
+    public static OrderProductResponse from(ProductVariantResponse response) {
+        ProductVariantResponse.UnitPrice unitPrice = response.unitPrice();
+        return OrderProductResponse.builder()
+                .productId(response.productId())
+                .productVariantId(response.productVariantId())
+                .status(response.status())
+                .sku(response.sku())
+                .productName(response.productName())
+                .thumbnailUrl(response.thumbnailUrl())
+                .unitPrice(unitPrice == null ? null : UnitPrice.builder()
+                        .originalPrice(unitPrice.originalPrice())
+                        .discountRate(unitPrice.discountRate())
+                        .discountAmount(unitPrice.discountAmount())
+                        .discountedPrice(unitPrice.discountedPrice())
+                        .build())
+                .stockQuantity(response.stockQuantity())
+                .itemOptions(response.itemOptions() == null ? new ArrayList<>() : response.itemOptions().stream()
+                        .map(option -> ProductOptionInfo.builder()
+                                .optionTypeName(option.optionTypeName())
+                                .optionValueName(option.optionValueName())
+                                .build())
+                        .toList())
+                .build();
+    }
+
     @Getter
     @Builder
     public static class UnitPrice {
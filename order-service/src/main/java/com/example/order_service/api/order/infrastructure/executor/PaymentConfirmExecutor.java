@@ -0,0 +1,135 @@
+package com.example.order_service.api.order.infrastructure.executor;
+
+import com.example.order_service.api.common.exception.ExternalServiceErrorCode;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.common.exception.business.code.OrderErrorCode;
+import com.example.order_service.api.order.infrastructure.properties.PaymentConfirmProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 결제 승인 전용 실행기
+ * <p>
+ * 결제 승인은 요청 스레드가 아닌 가상 스레드에서 실행하고, 토스 호출이 느려져도 다른 API 의 스레드를 잡아두지 않도록
+ * 동시에 진행하는 승인 수를 세마포어로 제한한다(bulkhead).
+ * 같은 주문에 대해 진행중인 승인이 있으면 같은 결제 키의 재요청은 진행중인 결과를 함께 기다리고,
+ * 다른 결제 키의 요청은 거절해 한 주문이 두번 승인되지 않도록 한다.
+ * 승인 결과는 후속 처리(afterConfirm) 전에 먼저 전달되므로 장바구니 정리, Saga 진행은 응답을 지연시키지 않는다.
+ */
+@Slf4j
+@Component
+public class PaymentConfirmExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final PaymentConfirmProperties properties;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Counter started;
+    private final Counter joined;
+    private final Counter rejected;
+
+    public PaymentConfirmExecutor(PaymentConfirmProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("payment-confirm-", 0).factory());
+        this.permits = new Semaphore(properties.maxConcurrency(), true);
+        this.started = requestCounter(meterRegistry, "started");
+        this.joined = requestCounter(meterRegistry, "joined");
+        this.rejected = requestCounter(meterRegistry, "rejected");
+        Gauge.builder("payment.confirm.active", permits, p -> properties.maxConcurrency() - p.availablePermits())
+                .description("진행중인 결제 승인 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 결제 승인을 실행한다
+     *
+     * @param confirm      결제 승인, 동시 실행 수가 제한된다
+     * @param afterConfirm 승인 결과를 전달한 뒤 실행할 후속 처리, 실패해도 승인 결과에 영향을 주지 않는다
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> submit(String orderNo, String paymentKey, Supplier<T> confirm, Consumer<T> afterConfirm) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        InFlight existing = inFlight.putIfAbsent(orderNo, new InFlight(paymentKey, future));
+        if (existing != null) {
+            if (!existing.paymentKey().equals(paymentKey)) {
+                return CompletableFuture.failedFuture(new BusinessException(OrderErrorCode.ORDER_PAYMENT_IN_PROGRESS));
+            }
+            joined.increment();
+            return (CompletableFuture<T>) existing.future().copy();
+        }
+
+        started.increment();
+        try {
+            executor.execute(() -> run(orderNo, future, confirm, afterConfirm));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(orderNo);
+            future.completeExceptionally(new BusinessException(ExternalServiceErrorCode.UNAVAILABLE));
+        }
+        return future.copy();
+    }
+
+    private <T> void run(String orderNo, CompletableFuture<T> future, Supplier<T> confirm, Consumer<T> afterConfirm) {
+        T result;
+        try {
+            result = confirmWithPermit(orderNo, confirm);
+        } catch (Throwable throwable) {
+            inFlight.remove(orderNo);
+            future.completeExceptionally(throwable);
+            return;
+        }
+        // 승인 결과가 커밋된 뒤에 제거하므로 이후 재요청은 저장된 주문 상태로 판단한다
+        inFlight.remove(orderNo);
+        future.complete(result);
+
+        try {
+            afterConfirm.accept(result);
+        } catch (RuntimeException e) {
+            log.error("결제 승인 후속 처리 실패 orderNo={}", orderNo, e);
+        }
+    }
+
+    private <T> T confirmWithPermit(String orderNo, Supplier<T> confirm) {
+        try {
+            if (!permits.tryAcquire(properties.acquireTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                log.warn("결제 승인 대기 시간 초과 orderNo={}", orderNo);
+                throw new BusinessException(ExternalServiceErrorCode.UNAVAILABLE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ExternalServiceErrorCode.UNAVAILABLE);
+        }
+        try {
+            return confirm.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("payment.confirm.requests")
+                .description("결제 승인 요청 수, joined 는 진행중인 승인에 합류한 재요청")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("결제 승인 실행기 종료 대기 시간 초과");
+            executor.shutdownNow();
+        }
+    }
+
+    private record InFlight(String paymentKey, CompletableFuture<?> future) {
+    }
+}
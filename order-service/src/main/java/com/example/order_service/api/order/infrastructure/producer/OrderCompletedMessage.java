@@ -0,0 +1,13 @@
+package com.example.order_service.api.order.infrastructure.producer;
+
+import com.example.order_service.api.order.facade.event.PaymentCompletedEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+public record OrderCompletedMessage(String orderNo, List<Long> productVariantIds, Instant completedAt) {
+
+    public static OrderCompletedMessage of(PaymentCompletedEvent event, Instant completedAt) {
+        return new OrderCompletedMessage(event.getOrderNo(), event.getProductVariantIds(), completedAt);
+    }
+}
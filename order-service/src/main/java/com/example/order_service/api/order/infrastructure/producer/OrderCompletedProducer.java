@@ -0,0 +1,39 @@
+package com.example.order_service.api.order.infrastructure.producer;
+
+import com.example.order_service.api.order.facade.event.PaymentCompletedEvent;
+import com.example.order_service.api.order.saga.infrastructure.kafka.properties.OrderTopicProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * 결제가 완료된 주문의 상품 변형을 다른 서비스에 알린다
+ * <p>
+ * 상품 서비스는 이 메시지로 상품 인기도를 계산한다.
+ * 인기도는 정렬에만 쓰이므로 Outbox 를 거치지 않고 커밋 이후 바로 전송하며 전송 실패는 로그만 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCompletedProducer {
+    private final OrderTopicProperties orderTopicProperties;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPaymentCompleted(PaymentCompletedEvent event) {
+        if (event.getProductVariantIds() == null || event.getProductVariantIds().isEmpty()) {
+            return;
+        }
+        try {
+            kafkaTemplate.send(orderTopicProperties.getOrderCompleted(), event.getOrderNo(),
+                    OrderCompletedMessage.of(event, Instant.now()));
+        } catch (RuntimeException e) {
+            log.warn("주문 완료 알림 전송 실패 orderNo={}", event.getOrderNo(), e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.order_service.api.order.infrastructure.properties;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 주문 생성 준비 단계의 외부 서비스 호출 제한 시간
+ * <p>
+ * 하나라도 제한 시간을 넘기거나 실패하면 나머지 호출도 중단된다
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.preparation")
+public record OrderPreparationProperties(
+        @DefaultValue("3s") @NotNull Duration userTimeout,
+        @DefaultValue("3s") @NotNull Duration productTimeout,
+        @DefaultValue("3s") @NotNull Duration couponTimeout
+) {
+}
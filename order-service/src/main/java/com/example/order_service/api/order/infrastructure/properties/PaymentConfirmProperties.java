@@ -0,0 +1,23 @@
+package com.example.order_service.api.order.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 결제 승인 파이프라인 설정
+ * <p>
+ * 토스로 동시에 보내는 결제 승인 요청 수를 maxConcurrency 로 제한하고,
+ * acquireTimeout 안에 차례가 오지 않으면 서비스 이용 불가로 응답한다
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.payment.confirm")
+public record PaymentConfirmProperties(
+        @DefaultValue("16") @Min(1) int maxConcurrency,
+        @DefaultValue("3s") @NotNull Duration acquireTimeout
+) {
+}
@@ -0,0 +1,66 @@
+package com.example.order_service.api.order.readmodel.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 조회 전용 모델
+ * <p>
+ * 주문 상세 응답을 JSON 문서로 저장하고 목록 조건(유저, 주문일시, 상품명)만 컬럼으로 둔다.
+ * 주문 생명주기 이벤트마다 쓰기 모델의 주문을 다시 읽어 덮어쓴다. 갱신은 {@link com.example.order_service.api.order.readmodel.domain.repository.OrderViewRepository#refreshIfNotNewer} 로만 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "order_view")
+public class OrderView {
+    @Id
+    private Long orderId;
+    private String orderNo;
+    private Long userId;
+    private String status;
+    // 상품명 검색용, 주문 상품명을 줄바꿈으로 연결
+    @Column(length = 2000)
+    private String productNames;
+    private LocalDateTime createdAt;
+    // 쓰기 모델의 마지막 변경 시각, 늦게 도착한 이전 상태로 덮어쓰지 않기 위해 사용
+    private LocalDateTime sourceUpdatedAt;
+    @Lob
+    private String document;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private OrderView(Long orderId, String orderNo, Long userId, String status, String productNames,
+                      LocalDateTime createdAt, LocalDateTime sourceUpdatedAt, String document) {
+        this.orderId = orderId;
+        this.orderNo = orderNo;
+        this.userId = userId;
+        this.status = status;
+        this.productNames = productNames;
+        this.createdAt = createdAt;
+        this.sourceUpdatedAt = sourceUpdatedAt;
+        this.document = document;
+    }
+
+    public static OrderView create(Long orderId, String orderNo, Long userId, String status, String productNames,
+                                   LocalDateTime createdAt, LocalDateTime sourceUpdatedAt, String document) {
+        return OrderView.builder()
+                .orderId(orderId)
+                .orderNo(orderNo)
+                .userId(userId)
+                .status(status)
+                .productNames(productNames)
+                .createdAt(createdAt)
+                .sourceUpdatedAt(sourceUpdatedAt)
+                .document(document)
+                .build();
+    }
+
+    public boolean isOwner(Long userId) {
+        return this.userId.equals(userId);
+    }
+}
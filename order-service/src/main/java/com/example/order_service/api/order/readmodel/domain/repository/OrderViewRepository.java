@@ -0,0 +1,37 @@
+package com.example.order_service.api.order.readmodel.domain.repository;
+
+import com.example.order_service.api.order.domain.model.Order;
+import com.example.order_service.api.order.readmodel.domain.model.OrderView;
+import com.example.order_service.api.order.readmodel.domain.repository.query.OrderViewQueryRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderViewRepository extends JpaRepository<OrderView, Long>, OrderViewQueryRepository {
+    Optional<OrderView> findByOrderNo(String orderNo);
+
+    // 더 최근 변경이 반영된 조회 모델은 덮어쓰지 않도록 source_updated_at 을 조건으로 갱신
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderView v set v.status = :status, v.sourceUpdatedAt = :sourceUpdatedAt, v.document = :document " +
+            "where v.orderId = :orderId and (v.sourceUpdatedAt is null or v.sourceUpdatedAt <= :sourceUpdatedAt)")
+    int refreshIfNotNewer(@Param("orderId") Long orderId, @Param("status") String status,
+                          @Param("sourceUpdatedAt") LocalDateTime sourceUpdatedAt, @Param("document") String document);
+
+    // 조회 모델에 반영되지 않은 주문을 주문 id 순으로 keyset 페이징
+    @Query("select o from Order o where o.id > :lastId " +
+            "and not exists (select v.orderId from OrderView v where v.orderId = o.id) order by o.id asc")
+    List<Order> findUnprojectedOrders(@Param("lastId") Long lastId, Limit limit);
+
+    // 기간 내 변경된 주문 중 조회 모델이 없거나 마지막 변경이 반영되지 않은 주문을 주문 id 순으로 keyset 페이징
+    @Query("select o from Order o where o.updatedAt >= :from and o.updatedAt < :to and o.id > :lastId " +
+            "and not exists (select v.orderId from OrderView v where v.orderId = o.id and v.sourceUpdatedAt >= o.updatedAt) " +
+            "order by o.id asc")
+    List<Order> findStaleOrders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                @Param("lastId") Long lastId, Limit limit);
+}
@@ -0,0 +1,12 @@
+package com.example.order_service.api.order.readmodel.domain.repository.query;
+
+import com.example.order_service.api.order.controller.dto.request.OrderSearchCondition;
+import com.example.order_service.api.order.readmodel.domain.model.OrderView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+public interface OrderViewQueryRepository {
+    Page<OrderView> findByUserIdAndCondition(Long userId, OrderSearchCondition condition);
+
+    Slice<OrderView> findByUserIdAndCursor(Long userId, OrderSearchCondition condition);
+}
@@ -0,0 +1,110 @@
+package com.example.order_service.api.order.readmodel.domain.repository.query;
+
+import com.example.order_service.api.order.controller.dto.request.OrderCursor;
+import com.example.order_service.api.order.controller.dto.request.OrderSearchCondition;
+import com.example.order_service.api.order.domain.repository.query.OrderQueryMapper;
+import com.example.order_service.api.order.readmodel.domain.model.OrderView;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.*;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.order_service.api.order.readmodel.domain.model.QOrderView.orderView;
+
+/**
+ * 주문 조회 모델 목록 조회
+ * <p>
+ * 한 페이지는 (user_id, created_at, order_id) 인덱스를 한번 탐색하는 쿼리로 조회하고 연관 조회가 없다.
+ */
+@Repository
+public class OrderViewQueryRepositoryImpl implements OrderViewQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public OrderViewQueryRepositoryImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    @Override
+    public Page<OrderView> findByUserIdAndCondition(Long userId, OrderSearchCondition condition) {
+        Pageable pageable = condition.getPageable();
+        boolean ascending = OrderQueryMapper.isAscending(condition.getSort());
+        List<OrderView> content = queryFactory.selectFrom(orderView)
+                .where(
+                        orderView.userId.eq(userId),
+                        yearEq(condition.getYear()),
+                        productNameContains(condition.getProductName())
+                )
+                .orderBy(ascending ? orderView.createdAt.asc() : orderView.createdAt.desc(),
+                        ascending ? orderView.orderId.asc() : orderView.orderId.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        Long totalElement = queryFactory.select(orderView.count())
+                .from(orderView)
+                .where(
+                        orderView.userId.eq(userId),
+                        yearEq(condition.getYear()),
+                        productNameContains(condition.getProductName())
+                )
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, totalElement != null ? totalElement : 0L);
+    }
+
+    @Override
+    public Slice<OrderView> findByUserIdAndCursor(Long userId, OrderSearchCondition condition) {
+        boolean ascending = OrderQueryMapper.isAscending(condition.getSort());
+        int size = condition.getSize();
+        List<OrderView> content = queryFactory.selectFrom(orderView)
+                .where(
+                        orderView.userId.eq(userId),
+                        yearEq(condition.getYear()),
+                        productNameContains(condition.getProductName()),
+                        cursorAfter(condition.getCursor(), ascending)
+                )
+                .orderBy(ascending ? orderView.createdAt.asc() : orderView.createdAt.desc(),
+                        ascending ? orderView.orderId.asc() : orderView.orderId.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, PageRequest.of(0, size), hasNext);
+    }
+
+    private BooleanExpression cursorAfter(String cursor, boolean ascending) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        OrderCursor position = OrderCursor.decode(cursor);
+        if (ascending) {
+            return orderView.createdAt.gt(position.createdAt())
+                    .or(orderView.createdAt.eq(position.createdAt()).and(orderView.orderId.gt(position.id())));
+        }
+        return orderView.createdAt.lt(position.createdAt())
+                .or(orderView.createdAt.eq(position.createdAt()).and(orderView.orderId.lt(position.id())));
+    }
+
+    private BooleanExpression yearEq(String yearString) {
+        if (yearString == null || yearString.isEmpty()) {
+            return null;
+        }
+        int year = Integer.parseInt(yearString);
+        LocalDateTime start = LocalDateTime.of(year, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(year + 1, 1, 1, 0, 0);
+        return orderView.createdAt.goe(start)
+                .and(orderView.createdAt.lt(end));
+    }
+
+    private BooleanExpression productNameContains(String productName) {
+        if (productName == null || productName.isEmpty()) {
+            return null;
+        }
+        return orderView.productNames.contains(productName);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.order_service.api.order.readmodel.infrastructure.backfill;
+
+import com.example.order_service.api.order.domain.model.Order;
+import com.example.order_service.api.order.readmodel.domain.repository.OrderViewRepository;
+import com.example.order_service.api.order.readmodel.service.OrderViewProjector;
+import com.example.order_service.api.order.saga.domain.service.SagaLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 조회 모델 도입 이전 주문을 조회 모델로 반영한다
+ * <p>
+ * 기동할 때마다 별도 스레드에서 조회 모델이 없는 주문만 찾아 반영하므로 중단되더라도 다음 기동에서 이어서 진행한다.
+ * lease 를 획득한 인스턴스 하나만 반영하고 나머지 인스턴스는 반영되지 않은 주문이 없어질 때까지 기다린다.
+ * 완료되기 전에는 주문 목록을 조회 모델 대신 쓰기 모델에서 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderViewBackfill implements ApplicationRunner {
+    static final String LEASE_NAME = "order-view-backfill";
+    private static final int BATCH_SIZE = 500;
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(1);
+    private static final Duration RETRY_INTERVAL = Duration.ofSeconds(10);
+
+    private final OrderViewRepository orderViewRepository;
+    private final OrderViewProjector projector;
+    private final SagaLeaseService sagaLeaseService;
+    private final String owner = "order-service-" + UUID.randomUUID();
+    private volatile boolean completed;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread.ofVirtual().name("order-view-backfill").start(this::backfill);
+    }
+
+    /**
+     * @return 조회 모델에 반영되지 않은 주문이 없으면 true
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    void backfill() {
+        while (!completed) {
+            try {
+                if (orderViewRepository.findUnprojectedOrders(0L, Limit.of(1)).isEmpty()) {
+                    completed = true;
+                    log.info("주문 조회 모델 backfill 완료");
+                    return;
+                }
+                // lease 를 다른 인스턴스가 보유중이거나 반영에 실패한 주문이 있으면 잠시 후 다시 확인
+                if (!sagaLeaseService.tryAcquire(LEASE_NAME, owner, LEASE_DURATION) || projectAll() > 0) {
+                    Thread.sleep(RETRY_INTERVAL);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("주문 조회 모델 backfill 실패", e);
+                if (!sleep()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 반영에 실패한 주문 수
+     */
+    private int projectAll() {
+        int projected = 0;
+        int failed = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<Order> orders = orderViewRepository.findUnprojectedOrders(lastId, Limit.of(BATCH_SIZE));
+            if (orders.isEmpty()) {
+                break;
+            }
+            for (Order order : orders) {
+                try {
+                    projector.project(order.getOrderNo());
+                    projected++;
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("주문 조회 모델 backfill 실패 orderNo={}", order.getOrderNo(), e);
+                }
+            }
+            lastId = orders.get(orders.size() - 1).getId();
+            // 페이지마다 lease 를 연장하고 다른 인스턴스에 넘어갔다면 중단
+            if (!sagaLeaseService.tryAcquire(LEASE_NAME, owner, LEASE_DURATION)) {
+                log.warn("주문 조회 모델 backfill 중 lease 를 잃었습니다. lastOrderId={}", lastId);
+                break;
+            }
+        }
+        log.info("주문 조회 모델 backfill 진행 projected={}, failed={}", projected, failed);
+        return failed;
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(RETRY_INTERVAL);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
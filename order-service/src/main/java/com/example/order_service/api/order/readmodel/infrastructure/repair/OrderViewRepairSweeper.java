@@ -0,0 +1,84 @@
+package com.example.order_service.api.order.readmodel.infrastructure.repair;
+
+import com.example.order_service.api.order.domain.model.Order;
+import com.example.order_service.api.order.readmodel.domain.repository.OrderViewRepository;
+import com.example.order_service.api.order.readmodel.service.OrderViewProjector;
+import com.example.order_service.api.order.saga.domain.service.SagaLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 이벤트로 반영하지 못한 주문을 주기적으로 조회 모델에 다시 반영한다
+ * <p>
+ * 최근 LOOKBACK 동안 변경된 주문 중 orders.updated_at 이 order_view.source_updated_at 보다 최신인 주문만 찾는다.
+ * 커밋 직후 이벤트로 반영중인 주문과 겹치지 않도록 GRACE 이내에 변경된 주문은 다음 주기로 미룬다.
+ * lease 를 획득한 인스턴스 하나만 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderViewRepairSweeper {
+    static final String LEASE_NAME = "order-view-repair";
+    private static final int BATCH_SIZE = 500;
+    private static final Duration LOOKBACK = Duration.ofDays(1);
+    private static final Duration GRACE = Duration.ofSeconds(30);
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(1);
+
+    private final OrderViewRepository orderViewRepository;
+    private final OrderViewProjector projector;
+    private final SagaLeaseService sagaLeaseService;
+    private final String owner = "order-service-" + UUID.randomUUID();
+
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void sweep() {
+        try {
+            if (!sagaLeaseService.tryAcquire(LEASE_NAME, owner, LEASE_DURATION)) {
+                return;
+            }
+            repair(LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("주문 조회 모델 보정 실패", e);
+        }
+    }
+
+    /**
+     * @return 다시 반영한 주문 수
+     */
+    int repair(LocalDateTime now) {
+        LocalDateTime from = now.minus(LOOKBACK);
+        LocalDateTime to = now.minus(GRACE);
+        int repaired = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<Order> orders = orderViewRepository.findStaleOrders(from, to, lastId, Limit.of(BATCH_SIZE));
+            if (orders.isEmpty()) {
+                break;
+            }
+            for (Order order : orders) {
+                try {
+                    projector.project(order.getOrderNo());
+                    repaired++;
+                } catch (Exception e) {
+                    log.warn("주문 조회 모델 보정 실패 orderNo={}", order.getOrderNo(), e);
+                }
+            }
+            lastId = orders.get(orders.size() - 1).getId();
+            if (!sagaLeaseService.tryAcquire(LEASE_NAME, owner, LEASE_DURATION)) {
+                log.warn("주문 조회 모델 보정 중 lease 를 잃었습니다. lastOrderId={}", lastId);
+                break;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("주문 조회 모델 보정 repaired={}", repaired);
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.order_service.api.order.readmodel.listener;
+
+import com.example.order_service.api.order.facade.event.*;
+import com.example.order_service.api.order.readmodel.service.OrderViewProjector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 생명주기 이벤트를 받아 주문 조회 모델을 갱신한다
+ * <p>
+ * 주문 흐름의 트랜잭션이 커밋된 이후에 반영하고, 조회 모델 갱신 실패가 주문 흐름을 중단시키지 않도록 예외는 로그만 남긴다.
+ * 반영에 실패한 주문은 {@link com.example.order_service.api.order.readmodel.infrastructure.repair.OrderViewRepairSweeper} 가 다시 반영한다.
+ * 반영되지 않은 주문 상세는 {@link com.example.order_service.api.order.facade.OrderFacade} 가 쓰기 모델에서 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderViewEventListener {
+
+    private final OrderViewProjector projector;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleOrderCreated(OrderCreatedEvent event) {
+        project(event.getOrderNo());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePaymentReady(OrderPaymentReadyEvent event) {
+        project(event.getOrderNo());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePaymentCompleted(PaymentCompletedEvent event) {
+        project(event.getOrderNo());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePaymentFailed(PaymentFailedEvent event) {
+        project(event.getOrderNo());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleOrderFailed(OrderFailedEvent event) {
+        project(event.getOrderNo());
+    }
+
+    private void project(String orderNo) {
+        try {
+            projector.project(orderNo);
+        } catch (Exception e) {
+            log.error("주문 조회 모델 갱신 실패 orderNo={}", orderNo, e);
+        }
+    }
+}
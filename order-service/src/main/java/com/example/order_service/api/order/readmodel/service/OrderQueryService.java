@@ -0,0 +1,67 @@
+package com.example.order_service.api.order.readmodel.service;
+
+import com.example.order_service.api.common.dto.CursorPageDto;
+import com.example.order_service.api.common.dto.PageDto;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.common.exception.business.code.OrderErrorCode;
+import com.example.order_service.api.order.controller.dto.request.OrderCursor;
+import com.example.order_service.api.order.controller.dto.request.OrderSearchCondition;
+import com.example.order_service.api.order.facade.dto.result.OrderDetailResponse;
+import com.example.order_service.api.order.facade.dto.result.OrderListResponse;
+import com.example.order_service.api.order.readmodel.domain.model.OrderView;
+import com.example.order_service.api.order.readmodel.domain.repository.OrderViewRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 주문 조회 모델에서 주문 상세, 목록을 조회한다
+ * <p>
+ * 한 페이지는 조회 모델 테이블을 한번 조회하고 저장된 상세 응답 문서를 그대로 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderQueryService {
+
+    private final OrderViewRepository orderViewRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 조회 모델에 반영되지 않은 주문이면 빈 값
+     */
+    public Optional<OrderDetailResponse> findOrder(String orderNo, Long userId) {
+        return orderViewRepository.findByOrderNo(orderNo)
+                .map(view -> {
+                    if (!view.isOwner(userId)) {
+                        throw new BusinessException(OrderErrorCode.ORDER_NO_PERMISSION);
+                    }
+                    return deserialize(view);
+                });
+    }
+
+    public PageDto<OrderListResponse> getOrders(Long userId, OrderSearchCondition condition) {
+        Page<OrderView> views = orderViewRepository.findByUserIdAndCondition(userId, condition);
+        return PageDto.of(views, view -> OrderListResponse.of(deserialize(view)));
+    }
+
+    public CursorPageDto<OrderListResponse> getOrdersByCursor(Long userId, OrderSearchCondition condition) {
+        Slice<OrderView> views = orderViewRepository.findByUserIdAndCursor(userId, condition);
+        return CursorPageDto.of(views, view -> OrderListResponse.of(deserialize(view)),
+                view -> OrderCursor.of(view.getCreatedAt(), view.getOrderId()).encode());
+    }
+
+    private OrderDetailResponse deserialize(OrderView view) {
+        try {
+            return objectMapper.readValue(view.getDocument(), OrderDetailResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 조회 모델 역직렬화 실패 orderNo=" + view.getOrderNo(), e);
+        }
+    }
+}
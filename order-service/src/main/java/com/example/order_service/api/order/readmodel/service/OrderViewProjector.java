@@ -0,0 +1,96 @@
+package com.example.order_service.api.order.readmodel.service;
+
+import com.example.order_service.api.order.domain.model.Order;
+import com.example.order_service.api.order.domain.model.OrderItem;
+import com.example.order_service.api.order.domain.model.vo.OrderedProduct;
+import com.example.order_service.api.order.domain.repository.OrderRepository;
+import com.example.order_service.api.order.domain.service.dto.result.OrderDto;
+import com.example.order_service.api.order.facade.dto.result.OrderDetailResponse;
+import com.example.order_service.api.order.readmodel.domain.model.OrderView;
+import com.example.order_service.api.order.readmodel.domain.repository.OrderViewRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 쓰기 모델의 주문을 조회 모델로 반영한다
+ * <p>
+ * 이벤트 내용 대신 커밋된 주문을 다시 읽어 상세 응답 문서를 만들기 때문에 이벤트 순서가 바뀌어도 최신 상태로 수렴한다.
+ * 이미 더 최근 변경이 반영된 조회 모델은 덮어쓰지 않도록 source_updated_at 을 조건으로 한 UPDATE 한번으로 갱신하고,
+ * 조회 모델이 없을 때만 생성한다. 동시에 생성되어 키가 충돌하면 다시 반영해 조건부 갱신으로 수렴시킨다.
+ * 반영 실패가 호출한 쪽 트랜잭션을 rollback-only 로 만들지 않도록 항상 새 트랜잭션에서 반영한다.
+ */
+@Slf4j
+@Service
+public class OrderViewProjector {
+    private static final int PRODUCT_NAMES_MAX_LENGTH = 2000;
+
+    private final OrderRepository orderRepository;
+    private final OrderViewRepository orderViewRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderViewProjector(OrderRepository orderRepository, OrderViewRepository orderViewRepository,
+                              ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.orderViewRepository = orderViewRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void project(String orderNo) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> projectOnce(orderNo));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("주문 조회 모델 동시 생성 orderNo={}", orderNo);
+            transactionTemplate.executeWithoutResult(status -> projectOnce(orderNo));
+        }
+    }
+
+    private void projectOnce(String orderNo) {
+        Optional<Order> found = orderRepository.findByOrderNo(orderNo);
+        if (found.isEmpty()) {
+            log.warn("조회 모델을 반영할 주문이 없습니다 orderNo={}", orderNo);
+            return;
+        }
+        Order order = found.get();
+        OrderDto orderDto = OrderDto.from(order);
+        String document = serialize(OrderDetailResponse.from(orderDto));
+
+        OrderView view = OrderView.create(order.getId(), order.getOrderNo(), order.getOrderer().getUserId(),
+                order.getStatus().name(), productNames(order), orderDto.getOrderedAt(), order.getUpdatedAt(), document);
+        if (orderViewRepository.refreshIfNotNewer(view.getOrderId(), view.getStatus(), view.getSourceUpdatedAt(), view.getDocument()) > 0) {
+            return;
+        }
+        // 갱신되지 않았다면 조회 모델이 없거나 더 최근 변경이 이미 반영된 경우
+        if (orderViewRepository.existsById(view.getOrderId())) {
+            return;
+        }
+        orderViewRepository.saveAndFlush(view);
+    }
+
+    private String productNames(Order order) {
+        String names = order.getOrderItems().stream()
+                .map(OrderItem::getOrderedProduct)
+                .map(OrderedProduct::getProductName)
+                .collect(Collectors.joining("\n"));
+        return names.length() > PRODUCT_NAMES_MAX_LENGTH ? names.substring(0, PRODUCT_NAMES_MAX_LENGTH) : names;
+    }
+
+    private String serialize(OrderDetailResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 조회 모델 직렬화 실패 orderNo=" + response.getOrderNo(), e);
+        }
+    }
+}
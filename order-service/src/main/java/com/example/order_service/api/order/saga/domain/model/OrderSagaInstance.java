@@ -10,6 +10,9 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 @Entity
 @Getter
@@ -24,27 +27,42 @@ public class OrderSagaInstance {
     private SagaStatus sagaStatus;
     @Enumerated(EnumType.STRING)
     private SagaStep sagaStep;
+    @Enumerated(EnumType.STRING)
+    private SagaMode sagaMode;
+    // 병렬 모드에서 예약 단계별 진행 상태
+    @Column(name = "step_states", columnDefinition = "json")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<SagaStep, SagaStepStatus> stepStates;
     @Column(name = "payload", columnDefinition = "json")
     @JdbcTypeCode(SqlTypes.JSON)
     private Payload payload;
     private String failureReason;
     private LocalDateTime startedAt;
+    // 현재 단계(보상 포함)를 시작한 시각, 단계별 타임아웃의 기준
+    private LocalDateTime stepStartedAt;
+    // 보상 응답 지연으로 보상 명령을 재발행한 횟수
+    private int compensationAttempts;
     private LocalDateTime finishedAt;
 
     @Builder(access = AccessLevel.PRIVATE)
-    private OrderSagaInstance(String orderNo, SagaStatus sagaStatus, SagaStep sagaStep, Payload payload, String failureReason,
-                              LocalDateTime startedAt, LocalDateTime finishedAt) {
+    private OrderSagaInstance(String orderNo, SagaStatus sagaStatus, SagaStep sagaStep, SagaMode sagaMode,
+                              Map<SagaStep, SagaStepStatus> stepStates, Payload payload, String failureReason,
+                              LocalDateTime startedAt, LocalDateTime stepStartedAt, LocalDateTime finishedAt) {
         this.orderNo = orderNo;
         this.sagaStatus = sagaStatus;
         this.sagaStep = sagaStep;
+        this.sagaMode = sagaMode;
+        this.stepStates = stepStates;
         this.payload = payload;
         this.failureReason = failureReason;
         this.startedAt = startedAt;
+        this.stepStartedAt = stepStartedAt;
         this.finishedAt = finishedAt;
     }
 
     public void changeStep(SagaStep sagaStep) {
         this.sagaStep = sagaStep;
+        this.stepStartedAt = LocalDateTime.now();
     }
 
     public void changeStatus(SagaStatus sagaStatus) {
@@ -54,17 +72,40 @@ public class OrderSagaInstance {
     public void proceedTo(SagaStep sagaStep) {
         this.sagaStep = sagaStep;
         this.sagaStatus = SagaStatus.STARTED;
+        this.stepStartedAt = LocalDateTime.now();
     }
 
     public void startCompensation(SagaStep nextStep, String failureReason) {
         this.sagaStatus = SagaStatus.COMPENSATING;
         this.sagaStep = nextStep;
         this.failureReason = failureReason;
+        this.stepStartedAt = LocalDateTime.now();
     }
 
     public void continueCompensation(SagaStep nextSagaStep) {
         this.sagaStatus = SagaStatus.COMPENSATING;
         this.sagaStep = nextSagaStep;
+        this.stepStartedAt = LocalDateTime.now();
+    }
+
+    public void retryCompensation() {
+        this.compensationAttempts++;
+    }
+
+    public void changeStepStatus(SagaStep step, SagaStepStatus status) {
+        // JSON 컬럼 변경 감지를 위해 맵을 새로 할당
+        Map<SagaStep, SagaStepStatus> changed = new HashMap<>(this.stepStates);
+        changed.put(step, status);
+        this.stepStates = changed;
+    }
+
+    public void startParallelCompensation(String failureReason) {
+        Map<SagaStep, SagaStepStatus> changed = new HashMap<>(this.stepStates);
+        changed.replaceAll((step, status) -> status == SagaStepStatus.SUCCEEDED ? SagaStepStatus.COMPENSATING : status);
+        this.stepStates = changed;
+        this.sagaStatus = SagaStatus.COMPENSATING;
+        this.failureReason = failureReason;
+        this.stepStartedAt = LocalDateTime.now();
     }
 
     public void fail(String newFailureReason) {
@@ -77,13 +118,35 @@ public class OrderSagaInstance {
     }
 
     public static OrderSagaInstance create(String orderNo, Payload payload, SagaStep firstStep) {
+        LocalDateTime now = LocalDateTime.now();
         return OrderSagaInstance.builder()
                 .orderNo(orderNo)
                 .sagaStatus(SagaStatus.STARTED)
                 .sagaStep(firstStep)
+                .sagaMode(SagaMode.SEQUENTIAL)
+                .stepStates(Map.of())
+                .payload(payload)
+                .failureReason(null)
+                .startedAt(now)
+                .stepStartedAt(now)
+                .finishedAt(null)
+                .build();
+    }
+
+    public static OrderSagaInstance createParallel(String orderNo, Payload payload, Collection<SagaStep> reservationSteps) {
+        Map<SagaStep, SagaStepStatus> stepStates = new HashMap<>();
+        reservationSteps.forEach(step -> stepStates.put(step, SagaStepStatus.PENDING));
+        LocalDateTime now = LocalDateTime.now();
+        return OrderSagaInstance.builder()
+                .orderNo(orderNo)
+                .sagaStatus(SagaStatus.STARTED)
+                .sagaStep(SagaStep.RESERVATION)
+                .sagaMode(SagaMode.PARALLEL)
+                .stepStates(stepStates)
                 .payload(payload)
                 .failureReason(null)
-                .startedAt(LocalDateTime.now())
+                .startedAt(now)
+                .stepStartedAt(now)
                 .finishedAt(null)
                 .build();
     }
@@ -0,0 +1,22 @@
+package com.example.order_service.api.order.saga.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Table(name = "saga_lease")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SagaLease {
+
+    @Id
+    private String name;
+    private String owner;
+    private LocalDateTime lockedUntil;
+}
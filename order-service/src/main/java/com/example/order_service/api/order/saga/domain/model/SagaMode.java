@@ -0,0 +1,10 @@
+package com.example.order_service.api.order.saga.domain.model;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum SagaMode {
+    SEQUENTIAL("순차 진행"),
+    PARALLEL("예약 단계 병렬 진행");
+    private final String name;
+}
@@ -0,0 +1,37 @@
+package com.example.order_service.api.order.saga.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Table(name = "saga_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SagaOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String topic;
+    private String messageKey;
+    private String payloadType;
+    @Column(columnDefinition = "text")
+    private String payload;
+    private LocalDateTime createdAt;
+
+    private SagaOutbox(String topic, String messageKey, String payloadType, String payload, LocalDateTime createdAt) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.payloadType = payloadType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public static SagaOutbox of(String topic, String messageKey, String payloadType, String payload) {
+        return new SagaOutbox(topic, messageKey, payloadType, payload, LocalDateTime.now());
+    }
+}
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public enum SagaStep {
+    // 병렬 모드에서 예약 단계(상품, 쿠폰, 포인트)를 동시에 진행중인 상태
+    RESERVATION("예약 단계"),
     PRODUCT("상품 재고 단계"),
     COUPON("쿠폰 단계"),
     USER("유저 포인트 단계"),
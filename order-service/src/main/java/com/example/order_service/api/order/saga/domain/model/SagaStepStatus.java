@@ -0,0 +1,13 @@
+package com.example.order_service.api.order.saga.domain.model;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum SagaStepStatus {
+    PENDING("응답 대기"),
+    SUCCEEDED("성공"),
+    FAILED("실패"),
+    COMPENSATING("보상중"),
+    COMPENSATED("보상 완료");
+    private final String name;
+}
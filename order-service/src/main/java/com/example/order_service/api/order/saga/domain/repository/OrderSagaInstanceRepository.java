@@ -2,20 +2,42 @@ package com.example.order_service.api.order.saga.domain.repository;
 
 import com.example.order_service.api.order.saga.domain.model.OrderSagaInstance;
 import com.example.order_service.api.order.saga.domain.model.SagaStatus;
+import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderSagaInstanceRepository extends JpaRepository<OrderSagaInstance, Long> {
 
-    @Query("select os from OrderSagaInstance os where os.startedAt < :startedAt and os.sagaStatus = :sagaStatus")
-    List<OrderSagaInstance> findByStartedAtBeforeAndSagaStatus(@Param("startedAt") LocalDateTime startedAt,
-                                                               @Param("sagaStatus") SagaStatus status);
+    // (saga_status, saga_step, step_started_at) 인덱스를 타도록 (step_started_at, id) 기준 keyset 페이징
+    @Query("select os from OrderSagaInstance os " +
+            "where os.sagaStatus = :sagaStatus and os.sagaStep = :sagaStep and os.stepStartedAt < :stepStartedAt " +
+            "and (os.stepStartedAt > :lastStepStartedAt or (os.stepStartedAt = :lastStepStartedAt and os.id > :lastId)) " +
+            "order by os.stepStartedAt asc, os.id asc")
+    List<OrderSagaInstance> findTimeoutPage(@Param("sagaStatus") SagaStatus sagaStatus,
+                                            @Param("sagaStep") SagaStep sagaStep,
+                                            @Param("stepStartedAt") LocalDateTime stepStartedAt,
+                                            @Param("lastStepStartedAt") LocalDateTime lastStepStartedAt,
+                                            @Param("lastId") Long lastId,
+                                            Limit limit);
+
+    @Query("select os from OrderSagaInstance os where os.sagaStatus in :sagaStatuses and os.id > :lastId order by os.id asc")
+    List<OrderSagaInstance> findPageBySagaStatusIn(@Param("sagaStatuses") Collection<SagaStatus> sagaStatuses,
+                                                   @Param("lastId") Long lastId,
+                                                   Limit limit);
 
     @Query("select os from OrderSagaInstance os where os.orderNo = :orderNo")
     Optional<OrderSagaInstance> findByOrderId(@Param("orderNo") String orderNo);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select os from OrderSagaInstance os where os.orderNo = :orderNo")
+    Optional<OrderSagaInstance> findWithLockByOrderNo(@Param("orderNo") String orderNo);
 }
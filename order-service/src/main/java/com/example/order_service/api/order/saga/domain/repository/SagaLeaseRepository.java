@@ -0,0 +1,18 @@
+package com.example.order_service.api.order.saga.domain.repository;
+
+import com.example.order_service.api.order.saga.domain.model.SagaLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SagaLeaseRepository extends JpaRepository<SagaLease, String> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("update SagaLease l set l.owner = :owner, l.lockedUntil = :lockedUntil " +
+            "where l.name = :name and (l.lockedUntil < :now or l.owner = :owner)")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+}
@@ -0,0 +1,23 @@
+package com.example.order_service.api.order.saga.domain.repository;
+
+import com.example.order_service.api.order.saga.domain.model.SagaOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface SagaOutboxRepository extends JpaRepository<SagaOutbox, Long> {
+
+    // lock.timeout = -2 는 SKIP LOCKED 로 변환되어 다른 인스턴스가 잡고 있는 행은 건너뛴다
+    // 같은 토픽, 같은 키의 메시지 순서가 바뀌지 않도록 앞선 메시지가 남아있는 행은 조회하지 않는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from SagaOutbox o where not exists (select p.id from SagaOutbox p " +
+            "where p.topic = o.topic and p.messageKey = o.messageKey and p.id < o.id) order by o.id asc")
+    List<SagaOutbox> findRelayBatch(Limit limit);
+}
@@ -0,0 +1,27 @@
+package com.example.order_service.api.order.saga.domain.service;
+
+import com.example.order_service.api.order.saga.domain.repository.SagaLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 여러 order-service 인스턴스 중 하나만 작업을 수행하도록 DB 행 단위 lease 를 관리한다
+ * <p>
+ * lease 가 만료되었거나 이미 자신이 보유한 경우에만 조건부 UPDATE 로 획득(갱신)에 성공한다
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SagaLeaseService {
+
+    private final SagaLeaseRepository sagaLeaseRepository;
+
+    public boolean tryAcquire(String name, String owner, Duration leaseDuration) {
+        LocalDateTime now = LocalDateTime.now();
+        return sagaLeaseRepository.acquire(name, owner, now, now.plus(leaseDuration)) == 1;
+    }
+}
@@ -5,11 +5,15 @@ import com.example.order_service.api.common.exception.business.BusinessException
 import com.example.order_service.api.order.saga.domain.model.OrderSagaInstance;
 import com.example.order_service.api.order.saga.domain.model.SagaStatus;
 import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.domain.model.SagaStepStatus;
 import com.example.order_service.api.order.saga.domain.model.vo.Payload;
 import com.example.order_service.api.order.saga.domain.repository.OrderSagaInstanceRepository;
 import com.example.order_service.api.order.saga.domain.service.dto.SagaInstanceDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +27,7 @@ import java.util.List;
 public class SagaService {
 
     private final OrderSagaInstanceRepository orderSagaInstanceRepository;
+    private final EntityManager entityManager;
 
     public SagaInstanceDto initialize(String orderNo, Payload payload, SagaStep firstStep){
         OrderSagaInstance sagaInstance = OrderSagaInstance.create(orderNo, payload, firstStep);
@@ -30,6 +35,12 @@ public class SagaService {
         return SagaInstanceDto.from(savedSagaInstance);
     }
 
+    public SagaInstanceDto initializeParallel(String orderNo, Payload payload, List<SagaStep> reservationSteps) {
+        OrderSagaInstance sagaInstance = OrderSagaInstance.createParallel(orderNo, payload, reservationSteps);
+        OrderSagaInstance savedSagaInstance = orderSagaInstanceRepository.save(sagaInstance);
+        return SagaInstanceDto.from(savedSagaInstance);
+    }
+
     @Transactional(readOnly = true)
     public SagaInstanceDto getSagaBySagaId(Long sagaId){
         OrderSagaInstance sagaInstance = findSagaBySagaId(sagaId);
@@ -42,9 +53,22 @@ public class SagaService {
         return SagaInstanceDto.from(sagaInstance);
     }
 
+    // 호출한 트랜잭션이 끝날때까지 Saga 행을 잠근다
+    public SagaInstanceDto lockSagaByOrderNo(String orderNo) {
+        OrderSagaInstance sagaInstance = orderSagaInstanceRepository.findWithLockByOrderNo(orderNo)
+                .orElseThrow(() -> new BusinessException(SagaErrorCode.SAGA_NOT_FOUND));
+        // 같은 트랜잭션에서 잠금 전에 읽은 엔티티는 잠금 조회로 상태가 갱신되지 않으므로 잠근 상태로 다시 읽는다
+        entityManager.refresh(sagaInstance, LockModeType.PESSIMISTIC_WRITE);
+        return SagaInstanceDto.from(sagaInstance);
+    }
+
     public SagaInstanceDto proceedTo(Long sagaId, SagaStep sagaStep) {
         OrderSagaInstance sagaInstance = findSagaBySagaId(sagaId);
 
+        // 오래된 상태를 근거로 보상중이거나 실패한 Saga 를 다시 진행시키지 않도록 저장된 상태를 확인
+        if (sagaInstance.getSagaStatus() != SagaStatus.STARTED) {
+            throw new BusinessException(SagaErrorCode.SAGA_NOT_STARTED);
+        }
         sagaInstance.proceedTo(sagaStep);
         return SagaInstanceDto.from(sagaInstance);
     }
@@ -79,9 +103,42 @@ public class SagaService {
         return SagaInstanceDto.from(sagaInstance);
     }
 
+    public SagaInstanceDto retryCompensation(Long sagaId) {
+        OrderSagaInstance sagaInstance = findSagaBySagaId(sagaId);
+        sagaInstance.retryCompensation();
+        return SagaInstanceDto.from(sagaInstance);
+    }
+
+    public SagaInstanceDto changeStepStatus(Long sagaId, SagaStep step, SagaStepStatus status) {
+        OrderSagaInstance sagaInstance = findSagaBySagaId(sagaId);
+        sagaInstance.changeStepStatus(step, status);
+        return SagaInstanceDto.from(sagaInstance);
+    }
+
+    public SagaInstanceDto startParallelCompensation(Long sagaId, String failureReason) {
+        OrderSagaInstance sagaInstance = findSagaBySagaId(sagaId);
+
+        if (sagaInstance.getSagaStatus() != SagaStatus.STARTED) {
+            log.info("이미 처리된 Saga 인스턴스");
+            return SagaInstanceDto.from(sagaInstance);
+        }
+
+        sagaInstance.startParallelCompensation(failureReason);
+        return SagaInstanceDto.from(sagaInstance);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SagaInstanceDto> getTimeouts(SagaStep sagaStep, LocalDateTime timeout, LocalDateTime lastStepStartedAt,
+                                             Long lastId, int size) {
+        return orderSagaInstanceRepository.findTimeoutPage(SagaStatus.STARTED, sagaStep, timeout, lastStepStartedAt, lastId,
+                        Limit.of(size))
+                .stream().map(SagaInstanceDto::from).toList();
+    }
+
     @Transactional(readOnly = true)
-    public List<SagaInstanceDto> getTimeouts(LocalDateTime timeout) {
-        return orderSagaInstanceRepository.findByStartedAtBeforeAndSagaStatus(timeout, SagaStatus.STARTED)
+    public List<SagaInstanceDto> getLiveSagas(Long lastId, int size) {
+        return orderSagaInstanceRepository.findPageBySagaStatusIn(List.of(SagaStatus.STARTED, SagaStatus.COMPENSATING),
+                        lastId, Limit.of(size))
                 .stream().map(SagaInstanceDto::from).toList();
     }
 
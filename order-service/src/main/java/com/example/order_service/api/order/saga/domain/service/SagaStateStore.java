@@ -0,0 +1,195 @@
+package com.example.order_service.api.order.saga.domain.service;
+
+import com.example.order_service.api.order.saga.domain.model.SagaStatus;
+import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.domain.model.SagaStepStatus;
+import com.example.order_service.api.order.saga.domain.model.vo.Payload;
+import com.example.order_service.api.order.saga.domain.service.dto.SagaInstanceDto;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaStateCacheProperties;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaTimeoutProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 진행중인 Saga 인스턴스를 메모리에 보관하는 write-through 저장소
+ * <p>
+ * 모든 상태 변경은 {@link SagaService} 를 통해 DB 에 먼저 반영된 뒤 캐시에 기록된다.
+ * 트랜잭션 안에서 변경된 경우 커밋 이후에 캐시에 기록하고, 롤백되면 캐시에서 제거한다.
+ * 조회는 캐시를 우선 사용하고 캐시에 없는 경우에만 DB 에서 로드한다.
+ * 종료(FINISHED, FAILED)된 Saga 는 더이상 응답을 받지 않으므로 캐시에서 제거한다.
+ */
+@Slf4j
+@Component
+public class SagaStateStore {
+
+    private static final String LOOKUP_METRIC = "saga.state.lookup";
+
+    private final SagaService sagaService;
+    private final Cache<String, SagaInstanceDto> sagaByOrderNo;
+    private final Cache<Long, String> orderNoBySagaId;
+    private final Counter cacheHitCounter;
+    private final Counter dbLoadCounter;
+
+    public SagaStateStore(SagaService sagaService, SagaStateCacheProperties properties,
+                          SagaTimeoutProperties timeoutProperties, MeterRegistry meterRegistry) {
+        if (properties.ttl().compareTo(timeoutProperties.shortestTimeout()) > 0) {
+            throw new IllegalStateException("Saga 상태 캐시 ttl(" + properties.ttl() + ") 은 가장 짧은 단계 타임아웃("
+                    + timeoutProperties.shortestTimeout() + ") 보다 길 수 없습니다");
+        }
+        this.sagaService = sagaService;
+        this.sagaByOrderNo = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .build();
+        this.orderNoBySagaId = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .build();
+        this.cacheHitCounter = Counter.builder(LOOKUP_METRIC)
+                .description("Saga 상태 조회 횟수")
+                .tag("source", "cache")
+                .register(meterRegistry);
+        this.dbLoadCounter = Counter.builder(LOOKUP_METRIC)
+                .description("Saga 상태 조회 횟수")
+                .tag("source", "db")
+                .register(meterRegistry);
+        Gauge.builder("saga.state.cache.size", sagaByOrderNo, Cache::estimatedSize)
+                .description("캐시된 진행중 Saga 수")
+                .register(meterRegistry);
+    }
+
+    public SagaInstanceDto initialize(String orderNo, Payload payload, SagaStep firstStep) {
+        return cacheAfterCommit(sagaService.initialize(orderNo, payload, firstStep));
+    }
+
+    public SagaInstanceDto initializeParallel(String orderNo, Payload payload, List<SagaStep> reservationSteps) {
+        return cacheAfterCommit(sagaService.initializeParallel(orderNo, payload, reservationSteps));
+    }
+
+    public SagaInstanceDto getSagaByOrderNo(String orderNo) {
+        SagaInstanceDto cached = sagaByOrderNo.getIfPresent(orderNo);
+        if (cached != null) {
+            cacheHitCounter.increment();
+            return cached;
+        }
+        return reload(orderNo);
+    }
+
+    public SagaInstanceDto getSagaBySagaId(Long sagaId) {
+        String orderNo = orderNoBySagaId.getIfPresent(sagaId);
+        if (orderNo != null) {
+            SagaInstanceDto cached = sagaByOrderNo.getIfPresent(orderNo);
+            if (cached != null) {
+                cacheHitCounter.increment();
+                return cached;
+            }
+        }
+        dbLoadCounter.increment();
+        return cache(sagaService.getSagaBySagaId(sagaId));
+    }
+
+    /**
+     * 캐시를 무시하고 DB 에서 최신 상태를 다시 읽어 캐시를 갱신한다
+     * <p>
+     * 다른 인스턴스가 같은 Saga 를 처리해 캐시가 오래된 상태일 수 있을때 사용한다
+     */
+    public SagaInstanceDto reload(String orderNo) {
+        dbLoadCounter.increment();
+        return cache(sagaService.getSagaByOrderNo(orderNo));
+    }
+
+    /**
+     * Saga 행을 잠근 뒤 DB 의 최신 상태를 읽는다
+     * <p>
+     * 여러 인스턴스가 같은 Saga 의 응답과 타임아웃을 동시에 처리할 수 있으므로 상태를 변경하기 전에 사용한다
+     */
+    public SagaInstanceDto lock(String orderNo) {
+        dbLoadCounter.increment();
+        return cacheAfterCommit(sagaService.lockSagaByOrderNo(orderNo));
+    }
+
+    public SagaInstanceDto proceedTo(Long sagaId, SagaStep sagaStep) {
+        return cacheAfterCommit(sagaService.proceedTo(sagaId, sagaStep));
+    }
+
+    public SagaInstanceDto finish(Long sagaId) {
+        return cacheAfterCommit(sagaService.finish(sagaId));
+    }
+
+    public SagaInstanceDto fail(Long sagaId, String failureReason) {
+        return cacheAfterCommit(sagaService.fail(sagaId, failureReason));
+    }
+
+    public SagaInstanceDto startCompensation(Long sagaId, SagaStep nextStep, String failureReason) {
+        return cacheAfterCommit(sagaService.startCompensation(sagaId, nextStep, failureReason));
+    }
+
+    public SagaInstanceDto continueCompensation(Long sagaId, SagaStep nextStep) {
+        return cacheAfterCommit(sagaService.continueCompensation(sagaId, nextStep));
+    }
+
+    public SagaInstanceDto retryCompensation(Long sagaId) {
+        return cacheAfterCommit(sagaService.retryCompensation(sagaId));
+    }
+
+    public SagaInstanceDto changeStepStatus(Long sagaId, SagaStep step, SagaStepStatus status) {
+        return cacheAfterCommit(sagaService.changeStepStatus(sagaId, step, status));
+    }
+
+    public SagaInstanceDto startParallelCompensation(Long sagaId, String failureReason) {
+        return cacheAfterCommit(sagaService.startParallelCompensation(sagaId, failureReason));
+    }
+
+    public void evict(String orderNo) {
+        SagaInstanceDto removed = sagaByOrderNo.asMap().remove(orderNo);
+        if (removed != null) {
+            orderNoBySagaId.invalidate(removed.getId());
+        }
+    }
+
+    private SagaInstanceDto cacheAfterCommit(SagaInstanceDto saga) {
+        if (saga == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return cache(saga);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    cache(saga);
+                } else {
+                    evict(saga.getOrderNo());
+                }
+            }
+        });
+        return saga;
+    }
+
+    private SagaInstanceDto cache(SagaInstanceDto saga) {
+        if (saga == null) {
+            return null;
+        }
+
+        if (isTerminated(saga.getSagaStatus())) {
+            evict(saga.getOrderNo());
+            return saga;
+        }
+
+        sagaByOrderNo.put(saga.getOrderNo(), saga);
+        orderNoBySagaId.put(saga.getId(), saga.getOrderNo());
+        return saga;
+    }
+
+    private boolean isTerminated(SagaStatus status) {
+        return status == SagaStatus.FINISHED || status == SagaStatus.FAILED;
+    }
+}
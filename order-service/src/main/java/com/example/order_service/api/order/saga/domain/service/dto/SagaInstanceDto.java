@@ -1,13 +1,17 @@
 package com.example.order_service.api.order.saga.domain.service.dto;
 
 import com.example.order_service.api.order.saga.domain.model.OrderSagaInstance;
+import com.example.order_service.api.order.saga.domain.model.SagaMode;
 import com.example.order_service.api.order.saga.domain.model.SagaStatus;
 import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.domain.model.SagaStepStatus;
 import com.example.order_service.api.order.saga.domain.model.vo.Payload;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 public class SagaInstanceDto {
@@ -15,20 +19,30 @@ public class SagaInstanceDto {
     private String orderNo;
     private SagaStep sagaStep;
     private SagaStatus sagaStatus;
+    private SagaMode sagaMode;
+    private Map<SagaStep, SagaStepStatus> stepStates;
     private Payload payload;
     private String failureReason;
     private LocalDateTime startedAt;
+    private LocalDateTime stepStartedAt;
+    private int compensationAttempts;
     private LocalDateTime finishedAt;
 
     @Builder
-    private SagaInstanceDto(Long id, String orderNo, SagaStep sagaStep, SagaStatus sagaStatus, Payload payload, String failureReason, LocalDateTime startedAt, LocalDateTime finishedAt) {
+    private SagaInstanceDto(Long id, String orderNo, SagaStep sagaStep, SagaStatus sagaStatus, SagaMode sagaMode,
+                            Map<SagaStep, SagaStepStatus> stepStates, Payload payload, String failureReason,
+                            LocalDateTime startedAt, LocalDateTime stepStartedAt, int compensationAttempts, LocalDateTime finishedAt) {
         this.id = id;
         this.orderNo = orderNo;
         this.sagaStep = sagaStep;
         this.sagaStatus = sagaStatus;
+        this.sagaMode = sagaMode == null ? SagaMode.SEQUENTIAL : sagaMode;
+        this.stepStates = stepStates == null ? Map.of() : Map.copyOf(stepStates);
         this.payload = payload;
         this.failureReason = failureReason;
         this.startedAt = startedAt;
+        this.stepStartedAt = stepStartedAt;
+        this.compensationAttempts = compensationAttempts;
         this.finishedAt = finishedAt;
     }
 
@@ -38,10 +52,38 @@ public class SagaInstanceDto {
                 .orderNo(orderSagaInstance.getOrderNo())
                 .sagaStep(orderSagaInstance.getSagaStep())
                 .sagaStatus(orderSagaInstance.getSagaStatus())
+                .sagaMode(orderSagaInstance.getSagaMode())
+                .stepStates(orderSagaInstance.getStepStates())
                 .payload(orderSagaInstance.getPayload())
                 .failureReason(orderSagaInstance.getFailureReason())
                 .startedAt(orderSagaInstance.getStartedAt())
+                .stepStartedAt(orderSagaInstance.getStepStartedAt())
+                .compensationAttempts(orderSagaInstance.getCompensationAttempts())
                 .finishedAt(orderSagaInstance.getFinishedAt())
                 .build();
     }
+
+    public boolean isParallel() {
+        return sagaMode == SagaMode.PARALLEL;
+    }
+
+    public boolean hasStepState(SagaStep step) {
+        return stepStates.containsKey(step);
+    }
+
+    public SagaStepStatus getStepStatus(SagaStep step) {
+        return stepStates.get(step);
+    }
+
+    public List<SagaStep> getStepsIn(SagaStepStatus status) {
+        return stepStates.entrySet().stream()
+                .filter(entry -> entry.getValue() == status)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+    public boolean isAllStepsIn(SagaStepStatus status) {
+        return stepStates.values().stream().allMatch(stepStatus -> stepStatus == status);
+    }
 }
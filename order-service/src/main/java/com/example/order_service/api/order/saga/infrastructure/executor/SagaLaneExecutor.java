@@ -0,0 +1,84 @@
+package com.example.order_service.api.order.saga.infrastructure.executor;
+
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaLaneProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문번호 해시로 레인을 고정하는 단일 스레드 실행기 묶음
+ * <p>
+ * 하나의 Saga 에 대한 처리는 항상 같은 레인에서 순서대로 실행되므로 서로 다른 Saga 만 병렬로 처리된다.
+ * 레인의 큐가 가득차면 호출 스레드(Kafka 리스너)를 블로킹해 순서를 유지한 채 배압을 건다.
+ */
+@Slf4j
+@Component
+public class SagaLaneExecutor implements DisposableBean {
+
+    private final List<ThreadPoolExecutor> lanes;
+
+    public SagaLaneExecutor(SagaLaneProperties properties, MeterRegistry meterRegistry) {
+        this.lanes = new ArrayList<>(properties.count());
+        for (int i = 0; i < properties.count(); i++) {
+            ThreadPoolExecutor lane = createLane(i, properties.queueCapacity());
+            Gauge.builder("saga.lane.queue.depth", lane, executor -> executor.getQueue().size())
+                    .description("Saga 레인 대기 작업 수")
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+            lanes.add(lane);
+        }
+    }
+
+    public CompletableFuture<Void> submit(String orderNo, Runnable task) {
+        return CompletableFuture.runAsync(task, laneOf(orderNo));
+    }
+
+    public int laneIndex(String orderNo) {
+        return Math.floorMod(orderNo.hashCode(), lanes.size());
+    }
+
+    private Executor laneOf(String orderNo) {
+        return lanes.get(laneIndex(orderNo));
+    }
+
+    private ThreadPoolExecutor createLane(int index, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "saga-lane-" + index + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), threadFactory, this::blockUntilQueued);
+    }
+
+    private void blockUntilQueued(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Saga 레인이 종료되었습니다");
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Saga 레인 대기중 인터럽트 발생", e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        lanes.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Saga 레인 종료 대기 시간 초과, 남은 작업 수 : {}", lane.getQueue().size());
+                lane.shutdownNow();
+            }
+        }
+    }
+}
@@ -3,36 +3,70 @@ package com.example.order_service.api.order.saga.infrastructure.kafka.listener;
 import com.example.common.result.SagaEventStatus;
 import com.example.common.result.SagaProcessResult;
 import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.infrastructure.executor.SagaLaneExecutor;
+import com.example.order_service.api.order.saga.infrastructure.kafka.producer.PaymentCompletedReply;
 import com.example.order_service.api.order.saga.orchestrator.SagaManager;
 import com.example.order_service.api.order.saga.orchestrator.dto.command.SagaStepResultCommand;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SagaEventListener {
     private final SagaManager sagaManager;
+    private final SagaLaneExecutor sagaLaneExecutor;
+
+    @KafkaListener(topics = "${order.topics.product-saga-reply}", batch = "true")
+    public void handleProductResult(@Payload List<SagaProcessResult> results){
+        dispatch(SagaStep.PRODUCT, results);
+    }
+
+    @KafkaListener(topics = "${order.topics.coupon-saga-reply}", batch = "true")
+    public void handleCouponResult(@Payload List<SagaProcessResult> results) {
+        dispatch(SagaStep.COUPON, results);
+    }
+
+    @KafkaListener(topics = "${order.topics.user-saga-reply}", batch = "true")
+    public void handleUserResult(@Payload List<SagaProcessResult> results) {
+        dispatch(SagaStep.USER, results);
+    }
 
-    @KafkaListener(topics = "${order.topics.product-saga-reply}")
-    public void handleProductResult(@Payload SagaProcessResult result){
-        SagaStepResultCommand command = mapToSagaStepResultCommand(SagaStep.PRODUCT, result);
-        sagaManager.handleStepResult(command);
+    // 결제 완료와 같은 트랜잭션에서 outbox 에 기록된 결제 단계 응답
+    @KafkaListener(topics = "${order.topics.payment-saga-reply}", batch = "true")
+    public void handlePaymentResult(@Payload List<PaymentCompletedReply> replies) {
+        dispatch(replies.stream()
+                .map(reply -> SagaStepResultCommand.of(SagaStep.PAYMENT, reply.orderNo(), true, null, null))
+                .toList());
     }
 
-    @KafkaListener(topics = "${order.topics.coupon-saga-reply}")
-    public void handleCouponResult(@Payload SagaProcessResult result) {
-        SagaStepResultCommand command = mapToSagaStepResultCommand(SagaStep.COUPON, result);
-        sagaManager.handleStepResult(command);
+    private void dispatch(SagaStep step, List<SagaProcessResult> results) {
+        dispatch(results.stream().map(result -> mapToSagaStepResultCommand(step, result)).toList());
     }
 
-    @KafkaListener(topics = "${order.topics.user-saga-reply}")
-    public void handleUserResult(@Payload SagaProcessResult result) {
-        SagaStepResultCommand command = mapToSagaStepResultCommand(SagaStep.USER, result);
-        sagaManager.handleStepResult(command);
+    // 주문번호별 레인에 응답을 분배하고 배치 전체가 처리된 뒤에 offset 이 커밋되도록 대기
+    // 실패한 응답이 있으면 첫번째 실패 위치를 알려 그 이전 응답의 offset 은 커밋하고 실패한 응답부터 다시 전달받는다
+    private void dispatch(List<SagaStepResultCommand> commands) {
+        List<CompletableFuture<Void>> futures = commands.stream()
+                .map(command -> sagaLaneExecutor.submit(command.getOrderNo(), () -> sagaManager.handleStepResult(command)))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).join();
+            } catch (CompletionException e) {
+                log.warn("saga 응답 처리 실패 orderNo={}, step={}", commands.get(i).getOrderNo(), commands.get(i).getStep(), e.getCause());
+                throw new BatchListenerFailedException("saga 응답 처리 실패", e.getCause(), i);
+            }
+        }
     }
 
     private SagaStepResultCommand mapToSagaStepResultCommand(SagaStep step, SagaProcessResult result) {
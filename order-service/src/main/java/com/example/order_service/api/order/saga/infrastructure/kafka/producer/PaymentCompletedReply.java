@@ -0,0 +1,15 @@
+package com.example.order_service.api.order.saga.infrastructure.kafka.producer;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 완료를 Saga 결제 단계 응답으로 전달하는 메시지
+ * <p>
+ * 결제 완료와 같은 트랜잭션에서 outbox 에 기록되고 order-service 가 직접 수신해 Saga 를 진행한다.
+ */
+public record PaymentCompletedReply(String orderNo, LocalDateTime completedAt) {
+
+    public static PaymentCompletedReply of(String orderNo) {
+        return new PaymentCompletedReply(orderNo, LocalDateTime.now());
+    }
+}
@@ -7,59 +7,85 @@ import com.example.common.product.ProductCommandType;
 import com.example.common.product.ProductSagaCommand;
 import com.example.common.user.UserCommandType;
 import com.example.common.user.UserSagaCommand;
+import com.example.order_service.api.order.saga.domain.model.SagaOutbox;
 import com.example.order_service.api.order.saga.domain.model.vo.Payload;
+import com.example.order_service.api.order.saga.domain.repository.SagaOutboxRepository;
 import com.example.order_service.api.order.saga.infrastructure.kafka.properties.OrderTopicProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Saga 명령을 Kafka 로 직접 보내지 않고 outbox 에 기록한다
+ * <p>
+ * Saga 상태 변경과 같은 트랜잭션에서 기록되므로 상태만 바뀌고 명령이 유실되는 일이 없다.
+ * 실제 발행은 {@link SagaOutboxRelay} 가 담당한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SagaEventProducer {
 
     private final OrderTopicProperties orderTopicProperties;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final SagaOutboxRepository sagaOutboxRepository;
+    private final ObjectMapper objectMapper;
 
     public void requestInventoryDeduction(Long sagaId, String orderNo, Payload payload) {
         ProductSagaCommand message = createInventoryRequestMessage(ProductCommandType.DEDUCT_STOCK, sagaId, orderNo, payload);
-        kafkaTemplate.send(orderTopicProperties.getProductSagaCommand(),
-                String.valueOf(sagaId), message);
+        append(orderTopicProperties.getProductSagaCommand(), sagaId, message);
         log.info("saga 상품 재고 차감 호출");
     }
 
     public void requestCouponUse(Long sagaId, String orderNo, Payload payload) {
         CouponSagaCommand message = createCouponRequestMessage(CouponCommandType.USE_COUPON, sagaId, orderNo, payload);
-        kafkaTemplate.send(orderTopicProperties.getCouponSagaCommand(),
-                String.valueOf(sagaId), message);
+        append(orderTopicProperties.getCouponSagaCommand(), sagaId, message);
     }
 
     public void requestUserPointUse(Long sagaId, String orderNo, Payload payload){
         UserSagaCommand message = createUserRequestMessage(UserCommandType.USE_POINT, sagaId, orderNo, payload);
-        kafkaTemplate.send(orderTopicProperties.getUserSagaCommand(),
-                String.valueOf(sagaId), message);
+        append(orderTopicProperties.getUserSagaCommand(), sagaId, message);
     }
 
     public void requestUserPointCompensate(Long sagaId, String orderNo, Payload payload) {
         UserSagaCommand message = createUserRequestMessage(UserCommandType.REFUND_POINT, sagaId, orderNo, payload);
-        kafkaTemplate.send(orderTopicProperties.getUserSagaCommand(),
-                String.valueOf(sagaId), message);
+        append(orderTopicProperties.getUserSagaCommand(), sagaId, message);
     }
 
     public void requestCouponCompensate(Long sagaId, String orderNo, Payload payload) {
         CouponSagaCommand message = createCouponRequestMessage(CouponCommandType.CANCEL_USE, sagaId, orderNo, payload);
-        kafkaTemplate.send(orderTopicProperties.getCouponSagaCommand(),
-                String.valueOf(sagaId), message);
+        append(orderTopicProperties.getCouponSagaCommand(), sagaId, message);
     }
 
     public void requestInventoryCompensate(Long sagaId, String orderNo, Payload payload) {
         ProductSagaCommand message = createInventoryRequestMessage(ProductCommandType.RESTORE_STOCK, sagaId, orderNo, payload);
-        kafkaTemplate.send(orderTopicProperties.getProductSagaCommand(),
-                String.valueOf(sagaId), message);
+        append(orderTopicProperties.getProductSagaCommand(), sagaId, message);
+    }
+
+    // 결제 완료 응답은 Saga 식별자를 모르는 주문 트랜잭션에서 기록되므로 주문번호를 키로 사용
+    public void replyPaymentCompleted(String orderNo) {
+        append(orderTopicProperties.getPaymentSagaReply(), orderNo, PaymentCompletedReply.of(orderNo));
+    }
+
+    private void append(String topic, Long sagaId, Object message) {
+        append(topic, String.valueOf(sagaId), message);
+    }
+
+    private void append(String topic, String messageKey, Object message) {
+        sagaOutboxRepository.save(
+                SagaOutbox.of(topic, messageKey, message.getClass().getName(), messageToString(message)));
+    }
+
+    private String messageToString(Object message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("saga 메시지 변환 실패", e);
+        }
     }
 
     private ProductSagaCommand createInventoryRequestMessage(ProductCommandType type, Long sagaId, String orderNo, Payload payload){
@@ -0,0 +1,99 @@
+package com.example.order_service.api.order.saga.infrastructure.kafka.producer;
+
+import com.example.order_service.api.order.saga.domain.model.SagaOutbox;
+import com.example.order_service.api.order.saga.domain.repository.SagaOutboxRepository;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaOutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 에 쌓인 Saga 명령을 Kafka 로 발행한다
+ * <p>
+ * 한 배치를 SKIP LOCKED 로 잠궈 여러 인스턴스가 서로 다른 행을 나눠 처리하도록 하고,
+ * 배치의 전송을 모두 요청한 뒤 결과를 한번에 기다려 프로듀서가 요청을 묶어 보낼 수 있도록 한다.
+ * 브로커 응답을 받은 메시지만 삭제하고 나머지는 다음 주기에 다시 발행한다.
+ * 같은 토픽, 같은 키(Saga)의 메시지는 앞선 메시지가 삭제된 뒤에만 배치에 포함되므로
+ * 발행에 실패한 메시지보다 뒤의 메시지가 먼저 발행되어 Saga 명령 순서가 바뀌지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaOutboxRelay {
+
+    private final SagaOutboxRepository sagaOutboxRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final SagaOutboxProperties properties;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicInteger lastBatchSize = new AtomicInteger();
+
+    /**
+     * outbox 한 배치를 발행하고 발행에 성공한 메시지 수를 반환한다
+     */
+    @Transactional
+    public int relay() {
+        List<SagaOutbox> batch = sagaOutboxRepository.findRelayBatch(Limit.of(properties.batchSize()));
+        lastBatchSize.set(batch.size());
+        if (batch.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        lagMillis.set(Duration.between(batch.get(0).getCreatedAt(), LocalDateTime.now()).toMillis());
+
+        List<CompletableFuture<SendResult<String, Object>>> futures = batch.stream().map(this::send).toList();
+
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        long deadline = System.nanoTime() + properties.sendTimeout().toNanos();
+        for (int i = 0; i < batch.size(); i++) {
+            SagaOutbox outbox = batch.get(i);
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sentIds.add(outbox.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("saga 메시지 발행 실패 다음 주기에 재시도 outboxId={}, topic={}, key={}",
+                        outbox.getId(), outbox.getTopic(), outbox.getMessageKey(), e);
+            }
+        }
+
+        sagaOutboxRepository.deleteAllByIdInBatch(sentIds);
+        return sentIds.size();
+    }
+
+    public long getLagMillis() {
+        return lagMillis.get();
+    }
+
+    public int getLastBatchSize() {
+        return lastBatchSize.get();
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(SagaOutbox outbox) {
+        try {
+            Object message = objectMapper.readValue(outbox.getPayload(), Class.forName(outbox.getPayloadType()));
+            return kafkaTemplate.send(outbox.getTopic(), outbox.getMessageKey(), message);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
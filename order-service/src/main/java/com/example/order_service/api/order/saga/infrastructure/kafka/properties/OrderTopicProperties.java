@@ -16,4 +16,7 @@ public class OrderTopicProperties {
     private String couponSagaReply;
     private String userSagaCommand;
     private String userSagaReply;
+    private String paymentSagaReply;
+    private String productChanged;
+    private String orderCompleted;
 }
@@ -0,0 +1,26 @@
+package com.example.order_service.api.order.saga.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Saga 단계 만료 타이밍 휠 설정
+ * <p>
+ * 진행 단계의 만료 시간은 {@link SagaTimeoutProperties} 를 따르고, 보상 단계는 compensationTimeout 마다 보상 명령을 재발행한다.
+ * 재발행이 maxCompensationAttempts 번을 넘으면 Saga 를 실패로 종료하고 수동 처리 대상으로 남긴다
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.saga.deadline")
+public record SagaDeadlineProperties(
+        @DefaultValue("1s") @NotNull Duration tickDuration,
+        @DefaultValue("512") @Min(value = 1) int wheelSize,
+        @DefaultValue("1m") @NotNull Duration compensationTimeout,
+        @DefaultValue("10") @Min(value = 1) int maxCompensationAttempts,
+        @DefaultValue("1000") @Min(value = 1) int rebuildPageSize
+) {
+}
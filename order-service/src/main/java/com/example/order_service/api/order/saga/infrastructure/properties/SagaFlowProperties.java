@@ -0,0 +1,19 @@
+package com.example.order_service.api.order.saga.infrastructure.properties;
+
+import com.example.order_service.api.order.saga.domain.model.SagaMode;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Saga 진행 방식 설정
+ * <p>
+ * 새로 시작하는 Saga 에만 적용되며, 이미 진행중인 Saga 는 시작할때의 방식으로 끝까지 진행된다
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.saga.flow")
+public record SagaFlowProperties(
+        @DefaultValue("SEQUENTIAL") @NotNull SagaMode mode
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.order_service.api.order.saga.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Saga 응답 처리 레인 설정
+ * <p>
+ * 같은 주문번호의 Saga 응답은 항상 같은 레인에서 순서대로 처리된다
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.saga.lane")
+public record SagaLaneProperties(
+        @DefaultValue("16") @Min(value = 1) int count,
+        @DefaultValue("1000") @Min(value = 1) int queueCapacity
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.order_service.api.order.saga.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Saga 명령 outbox 릴레이 설정
+ * <p>
+ * 릴레이는 batchSize 만큼 outbox 를 잠궈 한번에 발행하고, sendTimeout 안에 브로커 응답을 받은 메시지만 삭제한다
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.saga.outbox")
+public record SagaOutboxProperties(
+        @DefaultValue("200") @Min(value = 1) int batchSize,
+        @DefaultValue("5s") @NotNull Duration sendTimeout
+) {
+}
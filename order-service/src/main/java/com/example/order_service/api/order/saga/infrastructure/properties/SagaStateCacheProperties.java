@@ -0,0 +1,23 @@
+package com.example.order_service.api.order.saga.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 진행중인 Saga 상태 캐시 설정
+ * <p>
+ * ttl 은 Saga 타임아웃 기준 시간보다 짧아야 타임아웃 보상으로 변경된 상태를 캐시가 덮어쓰지 않는다.
+ * 가장 짧은 단계 타임아웃보다 길면 {@link com.example.order_service.api.order.saga.domain.service.SagaStateStore} 생성시 기동에 실패한다
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.saga.state-cache")
+public record SagaStateCacheProperties(
+        @DefaultValue("10000") @Min(value = 1) long maximumSize,
+        @DefaultValue("5m") @NotNull Duration ttl
+) {
+}
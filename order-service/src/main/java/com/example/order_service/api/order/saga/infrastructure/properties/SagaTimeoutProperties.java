@@ -0,0 +1,42 @@
+package com.example.order_service.api.order.saga.infrastructure.properties;
+
+import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Saga 타임아웃 설정
+ * <p>
+ * steps 에 정의되지 않은 단계는 defaultTimeout 을 사용한다
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.saga.timeout")
+public record SagaTimeoutProperties(
+        @DefaultValue("10m") @NotNull Duration defaultTimeout,
+        Map<SagaStep, Duration> steps,
+        @DefaultValue("500") @Min(value = 1) int pageSize,
+        @DefaultValue("2m") @NotNull Duration leaseDuration
+) {
+    public Duration timeoutOf(SagaStep step) {
+        if (steps == null) {
+            return defaultTimeout;
+        }
+        return steps.getOrDefault(step, defaultTimeout);
+    }
+
+    public Duration shortestTimeout() {
+        if (steps == null) {
+            return defaultTimeout;
+        }
+        return steps.values().stream()
+                .min(Duration::compareTo)
+                .filter(timeout -> timeout.compareTo(defaultTimeout) < 0)
+                .orElse(defaultTimeout);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.order_service.api.order.saga.infrastructure.timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 키 단위로 하나의 만료 시각만 유지하는 해시 타이밍 휠
+ * <p>
+ * 등록/취소는 O(1) 이며, 버킷은 워커 스레드만 접근하므로 잠금 없이 동작한다.
+ * 같은 키로 다시 등록하면 이전 만료는 취소된다. 휠 한 바퀴보다 먼 만료는 남은 바퀴 수 만큼 버킷에 머문다.
+ */
+@Slf4j
+public class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<List<Timeout<T>>> buckets;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private final Map<String, Timeout<T>> timeoutsByKey = new ConcurrentHashMap<>();
+    private final Consumer<T> expirationHandler;
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running;
+    private long currentTick;
+
+    public HashedTimingWheel(String name, Duration tickDuration, int wheelSize, Consumer<T> expirationHandler) {
+        if (tickDuration.isZero() || tickDuration.isNegative()) {
+            throw new IllegalArgumentException("tickDuration 은 0보다 커야 합니다");
+        }
+        int normalizedSize = Integer.highestOneBit(Math.max(wheelSize, 1) * 2 - 1);
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = normalizedSize - 1;
+        this.buckets = new ArrayList<>(normalizedSize);
+        for (int i = 0; i < normalizedSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.expirationHandler = expirationHandler;
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.startNanos = System.nanoTime();
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker.start();
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    public void schedule(String key, T payload, Duration delay) {
+        long deadline = System.nanoTime() - startNanos + Math.max(delay.toNanos(), 0);
+        Timeout<T> timeout = new Timeout<>(key, payload, deadline);
+        Timeout<T> previous = timeoutsByKey.put(key, timeout);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        pending.add(timeout);
+    }
+
+    public boolean cancel(String key) {
+        Timeout<T> timeout = timeoutsByKey.remove(key);
+        if (timeout == null) {
+            return false;
+        }
+        timeout.cancelled = true;
+        return true;
+    }
+
+    public int size() {
+        return timeoutsByKey.size();
+    }
+
+    private void run() {
+        while (running) {
+            long tickDeadline = tickNanos * (currentTick + 1);
+            long sleepNanos = tickDeadline - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            transferPending();
+            expire(buckets.get((int) (currentTick & mask)), tickDeadline);
+            currentTick++;
+        }
+    }
+
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            // 이미 지난 만료는 현재 틱에서 바로 처리
+            long tick = Math.max(timeout.deadline / tickNanos, currentTick);
+            buckets.get((int) (tick & mask)).add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout<T>> bucket, long tickDeadline) {
+        Iterator<Timeout<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+                continue;
+            }
+            if (timeout.deadline > tickDeadline) {
+                continue;
+            }
+            iterator.remove();
+            if (timeoutsByKey.remove(timeout.key, timeout)) {
+                fire(timeout);
+            }
+        }
+    }
+
+    private void fire(Timeout<T> timeout) {
+        try {
+            expirationHandler.accept(timeout.payload);
+        } catch (Exception e) {
+            log.error("타이밍 휠 만료 처리 실패 key : {}", timeout.key, e);
+        }
+    }
+
+    private static final class Timeout<T> {
+        private final String key;
+        private final T payload;
+        private final long deadline;
+        private volatile boolean cancelled;
+
+        private Timeout(String key, T payload, long deadline) {
+            this.key = key;
+            this.payload = payload;
+            this.deadline = deadline;
+        }
+    }
+}
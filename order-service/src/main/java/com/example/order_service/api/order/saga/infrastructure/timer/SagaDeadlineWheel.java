@@ -0,0 +1,122 @@
+package com.example.order_service.api.order.saga.infrastructure.timer;
+
+import com.example.order_service.api.order.saga.domain.model.SagaStatus;
+import com.example.order_service.api.order.saga.domain.service.SagaService;
+import com.example.order_service.api.order.saga.domain.service.dto.SagaInstanceDto;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaDeadlineProperties;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaTimeoutProperties;
+import com.example.order_service.api.order.saga.orchestrator.event.SagaDeadlineExceededEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Saga 단계별 만료 시각을 관리하는 타이밍 휠
+ * <p>
+ * 단계 명령을 발행할때 만료를 등록하고, 다음 단계로 넘어가거나 종료되면 만료가 교체/취소된다.
+ * 만료된 단계는 {@link SagaDeadlineExceededEvent} 로 발행되어 DB 폴링 없이 바로 보상이 시작된다.
+ */
+@Slf4j
+@Component
+public class SagaDeadlineWheel implements DisposableBean {
+
+    private final SagaService sagaService;
+    private final SagaTimeoutProperties timeoutProperties;
+    private final SagaDeadlineProperties deadlineProperties;
+    private final HashedTimingWheel<SagaDeadlineExceededEvent> wheel;
+    private final Counter expiredCounter;
+    private final Counter compensationExhaustedCounter;
+
+    public SagaDeadlineWheel(SagaService sagaService, SagaTimeoutProperties timeoutProperties,
+                             SagaDeadlineProperties deadlineProperties, ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry) {
+        this.sagaService = sagaService;
+        this.timeoutProperties = timeoutProperties;
+        this.deadlineProperties = deadlineProperties;
+        this.expiredCounter = Counter.builder("saga.deadline.expired")
+                .description("만료된 Saga 단계 수")
+                .register(meterRegistry);
+        this.compensationExhaustedCounter = Counter.builder("saga.compensation.exhausted")
+                .description("보상 재발행 횟수를 초과해 실패로 종료된 Saga 수, 0 보다 크면 수동 처리가 필요하다")
+                .register(meterRegistry);
+        this.wheel = new HashedTimingWheel<>("saga-deadline-wheel", deadlineProperties.tickDuration(),
+                deadlineProperties.wheelSize(), event -> {
+                    expiredCounter.increment();
+                    eventPublisher.publishEvent(event);
+                });
+        Gauge.builder("saga.deadline.pending", wheel, HashedTimingWheel::size)
+                .description("만료 대기중인 Saga 단계 수")
+                .register(meterRegistry);
+        this.wheel.start();
+    }
+
+    public void register(SagaInstanceDto saga) {
+        register(saga, timeoutOf(saga));
+    }
+
+    public void cancel(String orderNo) {
+        wheel.cancel(orderNo);
+    }
+
+    /**
+     * 보상 명령을 더 재발행할 수 있는지 확인한다
+     *
+     * @return 재발행 횟수를 모두 사용했으면 true, 이때 알림 지표가 증가한다
+     */
+    public boolean isCompensationExhausted(SagaInstanceDto saga) {
+        if (saga.getCompensationAttempts() < deadlineProperties.maxCompensationAttempts()) {
+            return false;
+        }
+        compensationExhaustedCounter.increment();
+        return true;
+    }
+
+    // 재시작 시 진행/보상중인 Saga 의 만료를 다시 등록
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        Long lastId = 0L;
+        int registered = 0;
+        while (true) {
+            List<SagaInstanceDto> page = sagaService.getLiveSagas(lastId, deadlineProperties.rebuildPageSize());
+            for (SagaInstanceDto saga : page) {
+                Duration elapsed = Duration.between(saga.getStepStartedAt(), now);
+                register(saga, timeoutOf(saga).minus(elapsed));
+            }
+            registered += page.size();
+            if (page.size() < deadlineProperties.rebuildPageSize()) {
+                break;
+            }
+            lastId = page.get(page.size() - 1).getId();
+        }
+        log.info("Saga 만료 타이밍 휠 복구 완료 : {}건", registered);
+    }
+
+    @Override
+    public void destroy() {
+        wheel.stop();
+    }
+
+    private void register(SagaInstanceDto saga, Duration delay) {
+        SagaDeadlineExceededEvent event =
+                SagaDeadlineExceededEvent.of(saga.getId(), saga.getOrderNo(), saga.getSagaStep(), saga.getSagaStatus());
+        wheel.schedule(saga.getOrderNo(), event, delay);
+    }
+
+    private Duration timeoutOf(SagaInstanceDto saga) {
+        if (saga.getSagaStatus() == SagaStatus.COMPENSATING) {
+            return deadlineProperties.compensationTimeout();
+        }
+        return timeoutProperties.timeoutOf(saga.getSagaStep());
+    }
+}
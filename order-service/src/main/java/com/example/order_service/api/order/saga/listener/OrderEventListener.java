@@ -1,11 +1,12 @@
 package com.example.order_service.api.order.saga.listener;
 
+import com.example.order_service.api.common.util.AsyncUtil;
 import com.example.order_service.api.order.domain.model.OrderFailureCode;
 import com.example.order_service.api.order.facade.OrderFacade;
 import com.example.order_service.api.order.facade.event.OrderCreatedEvent;
-import com.example.order_service.api.order.facade.event.PaymentCompletedEvent;
 import com.example.order_service.api.order.facade.event.PaymentFailedEvent;
 import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.infrastructure.executor.SagaLaneExecutor;
 import com.example.order_service.api.order.saga.orchestrator.SagaManager;
 import com.example.order_service.api.order.saga.orchestrator.dto.command.SagaStartCommand;
 import com.example.order_service.api.order.saga.orchestrator.dto.command.SagaStepResultCommand;
@@ -23,6 +24,7 @@ public class OrderEventListener {
 
     private final OrderFacade orderFacade;
     private final SagaManager sagaManager;
+    private final SagaLaneExecutor sagaLaneExecutor;
 
     @EventListener
     public void handleOrderCreated(OrderCreatedEvent event) {
@@ -30,17 +32,11 @@ public class OrderEventListener {
         sagaManager.startSaga(command);
     }
 
-    @EventListener
-    public void handlePaymentCompleted(PaymentCompletedEvent event) {
-        SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.PAYMENT, event.getOrderNo(), true, null, null);
-        sagaManager.handleStepResult(command);
-    }
-
     @EventListener
     public void handlePaymentFailed(PaymentFailedEvent event) {
         SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.PAYMENT, event.getOrderNo(), false, event.getCode(),
                 event.getFailureReason());
-        sagaManager.handleStepResult(command);
+        handleInLane(command);
     }
 
     @EventListener
@@ -54,6 +50,11 @@ public class OrderEventListener {
         orderFacade.processOrderFailure(event.getOrderNo(), orderFailureCode);
     }
 
+    // Kafka 응답과 같은 레인에서 처리해 하나의 Saga 를 동시에 변경하지 않도록 한다
+    private void handleInLane(SagaStepResultCommand command) {
+        AsyncUtil.join(sagaLaneExecutor.submit(command.getOrderNo(), () -> sagaManager.handleStepResult(command)));
+    }
+
     private OrderFailureCode mapToOrderFailureCode(String errorCode) {
         if (errorCode == null) return OrderFailureCode.UNKNOWN;
 
@@ -0,0 +1,28 @@
+package com.example.order_service.api.order.saga.listener;
+
+import com.example.order_service.api.order.saga.infrastructure.executor.SagaLaneExecutor;
+import com.example.order_service.api.order.saga.orchestrator.SagaManager;
+import com.example.order_service.api.order.saga.orchestrator.event.SagaDeadlineExceededEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaDeadlineEventListener {
+
+    private final SagaManager sagaManager;
+    private final SagaLaneExecutor sagaLaneExecutor;
+
+    // 타이밍 휠 스레드를 막지 않도록 레인에 넘기고 완료를 기다리지 않는다
+    @EventListener
+    public void handleDeadlineExceeded(SagaDeadlineExceededEvent event) {
+        sagaLaneExecutor.submit(event.getOrderNo(), () -> sagaManager.handleDeadlineExceeded(event))
+                .exceptionally(e -> {
+                    log.error("Saga 만료 처리 실패 SagaId : {}", event.getSagaId(), e);
+                    return null;
+                });
+    }
+}
@@ -5,7 +5,9 @@ import com.example.order_service.api.common.exception.business.BusinessException
 import com.example.order_service.api.order.saga.domain.model.SagaStep;
 import com.example.order_service.api.order.saga.domain.model.vo.Payload;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 public enum SagaFlow {
 
@@ -78,4 +80,13 @@ public enum SagaFlow {
     public static SagaStep initialStep(Payload payload) {
         return SagaStep.PRODUCT;
     }
+
+    // 병렬 모드에서 동시에 진행하는 예약 단계
+    public static List<SagaStep> reservationSteps(Payload payload) {
+        List<SagaStep> steps = new ArrayList<>();
+        steps.add(SagaStep.PRODUCT);
+        if (payload.hasCoupon()) steps.add(SagaStep.COUPON);
+        if (payload.hasPoints()) steps.add(SagaStep.USER);
+        return steps;
+    }
 }
@@ -1,45 +1,75 @@
 package com.example.order_service.api.order.saga.orchestrator;
 
+import com.example.order_service.api.order.saga.domain.model.SagaMode;
 import com.example.order_service.api.order.saga.domain.model.SagaStatus;
 import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.domain.model.SagaStepStatus;
 import com.example.order_service.api.order.saga.domain.model.vo.Payload;
-import com.example.order_service.api.order.saga.domain.service.SagaService;
+import com.example.order_service.api.order.saga.domain.service.SagaStateStore;
 import com.example.order_service.api.order.saga.domain.service.dto.SagaInstanceDto;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaFlowProperties;
+import com.example.order_service.api.order.saga.infrastructure.timer.SagaDeadlineWheel;
 import com.example.order_service.api.order.saga.orchestrator.dto.command.SagaStartCommand;
 import com.example.order_service.api.order.saga.orchestrator.dto.command.SagaStepResultCommand;
 import com.example.order_service.api.order.saga.orchestrator.event.SagaAbortEvent;
+import com.example.order_service.api.order.saga.orchestrator.event.SagaDeadlineExceededEvent;
 import com.example.order_service.api.order.saga.orchestrator.handler.SagaStepHandler;
 import com.example.order_service.api.order.saga.orchestrator.handler.SagaStepHandlerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Saga 진행을 조율한다
+ * <p>
+ * 상태 변경과 다음 단계 명령의 outbox 기록이 하나의 트랜잭션에서 이루어지도록 진입 메서드마다 트랜잭션을 연다.
+ * 병렬 모드({@link SagaMode#PARALLEL})에서는 예약 단계 명령을 한번에 발행하고 단계별 응답 상태를 기록해,
+ * 모든 예약이 성공하면 결제 단계로 넘어가고 하나라도 실패하면 성공한 단계만 보상한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SagaManager {
 
-    private final SagaService sagaService;
+    private final SagaStateStore sagaStateStore;
     private final SagaStepHandlerFactory handlerFactory;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final SagaDeadlineWheel sagaDeadlineWheel;
+    private final SagaFlowProperties sagaFlowProperties;
 
+    @Transactional
     public void startSaga(SagaStartCommand command) {
         // payload  생성
         Payload payload = Payload.from(command);
+        if (sagaFlowProperties.mode() == SagaMode.PARALLEL) {
+            startParallelSaga(command.getOrderNo(), payload);
+            return;
+        }
         // 첫번째 단계 생성 [상품 재고 감소]
         SagaStep firstStep = SagaFlow.initialStep(payload);
         // saga 인스턴스 저장
-        SagaInstanceDto sagaInstanceDto = sagaService.initialize(command.getOrderNo(), payload, firstStep);
+        SagaInstanceDto sagaInstanceDto = sagaStateStore.initialize(command.getOrderNo(), payload, firstStep);
         // sagaHandler를 찾아 saga를 진행
         processStep(sagaInstanceDto);
     }
 
+    @Transactional
     public void handleStepResult(SagaStepResultCommand command) {
-        SagaInstanceDto saga = sagaService.getSagaByOrderNo(command.getOrderNo());
+        // 응답과 타임아웃은 여러 인스턴스에서 동시에 처리될 수 있으므로 행을 잠근 뒤 최신 상태로 처리
+        SagaInstanceDto saga = sagaStateStore.lock(command.getOrderNo());
+        if (saga.isParallel() && saga.hasStepState(command.getStep())) {
+            handleParallelStepResult(saga, command);
+            return;
+        }
+        if (saga.getSagaStatus() == SagaStatus.FINISHED || saga.getSagaStatus() == SagaStatus.FAILED) {
+            // 응답이 다시 전달되더라도 종료된 Saga 는 진행하거나 보상하지 않는다
+            log.info("이미 종료된 Saga 의 응답입니다. sagaId={}, status={}", saga.getId(), saga.getSagaStatus());
+            return;
+        }
         if (saga.getSagaStep() != command.getStep()) {
             log.warn("이미 처리되었거나 잘못된 단계의 응답입니다. current={}, result={}",
                     saga.getSagaStep(), command.getStep());
@@ -80,11 +110,12 @@ public class SagaManager {
         SagaStep nextStep = SagaFlow.from(saga.getSagaStep()).next(saga.getPayload());
         if (nextStep == null) {
             // 다음 saga 스텝이 없으면 saga 종료
-            sagaService.finish(saga.getId());
+            sagaStateStore.finish(saga.getId());
+            sagaDeadlineWheel.cancel(saga.getOrderNo());
             return;
         }
         // saga 인스턴스 상태 업데이트
-        SagaInstanceDto updateSaga = sagaService.proceedTo(saga.getId(), nextStep);
+        SagaInstanceDto updateSaga = sagaStateStore.proceedTo(saga.getId(), nextStep);
         // 핸들러 찾아 처리 진행
         processStep(updateSaga);
     }
@@ -92,11 +123,16 @@ public class SagaManager {
     private void startCompensationSequence(SagaInstanceDto saga, String errorCode, String failureReason) {
         SagaAbortEvent abortEvent = SagaAbortEvent.of(saga.getId(), saga.getOrderNo(), saga.getPayload().getUserId(), errorCode);
         applicationEventPublisher.publishEvent(abortEvent);
+        if (saga.isParallel()) {
+            startParallelCompensation(saga, failureReason);
+            return;
+        }
         SagaStep compensationStep = SagaFlow.from(saga.getSagaStep()).nextCompensation(saga.getPayload());
         if (compensationStep == null) {
-            sagaService.fail(saga.getId(), failureReason);
+            sagaStateStore.fail(saga.getId(), failureReason);
+            sagaDeadlineWheel.cancel(saga.getOrderNo());
         } else {
-            SagaInstanceDto updateSaga = sagaService.startCompensation(saga.getId(), compensationStep, failureReason);
+            SagaInstanceDto updateSaga = sagaStateStore.startCompensation(saga.getId(), compensationStep, failureReason);
             compensateStep(updateSaga);
         }
     }
@@ -106,36 +142,151 @@ public class SagaManager {
         SagaStep nextStep = SagaFlow.from(saga.getSagaStep()).nextCompensation(saga.getPayload());
         // 다음 단계가 없다면 보상 없이 실패 처리 진행 (이때는 실패 이유는 null)
         if (nextStep == null) {
-            sagaService.fail(saga.getId(), null);
+            sagaStateStore.fail(saga.getId(), null);
+            sagaDeadlineWheel.cancel(saga.getOrderNo());
             return;
         }
         // Saga 인스턴스 단계를 다음 보상 단계로 변경
-        SagaInstanceDto updateSagaInstanceDto = sagaService.continueCompensation(saga.getId(), nextStep);
+        SagaInstanceDto updateSagaInstanceDto = sagaStateStore.continueCompensation(saga.getId(), nextStep);
         // 단계에 맞는 Saga 보상 메시지 발행
         compensateStep(updateSagaInstanceDto);
     }
 
-    public void processTimeouts() {
-        //Saga 시작 시간이 10분 이전이면서 상태는 STARTED인 Saga 모두 조회
-        LocalDateTime timeout = LocalDateTime.now().minusMinutes(10);
-        List<SagaInstanceDto> timeouts = sagaService.getTimeouts(timeout);
-        //조회된 SAGA 를 보상 처리함
-        for (SagaInstanceDto saga : timeouts) {
-            try {
-                startCompensationSequence(saga, "SAGA_TIMEOUT", "사가 처리 지연");
-            } catch (Exception e) {
-                log.error("Timeout 처리 실패 SagaId : {}", saga.getId());
+    @Transactional
+    public void handleTimeout(SagaInstanceDto timedOutSaga) {
+        // 조회 이후 응답이 도착해 진행되었을 수 있으므로 최신 상태를 다시 확인
+        SagaInstanceDto saga = sagaStateStore.lock(timedOutSaga.getOrderNo());
+        if (saga.getSagaStatus() != SagaStatus.STARTED || saga.getSagaStep() != timedOutSaga.getSagaStep()) {
+            log.info("타임아웃 대상 Saga가 이미 진행되었습니다. sagaId={}, current={}", saga.getId(), saga.getSagaStep());
+            return;
+        }
+        startCompensationSequence(saga, "SAGA_TIMEOUT", "사가 처리 지연");
+    }
+
+    @Transactional
+    public void handleDeadlineExceeded(SagaDeadlineExceededEvent event) {
+        SagaInstanceDto saga = sagaStateStore.lock(event.getOrderNo());
+        if (saga.getSagaStep() != event.getSagaStep() || saga.getSagaStatus() != event.getSagaStatus()) {
+            log.info("만료 대상 Saga 단계가 이미 진행되었습니다. sagaId={}, current={}", saga.getId(), saga.getSagaStep());
+            return;
+        }
+
+        if (saga.getSagaStatus() == SagaStatus.STARTED) {
+            startCompensationSequence(saga, "SAGA_TIMEOUT", "사가 처리 지연");
+            return;
+        }
+        if (saga.getSagaStatus() != SagaStatus.COMPENSATING) {
+            return;
+        }
+        // 보상이 계속 실패하면 무한히 재발행하지 않고 실패로 종료해 수동 처리 대상으로 남긴다
+        if (sagaDeadlineWheel.isCompensationExhausted(saga)) {
+            log.error("보상 재발행 횟수 초과 [위험] sagaId={}, step={}, attempts={}",
+                    saga.getId(), saga.getSagaStep(), saga.getCompensationAttempts());
+            sagaStateStore.fail(saga.getId(), "보상 재시도 횟수 초과");
+            sagaDeadlineWheel.cancel(saga.getOrderNo());
+            return;
+        }
+        SagaInstanceDto retrySaga = sagaStateStore.retryCompensation(saga.getId());
+        if (retrySaga.isParallel()) {
+            log.warn("보상 응답 지연으로 병렬 보상 명령 재발행 sagaId={}", retrySaga.getId());
+            retryParallelCompensation(retrySaga);
+        } else {
+            // 보상 응답이 오지 않은 경우 보상 명령을 재발행 (보상 처리는 각 서비스에서 멱등하게 처리됨)
+            log.warn("보상 응답 지연으로 보상 명령 재발행 sagaId={}, step={}", retrySaga.getId(), retrySaga.getSagaStep());
+            compensateStep(retrySaga);
+        }
+    }
+
+    private void startParallelSaga(String orderNo, Payload payload) {
+        List<SagaStep> reservationSteps = SagaFlow.reservationSteps(payload);
+        SagaInstanceDto saga = sagaStateStore.initializeParallel(orderNo, payload, reservationSteps);
+        for (SagaStep step : reservationSteps) {
+            handlerFactory.getHandler(step).process(saga.getId(), saga.getOrderNo(), saga.getPayload());
+        }
+        sagaDeadlineWheel.register(saga);
+    }
+
+    private void handleParallelStepResult(SagaInstanceDto saga, SagaStepResultCommand command) {
+        SagaStep step = command.getStep();
+        SagaStepStatus stepStatus = saga.getStepStatus(step);
+
+        if (stepStatus == SagaStepStatus.PENDING && saga.getSagaStatus() == SagaStatus.STARTED) {
+            if (command.isSuccess()) {
+                SagaInstanceDto updateSaga = sagaStateStore.changeStepStatus(saga.getId(), step, SagaStepStatus.SUCCEEDED);
+                if (updateSaga.isAllStepsIn(SagaStepStatus.SUCCEEDED)) {
+                    // 모든 예약이 끝나면 결제 단계로 진행
+                    processStep(sagaStateStore.proceedTo(saga.getId(), SagaStep.PAYMENT));
+                }
+            } else {
+                SagaInstanceDto updateSaga = sagaStateStore.changeStepStatus(saga.getId(), step, SagaStepStatus.FAILED);
+                startCompensationSequence(updateSaga, command.getErrorCode(), command.getFailureReason());
+            }
+        } else if (stepStatus == SagaStepStatus.PENDING && saga.getSagaStatus() == SagaStatus.COMPENSATING) {
+            // 보상이 시작된 이후 늦게 도착한 예약 응답, 성공했다면 해당 단계도 보상한다
+            if (command.isSuccess()) {
+                SagaInstanceDto updateSaga = sagaStateStore.changeStepStatus(saga.getId(), step, SagaStepStatus.COMPENSATING);
+                handlerFactory.getHandler(step).compensate(saga.getId(), saga.getOrderNo(), saga.getPayload());
+                completeParallelCompensationIfDone(updateSaga);
+            } else {
+                completeParallelCompensationIfDone(
+                        sagaStateStore.changeStepStatus(saga.getId(), step, SagaStepStatus.FAILED));
+            }
+        } else if (stepStatus == SagaStepStatus.COMPENSATING) {
+            if (command.isSuccess()) {
+                completeParallelCompensationIfDone(
+                        sagaStateStore.changeStepStatus(saga.getId(), step, SagaStepStatus.COMPENSATED));
+            } else {
+                log.error("보상 실패 [위험]");
             }
+        } else {
+            log.warn("이미 처리되었거나 잘못된 단계의 응답입니다. sagaId={}, step={}, stepStatus={}",
+                    saga.getId(), step, stepStatus);
+        }
+    }
+
+    private void startParallelCompensation(SagaInstanceDto saga, String failureReason) {
+        SagaInstanceDto updateSaga = sagaStateStore.startParallelCompensation(saga.getId(), failureReason);
+        for (SagaStep step : updateSaga.getStepsIn(SagaStepStatus.COMPENSATING)) {
+            handlerFactory.getHandler(step).compensate(updateSaga.getId(), updateSaga.getOrderNo(), updateSaga.getPayload());
+        }
+        if (!completeParallelCompensationIfDone(updateSaga)) {
+            sagaDeadlineWheel.register(updateSaga);
+        }
+    }
+
+    private void retryParallelCompensation(SagaInstanceDto saga) {
+        // 보상 만료 시간까지 응답이 없는 예약 단계는 적용되지 않은 것으로 보고 실패 처리한다
+        SagaInstanceDto updateSaga = saga;
+        for (SagaStep step : saga.getStepsIn(SagaStepStatus.PENDING)) {
+            updateSaga = sagaStateStore.changeStepStatus(saga.getId(), step, SagaStepStatus.FAILED);
+        }
+        for (SagaStep step : updateSaga.getStepsIn(SagaStepStatus.COMPENSATING)) {
+            handlerFactory.getHandler(step).compensate(updateSaga.getId(), updateSaga.getOrderNo(), updateSaga.getPayload());
+        }
+        if (!completeParallelCompensationIfDone(updateSaga)) {
+            sagaDeadlineWheel.register(updateSaga);
+        }
+    }
+
+    // 응답 대기중이거나 보상중인 단계가 없으면 Saga 를 실패로 종료한다
+    private boolean completeParallelCompensationIfDone(SagaInstanceDto saga) {
+        if (!saga.getStepsIn(SagaStepStatus.PENDING).isEmpty() || !saga.getStepsIn(SagaStepStatus.COMPENSATING).isEmpty()) {
+            return false;
         }
+        sagaStateStore.fail(saga.getId(), null);
+        sagaDeadlineWheel.cancel(saga.getOrderNo());
+        return true;
     }
 
     private void processStep(SagaInstanceDto saga) {
         SagaStepHandler handler = handlerFactory.getHandler(saga.getSagaStep());
         handler.process(saga.getId(), saga.getOrderNo(), saga.getPayload());
+        sagaDeadlineWheel.register(saga);
     }
 
     private void compensateStep(SagaInstanceDto saga) {
         SagaStepHandler handler = handlerFactory.getHandler(saga.getSagaStep());
         handler.compensate(saga.getId(), saga.getOrderNo(), saga.getPayload());
+        sagaDeadlineWheel.register(saga);
     }
 }
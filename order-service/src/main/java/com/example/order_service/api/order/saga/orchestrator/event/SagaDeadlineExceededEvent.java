@@ -0,0 +1,31 @@
+package com.example.order_service.api.order.saga.orchestrator.event;
+
+import com.example.order_service.api.order.saga.domain.model.SagaStatus;
+import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class SagaDeadlineExceededEvent {
+    private Long sagaId;
+    private String orderNo;
+    private SagaStep sagaStep;
+    private SagaStatus sagaStatus;
+
+    @Builder
+    private SagaDeadlineExceededEvent(Long sagaId, String orderNo, SagaStep sagaStep, SagaStatus sagaStatus) {
+        this.sagaId = sagaId;
+        this.orderNo = orderNo;
+        this.sagaStep = sagaStep;
+        this.sagaStatus = sagaStatus;
+    }
+
+    public static SagaDeadlineExceededEvent of(Long sagaId, String orderNo, SagaStep sagaStep, SagaStatus sagaStatus) {
+        return SagaDeadlineExceededEvent.builder()
+                .sagaId(sagaId)
+                .orderNo(orderNo)
+                .sagaStep(sagaStep)
+                .sagaStatus(sagaStatus)
+                .build();
+    }
+}
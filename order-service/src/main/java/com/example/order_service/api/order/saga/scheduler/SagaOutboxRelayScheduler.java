@@ -0,0 +1,25 @@
+package com.example.order_service.api.order.saga.scheduler;
+
+import com.example.order_service.api.order.saga.infrastructure.kafka.producer.SagaOutboxRelay;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaOutboxProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.saga.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class SagaOutboxRelayScheduler {
+    private final SagaOutboxRelay sagaOutboxRelay;
+    private final SagaOutboxProperties sagaOutboxProperties;
+
+    @Scheduled(fixedDelayString = "${order.saga.outbox.poll-interval-ms:100}")
+    public void relay() {
+        // 배치 전체가 발행되었다면 밀린 메시지가 더 있을 수 있으므로 이어서 발행
+        int sent;
+        do {
+            sent = sagaOutboxRelay.relay();
+        } while (sent == sagaOutboxProperties.batchSize());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.order_service.api.order.saga.scheduler;
+
+import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.domain.service.SagaLeaseService;
+import com.example.order_service.api.order.saga.domain.service.SagaService;
+import com.example.order_service.api.order.saga.domain.service.dto.SagaInstanceDto;
+import com.example.order_service.api.order.saga.infrastructure.executor.SagaLaneExecutor;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaTimeoutProperties;
+import com.example.order_service.api.order.saga.orchestrator.SagaManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 타임아웃된 Saga 를 단계별로 keyset 페이징하며 보상한다
+ * <p>
+ * 단계별 타임아웃은 Saga 시작 시각이 아닌 현재 단계를 시작한 시각부터 계산해 {@code SagaDeadlineWheel} 과 같은 기준을 사용한다.
+ * <p>
+ * lease 를 획득한 인스턴스만 수행하며, 한 페이지의 보상은 주문번호별 레인에서 병렬로 처리한 뒤 다음 페이지로 넘어간다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaTimeoutSweeper {
+
+    static final String LEASE_NAME = "saga-timeout-sweeper";
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SagaService sagaService;
+    private final SagaLeaseService sagaLeaseService;
+    private final SagaManager sagaManager;
+    private final SagaLaneExecutor sagaLaneExecutor;
+    private final SagaTimeoutProperties properties;
+    private final String owner = "order-service-" + UUID.randomUUID();
+
+    public void sweep() {
+        if (!acquireLease()) {
+            log.debug("Saga 타임아웃 lease 를 다른 인스턴스가 보유중입니다");
+            return;
+        }
+
+        for (SagaStep step : SagaStep.values()) {
+            if (!sweepStep(step)) {
+                return;
+            }
+        }
+    }
+
+    private boolean sweepStep(SagaStep step) {
+        LocalDateTime timeout = LocalDateTime.now().minus(properties.timeoutOf(step));
+        LocalDateTime lastStepStartedAt = CURSOR_START;
+        Long lastId = 0L;
+
+        while (true) {
+            List<SagaInstanceDto> page = sagaService.getTimeouts(step, timeout, lastStepStartedAt, lastId, properties.pageSize());
+            if (page.isEmpty()) {
+                return true;
+            }
+
+            compensate(page);
+
+            SagaInstanceDto last = page.get(page.size() - 1);
+            lastStepStartedAt = last.getStepStartedAt();
+            lastId = last.getId();
+
+            if (page.size() < properties.pageSize()) {
+                return true;
+            }
+            // 페이지마다 lease 를 연장하고 다른 인스턴스에 넘어갔다면 중단
+            if (!acquireLease()) {
+                log.warn("Saga 타임아웃 처리 중 lease 를 잃었습니다. step={}, lastSagaId={}", step, lastId);
+                return false;
+            }
+        }
+    }
+
+    private void compensate(List<SagaInstanceDto> page) {
+        CompletableFuture<?>[] futures = page.stream()
+                .map(saga -> sagaLaneExecutor.submit(saga.getOrderNo(), () -> sagaManager.handleTimeout(saga))
+                        .exceptionally(e -> {
+                            log.error("Timeout 처리 실패 SagaId : {}", saga.getId(), e);
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private boolean acquireLease() {
+        return sagaLeaseService.tryAcquire(LEASE_NAME, owner, properties.leaseDuration());
+    }
+}
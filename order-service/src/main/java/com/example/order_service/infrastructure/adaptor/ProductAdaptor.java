@@ -1,9 +1,12 @@
 package com.example.order_service.infrastructure.adaptor;
 
+import com.example.order_service.api.common.client.product.ProductLookupGateway;
+import com.example.order_service.api.common.client.product.ProductSnapshotCache;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.common.exception.external.ExternalClientException;
+import com.example.order_service.api.common.exception.external.ExternalServerException;
 import com.example.order_service.api.common.exception.external.ExternalSystemException;
 import com.example.order_service.api.common.exception.external.ExternalSystemUnavailableException;
-import com.example.order_service.infrastructure.client.ProductFeignClient;
-import com.example.order_service.infrastructure.dto.request.ProductClientRequest;
 import com.example.order_service.infrastructure.dto.response.ProductClientResponse;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
@@ -18,12 +21,22 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProductAdaptor {
 
-    private final ProductFeignClient client;
+    private final ProductLookupGateway productLookupGateway;
+    private final ProductSnapshotCache productSnapshotCache;
 
     @CircuitBreaker(name = "productService", fallbackMethod = "getProductsByVariantIdsFallback")
     public List<ProductClientResponse.Product> getProductsByVariantIds(List<Long> productVariantIds){
-        ProductClientRequest.ProductVariantIds request = ProductClientRequest.ProductVariantIds.of(productVariantIds);
-        return client.getProductsByVariantIds(request);
+        try {
+            return productSnapshotCache.getAll(productVariantIds, productLookupGateway::getVariants).stream()
+                    .map(ProductClientResponse.Product::from)
+                    .toList();
+        } catch (BusinessException e) {
+            // 게이트웨이 에러 디코더의 예외를 주문서 도메인의 외부 시스템 예외로 변환
+            if (e.getErrorCode().getStatus() >= 500) {
+                throw new ExternalServerException(e.getMessage());
+            }
+            throw new ExternalClientException(e.getMessage());
+        }
     }
 
     private List<ProductClientResponse.Product> getProductsByVariantIdsFallback(List<Long> productVariantIds, Throwable throwable) throws Throwable {
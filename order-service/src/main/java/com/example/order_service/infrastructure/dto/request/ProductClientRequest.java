@@ -1,20 +0,0 @@
-package com.example.order_service.infrastructure.dto.request;
-
-import lombok.Builder;
-
-import java.util.List;
-
-public class ProductClientRequest {
-
-    @Builder
-    public record ProductVariantIds(
-            List<Long> variantIds
-    ) {
-
-        public static ProductVariantIds of(List<Long> variantIds) {
-            return ProductVariantIds.builder()
-                    .variantIds(variantIds)
-                    .build();
-        }
-    }
-}
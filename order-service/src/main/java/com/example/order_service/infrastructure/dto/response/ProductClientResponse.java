@@ -1,5 +1,6 @@
 package com.example.order_service.infrastructure.dto.response;
 
+import com.example.order_service.api.common.client.product.dto.ProductVariantResponse;
 import lombok.Builder;
 
 import java.util.List;
@@ -18,6 +19,31 @@ public class ProductClientResponse {
             Integer stockQuantity,
             List<ProductOption> options
     ) {
+
+        public static Product from(ProductVariantResponse response) {
+            ProductVariantResponse.UnitPrice unitPrice = response.unitPrice();
+            return Product.builder()
+                    .productId(response.productId())
+                    .productVariantId(response.productVariantId())
+                    .status(response.status())
+                    .sku(response.sku())
+                    .productName(response.productName())
+                    .thumbnail(response.thumbnailUrl())
+                    .unitPrice(unitPrice == null ? null : UnitPrice.builder()
+                            .originalPrice(unitPrice.originalPrice())
+                            .discountRate(unitPrice.discountRate())
+                            .discountAmount(unitPrice.discountAmount())
+                            .discountedPrice(unitPrice.discountedPrice())
+                            .build())
+                    .stockQuantity(response.stockQuantity())
+                    .options(response.itemOptions() == null ? List.of() : response.itemOptions().stream()
+                            .map(option -> ProductOption.builder()
+                                    .optionTypeName(option.optionTypeName())
+                                    .optionValueName(option.optionValueName())
+                                    .build())
+                            .toList())
+                    .build();
+        }
     }
 
     @Builder
@@ -17,10 +17,10 @@ public class OrderSheet {
     private Long totalPaymentAmount;
     private LocalDateTime expiresAt;
 
-    private OrderSheet(String sheetId, List<OrderSheetItem> items, LocalDateTime createdAt) {
+    private OrderSheet(String sheetId, List<OrderSheetItem> items, LocalDateTime expiresAt) {
         this.sheetId = sheetId;
         this.items = items;
-        this.expiresAt = createdAt.plusMinutes(30);
+        this.expiresAt = expiresAt;
         this.totalOriginalPrice = calcTotalOriginalPrice(items);
         this.totalProductDiscountAmount = calcTotalProductDiscountAmount(items);
         this.totalPaymentAmount = calcTotalPaymentAmount(items);
@@ -31,7 +31,12 @@ public class OrderSheet {
             //TODO 커스텀 예외 반환
             throw new RuntimeException();
         }
-        return new OrderSheet(sheetId, items, createdAt);
+        return new OrderSheet(sheetId, items, createdAt.plusMinutes(30));
+    }
+
+    // 저장소에서 읽은 주문서를 복원한다, 합계는 상품 목록으로 다시 계산한다
+    public static OrderSheet restore(String sheetId, List<OrderSheetItem> items, LocalDateTime expiresAt) {
+        return new OrderSheet(sheetId, items, expiresAt);
     }
 
     private Long calcTotalOriginalPrice(List<OrderSheetItem> items) {
@@ -1,7 +1,13 @@
 package com.example.order_service.ordersheet.domain;
 
 import java.time.Duration;
+import java.util.Optional;
 
 public interface OrderSheetRepository {
     OrderSheet save(OrderSheet orderSheet, Duration ttl);
+
+    Optional<OrderSheet> findById(String sheetId);
+
+    // 주문서를 조회하면서 삭제한다, 같은 주문서로 두번 주문할 수 없다
+    Optional<OrderSheet> consume(String sheetId);
 }
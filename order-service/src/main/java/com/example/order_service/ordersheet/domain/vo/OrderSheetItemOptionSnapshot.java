@@ -1,8 +1,11 @@
 package com.example.order_service.ordersheet.domain.vo;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class OrderSheetItemOptionSnapshot {
     private String optionTypeName;
     private String optionValueName;
@@ -0,0 +1,22 @@
+package com.example.order_service.ordersheet.infrastructure.config;
+
+import com.example.order_service.ordersheet.infrastructure.persistence.codec.OrderSheetFormat;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 주문서 저장 형식 설정
+ * <p>
+ * format 으로 새로 저장하는 주문서의 형식을 정하고, 직렬화 결과가 compressionThreshold 이상이면 LZ4 로 압축한다.
+ * 읽을 때는 저장된 헤더로 형식을 판단하므로 형식을 바꿔도 기존 주문서를 읽을 수 있다.
+ */
+@Validated
+@ConfigurationProperties(prefix = "order.sheet.codec")
+public record OrderSheetCodecProperties(
+        @DefaultValue("binary") @NotNull OrderSheetFormat format,
+        @DefaultValue("1KB") @NotNull DataSize compressionThreshold
+) {
+}
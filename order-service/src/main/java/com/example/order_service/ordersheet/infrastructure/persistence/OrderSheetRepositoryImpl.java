@@ -2,34 +2,50 @@ package com.example.order_service.ordersheet.infrastructure.persistence;
 
 import com.example.order_service.ordersheet.domain.OrderSheet;
 import com.example.order_service.ordersheet.domain.OrderSheetRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.order_service.ordersheet.infrastructure.persistence.codec.OrderSheetSerializer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderSheetRepositoryImpl implements OrderSheetRepository {
     private static final String PREFIX_ORDER_SHEET = "order:sheet:";
     private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final OrderSheetSerializer serializer;
 
     @Override
     public OrderSheet save(OrderSheet orderSheet, Duration ttl) {
-        String key = PREFIX_ORDER_SHEET + orderSheet.getSheetId();
-        String value = orderSheetToString(orderSheet);
-        redisTemplate.opsForValue().set(key, value, ttl);
+        byte[] key = key(orderSheet.getSheetId());
+        byte[] value = serializer.serialize(orderSheet);
+        redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(key, value, Expiration.from(ttl), RedisStringCommands.SetOption.upsert()));
         return orderSheet;
     }
 
-    private String orderSheetToString(OrderSheet orderSheet) {
-        try {
-            return objectMapper.writeValueAsString(orderSheet);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("orderSheet 변환 실패");
-        }
+    @Override
+    public Optional<OrderSheet> findById(String sheetId) {
+        byte[] key = key(sheetId);
+        byte[] value = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+        return Optional.ofNullable(value).map(serializer::deserialize);
+    }
+
+    @Override
+    public Optional<OrderSheet> consume(String sheetId) {
+        byte[] key = key(sheetId);
+        // GETDEL 로 조회와 삭제를 원자적으로 처리해 동시에 요청해도 한번만 읽힌다
+        byte[] value = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().getDel(key));
+        return Optional.ofNullable(value).map(serializer::deserialize);
+    }
+
+    private byte[] key(String sheetId) {
+        return (PREFIX_ORDER_SHEET + sheetId).getBytes(StandardCharsets.UTF_8);
     }
 }
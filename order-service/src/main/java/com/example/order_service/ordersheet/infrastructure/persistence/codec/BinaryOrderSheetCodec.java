@@ -0,0 +1,170 @@
+package com.example.order_service.ordersheet.infrastructure.persistence.codec;
+
+import com.example.order_service.ordersheet.domain.OrderSheet;
+import com.example.order_service.ordersheet.domain.OrderSheetItem;
+import com.example.order_service.ordersheet.domain.vo.OrderSheetItemOptionSnapshot;
+import com.example.order_service.ordersheet.domain.vo.OrderSheetItemPriceSnapshot;
+import com.example.order_service.ordersheet.domain.vo.OrderSheetItemProductSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 필드 이름 없이 정해진 순서로 값만 기록하는 주문서 바이너리 형식
+ * <p>
+ * 합계 금액은 상품 목록으로 다시 계산할 수 있으므로 저장하지 않는다.
+ * 필드를 추가하거나 순서를 바꾸면 SCHEMA_VERSION 을 올리고 이전 버전도 읽을 수 있게 유지해야 한다.
+ */
+@Component
+public class BinaryOrderSheetCodec implements OrderSheetCodec {
+    private static final byte SCHEMA_VERSION = 1;
+
+    @Override
+    public OrderSheetFormat format() {
+        return OrderSheetFormat.BINARY;
+    }
+
+    @Override
+    public byte[] encode(OrderSheet orderSheet) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(SCHEMA_VERSION);
+            writeString(out, orderSheet.getSheetId());
+            writeDateTime(out, orderSheet.getExpiresAt());
+            writeSize(out, orderSheet.getItems());
+            for (OrderSheetItem item : orderSheet.getItems()) {
+                writeItem(out, item);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("orderSheet 변환 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public OrderSheet decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != SCHEMA_VERSION) {
+                throw new IllegalStateException("지원하지 않는 주문서 스키마 버전 : " + version);
+            }
+            String sheetId = readString(in);
+            LocalDateTime expiresAt = readDateTime(in);
+            int itemCount = in.readInt();
+            List<OrderSheetItem> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(readItem(in));
+            }
+            return OrderSheet.restore(sheetId, items, expiresAt);
+        } catch (IOException e) {
+            throw new IllegalStateException("orderSheet 복원 실패", e);
+        }
+    }
+
+    private void writeItem(DataOutputStream out, OrderSheetItem item) throws IOException {
+        OrderSheetItemProductSnapshot product = item.getProductSnapshot();
+        writeLong(out, product.getProductId());
+        writeLong(out, product.getProductVariantId());
+        writeString(out, product.getSku());
+        writeString(out, product.getProductName());
+        writeString(out, product.getThumbnail());
+
+        OrderSheetItemPriceSnapshot price = item.getItemPrice();
+        writeLong(out, price.getOriginalPrice());
+        writeInteger(out, price.getDiscountRate());
+        writeLong(out, price.getDiscountAmount());
+        writeLong(out, price.getDiscountedPrice());
+
+        writeInteger(out, item.getQuantity());
+
+        writeSize(out, item.getOptions());
+        if (item.getOptions() != null) {
+            for (OrderSheetItemOptionSnapshot option : item.getOptions()) {
+                writeString(out, option.getOptionTypeName());
+                writeString(out, option.getOptionValueName());
+            }
+        }
+    }
+
+    private OrderSheetItem readItem(DataInputStream in) throws IOException {
+        OrderSheetItemProductSnapshot product = OrderSheetItemProductSnapshot.of(
+                readLong(in), readLong(in), readString(in), readString(in), readString(in));
+        OrderSheetItemPriceSnapshot price = OrderSheetItemPriceSnapshot.of(
+                readLong(in), readInteger(in), readLong(in), readLong(in));
+        Integer quantity = readInteger(in);
+
+        int optionCount = in.readInt();
+        List<OrderSheetItemOptionSnapshot> options = new ArrayList<>(Math.max(optionCount, 0));
+        for (int i = 0; i < optionCount; i++) {
+            options.add(OrderSheetItemOptionSnapshot.of(readString(in), readString(in)));
+        }
+        return OrderSheetItem.create(product, price, quantity, options);
+    }
+
+    // null 은 -1 로 기록한다
+    private void writeSize(DataOutputStream out, List<?> list) throws IOException {
+        out.writeInt(list == null ? -1 : list.size());
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private Integer readInteger(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
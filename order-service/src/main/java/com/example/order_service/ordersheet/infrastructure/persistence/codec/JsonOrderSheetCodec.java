@@ -0,0 +1,37 @@
+package com.example.order_service.ordersheet.infrastructure.persistence.codec;
+
+import com.example.order_service.ordersheet.domain.OrderSheet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+@RequiredArgsConstructor
+public class JsonOrderSheetCodec implements OrderSheetCodec {
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public OrderSheetFormat format() {
+        return OrderSheetFormat.JSON;
+    }
+
+    @Override
+    public byte[] encode(OrderSheet orderSheet) {
+        try {
+            return objectMapper.writeValueAsBytes(orderSheet);
+        } catch (IOException e) {
+            throw new IllegalStateException("orderSheet 변환 실패", e);
+        }
+    }
+
+    @Override
+    public OrderSheet decode(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, OrderSheet.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("orderSheet 복원 실패", e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.order_service.ordersheet.infrastructure.persistence.codec;
+
+import com.example.order_service.ordersheet.domain.OrderSheet;
+
+public interface OrderSheetCodec {
+    OrderSheetFormat format();
+
+    byte[] encode(OrderSheet orderSheet);
+
+    OrderSheet decode(byte[] bytes);
+}
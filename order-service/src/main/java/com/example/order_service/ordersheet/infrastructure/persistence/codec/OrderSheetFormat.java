@@ -0,0 +1,23 @@
+package com.example.order_service.ordersheet.infrastructure.persistence.codec;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderSheetFormat {
+    JSON((byte) 1),
+    BINARY((byte) 2);
+
+    // 저장 헤더에 기록되는 형식 코드, 한번 정한 값은 바꾸지 않는다
+    private final byte code;
+
+    public static OrderSheetFormat fromCode(int code) {
+        for (OrderSheetFormat format : values()) {
+            if (format.code == code) {
+                return format;
+            }
+        }
+        throw new IllegalStateException("알 수 없는 주문서 형식 코드 : " + code);
+    }
+}
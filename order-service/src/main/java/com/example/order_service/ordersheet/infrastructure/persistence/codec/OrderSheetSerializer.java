@@ -0,0 +1,123 @@
+package com.example.order_service.ordersheet.infrastructure.persistence.codec;
+
+import com.example.order_service.ordersheet.domain.OrderSheet;
+import com.example.order_service.ordersheet.infrastructure.config.OrderSheetCodecProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문서를 Redis 에 저장할 바이트로 변환한다
+ * <p>
+ * 저장 형식 : [헤더 1byte][압축된 경우 원본 길이 4byte][본문]
+ * 헤더의 하위 4bit 는 {@link OrderSheetFormat} 코드, 최상위 bit 는 LZ4 압축 여부다.
+ * 헤더 없이 '{' 로 시작하는 값은 이전 버전이 저장한 JSON 문자열로 읽는다.
+ * 압축 해제는 입력 범위 밖을 읽지 않는 safe decompressor 로 하고, 헤더의 원본 길이와 다르면 손상된 값으로 본다.
+ */
+@Component
+public class OrderSheetSerializer {
+    private static final int COMPRESSED_FLAG = 0x80;
+    private static final int FORMAT_MASK = 0x0F;
+    private static final byte LEGACY_JSON_START = '{';
+    private static final int COMPRESSED_HEADER_LENGTH = 1 + Integer.BYTES;
+    // LZ4 의 최대 압축률, 헤더의 원본 길이가 이보다 크면 손상된 값
+    private static final int MAX_COMPRESSION_RATIO = 255;
+
+    private final Map<OrderSheetFormat, OrderSheetCodec> codecs = new EnumMap<>(OrderSheetFormat.class);
+    private final OrderSheetCodecProperties properties;
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+    private final DistributionSummary storedBytes;
+
+    public OrderSheetSerializer(List<OrderSheetCodec> codecs, OrderSheetCodecProperties properties, MeterRegistry meterRegistry) {
+        codecs.forEach(codec -> this.codecs.put(codec.format(), codec));
+        this.properties = properties;
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.safeDecompressor();
+        this.storedBytes = DistributionSummary.builder("order.sheet.stored.bytes")
+                .description("Redis 에 저장한 주문서 크기")
+                .baseUnit("bytes")
+                .tag("format", properties.format().name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    public byte[] serialize(OrderSheet orderSheet) {
+        OrderSheetFormat format = properties.format();
+        byte[] encoded = codec(format).encode(orderSheet);
+        byte[] serialized = encoded.length >= properties.compressionThreshold().toBytes()
+                ? compress(format, encoded)
+                : frame(format, encoded);
+        storedBytes.record(serialized.length);
+        return serialized;
+    }
+
+    public OrderSheet deserialize(byte[] bytes) {
+        if (bytes[0] == LEGACY_JSON_START) {
+            return codec(OrderSheetFormat.JSON).decode(bytes);
+        }
+        OrderSheetFormat format = OrderSheetFormat.fromCode(bytes[0] & FORMAT_MASK);
+        if ((bytes[0] & COMPRESSED_FLAG) == 0) {
+            return codec(format).decode(Arrays.copyOfRange(bytes, 1, bytes.length));
+        }
+        return codec(format).decode(decompress(bytes));
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        if (bytes.length < COMPRESSED_HEADER_LENGTH) {
+            throw new IllegalStateException("압축된 주문서 헤더가 손상되었습니다 length=" + bytes.length);
+        }
+        int compressedLength = bytes.length - COMPRESSED_HEADER_LENGTH;
+        int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+        if (originalLength < 0 || (long) originalLength > (long) compressedLength * MAX_COMPRESSION_RATIO) {
+            throw new IllegalStateException("압축된 주문서의 원본 길이가 올바르지 않습니다 originalLength=" + originalLength);
+        }
+        byte[] decompressed = new byte[originalLength];
+        int decompressedLength;
+        try {
+            decompressedLength = decompressor.decompress(bytes, COMPRESSED_HEADER_LENGTH, compressedLength, decompressed, 0);
+        } catch (LZ4Exception e) {
+            throw new IllegalStateException("주문서 압축 해제 실패", e);
+        }
+        if (decompressedLength != originalLength) {
+            throw new IllegalStateException("압축 해제한 주문서 길이가 원본 길이와 다릅니다 expected=" + originalLength
+                    + ", actual=" + decompressedLength);
+        }
+        return decompressed;
+    }
+
+    private byte[] frame(OrderSheetFormat format, byte[] encoded) {
+        byte[] framed = new byte[encoded.length + 1];
+        framed[0] = format.getCode();
+        System.arraycopy(encoded, 0, framed, 1, encoded.length);
+        return framed;
+    }
+
+    private byte[] compress(OrderSheetFormat format, byte[] encoded) {
+        int headerLength = COMPRESSED_HEADER_LENGTH;
+        byte[] buffer = new byte[headerLength + compressor.maxCompressedLength(encoded.length)];
+        int compressedLength = compressor.compress(encoded, 0, encoded.length, buffer, headerLength);
+        ByteBuffer.wrap(buffer, 0, headerLength)
+                .put((byte) (format.getCode() | COMPRESSED_FLAG))
+                .putInt(encoded.length);
+        return Arrays.copyOf(buffer, headerLength + compressedLength);
+    }
+
+    private OrderSheetCodec codec(OrderSheetFormat format) {
+        OrderSheetCodec codec = codecs.get(format);
+        if (codec == null) {
+            throw new IllegalStateException("등록되지 않은 주문서 형식 : " + format);
+        }
+        return codec;
+    }
+}
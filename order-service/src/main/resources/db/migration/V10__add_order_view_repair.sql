@@ -0,0 +1,7 @@
+-- 주문 조회 모델 보정은 최근 변경된 주문만 찾으므로 updated_at 으로 범위 조회
+create index idx_orders_updated_at
+    on orders (updated_at);
+
+-- 주문 조회 모델 보정은 lease 를 획득한 인스턴스 하나만 수행
+insert into saga_lease (name, owner, locked_until)
+values ('order-view-repair', null, '1970-01-01 00:00:00');
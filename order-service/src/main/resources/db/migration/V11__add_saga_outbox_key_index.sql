@@ -0,0 +1,3 @@
+-- outbox 릴레이가 같은 토픽, 같은 키의 앞선 메시지가 남아있는지 확인할때 사용
+create index idx_saga_outbox_topic_message_key_id
+    on saga_outbox (topic, message_key, id);
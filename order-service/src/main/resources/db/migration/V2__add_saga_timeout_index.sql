@@ -0,0 +1,11 @@
+create index idx_order_saga_instance_status_started_at
+    on order_saga_instance (saga_status, started_at);
+
+create table if not exists saga_lease (
+    name varchar(50) primary key,
+    owner varchar(100),
+    locked_until datetime not null
+);
+
+insert into saga_lease (name, owner, locked_until)
+values ('saga-timeout-sweeper', null, '1970-01-01 00:00:00');
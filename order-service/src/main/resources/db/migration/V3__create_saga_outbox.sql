@@ -0,0 +1,8 @@
+create table if not exists saga_outbox (
+    id bigint auto_increment primary key,
+    topic varchar(100) not null,
+    message_key varchar(100) not null,
+    payload_type varchar(255) not null,
+    payload text not null,
+    created_at datetime(6) not null
+);
@@ -0,0 +1,2 @@
+alter table order_saga_instance add column saga_mode varchar(20) not null default 'SEQUENTIAL';
+alter table order_saga_instance add column step_states json;
@@ -0,0 +1,7 @@
+-- 주문 목록 조회 : 유저의 주문을 주문일시 순으로 탐색 (id 는 InnoDB 보조 인덱스에 포함됨)
+create index idx_orders_user_id_created_at
+    on orders (user_id, created_at);
+
+-- 상품명 조건 exists 서브쿼리가 테이블을 읽지 않고 인덱스만으로 확인하도록 커버링 인덱스 추가
+create index idx_order_item_order_id_product_name
+    on order_item (order_id, product_name);
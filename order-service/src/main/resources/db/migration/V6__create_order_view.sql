@@ -0,0 +1,16 @@
+-- 주문 조회 모델 : 주문 상세 응답을 문서로 저장해 목록/상세 조회를 단일 테이블 조회로 처리
+create table if not exists order_view (
+    order_id bigint primary key,
+    order_no varchar(50) not null,
+    user_id bigint not null,
+    status varchar(30) not null,
+    product_names varchar(2000),
+    created_at datetime(6) not null,
+    source_updated_at datetime(6),
+    document longtext not null,
+    constraint uk_order_view_order_no unique (order_no)
+);
+
+-- 주문 목록 조회 : 유저의 주문을 (주문일시, 주문 id) 순으로 탐색
+create index idx_order_view_user_id_created_at
+    on order_view (user_id, created_at, order_id);
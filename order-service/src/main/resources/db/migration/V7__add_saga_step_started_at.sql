@@ -0,0 +1,10 @@
+alter table order_saga_instance add column step_started_at datetime;
+
+-- 진행중인 Saga 는 현재 단계를 언제 시작했는지 알 수 없으므로 Saga 시작 시각으로 채운다
+update order_saga_instance set step_started_at = started_at where step_started_at is null;
+
+create index idx_order_saga_instance_status_step_started_at
+    on order_saga_instance (saga_status, saga_step, step_started_at);
+
+-- 타임아웃 조회는 단계 시작 시각 기준 인덱스를 사용하므로 Saga 시작 시각 기준 인덱스는 제거
+drop index idx_order_saga_instance_status_started_at on order_saga_instance;
@@ -0,0 +1 @@
+alter table order_saga_instance add column compensation_attempts int not null default 0;
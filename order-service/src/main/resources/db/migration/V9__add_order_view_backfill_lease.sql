@@ -0,0 +1,3 @@
+-- 주문 조회 모델 backfill 은 lease 를 획득한 인스턴스 하나만 수행
+insert into saga_lease (name, owner, locked_until)
+values ('order-view-backfill', null, '1970-01-01 00:00:00');
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
@@ -126,4 +127,24 @@ public class CartTest {
             assertThat(isOwner).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("장바구니 상품 동기화")
+    class SyncItems {
+
+        @Test
+        @DisplayName("수량 목록과 같아지도록 장바구니 상품을 추가, 변경, 삭제한다")
+        void syncItems() {
+            //given
+            Cart cart = Cart.create(1L);
+            cart.addItem(1L, 1);
+            cart.addItem(2L, 1);
+            //when
+            cart.syncItems(Map.of(1L, 3, 3L, 2));
+            //then
+            assertThat(cart.getCartItems())
+                    .extracting(CartItem::getProductVariantId, CartItem::getQuantity)
+                    .containsExactlyInAnyOrder(tuple(1L, 3), tuple(3L, 2));
+        }
+    }
 }
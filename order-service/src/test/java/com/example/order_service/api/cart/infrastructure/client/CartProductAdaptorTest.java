@@ -1,11 +1,15 @@
 package com.example.order_service.api.cart.infrastructure.client;
 
 import com.example.order_service.api.cart.infrastructure.client.dto.CartProductResponse;
-import com.example.order_service.api.cart.infrastructure.client.dto.CartProductsRequest;
+import com.example.order_service.api.common.client.product.ProductLookupClient;
+import com.example.order_service.api.common.client.product.ProductSnapshotCache;
+import com.example.order_service.api.common.client.product.dto.ProductVariantResponse;
+import com.example.order_service.api.common.client.product.dto.ProductVariantsRequest;
 import com.example.order_service.api.common.exception.ExternalServiceErrorCode;
 import com.example.order_service.api.common.exception.business.BusinessException;
 import com.example.order_service.api.support.ExcludeInfraTest;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +22,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class CartProductAdaptorTest extends ExcludeInfraTest {
 
@@ -27,6 +33,17 @@ public class CartProductAdaptorTest extends ExcludeInfraTest {
     @MockitoBean
     private CartProductClient cartProductClient;
 
+    @MockitoBean
+    private ProductLookupClient productLookupClient;
+
+    @Autowired
+    private ProductSnapshotCache productSnapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        productSnapshotCache.evictAll();
+    }
+
     @Test
     @DisplayName("상품 서비스에서 상품의 정보를 조회한다")
     void getProduct(){
@@ -92,13 +109,13 @@ public class CartProductAdaptorTest extends ExcludeInfraTest {
     @DisplayName("상품 서비스에서 상품들의 정보를 조회한다")
     void getProducts(){
         //given
-        CartProductResponse product1 = createProductResponse(1L, 1L, "상품1", 3000L, 10,
-                "http://thumbnail1.jpg", List.of(CartProductResponse.ProductOptionInfo.builder().optionTypeName("사이즈").optionValueName("XL").build()));
+        ProductVariantResponse product1 = createVariantResponse(1L, 1L, "상품1", 3000L, 10,
+                "http://thumbnail1.jpg", List.of(new ProductVariantResponse.ItemOption("사이즈", "XL")));
 
-        CartProductResponse product2 = createProductResponse(2L, 2L, "상품2", 5000L, 10,
-                "http://thumbnail2.jpg", List.of(CartProductResponse.ProductOptionInfo.builder().optionTypeName("용량").optionValueName("256").build()));
+        ProductVariantResponse product2 = createVariantResponse(2L, 2L, "상품2", 5000L, 10,
+                "http://thumbnail2.jpg", List.of(new ProductVariantResponse.ItemOption("용량", "256")));
 
-        given(cartProductClient.getProductVariantByIds(any(CartProductsRequest.class)))
+        given(productLookupClient.getVariants(any(ProductVariantsRequest.class)))
                 .willReturn(List.of(product1, product2));
         //when
         List<CartProductResponse> products = cartProductAdaptor.getProducts(List.of(1L, 2L));
@@ -112,13 +129,29 @@ public class CartProductAdaptorTest extends ExcludeInfraTest {
                 );
     }
 
+    @Test
+    @DisplayName("한번 조회한 상품 정보는 로컬 캐시에서 반환한다")
+    void getProducts_cached(){
+        //given
+        ProductVariantResponse product = createVariantResponse(1L, 1L, "상품1", 3000L, 10,
+                "http://thumbnail1.jpg", List.of());
+        given(productLookupClient.getVariants(any(ProductVariantsRequest.class)))
+                .willReturn(List.of(product));
+        cartProductAdaptor.getProducts(List.of(1L));
+        //when
+        List<CartProductResponse> products = cartProductAdaptor.getProducts(List.of(1L));
+        //then
+        assertThat(products).extracting("productVariantId").containsExactly(1L);
+        verify(productLookupClient, times(1)).getVariants(any(ProductVariantsRequest.class));
+    }
+
     @Test
     @DisplayName("상품 목록을 조회할때 서킷 브레이커가 열리면 빈 배열을 반환한다")
     void getProducts_When_Open_CircuitBreaker(){
         //given
         willThrow(CallNotPermittedException.class)
-                .given(cartProductClient)
-                .getProductVariantByIds(any(CartProductsRequest.class));
+                .given(productLookupClient)
+                .getVariants(any(ProductVariantsRequest.class));
         //when
         List<CartProductResponse> products = cartProductAdaptor.getProducts(List.of(1L, 2L));
         //then
@@ -130,8 +163,8 @@ public class CartProductAdaptorTest extends ExcludeInfraTest {
     void getProducts_When_Other_Exception(){
         //given
         willThrow(new RuntimeException("상품서비스 오류 발생"))
-                .given(cartProductClient)
-                .getProductVariantByIds(any(CartProductsRequest.class));
+                .given(productLookupClient)
+                .getVariants(any(ProductVariantsRequest.class));
         //when
         List<CartProductResponse> products = cartProductAdaptor.getProducts(List.of(1L, 2L));
         //then
@@ -157,4 +190,18 @@ public class CartProductAdaptorTest extends ExcludeInfraTest {
                 .itemOptions(options)
                 .build();
     }
+
+    private ProductVariantResponse createVariantResponse(Long productId, Long productVariantId,
+                                                         String productName, Long originalPrice, int discountRate,
+                                                         String thumbnail, List<ProductVariantResponse.ItemOption> options){
+        long discountAmount = originalPrice * discountRate / 100;
+        return ProductVariantResponse.builder()
+                .productId(productId)
+                .productVariantId(productVariantId)
+                .productName(productName)
+                .unitPrice(new ProductVariantResponse.UnitPrice(originalPrice, discountRate, discountAmount, originalPrice - discountAmount))
+                .thumbnailUrl(thumbnail)
+                .itemOptions(options)
+                .build();
+    }
 }
@@ -0,0 +1,76 @@
+package com.example.order_service.api.cart.infrastructure.executor;
+
+import com.example.order_service.api.cart.infrastructure.properties.CartCleanupProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CartCleanupExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CartCleanupExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new CartCleanupExecutor(new CartCleanupProperties(1, 3, Duration.ofMillis(10)), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.destroy();
+    }
+
+    private double tasks(String result) {
+        return meterRegistry.get("cart.cleanup.tasks").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("정리 작업이 실패하면 재시도하고 성공하면 더 이상 실행하지 않는다")
+    void submit_retry_until_success() throws InterruptedException {
+        //given
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1);
+        //when
+        executor.submit("userId=1", () -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw new IllegalStateException("일시적 오류");
+            }
+            done.countDown();
+        });
+        //then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        executor.destroy();
+        assertThat(attempts).hasValue(2);
+        assertThat(tasks("retry")).isEqualTo(1);
+        assertThat(tasks("success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수만큼 실패하면 정리를 포기한다")
+    void submit_give_up_after_max_attempts() throws InterruptedException {
+        //given
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch exhausted = new CountDownLatch(3);
+        //when
+        executor.submit("userId=1", () -> {
+            attempts.incrementAndGet();
+            exhausted.countDown();
+            throw new IllegalStateException("DB 오류");
+        });
+        //then
+        assertThat(exhausted.await(1, TimeUnit.SECONDS)).isTrue();
+        executor.destroy();
+        assertThat(attempts).hasValue(3);
+        assertThat(tasks("retry")).isEqualTo(2);
+        assertThat(tasks("failure")).isEqualTo(1);
+    }
+}
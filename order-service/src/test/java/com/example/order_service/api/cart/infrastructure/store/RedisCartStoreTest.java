@@ -0,0 +1,116 @@
+package com.example.order_service.api.cart.infrastructure.store;
+
+import com.example.order_service.api.cart.domain.repository.CartStore;
+import com.example.order_service.api.cart.domain.service.dto.result.CartItemDto;
+import com.example.order_service.api.cart.facade.dto.command.CartCommand;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.common.exception.business.code.CartErrorCode;
+import com.example.order_service.support.annotation.MockKafka;
+import com.example.order_service.support.annotation.WithRedis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@WithRedis @MockKafka
+@TestPropertySource(properties = "order.cart.store=redis")
+class RedisCartStoreTest {
+
+    @Autowired
+    private CartStore cartStore;
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(List.of(RedisCartStore.key(1L), RedisCartStore.key(2L)));
+    }
+
+    private CartCommand.Item item(Long productVariantId, int quantity) {
+        return CartCommand.Item.builder()
+                .productVariantId(productVariantId)
+                .quantity(quantity)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Redis 저장소가 기본 장바구니 저장소로 등록된다")
+    void redisCartStore() {
+        assertThat(cartStore).isInstanceOf(RedisCartStore.class);
+    }
+
+    @Test
+    @DisplayName("이미 담긴 상품을 추가하면 수량을 요청 수량만큼 증가시킨다")
+    void addItems() {
+        //given
+        cartStore.addItems(1L, List.of(item(1L, 1)));
+        //when
+        List<CartItemDto> result = cartStore.addItems(1L, List.of(item(1L, 2), item(2L, 1)));
+        //then
+        assertThat(result)
+                .extracting(CartItemDto::getId, CartItemDto::getProductVariantId, CartItemDto::getQuantity)
+                .containsExactly(tuple(1L, 1L, 3), tuple(2L, 2L, 1));
+        assertThat(cartStore.getItems(1L))
+                .extracting(CartItemDto::getProductVariantId, CartItemDto::getQuantity)
+                .containsExactlyInAnyOrder(tuple(1L, 3), tuple(2L, 1));
+    }
+
+    @Test
+    @DisplayName("상품 수량이 1미만인 상품을 추가할 수 없다")
+    void addItems_quantity_less_than_1() {
+        //given
+        //when
+        //then
+        assertThatThrownBy(() -> cartStore.addItems(1L, List.of(item(1L, 0))))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(CartErrorCode.CART_ITEM_MINIMUM_ONE_REQUIRED);
+    }
+
+    @Test
+    @DisplayName("장바구니 상품의 수량을 변경한다")
+    void updateQuantity() {
+        //given
+        cartStore.addItems(1L, List.of(item(1L, 1)));
+        //when
+        CartItemDto result = cartStore.updateQuantity(1L, 1L, 5);
+        //then
+        assertThat(result.getQuantity()).isEqualTo(5);
+        assertThat(cartStore.getItem(1L, 1L).getQuantity()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("다른 유저의 장바구니 상품은 찾을 수 없다")
+    void updateQuantity_other_user() {
+        //given
+        cartStore.addItems(1L, List.of(item(1L, 1)));
+        //when
+        //then
+        assertThatThrownBy(() -> cartStore.updateQuantity(2L, 1L, 5))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(CartErrorCode.CART_ITEM_NOT_FOUND);
+        assertThat(cartStore.getItems(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품 변형 id 로 장바구니 상품을 삭제한다")
+    void deleteByProductVariantIds() {
+        //given
+        cartStore.addItems(1L, List.of(item(1L, 1), item(2L, 1), item(3L, 1)));
+        //when
+        cartStore.deleteByProductVariantIds(1L, List.of(1L, 3L));
+        //then
+        assertThat(cartStore.getItems(1L))
+                .extracting(CartItemDto::getProductVariantId)
+                .containsExactly(2L);
+    }
+}
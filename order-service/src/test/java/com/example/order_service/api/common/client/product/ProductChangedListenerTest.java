@@ -0,0 +1,55 @@
+package com.example.order_service.api.common.client.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductChangedListenerTest {
+
+    @Mock
+    private ProductSnapshotCache productSnapshotCache;
+
+    private ProductChangedListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new ProductChangedListener(productSnapshotCache, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("변경된 상품의 변형을 로컬 캐시에서 제거한다")
+    void handleProductChanged() {
+        //given
+        List<String> messages = List.of(
+                "{\"productId\":1,\"variantIds\":[1,2]}",
+                "{\"productId\":2,\"variantIds\":[3]}"
+        );
+        //when
+        listener.handleProductChanged(messages);
+        //then
+        verify(productSnapshotCache).evict(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("알림을 읽을 수 없으면 로컬 캐시 전체를 비운다")
+    void handleProductChanged_invalid_message() {
+        //given
+        List<String> messages = List.of("invalid");
+        //when
+        listener.handleProductChanged(messages);
+        //then
+        verify(productSnapshotCache).evictAll();
+        verify(productSnapshotCache, never()).evict(anyCollection());
+    }
+}
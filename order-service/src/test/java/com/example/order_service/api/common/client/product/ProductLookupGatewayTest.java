@@ -0,0 +1,159 @@
+package com.example.order_service.api.common.client.product;
+
+import com.example.order_service.api.common.client.product.dto.ProductVariantResponse;
+import com.example.order_service.api.common.client.product.dto.ProductVariantsRequest;
+import com.example.order_service.api.common.exception.ExternalServiceErrorCode;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductLookupGatewayTest {
+
+    @Mock
+    private ProductLookupClient client;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ProductLookupGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new ProductLookupGateway(client,
+                new ProductLookupProperties(Duration.ofMillis(200), 100, Duration.ofSeconds(3)), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.shutdown();
+    }
+
+    private ProductVariantResponse variant(Long variantId) {
+        return ProductVariantResponse.builder()
+                .productId(1L)
+                .productVariantId(variantId)
+                .productName("상품" + variantId)
+                .build();
+    }
+
+    private double lookupIds(String source) {
+        return meterRegistry.get("product.lookup.ids").tag("source", source).counter().count();
+    }
+
+    @Test
+    @DisplayName("요청한 id 순서대로 반환하고 존재하지 않는 변형은 제외한다")
+    void getVariants() {
+        //given
+        given(client.getVariants(any(ProductVariantsRequest.class))).willReturn(List.of(variant(1L), variant(3L)));
+        //when
+        List<ProductVariantResponse> result = gateway.getVariants(List.of(3L, 2L, 1L));
+        //then
+        assertThat(result).extracting(ProductVariantResponse::productVariantId)
+                .containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("동시에 겹치는 id 를 조회하면 하나의 요청으로 합쳐 모든 요청에 결과를 전달한다")
+    void getVariants_coalesce_concurrent_requests() throws Exception {
+        //given
+        willAnswer(invocation -> {
+            ProductVariantsRequest request = invocation.getArgument(0);
+            return request.variantIds().stream().map(this::variant).toList();
+        }).given(client).getVariants(any(ProductVariantsRequest.class));
+        int requestCount = 10;
+        CountDownLatch ready = new CountDownLatch(requestCount);
+        List<Future<List<ProductVariantResponse>>> futures = new ArrayList<>();
+        //when
+        try (ExecutorService executor = Executors.newFixedThreadPool(requestCount)) {
+            for (int i = 0; i < requestCount; i++) {
+                List<Long> ids = i % 2 == 0 ? List.of(1L, 2L) : List.of(2L, 3L);
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    return gateway.getVariants(ids);
+                }));
+            }
+        }
+        //then
+        for (int i = 0; i < requestCount; i++) {
+            List<Long> expected = i % 2 == 0 ? List.of(1L, 2L) : List.of(2L, 3L);
+            assertThat(futures.get(i).get()).extracting(ProductVariantResponse::productVariantId)
+                    .containsExactlyElementsOf(expected);
+        }
+        ArgumentCaptor<ProductVariantsRequest> captor = ArgumentCaptor.forClass(ProductVariantsRequest.class);
+        verify(client, times(1)).getVariants(captor.capture());
+        assertThat(captor.getValue().variantIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(lookupIds("fetched")).isEqualTo(3);
+        assertThat(lookupIds("coalesced")).isEqualTo(17);
+    }
+
+    @Test
+    @DisplayName("배치 크기에 도달하면 window 를 기다리지 않고 바로 조회한다")
+    void getVariants_flush_on_max_batch_size() {
+        //given
+        gateway.shutdown();
+        gateway = new ProductLookupGateway(client,
+                new ProductLookupProperties(Duration.ofSeconds(10), 2, Duration.ofSeconds(1)), meterRegistry);
+        given(client.getVariants(any(ProductVariantsRequest.class))).willReturn(List.of(variant(1L), variant(2L)));
+        //when
+        List<ProductVariantResponse> result = gateway.getVariants(List.of(1L, 2L));
+        //then
+        assertThat(result).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("배치 조회가 실패하면 기다리던 요청에 같은 예외를 던지고 이후 요청은 다시 조회한다")
+    void getVariants_failure() {
+        //given
+        given(client.getVariants(any(ProductVariantsRequest.class)))
+                .willThrow(new BusinessException(ExternalServiceErrorCode.SYSTEM_ERROR))
+                .willReturn(List.of(variant(1L)));
+        //when
+        //then
+        assertThatThrownBy(() -> gateway.getVariants(List.of(1L)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ExternalServiceErrorCode.SYSTEM_ERROR);
+        assertThat(gateway.getVariants(List.of(1L))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 응답하지 않으면 서비스 이용 불가 예외를 던진다")
+    void getVariants_timeout() {
+        //given
+        gateway.shutdown();
+        gateway = new ProductLookupGateway(client,
+                new ProductLookupProperties(Duration.ofMillis(1), 100, Duration.ofMillis(200)), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        }).given(client).getVariants(any(ProductVariantsRequest.class));
+        //when
+        //then
+        assertThatThrownBy(() -> gateway.getVariants(List.of(1L)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ExternalServiceErrorCode.UNAVAILABLE);
+        release.countDown();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.order_service.api.common.client.product;
+
+import com.example.order_service.api.common.client.product.dto.ProductVariantResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSnapshotCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ProductSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductSnapshotCache(new ProductSnapshotCacheProperties(100, Duration.ofMinutes(1)), meterRegistry);
+    }
+
+    private ProductVariantResponse variant(Long variantId) {
+        return ProductVariantResponse.builder()
+                .productId(1L)
+                .productVariantId(variantId)
+                .productName("상품" + variantId)
+                .build();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("product.snapshot.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 변형만 조회하고 요청한 id 순서대로 반환한다")
+    void getAll() {
+        //given
+        List<List<Long>> loadedIds = new ArrayList<>();
+        cache.getAll(List.of(1L), ids -> List.of(variant(1L)));
+        //when
+        List<ProductVariantResponse> result = cache.getAll(List.of(2L, 1L), ids -> {
+            loadedIds.add(ids);
+            return List.of(variant(2L));
+        });
+        //then
+        assertThat(loadedIds).containsExactly(List.of(2L));
+        assertThat(result).extracting(ProductVariantResponse::productVariantId)
+                .containsExactly(2L, 1L);
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 변형은 결과에서 제외하고 다음 조회때 다시 조회한다")
+    void getAll_not_found() {
+        //given
+        List<List<Long>> loadedIds = new ArrayList<>();
+        //when
+        List<ProductVariantResponse> result = cache.getAll(List.of(1L), ids -> {
+            loadedIds.add(ids);
+            return List.of();
+        });
+        cache.getAll(List.of(1L), ids -> {
+            loadedIds.add(ids);
+            return List.of();
+        });
+        //then
+        assertThat(result).isEmpty();
+        assertThat(loadedIds).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("무효화된 변형은 다시 조회한다")
+    void evict() {
+        //given
+        cache.getAll(List.of(1L, 2L), ids -> List.of(variant(1L), variant(2L)));
+        List<List<Long>> loadedIds = new ArrayList<>();
+        //when
+        cache.evict(List.of(1L));
+        cache.getAll(List.of(1L, 2L), ids -> {
+            loadedIds.add(ids);
+            return List.of(variant(1L));
+        });
+        //then
+        assertThat(loadedIds).containsExactly(List.of(1L));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.order_service.api.notification.hub;
+
+import com.example.order_service.api.notification.infrastructure.properties.NotificationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class NotificationHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationHub notificationHub;
+
+    @BeforeEach
+    void setUp() {
+        notificationHub = new NotificationHub(new NotificationProperties(Duration.ofMinutes(5), 8, 2, false), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationHub.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 유저가 여러 탭에서 연결하면 연결을 모두 유지한다")
+    void connect_multi_tab() {
+        //given
+        //when
+        SseEmitter first = notificationHub.connect(1L);
+        SseEmitter second = notificationHub.connect(1L);
+        //then
+        assertThat(first).isNotSameAs(second);
+        assertThat(notificationHub.activeConnections()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.connections.active").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("유저의 연결 수가 제한을 넘으면 가장 오래된 연결을 끊는다")
+    void connect_evict_oldest() {
+        //given
+        notificationHub.connect(1L);
+        notificationHub.connect(1L);
+        //when
+        notificationHub.connect(1L);
+        //then
+        assertThat(notificationHub.activeConnections()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.connections.evicted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이 인스턴스에 연결되지 않은 유저에게 전달하면 예외 없이 무시한다")
+    void deliver_without_connection() {
+        //given
+        notificationHub.connect(1L);
+        //when
+        //then
+        assertThatCode(() -> notificationHub.deliver(2L, "ORDER_RESULT", "data")).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("notification.messages.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료하면 모든 연결을 정리한다")
+    void shutdown() {
+        //given
+        notificationHub.connect(1L);
+        notificationHub.connect(2L);
+        //when
+        notificationHub.shutdown();
+        //then
+        assertThat(notificationHub.activeConnections()).isZero();
+    }
+}
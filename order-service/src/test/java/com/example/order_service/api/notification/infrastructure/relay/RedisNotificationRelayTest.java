@@ -0,0 +1,69 @@
+package com.example.order_service.api.notification.infrastructure.relay;
+
+import com.example.order_service.api.notification.hub.NotificationHub;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisNotificationRelayTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private NotificationHub notificationHub;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RedisNotificationRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new RedisNotificationRelay(redisTemplate, objectMapper, notificationHub);
+    }
+
+    @Test
+    @DisplayName("알림을 채널에 발행하고 수신한 인스턴스는 연결된 유저에게 전달한다")
+    void publish_and_onMessage() {
+        //given
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        relay.publish(1L, "ORDER_RESULT", Map.of("orderNo", "ORD-1"));
+        verify(redisTemplate).convertAndSend(eq(RedisNotificationRelay.CHANNEL), captor.capture());
+        DefaultMessage message = new DefaultMessage(RedisNotificationRelay.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                captor.getValue().getBytes(StandardCharsets.UTF_8));
+        //when
+        relay.onMessage(message, null);
+        //then
+        ArgumentCaptor<Object> dataCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(notificationHub).deliver(eq(1L), eq("ORDER_RESULT"), dataCaptor.capture());
+        assertThat(((JsonNode) dataCaptor.getValue()).get("orderNo").asText()).isEqualTo("ORD-1");
+    }
+
+    @Test
+    @DisplayName("Redis 발행에 실패하면 이 인스턴스의 연결에 전달한다")
+    void publish_fallback_local() {
+        //given
+        Map<String, String> data = Map.of("orderNo", "ORD-1");
+        willThrow(new IllegalStateException("redis down")).given(redisTemplate).convertAndSend(eq(RedisNotificationRelay.CHANNEL), anyString());
+        //when
+        relay.publish(1L, "ORDER_RESULT", data);
+        //then
+        verify(notificationHub).deliver(1L, "ORDER_RESULT", data);
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.order_service.api.order.controller;
 
+import com.example.order_service.api.common.dto.CursorPageDto;
 import com.example.order_service.api.common.dto.PageDto;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.common.exception.business.code.OrderErrorCode;
 import com.example.order_service.api.common.security.model.UserRole;
 import com.example.order_service.api.order.controller.dto.request.CreateOrderItemRequest;
 import com.example.order_service.api.order.controller.dto.request.CreateOrderRequest;
@@ -22,18 +25,22 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static com.example.order_service.api.support.fixture.order.OrderResponseFixture.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -128,17 +135,42 @@ class OrderControllerTest extends ControllerTestSupport {
         OrderDetailResponse response = anOrderDetailResponse().build();
 
         given(orderFacade.confirmOrderPayment(anyString(), anyLong(), anyString(), anyLong()))
-                .willReturn(response);
+                .willReturn(CompletableFuture.completedFuture(response));
         //when
+        MvcResult mvcResult = mockMvc.perform(post("/orders/confirm")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
         //then
-        mockMvc.perform(post("/orders/confirm")
-                .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(request)))
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(response)));
     }
 
+    @Test
+    @DisplayName("결제 승인이 실패하면 에러 응답을 반환한다")
+    @WithCustomMockUser
+    void confirm_failure() throws Exception {
+        //given
+        OrderConfirmRequest request = confirmBaseRequest().build();
+        given(orderFacade.confirmOrderPayment(anyString(), anyLong(), anyString(), anyLong()))
+                .willReturn(CompletableFuture.failedFuture(new BusinessException(OrderErrorCode.ORDER_PAYMENT_IN_PROGRESS)));
+        //when
+        MvcResult mvcResult = mockMvc.perform(post("/orders/confirm")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        //then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("ORDER_012"))
+                .andExpect(jsonPath("$.message").value("다른 결제 키로 결제 승인이 진행중인 주문입니다"));
+    }
+
     @Test
     @DisplayName("결제 승인시 권한은 유저 권한이여야 한다")
     @WithCustomMockUser(userRole = UserRole.ROLE_ADMIN)
@@ -281,6 +313,35 @@ class OrderControllerTest extends ControllerTestSupport {
                 .containsExactly(1, 10, "latest", null, null);
     }
 
+    @Test
+    @DisplayName("cursor 파라미터로 주문 목록을 커서 방식으로 조회한다")
+    @WithCustomMockUser
+    void getOrdersByCursor() throws Exception {
+        //given
+        OrderListResponse orderListResponse = anOrderListResponse().build();
+        CursorPageDto<OrderListResponse> response = CursorPageDto.<OrderListResponse>builder().content(List.of(orderListResponse))
+                .pageSize(10)
+                .hasNext(true)
+                .nextCursor("MjAyNi0wMS0wMVQxMDowMF8xMA")
+                .build();
+        MultiValueMap<String, String> paramMap = new LinkedMultiValueMap<>();
+        paramMap.add("cursor", "");
+        paramMap.add("size", "10");
+
+        given(orderFacade.getOrdersByCursor(anyLong(), any(OrderSearchCondition.class)))
+                .willReturn(response);
+        //when
+        //then
+        mockMvc.perform(get("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .params(paramMap))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(response)));
+
+        verify(orderFacade, never()).getOrders(anyLong(), any(OrderSearchCondition.class));
+    }
+
     @Test
     @DisplayName("주문 목록 조회시 권한은 유저여야 한다")
     @WithCustomMockUser(userRole = UserRole.ROLE_ADMIN)
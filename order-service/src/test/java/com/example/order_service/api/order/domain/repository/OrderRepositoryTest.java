@@ -1,5 +1,8 @@
 package com.example.order_service.api.order.domain.repository;
 
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.common.exception.business.code.OrderErrorCode;
+import com.example.order_service.api.order.controller.dto.request.OrderCursor;
 import com.example.order_service.api.order.controller.dto.request.OrderSearchCondition;
 import com.example.order_service.api.order.domain.model.Order;
 import com.example.order_service.api.order.domain.service.dto.command.OrderCreationContext;
@@ -9,6 +12,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -17,6 +21,7 @@ import java.util.List;
 import static com.example.order_service.api.support.fixture.order.OrderCommandFixture.anOrderSearchCondition;
 import static com.example.order_service.api.support.fixture.order.OrderFixture.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Transactional
 public class OrderRepositoryTest extends ExcludeInfraTest {
@@ -137,6 +142,51 @@ public class OrderRepositoryTest extends ExcludeInfraTest {
                 .containsExactly(order1.getId());
     }
 
+    @Test
+    @DisplayName("커서 이후의 주문을 최신순으로 조회하고 다음 페이지 존재 여부를 반환한다")
+    void findByUserIdAndCursor(){
+        //given
+        OrderCreationContext context = anOrderCreationContext().build();
+        Order order1 = repository.save(Order.create(context));
+        Order order2 = repository.save(Order.create(context));
+        Order order3 = repository.save(Order.create(context));
+        LocalDateTime sameTime = LocalDateTime.of(2026, 1, 1, 10, 0, 0);
+        orderTimeSetting(order1.getId(), sameTime);
+        orderTimeSetting(order2.getId(), sameTime);
+        orderTimeSetting(order3.getId(), sameTime.plusHours(1));
+        OrderSearchCondition firstCondition = anOrderSearchCondition().size(2).cursor("").build();
+        //when
+        Slice<Order> first = repository.findByUserIdAndCursor(1L, firstCondition);
+        Order last = first.getContent().getLast();
+        OrderSearchCondition nextCondition = anOrderSearchCondition().size(2)
+                .cursor(OrderCursor.of(last.getCreatedAt(), last.getId()).encode()).build();
+        Slice<Order> second = repository.findByUserIdAndCursor(1L, nextCondition);
+        //then
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.getContent())
+                .extracting(Order::getId)
+                .containsExactly(order3.getId(), order2.getId());
+        assertThat(first.getContent().getFirst().getOrderItems()).isNotEmpty();
+
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.getContent())
+                .extracting(Order::getId)
+                .containsExactly(order1.getId());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회하면 예외가 발생한다")
+    void findByUserIdAndCursor_invalid_cursor(){
+        //given
+        OrderSearchCondition condition = anOrderSearchCondition().cursor("invalid-cursor").build();
+        //when
+        //then
+        assertThatThrownBy(() -> repository.findByUserIdAndCursor(1L, condition))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(OrderErrorCode.ORDER_INVALID_CURSOR);
+    }
+
     private void orderTimeSetting(Long orderId, LocalDateTime targetTime) {
         em.flush();
         em.createNativeQuery("update orders set created_at = :targetTime where id = :orderId")
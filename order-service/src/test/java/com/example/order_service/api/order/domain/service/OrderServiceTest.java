@@ -13,6 +13,8 @@ import com.example.order_service.api.order.domain.service.dto.command.OrderCreat
 import com.example.order_service.api.order.domain.service.dto.command.PaymentCreationContext;
 import com.example.order_service.api.order.domain.service.dto.result.OrderDto;
 import com.example.order_service.api.order.domain.service.dto.result.OrderItemDto;
+import com.example.order_service.api.order.saga.domain.model.SagaOutbox;
+import com.example.order_service.api.order.saga.domain.repository.SagaOutboxRepository;
 import com.example.order_service.api.support.ExcludeInfraTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,6 +29,7 @@ import static com.example.order_service.api.support.fixture.order.OrderCommandFi
 import static com.example.order_service.api.support.fixture.order.OrderFixture.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @Transactional
 public class OrderServiceTest extends ExcludeInfraTest {
@@ -35,6 +38,8 @@ public class OrderServiceTest extends ExcludeInfraTest {
     private OrderService orderService;
     @Autowired
     private OrderRepository orderRepository;
+    @Autowired
+    private SagaOutboxRepository sagaOutboxRepository;
 
     @Nested
     @DisplayName("주문 저장")
@@ -263,7 +268,9 @@ public class OrderServiceTest extends ExcludeInfraTest {
         void completePayment(){
             //given
             OrderCreationContext orderContext = anOrderCreationContext().build();
-            Order savedOrder = orderRepository.save(Order.create(orderContext));
+            Order order = Order.create(orderContext);
+            order.preparePaymentWaiting();
+            Order savedOrder = orderRepository.save(order);
             PaymentCreationContext context = anPaymentContext().orderNo(savedOrder.getOrderNo()).build();
             OrderDto expectedResult = returnOrderDto().orderNo(savedOrder.getOrderNo())
                     .status(OrderStatus.COMPLETED).paymentInfo(returnPayment().build()).build();
@@ -277,6 +284,29 @@ public class OrderServiceTest extends ExcludeInfraTest {
 
             assertThat(result.getPaymentInfo().getPaymentId()).isNotNull();
             assertThat(result.getPaymentInfo().getApprovedAt()).isNotNull();
+            assertThat(sagaOutboxRepository.findAll())
+                    .extracting(SagaOutbox::getTopic, SagaOutbox::getMessageKey)
+                    .containsExactly(tuple("order.payment.saga.reply", savedOrder.getOrderNo()));
+        }
+
+        @Test
+        @DisplayName("결제 대기 상태가 아닌 주문은 결제 정보를 저장하지 않는다")
+        void completePayment_not_payment_waiting(){
+            //given
+            OrderCreationContext orderContext = anOrderCreationContext().build();
+            Order order = Order.create(orderContext);
+            order.preparePaymentWaiting();
+            Order savedOrder = orderRepository.save(order);
+            PaymentCreationContext context = anPaymentContext().orderNo(savedOrder.getOrderNo()).build();
+            orderService.completePayment(context);
+            //when
+            //then
+            assertThatThrownBy(() -> orderService.completePayment(context))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(OrderErrorCode.ORDER_NOT_PAYABLE);
+            assertThat(orderRepository.findByOrderNo(savedOrder.getOrderNo()).orElseThrow().getPayments()).hasSize(1);
+            assertThat(sagaOutboxRepository.findAll()).hasSize(1);
         }
     }
 }
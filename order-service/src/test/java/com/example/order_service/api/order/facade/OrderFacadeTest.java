@@ -1,6 +1,7 @@
 package com.example.order_service.api.order.facade;
 
 import com.example.order_service.api.common.dto.PageDto;
+import com.example.order_service.api.common.util.AsyncUtil;
 import com.example.order_service.api.common.exception.business.BusinessException;
 import com.example.order_service.api.common.exception.business.code.OrderErrorCode;
 import com.example.order_service.api.common.exception.business.code.PaymentErrorCode;
@@ -11,6 +12,7 @@ import com.example.order_service.api.order.domain.service.*;
 import com.example.order_service.api.order.domain.service.dto.command.OrderCreationContext;
 import com.example.order_service.api.order.domain.service.dto.command.PaymentCreationContext;
 import com.example.order_service.api.order.domain.service.dto.result.*;
+import com.example.order_service.api.order.facade.dto.OrderPreparationData;
 import com.example.order_service.api.order.facade.dto.command.CreateOrderCommand;
 import com.example.order_service.api.order.facade.dto.result.CreateOrderResponse;
 import com.example.order_service.api.order.facade.dto.result.OrderDetailResponse;
@@ -18,7 +20,12 @@ import com.example.order_service.api.order.facade.dto.result.OrderListResponse;
 import com.example.order_service.api.order.facade.event.OrderCreatedEvent;
 import com.example.order_service.api.order.facade.event.OrderFailedEvent;
 import com.example.order_service.api.order.facade.event.OrderPaymentReadyEvent;
+import com.example.order_service.api.order.facade.event.PaymentCompletedEvent;
 import com.example.order_service.api.order.facade.event.PaymentFailedEvent;
+import com.example.order_service.api.order.infrastructure.executor.PaymentConfirmExecutor;
+import com.example.order_service.api.order.readmodel.infrastructure.backfill.OrderViewBackfill;
+import com.example.order_service.api.order.readmodel.service.OrderQueryService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -26,14 +33,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.Executor;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static com.example.order_service.api.support.fixture.order.OrderCommandFixture.*;
 import static com.example.order_service.api.support.fixture.order.OrderCouponFixture.anOrderCouponInfo;
@@ -49,7 +58,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -59,23 +70,23 @@ public class OrderFacadeTest {
     @InjectMocks
     private OrderFacade orderFacade;
     @Mock
-    private OrderProductService orderProductService;
-    @Mock
-    private OrderUserService orderUserService;
-    @Mock
-    private OrderCouponService orderCouponService;
+    private OrderPreparationPipeline orderPreparationPipeline;
     @Mock
     private OrderPaymentService orderPaymentService;
     @Mock
     private OrderService orderService;
     @Mock
+    private OrderQueryService orderQueryService;
+    @Mock
+    private OrderViewBackfill orderViewBackfill;
+    @Mock
+    private PaymentConfirmExecutor paymentConfirmExecutor;
+    @Mock
     private ApplicationEventPublisher eventPublisher;
     @Mock
     private OrderCreationContextMapper mapper;
     @Mock
     private OrderPriceCalculator calculator;
-    @Spy
-    private Executor applicationTaskExecutor = new SyncTaskExecutor();
 
     @Captor
     private ArgumentCaptor<OrderCreatedEvent> orderCreatedEventCaptor;
@@ -86,6 +97,15 @@ public class OrderFacadeTest {
     @Captor
     private ArgumentCaptor<PaymentFailedEvent> paymentFailedEventCaptor;
 
+    private OrderPreparationData anOrderPreparationData() {
+        return OrderPreparationData.builder()
+                .user(anOrderUserInfo().build())
+                .products(List.of(anOrderProductInfo().build()))
+                .productAmount(anOrderProductAmount().build())
+                .coupon(anOrderCouponInfo().build())
+                .build();
+    }
+
     @Nested
     @DisplayName("주문을 생성")
     class InitialOrder {
@@ -114,10 +134,7 @@ public class OrderFacadeTest {
             CreateOrderCommand command = anOrderCommand()
                     .orderItemCommands(List.of(anOrderItemCommand().productVariantId(1L).build()))
                     .build();
-            given(orderUserService.getUser(anyLong(), anyLong())).willReturn(anOrderUserInfo().build());
-            given(orderProductService.getProducts(anyList())).willReturn(List.of(anOrderProductInfo().build()));
-            given(calculator.calculateItemAmounts(anyList(), anyList())).willReturn(anOrderProductAmount().build());
-            given(orderCouponService.calculateCouponDiscount(anyLong(), anyLong(), any(OrderProductAmount.class))).willReturn(anOrderCouponInfo().build());
+            given(orderPreparationPipeline.prepare(any(CreateOrderCommand.class))).willReturn(anOrderPreparationData());
             given(calculator.calculateOrderPrice(any(OrderProductAmount.class), any(OrderCouponInfo.class), anyLong(), anyLong())).willReturn(anCalculatedOrderAmounts().build());
             given(mapper.mapOrderCreationContext(any(OrderUserInfo.class), any(CalculatedOrderAmounts.class), any(OrderCouponInfo.class), any(CreateOrderCommand.class),
                     anyList())).willReturn(anOrderCreationContext().build());
@@ -149,10 +166,7 @@ public class OrderFacadeTest {
             CreateOrderCommand command = anOrderCommand()
                     .orderItemCommands(List.of(anOrderItemCommand().productVariantId(1L).build()))
                     .build();
-            given(orderUserService.getUser(anyLong(), anyLong())).willReturn(anOrderUserInfo().build());
-            given(orderProductService.getProducts(anyList())).willReturn(List.of(anOrderProductInfo().build()));
-            given(calculator.calculateItemAmounts(anyList(), anyList())).willReturn(anOrderProductAmount().build());
-            given(orderCouponService.calculateCouponDiscount(anyLong(), anyLong(), any(OrderProductAmount.class))).willReturn(anOrderCouponInfo().build());
+            given(orderPreparationPipeline.prepare(any(CreateOrderCommand.class))).willReturn(anOrderPreparationData());
             given(calculator.calculateOrderPrice(any(OrderProductAmount.class), any(OrderCouponInfo.class), anyLong(), anyLong())).willReturn(anCalculatedOrderAmounts().build());
             given(mapper.mapOrderCreationContext(any(OrderUserInfo.class), any(CalculatedOrderAmounts.class), any(OrderCouponInfo.class), any(CreateOrderCommand.class),
                     anyList())).willReturn(anOrderCreationContext().build());
@@ -214,6 +228,22 @@ public class OrderFacadeTest {
     @DisplayName("주문 결제 승인")
     class ConfirmOrderPayment {
 
+        // 실행기에 전달된 승인과 후속 처리를 호출 스레드에서 바로 실행한다
+        @BeforeEach
+        void setUp() {
+            willAnswer(invocation -> {
+                Supplier<OrderDto> confirm = invocation.getArgument(2);
+                Consumer<OrderDto> afterConfirm = invocation.getArgument(3);
+                try {
+                    OrderDto result = confirm.get();
+                    afterConfirm.accept(result);
+                    return CompletableFuture.completedFuture(result);
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }).given(paymentConfirmExecutor).submit(anyString(), anyString(), any(), any());
+        }
+
         @Test
         @DisplayName("주문 상태가 결제 대기 상태가 아니면 주문 결제 승인을 할 수 없다")
         void confirmOrderPayment_order_status_not_payment_waiting() {
@@ -224,7 +254,7 @@ public class OrderFacadeTest {
                     .willReturn(orderDto);
             //when
             //then
-            assertThatThrownBy(() -> orderFacade.confirmOrderPayment(ORDER_NO, 1L, "paymentKey", 7000L))
+            assertThatThrownBy(() -> AsyncUtil.join(orderFacade.confirmOrderPayment(ORDER_NO, 1L, "paymentKey", 7000L)))
                     .isInstanceOf(BusinessException.class)
                     .extracting("errorCode")
                     .isEqualTo(OrderErrorCode.ORDER_NOT_PAYABLE);
@@ -241,7 +271,7 @@ public class OrderFacadeTest {
                     .willReturn(orderDto);
             //when
             //then
-            assertThatThrownBy(() -> orderFacade.confirmOrderPayment(ORDER_NO, 1L, "paymentKey", 8000L))
+            assertThatThrownBy(() -> AsyncUtil.join(orderFacade.confirmOrderPayment(ORDER_NO, 1L, "paymentKey", 8000L)))
                     .isInstanceOf(BusinessException.class)
                     .extracting("errorCode")
                     .isEqualTo(OrderErrorCode.ORDER_PRICE_MISMATCH);
@@ -266,12 +296,29 @@ public class OrderFacadeTest {
 
             OrderDetailResponse expectedResult = anOrderDetailResponse().build();
             //when
-            OrderDetailResponse result = orderFacade.confirmOrderPayment(ORDER_NO, 1L, "paymentKey", 7000L);
+            OrderDetailResponse result = AsyncUtil.join(orderFacade.confirmOrderPayment(ORDER_NO, 1L, "paymentKey", 7000L));
             //then
             assertThat(result)
                     .usingRecursiveComparison()
                     .ignoringFields("createdAt", "payment.approvedAt")
                     .isEqualTo(expectedResult);
+            verify(eventPublisher).publishEvent(any(PaymentCompletedEvent.class));
+        }
+
+        @Test
+        @DisplayName("같은 결제 키로 이미 승인된 주문이면 결제 서비스를 다시 호출하지 않고 승인 결과를 반환한다")
+        void confirmOrderPayment_already_confirmed() {
+            //given
+            OrderDto confirmedOrder = returnOrderDto().status(OrderStatus.COMPLETED).paymentInfo(returnPayment().build()).build();
+            given(orderService.getOrder(anyString(), anyLong()))
+                    .willReturn(confirmedOrder);
+            String paymentKey = confirmedOrder.getPaymentInfo().getPaymentKey();
+            //when
+            OrderDetailResponse result = AsyncUtil.join(orderFacade.confirmOrderPayment(ORDER_NO, 1L, paymentKey, 7000L));
+            //then
+            assertThat(result.getStatus()).isEqualTo("COMPLETED");
+            verify(orderPaymentService, never()).confirmOrderPayment(anyString(), anyString(), anyLong());
+            verify(eventPublisher, never()).publishEvent(any(PaymentCompletedEvent.class));
         }
 
         @Test
@@ -287,7 +334,7 @@ public class OrderFacadeTest {
             given(orderService.failPayment(anyString(), any(OrderFailureCode.class))).willReturn(failOrderDto);
             //when
             //then
-            assertThatThrownBy(() -> orderFacade.confirmOrderPayment(ORDER_NO, 1L, "paymentKey", 7000L))
+            assertThatThrownBy(() -> AsyncUtil.join(orderFacade.confirmOrderPayment(ORDER_NO, 1L, "paymentKey", 7000L)))
                     .isInstanceOf(BusinessException.class)
                     .extracting("errorCode")
                     .isEqualTo(PaymentErrorCode.PAYMENT_INSUFFICIENT_BALANCE);
@@ -304,6 +351,20 @@ public class OrderFacadeTest {
     @DisplayName("주문 조회")
     class GetOrder {
 
+        @Test
+        @DisplayName("주문 조회 모델에 반영된 주문은 쓰기 모델을 조회하지 않는다")
+        void getOrder_from_read_model(){
+            //given
+            OrderDetailResponse expectedResult = anOrderDetailResponse().build();
+            given(orderQueryService.findOrder(anyString(), anyLong()))
+                    .willReturn(Optional.of(expectedResult));
+            //when
+            OrderDetailResponse result = orderFacade.getOrder(1L, ORDER_NO);
+            //then
+            assertThat(result).isEqualTo(expectedResult);
+            verify(orderService, never()).getOrder(anyString(), anyLong());
+        }
+
         @Test
         @DisplayName("주문을 조회한다")
         void getOrder(){
@@ -380,39 +441,51 @@ public class OrderFacadeTest {
     class GetOrders {
 
         @Test
-        @DisplayName("주문 목록을 조회한다")
+        @DisplayName("주문 목록은 주문 조회 모델에서 조회한다")
         void getOrders() {
             //given
             OrderSearchCondition condition = anOrderSearchCondition().build();
-            OrderDto order1 = returnOrderDto()
-                    .orderNo(ORDER_NO + "1")
+            PageDto<OrderListResponse> expectedResult = anOrderListPageResponse()
+                    .content(List.of(anOrderListResponse().orderStatus("COMPLETED").build()))
+                    .currentPage(1)
+                    .pageSize(10)
+                    .totalElement(1)
+                    .totalPage(1)
+                    .build();
+            given(orderViewBackfill.isCompleted()).willReturn(true);
+            given(orderQueryService.getOrders(anyLong(), any(OrderSearchCondition.class)))
+                    .willReturn(expectedResult);
+            //when
+            PageDto<OrderListResponse> result = orderFacade.getOrders(1L, condition);
+            //then
+            assertThat(result).isEqualTo(expectedResult);
+            verify(orderService, never()).getOrders(anyLong(), any(OrderSearchCondition.class));
+        }
+
+        @Test
+        @DisplayName("주문 조회 모델 backfill 이 끝나기 전에는 쓰기 모델에서 주문 목록을 조회한다")
+        void getOrders_before_backfill_completed() {
+            //given
+            OrderSearchCondition condition = anOrderSearchCondition().build();
+            OrderDto order = returnOrderDto()
+                    .orderNo(ORDER_NO)
                     .status(OrderStatus.COMPLETED)
                     .orderItems(List.of(
                             returnOrderItem().orderedProduct(returnOrderItemProduct().productVariantId(1L).build()).build()
                     )).build();
-            OrderDto order2 = returnOrderDto()
-                    .orderNo(ORDER_NO + "2")
-                    .status(OrderStatus.COMPLETED)
-                    .orderItems(List.of(
-                            returnOrderItem().orderedProduct(returnOrderItemProduct().productVariantId(2L).build()).build()
-                    )).build();
-            Page<OrderDto> returnOrders = new PageImpl<>(List.of(order1, order2), PageRequest.of(0, 10), 2);
+            Page<OrderDto> returnOrders = new PageImpl<>(List.of(order), PageRequest.of(0, 10), 1);
+            given(orderViewBackfill.isCompleted()).willReturn(false);
             given(orderService.getOrders(anyLong(), any(OrderSearchCondition.class)))
                     .willReturn(returnOrders);
 
-            OrderListResponse expectedOrder1 = anOrderListResponse().orderStatus("COMPLETED")
-                    .orderNo(ORDER_NO + "1")
+            OrderListResponse expectedOrder = anOrderListResponse().orderStatus("COMPLETED")
+                    .orderNo(ORDER_NO)
                     .orderItems(List.of(anOrderItemResponse().productVariantId(1L).build())).build();
-
-            OrderListResponse expectedOrder2 = anOrderListResponse().orderStatus("COMPLETED")
-                    .orderNo(ORDER_NO + "2")
-                    .orderItems(List.of(anOrderItemResponse().productVariantId(2L).build())).build();
-
             PageDto<OrderListResponse> expectedResult = anOrderListPageResponse()
-                    .content(List.of(expectedOrder1, expectedOrder2))
+                    .content(List.of(expectedOrder))
                     .currentPage(1)
                     .pageSize(10)
-                    .totalElement(2)
+                    .totalElement(1)
                     .totalPage(1)
                     .build();
             //when
@@ -422,6 +495,7 @@ public class OrderFacadeTest {
                     .usingRecursiveComparison()
                     .ignoringFields("content.createdAt")
                     .isEqualTo(expectedResult);
+            verify(orderQueryService, never()).getOrders(anyLong(), any(OrderSearchCondition.class));
         }
     }
 }
@@ -0,0 +1,129 @@
+package com.example.order_service.api.order.facade;
+
+import com.example.order_service.api.common.exception.ExternalServiceErrorCode;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.order.domain.service.OrderCouponService;
+import com.example.order_service.api.order.domain.service.OrderPriceCalculator;
+import com.example.order_service.api.order.domain.service.OrderProductService;
+import com.example.order_service.api.order.domain.service.OrderUserService;
+import com.example.order_service.api.order.domain.service.dto.result.OrderProductAmount;
+import com.example.order_service.api.order.facade.dto.OrderPreparationData;
+import com.example.order_service.api.order.facade.dto.command.CreateOrderCommand;
+import com.example.order_service.api.order.infrastructure.properties.OrderPreparationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.order_service.api.support.fixture.order.OrderCommandFixture.anOrderCommand;
+import static com.example.order_service.api.support.fixture.order.OrderCouponFixture.anOrderCouponInfo;
+import static com.example.order_service.api.support.fixture.order.OrderPriceFixture.anOrderProductAmount;
+import static com.example.order_service.api.support.fixture.order.OrderProductFixture.anOrderProductInfo;
+import static com.example.order_service.api.support.fixture.order.OrderUserFixture.anOrderUserInfo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderPreparationPipelineTest {
+
+    @Mock
+    private OrderUserService orderUserService;
+    @Mock
+    private OrderProductService orderProductService;
+    @Mock
+    private OrderCouponService orderCouponService;
+    @Mock
+    private OrderPriceCalculator calculator;
+
+    private OrderPreparationPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        Duration timeout = Duration.ofMillis(500);
+        pipeline = new OrderPreparationPipeline(orderUserService, orderProductService, orderCouponService, calculator,
+                new OrderPreparationProperties(timeout, timeout, timeout));
+    }
+
+    @Test
+    @DisplayName("유저, 상품 정보와 상품 소계로 계산한 쿠폰 할인을 조회한다")
+    void prepare() {
+        //given
+        CreateOrderCommand command = anOrderCommand().build();
+        OrderProductAmount productAmount = anOrderProductAmount().build();
+        given(orderUserService.getUser(anyLong(), anyLong())).willReturn(anOrderUserInfo().build());
+        given(orderProductService.getProducts(anyList())).willReturn(List.of(anOrderProductInfo().build()));
+        given(calculator.calculateItemAmounts(anyList(), anyList())).willReturn(productAmount);
+        given(orderCouponService.calculateCouponDiscount(1L, 1L, productAmount)).willReturn(anOrderCouponInfo().build());
+        //when
+        OrderPreparationData result = pipeline.prepare(command);
+        //then
+        assertThat(result.getUser()).isNotNull();
+        assertThat(result.getProducts()).hasSize(1);
+        assertThat(result.getProductAmount()).isEqualTo(productAmount);
+        assertThat(result.getCoupon()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("상품 조회가 실패하면 진행중인 유저 조회를 중단하고 상품 조회 예외를 던진다")
+    void prepare_product_failure_cancel_user() throws InterruptedException {
+        //given
+        CreateOrderCommand command = anOrderCommand().build();
+        CountDownLatch userStarted = new CountDownLatch(1);
+        AtomicBoolean userInterrupted = new AtomicBoolean(false);
+        willAnswer(invocation -> {
+            userStarted.countDown();
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                userInterrupted.set(true);
+                throw e;
+            }
+            return anOrderUserInfo().build();
+        }).given(orderUserService).getUser(anyLong(), anyLong());
+        willAnswer(invocation -> {
+            userStarted.await(1, TimeUnit.SECONDS);
+            throw new BusinessException(ExternalServiceErrorCode.PRODUCT_NOT_FOUND);
+        }).given(orderProductService).getProducts(anyList());
+        //when
+        //then
+        assertThatThrownBy(() -> pipeline.prepare(command))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ExternalServiceErrorCode.PRODUCT_NOT_FOUND);
+        assertThat(userInterrupted).isTrue();
+        verify(orderCouponService, never()).calculateCouponDiscount(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 응답하지 않으면 서비스 이용 불가 예외를 던진다")
+    void prepare_timeout() {
+        //given
+        CreateOrderCommand command = anOrderCommand().build();
+        willAnswer(invocation -> {
+            Thread.sleep(5000);
+            return anOrderUserInfo().build();
+        }).given(orderUserService).getUser(anyLong(), anyLong());
+        given(orderProductService.getProducts(anyList())).willReturn(List.of(anOrderProductInfo().build()));
+        given(calculator.calculateItemAmounts(anyList(), anyList())).willReturn(anOrderProductAmount().build());
+        given(orderCouponService.calculateCouponDiscount(anyLong(), anyLong(), any(OrderProductAmount.class))).willReturn(anOrderCouponInfo().build());
+        //when
+        //then
+        assertThatThrownBy(() -> pipeline.prepare(command))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ExternalServiceErrorCode.UNAVAILABLE);
+    }
+}
@@ -37,7 +37,7 @@ public class TossPaymentAdaptorTest extends ExcludeInfraTest {
                 .totalAmount(10000L)
                 .status("DONE")
                 .build();
-        given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class)))
+        given(tossPaymentClient.confirmPayment(anyString(), any(TossPaymentConfirmRequest.class)))
                 .willReturn(response);
         //when
         TossPaymentConfirmResponse result = tossPaymentAdaptor.confirmPayment(ORDER_NO, "paymentKey", 10000L);
@@ -54,7 +54,7 @@ public class TossPaymentAdaptorTest extends ExcludeInfraTest {
         //given
         willThrow(CallNotPermittedException.class)
                 .given(tossPaymentClient)
-                .confirmPayment(any(TossPaymentConfirmRequest.class));
+                .confirmPayment(anyString(), any(TossPaymentConfirmRequest.class));
         //when
         //then
         assertThatThrownBy(() -> tossPaymentAdaptor.confirmPayment(ORDER_NO, "paymentKey", 10000L))
@@ -69,7 +69,7 @@ public class TossPaymentAdaptorTest extends ExcludeInfraTest {
         //given
         willThrow(BusinessException.class)
                 .given(tossPaymentClient)
-                .confirmPayment(any(TossPaymentConfirmRequest.class));
+                .confirmPayment(anyString(), any(TossPaymentConfirmRequest.class));
         //when
         //then
         assertThatThrownBy(() -> tossPaymentAdaptor.confirmPayment(ORDER_NO, "paymentKey", 10000L))
@@ -82,7 +82,7 @@ public class TossPaymentAdaptorTest extends ExcludeInfraTest {
         //given
         willThrow(new RuntimeException("쿠폰 서비스 오류 발생"))
                 .given(tossPaymentClient)
-                .confirmPayment(any(TossPaymentConfirmRequest.class));
+                .confirmPayment(anyString(), any(TossPaymentConfirmRequest.class));
         //when
         //then
         assertThatThrownBy(() -> tossPaymentAdaptor.confirmPayment(ORDER_NO, "paymentKey", 1000L))
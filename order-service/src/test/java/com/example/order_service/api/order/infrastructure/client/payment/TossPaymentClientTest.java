@@ -42,10 +42,11 @@ public class TossPaymentClientTest extends ExcludeInfraTest {
                 .amount(3000L)
                 .build();
         //when
-        client.confirmPayment(request);
+        client.confirmPayment(ORDER_NO + ":paymentKey", request);
         //then
 
         verify(postRequestedFor(urlMatching("/v1/payments/confirm"))
-                .withHeader("Authorization", matching("Basic .*")));
+                .withHeader("Authorization", matching("Basic .*"))
+                .withHeader("Idempotency-Key", equalTo(ORDER_NO + ":paymentKey")));
     }
 }
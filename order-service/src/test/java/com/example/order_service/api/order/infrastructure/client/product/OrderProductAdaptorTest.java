@@ -1,9 +1,11 @@
 package com.example.order_service.api.order.infrastructure.client.product;
 
+import com.example.order_service.api.common.client.product.ProductLookupClient;
+import com.example.order_service.api.common.client.product.dto.ProductVariantResponse;
+import com.example.order_service.api.common.client.product.dto.ProductVariantsRequest;
 import com.example.order_service.api.common.exception.ExternalServiceErrorCode;
 import com.example.order_service.api.common.exception.business.BusinessException;
 import com.example.order_service.api.order.infrastructure.client.product.dto.OrderProductResponse;
-import com.example.order_service.api.order.infrastructure.client.product.dto.OrderProductsRequest;
 import com.example.order_service.api.support.ExcludeInfraTest;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import org.junit.jupiter.api.DisplayName;
@@ -25,16 +27,16 @@ public class OrderProductAdaptorTest extends ExcludeInfraTest {
     private OrderProductAdaptor orderProductAdaptor;
 
     @MockitoBean
-    private OrderProductClient orderProductClient;
+    private ProductLookupClient productLookupClient;
 
     @Test
     @DisplayName("상품 서비스에서 상품들의 정보를 조회한다")
     void getProducts(){
         //given
-        OrderProductResponse product1 = createProductResponse(1L);
-        OrderProductResponse product2 = createProductResponse(2L);
+        ProductVariantResponse product1 = createProductResponse(1L);
+        ProductVariantResponse product2 = createProductResponse(2L);
 
-        given(orderProductClient.getProductVariantByIds(any(OrderProductsRequest.class)))
+        given(productLookupClient.getVariants(any(ProductVariantsRequest.class)))
                 .willReturn(List.of(product1, product2));
         //when
         List<OrderProductResponse> responses = orderProductAdaptor.getProducts(List.of(1L, 2L));
@@ -48,7 +50,7 @@ public class OrderProductAdaptorTest extends ExcludeInfraTest {
     @DisplayName("서킷브레이커가 열렸을때 상품 목록 정보를 조회하면 예외를 던진다")
     void getProducts_When_OpenCircuitBreaker(){
         //given
-        willThrow(CallNotPermittedException.class).given(orderProductClient).getProductVariantByIds(any(OrderProductsRequest.class));
+        willThrow(CallNotPermittedException.class).given(productLookupClient).getVariants(any(ProductVariantsRequest.class));
         //when
         //then
         assertThatThrownBy(() -> orderProductAdaptor.getProducts(List.of(1L, 2L)))
@@ -61,7 +63,7 @@ public class OrderProductAdaptorTest extends ExcludeInfraTest {
     @DisplayName("상품 목록 조회시 비지니스 예외가 발생한 경우 그대로 던진다")
     void getProducts_when_businessException(){
         //given
-        willThrow(BusinessException.class).given(orderProductClient).getProductVariantByIds(any(OrderProductsRequest.class));
+        willThrow(BusinessException.class).given(productLookupClient).getVariants(any(ProductVariantsRequest.class));
         //when
         //then
         assertThatThrownBy(() -> orderProductAdaptor.getProducts(List.of(1L, 2L)))
@@ -73,7 +75,7 @@ public class OrderProductAdaptorTest extends ExcludeInfraTest {
     void getProducts_When_Unknown_Exception() {
         //given
         willThrow(new RuntimeException("상품 서비스 장애 발생"))
-                .given(orderProductClient).getProductVariantByIds(any(OrderProductsRequest.class));
+                .given(productLookupClient).getVariants(any(ProductVariantsRequest.class));
         //when
         //then
         assertThatThrownBy(() -> orderProductAdaptor.getProducts(List.of(1L, 2L)))
@@ -82,13 +84,13 @@ public class OrderProductAdaptorTest extends ExcludeInfraTest {
                 .isEqualTo(ExternalServiceErrorCode.SYSTEM_ERROR);
     }
 
-    private OrderProductResponse createProductResponse(Long productId) {
-        return OrderProductResponse.builder()
+    private ProductVariantResponse createProductResponse(Long productId) {
+        return ProductVariantResponse.builder()
                 .productId(productId)
                 .productName("상품")
                 .productVariantId(productId)
                 .unitPrice(
-                        OrderProductResponse.UnitPrice.builder()
+                        ProductVariantResponse.UnitPrice.builder()
                                 .originalPrice(3000L)
                                 .discountRate(10)
                                 .discountAmount(300L)
@@ -0,0 +1,152 @@
+package com.example.order_service.api.order.infrastructure.executor;
+
+import com.example.order_service.api.common.exception.ExternalServiceErrorCode;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.common.exception.business.code.OrderErrorCode;
+import com.example.order_service.api.common.util.AsyncUtil;
+import com.example.order_service.api.order.infrastructure.properties.PaymentConfirmProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PaymentConfirmExecutorTest {
+
+    private PaymentConfirmExecutor executor;
+
+    private PaymentConfirmExecutor create(int maxConcurrency, Duration acquireTimeout) {
+        executor = new PaymentConfirmExecutor(new PaymentConfirmProperties(maxConcurrency, acquireTimeout), new SimpleMeterRegistry());
+        return executor;
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("동시에 진행하는 결제 승인 수를 제한한다")
+    void submit_bounded_concurrency() {
+        //given
+        create(2, Duration.ofSeconds(5));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        //when
+        for (int i = 0; i < 10; i++) {
+            String orderNo = "ORDER-" + i;
+            futures.add(executor.submit(orderNo, "paymentKey", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(30);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return orderNo;
+            }, result -> {}));
+        }
+        //then
+        assertThat(futures).extracting(AsyncUtil::join).hasSize(10);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 주문, 같은 결제 키의 재요청은 진행중인 승인 결과를 함께 기다린다")
+    void submit_join_in_flight() throws InterruptedException {
+        //given
+        create(2, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger confirmCount = new AtomicInteger();
+        //when
+        CompletableFuture<String> first = executor.submit("ORDER-1", "paymentKey", () -> {
+            confirmCount.incrementAndGet();
+            await(release);
+            return "confirmed";
+        }, result -> {});
+        CompletableFuture<String> retry = executor.submit("ORDER-1", "paymentKey", () -> {
+            confirmCount.incrementAndGet();
+            return "duplicated";
+        }, result -> {});
+        release.countDown();
+        //then
+        assertThat(AsyncUtil.join(first)).isEqualTo("confirmed");
+        assertThat(AsyncUtil.join(retry)).isEqualTo("confirmed");
+        assertThat(confirmCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 주문에 다른 결제 키로 승인이 진행중이면 거절한다")
+    void submit_other_payment_key_in_flight() {
+        //given
+        create(2, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit("ORDER-1", "paymentKey", () -> {
+            await(release);
+            return "confirmed";
+        }, result -> {});
+        //when
+        CompletableFuture<String> other = executor.submit("ORDER-1", "otherKey", () -> "confirmed", result -> {});
+        release.countDown();
+        //then
+        assertThatThrownBy(() -> AsyncUtil.join(other))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(OrderErrorCode.ORDER_PAYMENT_IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 차례가 오지 않으면 서비스 이용 불가 예외로 완료한다")
+    void submit_acquire_timeout() {
+        //given
+        create(1, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit("ORDER-1", "paymentKey", () -> {
+            await(release);
+            return "confirmed";
+        }, result -> {});
+        //when
+        CompletableFuture<String> waiting = executor.submit("ORDER-2", "paymentKey", () -> "confirmed", result -> {});
+        //then
+        assertThatThrownBy(() -> AsyncUtil.join(waiting))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ExternalServiceErrorCode.UNAVAILABLE);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("후속 처리가 실패해도 승인 결과에 영향을 주지 않는다")
+    void submit_after_confirm_failure() throws InterruptedException {
+        //given
+        create(1, Duration.ofSeconds(5));
+        CountDownLatch afterConfirmed = new CountDownLatch(1);
+        //when
+        CompletableFuture<String> future = executor.submit("ORDER-1", "paymentKey", () -> "confirmed", result -> {
+            afterConfirmed.countDown();
+            throw new IllegalStateException("후속 처리 실패");
+        });
+        //then
+        assertThat(AsyncUtil.join(future)).isEqualTo("confirmed");
+        assertThat(afterConfirmed.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
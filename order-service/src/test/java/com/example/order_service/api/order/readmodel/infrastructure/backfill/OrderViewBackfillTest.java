@@ -0,0 +1,69 @@
+package com.example.order_service.api.order.readmodel.infrastructure.backfill;
+
+import com.example.order_service.api.order.domain.model.Order;
+import com.example.order_service.api.order.readmodel.domain.repository.OrderViewRepository;
+import com.example.order_service.api.order.readmodel.service.OrderViewProjector;
+import com.example.order_service.api.order.saga.domain.service.SagaLeaseService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderViewBackfillTest {
+
+    @InjectMocks
+    private OrderViewBackfill orderViewBackfill;
+    @Mock
+    private OrderViewRepository orderViewRepository;
+    @Mock
+    private OrderViewProjector projector;
+    @Mock
+    private SagaLeaseService sagaLeaseService;
+
+    @Test
+    @DisplayName("조회 모델에 반영되지 않은 주문이 없으면 lease 없이 완료한다")
+    void backfill_nothing_to_project() {
+        //given
+        given(orderViewRepository.findUnprojectedOrders(eq(0L), any(Limit.class))).willReturn(List.of());
+        //when
+        orderViewBackfill.backfill();
+        //then
+        assertThat(orderViewBackfill.isCompleted()).isTrue();
+        verify(sagaLeaseService, never()).tryAcquire(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("lease 를 획득하면 조회 모델에 반영되지 않은 주문만 반영하고 완료한다")
+    void backfill() {
+        //given
+        Order order = mock(Order.class);
+        given(order.getId()).willReturn(1L);
+        given(order.getOrderNo()).willReturn("ORD-1");
+        given(orderViewRepository.findUnprojectedOrders(eq(0L), any(Limit.class)))
+                .willReturn(List.of(order), List.of(order), List.of());
+        given(orderViewRepository.findUnprojectedOrders(eq(1L), any(Limit.class))).willReturn(List.of());
+        given(sagaLeaseService.tryAcquire(eq(OrderViewBackfill.LEASE_NAME), anyString(), any(Duration.class))).willReturn(true);
+        //when
+        orderViewBackfill.backfill();
+        //then
+        assertThat(orderViewBackfill.isCompleted()).isTrue();
+        verify(projector, times(1)).project("ORD-1");
+    }
+}
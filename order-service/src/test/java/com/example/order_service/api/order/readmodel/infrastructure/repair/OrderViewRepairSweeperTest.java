@@ -0,0 +1,78 @@
+package com.example.order_service.api.order.readmodel.infrastructure.repair;
+
+import com.example.order_service.api.order.domain.model.Order;
+import com.example.order_service.api.order.readmodel.domain.repository.OrderViewRepository;
+import com.example.order_service.api.order.readmodel.service.OrderViewProjector;
+import com.example.order_service.api.order.saga.domain.service.SagaLeaseService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderViewRepairSweeperTest {
+
+    @InjectMocks
+    private OrderViewRepairSweeper sweeper;
+    @Mock
+    private OrderViewRepository orderViewRepository;
+    @Mock
+    private OrderViewProjector projector;
+    @Mock
+    private SagaLeaseService sagaLeaseService;
+
+    private Order order(String orderNo) {
+        Order order = mock(Order.class);
+        given(order.getOrderNo()).willReturn(orderNo);
+        return order;
+    }
+
+    @Test
+    @DisplayName("마지막 변경이 반영되지 않은 주문을 다시 반영하고 실패한 주문은 건너뛴다")
+    void repair() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        Order failed = order("ORD-1");
+        Order stale = order("ORD-2");
+        given(stale.getId()).willReturn(2L);
+        given(orderViewRepository.findStaleOrders(eq(now.minusDays(1)), eq(now.minusSeconds(30)), eq(0L), any(Limit.class)))
+                .willReturn(List.of(failed, stale));
+        given(orderViewRepository.findStaleOrders(any(LocalDateTime.class), any(LocalDateTime.class), eq(2L), any(Limit.class)))
+                .willReturn(List.of());
+        given(sagaLeaseService.tryAcquire(eq(OrderViewRepairSweeper.LEASE_NAME), anyString(), any(Duration.class))).willReturn(true);
+        willThrow(new IllegalStateException("projection failed")).given(projector).project("ORD-1");
+        //when
+        int repaired = sweeper.repair(now);
+        //then
+        assertThat(repaired).isEqualTo(1);
+        verify(projector).project("ORD-2");
+    }
+
+    @Test
+    @DisplayName("lease 를 획득하지 못하면 보정하지 않는다")
+    void sweep_lease_not_acquired() {
+        //given
+        given(sagaLeaseService.tryAcquire(eq(OrderViewRepairSweeper.LEASE_NAME), anyString(), any(Duration.class))).willReturn(false);
+        //when
+        sweeper.sweep();
+        //then
+        verify(orderViewRepository, never()).findStaleOrders(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.order_service.api.order.readmodel.service;
+
+import com.example.order_service.api.common.dto.CursorPageDto;
+import com.example.order_service.api.common.dto.PageDto;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.common.exception.business.code.OrderErrorCode;
+import com.example.order_service.api.order.controller.dto.request.OrderSearchCondition;
+import com.example.order_service.api.order.domain.model.Order;
+import com.example.order_service.api.order.domain.repository.OrderRepository;
+import com.example.order_service.api.order.facade.dto.result.OrderDetailResponse;
+import com.example.order_service.api.order.facade.dto.result.OrderListResponse;
+import com.example.order_service.api.order.readmodel.domain.repository.OrderViewRepository;
+import com.example.order_service.api.support.ExcludeInfraTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.example.order_service.api.support.fixture.order.OrderCommandFixture.anOrderSearchCondition;
+import static com.example.order_service.api.support.fixture.order.OrderFixture.anOrderCreationContext;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 조회 모델은 커밋된 주문을 새 트랜잭션에서 반영하므로 테스트 트랜잭션 없이 저장하고 정리한다
+class OrderQueryServiceTest extends ExcludeInfraTest {
+
+    @Autowired
+    private OrderQueryService orderQueryService;
+    @Autowired
+    private OrderViewProjector projector;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        orderViewRepository.deleteAllInBatch();
+        transactionTemplate.executeWithoutResult(status -> orderRepository.deleteAll());
+    }
+
+    private Order saveProjectedOrder() {
+        Order order = orderRepository.save(Order.create(anOrderCreationContext().build()));
+        projector.project(order.getOrderNo());
+        return order;
+    }
+
+    @Test
+    @DisplayName("조회 모델에 반영된 주문 상세를 조회한다")
+    void findOrder() {
+        //given
+        Order order = saveProjectedOrder();
+        //when
+        Optional<OrderDetailResponse> result = orderQueryService.findOrder(order.getOrderNo(), 1L);
+        //then
+        assertThat(result).hasValueSatisfying(detail -> {
+            assertThat(detail.getOrderNo()).isEqualTo(order.getOrderNo());
+            assertThat(detail.getStatus()).isEqualTo(order.getStatus().name());
+            assertThat(detail.getOrderItems()).hasSize(order.getOrderItems().size());
+        });
+    }
+
+    @Test
+    @DisplayName("조회 모델에 반영되지 않은 주문은 빈 값을 반환한다")
+    void findOrder_not_projected() {
+        //given
+        Order order = orderRepository.save(Order.create(anOrderCreationContext().build()));
+        //when
+        Optional<OrderDetailResponse> result = orderQueryService.findOrder(order.getOrderNo(), 1L);
+        //then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 유저의 주문은 조회할 수 없다")
+    void findOrder_no_permission() {
+        //given
+        Order order = saveProjectedOrder();
+        //when
+        //then
+        assertThatThrownBy(() -> orderQueryService.findOrder(order.getOrderNo(), 2L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(OrderErrorCode.ORDER_NO_PERMISSION);
+    }
+
+    @Test
+    @DisplayName("주문 상태가 변경된 뒤 다시 반영하면 변경된 상태를 조회한다")
+    void project_refresh() {
+        //given
+        Order order = saveProjectedOrder();
+        transactionTemplate.executeWithoutResult(status ->
+                orderRepository.findById(order.getId()).orElseThrow().preparePaymentWaiting());
+        //when
+        projector.project(order.getOrderNo());
+        //then
+        assertThat(orderQueryService.findOrder(order.getOrderNo(), 1L))
+                .hasValueSatisfying(detail -> assertThat(detail.getStatus()).isEqualTo("PAYMENT_WAITING"));
+    }
+
+    @Test
+    @DisplayName("더 최근 변경이 반영된 조회 모델은 이전 상태로 덮어쓰지 않는다")
+    void refreshIfNotNewer_stale() {
+        //given
+        Order order = saveProjectedOrder();
+        LocalDateTime staleUpdatedAt = order.getUpdatedAt().minusSeconds(1);
+        //when
+        int updated = transactionTemplate.execute(status ->
+                orderViewRepository.refreshIfNotNewer(order.getId(), "CANCELED", staleUpdatedAt, "{}"));
+        //then
+        assertThat(updated).isZero();
+        assertThat(orderQueryService.findOrder(order.getOrderNo(), 1L))
+                .hasValueSatisfying(detail -> assertThat(detail.getStatus()).isEqualTo(order.getStatus().name()));
+    }
+
+    @Test
+    @DisplayName("주문 목록을 최신순으로 조회한다")
+    void getOrders() {
+        //given
+        Order order1 = saveProjectedOrder();
+        Order order2 = saveProjectedOrder();
+        OrderSearchCondition condition = anOrderSearchCondition().build();
+        //when
+        PageDto<OrderListResponse> result = orderQueryService.getOrders(1L, condition);
+        //then
+        assertThat(result.getContent()).extracting(OrderListResponse::getOrderNo)
+                .containsExactly(order2.getOrderNo(), order1.getOrderNo());
+        assertThat(result.getTotalElement()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커서로 다음 페이지의 주문 목록을 조회한다")
+    void getOrdersByCursor() {
+        //given
+        Order order1 = saveProjectedOrder();
+        Order order2 = saveProjectedOrder();
+        OrderSearchCondition first = anOrderSearchCondition().size(1).build();
+        //when
+        CursorPageDto<OrderListResponse> firstPage = orderQueryService.getOrdersByCursor(1L, first);
+        OrderSearchCondition next = anOrderSearchCondition().size(1).cursor(firstPage.getNextCursor()).build();
+        CursorPageDto<OrderListResponse> nextPage = orderQueryService.getOrdersByCursor(1L, next);
+        //then
+        assertThat(firstPage.getContent()).extracting(OrderListResponse::getOrderNo).containsExactly(order2.getOrderNo());
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(nextPage.getContent()).extracting(OrderListResponse::getOrderNo).containsExactly(order1.getOrderNo());
+        assertThat(nextPage.isHasNext()).isFalse();
+    }
+}
@@ -3,7 +3,9 @@ package com.example.order_service.api.order.saga.domain.model;
 import com.example.order_service.api.order.saga.domain.model.vo.Payload;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -202,11 +204,15 @@ public class OrderSagaInstanceTest {
                 .useToPoint(1000L)
                 .build();
         OrderSagaInstance sagaInstance = OrderSagaInstance.create(ORDER_NO, payload, SagaStep.PRODUCT);
+        ReflectionTestUtils.setField(sagaInstance, "stepStartedAt", LocalDateTime.of(2025, 12, 22, 0, 0));
         //when
         sagaInstance.proceedTo(SagaStep.COUPON);
         //then
         assertThat(sagaInstance)
                 .extracting(OrderSagaInstance::getSagaStatus, OrderSagaInstance::getSagaStep, OrderSagaInstance::getFailureReason)
                 .containsExactly(SagaStatus.STARTED, SagaStep.COUPON, null);
+        // 단계별 타임아웃은 새 단계를 시작한 시각부터 계산한다
+        assertThat(sagaInstance.getStepStartedAt()).isAfter(LocalDateTime.of(2025, 12, 22, 0, 0));
+        assertThat(sagaInstance.getStartedAt()).isBeforeOrEqualTo(sagaInstance.getStepStartedAt());
     }
 }
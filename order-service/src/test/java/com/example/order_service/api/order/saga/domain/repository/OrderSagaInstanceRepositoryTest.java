@@ -8,6 +8,7 @@ import com.example.order_service.api.support.ExcludeInfraTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,8 +26,8 @@ public class OrderSagaInstanceRepositoryTest extends ExcludeInfraTest {
     public static final String ORDER_NO = "ORD-20260101-AB12FVC";
 
     @Test
-    @DisplayName("시작시간이 입력받은 시작시간 이전이면서 상태가 입력받은 상태와 동일한 SagaInstance를 조회한다")
-    void findByStartedAtBeforeAndSagaStatus(){
+    @DisplayName("단계 시작시간이 입력받은 시각 이전이면서 상태와 단계가 입력받은 값과 동일한 SagaInstance를 커서 이후부터 조회한다")
+    void findTimeoutPage(){
         //given
         Payload payload = Payload.builder()
                 .userId(1L)
@@ -35,17 +36,19 @@ public class OrderSagaInstanceRepositoryTest extends ExcludeInfraTest {
                 .useToPoint(1000L)
                 .build();
         OrderSagaInstance sagaInstance1 = OrderSagaInstance.create(ORDER_NO+"1", payload, SagaStep.PRODUCT);
-        ReflectionTestUtils.setField(sagaInstance1, "startedAt", LocalDateTime.of(2025,12,22, 23,59,59));
+        ReflectionTestUtils.setField(sagaInstance1, "stepStartedAt", LocalDateTime.of(2025,12,22, 23,59,59));
         OrderSagaInstance sagaInstance2 = OrderSagaInstance.create(ORDER_NO+"2", payload, SagaStep.PRODUCT);
-        ReflectionTestUtils.setField(sagaInstance2, "startedAt", LocalDateTime.of(2025,12,23, 0, 0, 30));
+        ReflectionTestUtils.setField(sagaInstance2, "stepStartedAt", LocalDateTime.of(2025,12,23, 0, 0, 30));
         sagaInstance2.changeStatus(SagaStatus.COMPENSATING);
         OrderSagaInstance sagaInstance3 = OrderSagaInstance.create(ORDER_NO+"3", payload, SagaStep.PRODUCT);
-        ReflectionTestUtils.setField(sagaInstance3, "startedAt", LocalDateTime.of(2025,12,23,0,0,30));
+        ReflectionTestUtils.setField(sagaInstance3, "stepStartedAt", LocalDateTime.of(2025,12,23,0,0,30));
         OrderSagaInstance save1 = orderSagaInstanceRepository.save(sagaInstance1);
         OrderSagaInstance save2 = orderSagaInstanceRepository.save(sagaInstance2);
         OrderSagaInstance save3 = orderSagaInstanceRepository.save(sagaInstance3);
         //when
-        List<OrderSagaInstance> findOrderInstances = orderSagaInstanceRepository.findByStartedAtBeforeAndSagaStatus(LocalDateTime.of(2025, 12, 23, 0, 0, 0), SagaStatus.STARTED);
+        List<OrderSagaInstance> findOrderInstances = orderSagaInstanceRepository.findTimeoutPage(SagaStatus.STARTED,
+                SagaStep.PRODUCT, LocalDateTime.of(2025, 12, 23, 0, 0, 0), LocalDateTime.of(1970, 1, 1, 0, 0), 0L,
+                Limit.of(10));
         //then
         assertThat(findOrderInstances).hasSize(1)
                 .extracting(OrderSagaInstance::getId, OrderSagaInstance::getSagaStatus)
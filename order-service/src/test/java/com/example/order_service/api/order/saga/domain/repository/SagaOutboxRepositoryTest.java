@@ -0,0 +1,39 @@
+package com.example.order_service.api.order.saga.domain.repository;
+
+import com.example.order_service.api.order.saga.domain.model.SagaOutbox;
+import com.example.order_service.api.support.ExcludeInfraTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+class SagaOutboxRepositoryTest extends ExcludeInfraTest {
+    @Autowired
+    private SagaOutboxRepository sagaOutboxRepository;
+
+    private SagaOutbox save(String topic, String messageKey) {
+        return sagaOutboxRepository.save(SagaOutbox.of(topic, messageKey, String.class.getName(), "\"message\""));
+    }
+
+    @Test
+    @DisplayName("같은 토픽, 같은 키의 앞선 메시지가 남아있으면 뒤의 메시지는 조회하지 않는다")
+    void findRelayBatch() {
+        //given
+        SagaOutbox deduct = save("product.saga.command", "1");
+        SagaOutbox restore = save("product.saga.command", "1");
+        SagaOutbox coupon = save("coupon.saga.command", "1");
+        SagaOutbox other = save("product.saga.command", "2");
+        //when
+        List<SagaOutbox> batch = sagaOutboxRepository.findRelayBatch(Limit.of(10));
+        //then
+        assertThat(batch).extracting(SagaOutbox::getId)
+                .containsExactly(deduct.getId(), coupon.getId(), other.getId())
+                .doesNotContain(restore.getId());
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.order_service.api.order.saga.domain.service;
+
+import com.example.order_service.api.order.saga.domain.model.SagaLease;
+import com.example.order_service.api.order.saga.domain.repository.SagaLeaseRepository;
+import com.example.order_service.api.support.ExcludeInfraTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+public class SagaLeaseServiceTest extends ExcludeInfraTest {
+
+    private static final String LEASE_NAME = "test-lease";
+
+    @Autowired
+    private SagaLeaseService sagaLeaseService;
+    @Autowired
+    private SagaLeaseRepository sagaLeaseRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // lease 행은 운영에서 마이그레이션으로 생성하므로 테스트에서도 같은 값으로 직접 넣는다
+        jdbcTemplate.update("insert into saga_lease (name, owner, locked_until) values (?, null, '1970-01-01 00:00:00')", LEASE_NAME);
+    }
+
+    @Test
+    @DisplayName("만료된 lease 는 획득할 수 있다")
+    void tryAcquire() {
+        //when
+        boolean acquired = sagaLeaseService.tryAcquire(LEASE_NAME, "owner-1", Duration.ofMinutes(1));
+        //then
+        assertThat(acquired).isTrue();
+        assertThat(sagaLeaseRepository.findById(LEASE_NAME)).get()
+                .extracting(SagaLease::getOwner)
+                .isEqualTo("owner-1");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보유중인 lease 는 획득할 수 없다")
+    void tryAcquire_ownedByOther() {
+        //given
+        sagaLeaseService.tryAcquire(LEASE_NAME, "owner-1", Duration.ofMinutes(1));
+        //when
+        boolean acquired = sagaLeaseService.tryAcquire(LEASE_NAME, "owner-2", Duration.ofMinutes(1));
+        //then
+        assertThat(acquired).isFalse();
+    }
+
+    @Test
+    @DisplayName("자신이 보유한 lease 는 다시 획득해 연장할 수 있다")
+    void tryAcquire_renew() {
+        //given
+        sagaLeaseService.tryAcquire(LEASE_NAME, "owner-1", Duration.ofMinutes(1));
+        //when
+        boolean acquired = sagaLeaseService.tryAcquire(LEASE_NAME, "owner-1", Duration.ofMinutes(1));
+        //then
+        assertThat(acquired).isTrue();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.order_service.api.order.saga.domain.service;
+
+import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.domain.model.SagaStepStatus;
+import com.example.order_service.api.order.saga.domain.model.vo.Payload;
+import com.example.order_service.api.order.saga.domain.repository.OrderSagaInstanceRepository;
+import com.example.order_service.api.order.saga.domain.service.dto.SagaInstanceDto;
+import com.example.order_service.api.support.ExcludeInfraTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SagaServiceConcurrencyTest extends ExcludeInfraTest {
+
+    private static final String ORDER_NO = "ORD-20260101-LOCK001";
+
+    @Autowired
+    private SagaService sagaService;
+    @Autowired
+    private OrderSagaInstanceRepository orderSagaInstanceRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        orderSagaInstanceRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("잠금 전에 같은 트랜잭션에서 읽은 Saga 라도 잠근 뒤에는 다른 트랜잭션이 커밋한 단계 상태를 기준으로 변경한다")
+    void lockSagaByOrderNo_concurrent_step_results() throws Exception {
+        //given
+        Payload payload = Payload.builder()
+                .userId(1L)
+                .sagaItems(List.of(Payload.SagaItem.builder().productVariantId(1L).quantity(1).build()))
+                .couponId(1L)
+                .useToPoint(1000L)
+                .build();
+        SagaInstanceDto saga = sagaService.initializeParallel(ORDER_NO, payload, List.of(SagaStep.PRODUCT, SagaStep.COUPON));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch bothRead = new CountDownLatch(2);
+        //when
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            List<Future<?>> futures = List.of(SagaStep.PRODUCT, SagaStep.COUPON).stream()
+                    .map(step -> executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                        // 캐시 미스로 잠금 전에 먼저 읽은 상황
+                        sagaService.getSagaByOrderNo(ORDER_NO);
+                        bothRead.countDown();
+                        await(bothRead);
+                        sagaService.lockSagaByOrderNo(ORDER_NO);
+                        sagaService.changeStepStatus(saga.getId(), step, SagaStepStatus.SUCCEEDED);
+                    })))
+                    .toList();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        }
+        //then
+        assertThat(sagaService.getSagaByOrderNo(ORDER_NO).getStepStates())
+                .isEqualTo(Map.of(SagaStep.PRODUCT, SagaStepStatus.SUCCEEDED, SagaStep.COUPON, SagaStepStatus.SUCCEEDED));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
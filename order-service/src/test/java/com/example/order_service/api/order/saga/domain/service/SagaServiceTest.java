@@ -4,7 +4,9 @@ import com.example.order_service.api.common.exception.SagaErrorCode;
 import com.example.order_service.api.common.exception.business.BusinessException;
 import com.example.order_service.api.order.saga.domain.model.OrderSagaInstance;
 import com.example.order_service.api.order.saga.domain.model.SagaStatus;
+import com.example.order_service.api.order.saga.domain.model.SagaMode;
 import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.domain.model.SagaStepStatus;
 import com.example.order_service.api.order.saga.domain.model.vo.Payload;
 import com.example.order_service.api.order.saga.domain.repository.OrderSagaInstanceRepository;
 import com.example.order_service.api.order.saga.domain.service.dto.SagaInstanceDto;
@@ -105,6 +107,27 @@ public class SagaServiceTest extends ExcludeInfraTest {
                 .containsExactly(ORDER_NO, SagaStep.COUPON, SagaStatus.STARTED, null);
     }
 
+    @Test
+    @DisplayName("보상중인 Saga 인스턴스는 다음 Saga 진행 인스턴스로 변경할 수 없다")
+    void proceedTo_not_started(){
+        //given
+        Payload payload = Payload.builder()
+                .userId(1L)
+                .sagaItems(List.of(Payload.SagaItem.builder().productVariantId(1L).quantity(3).build()))
+                .couponId(1L)
+                .useToPoint(1000L)
+                .build();
+        OrderSagaInstance sagaInstance = OrderSagaInstance.create(ORDER_NO, payload, SagaStep.COUPON);
+        sagaInstance.startCompensation(SagaStep.PRODUCT, "쿠폰 사용 실패");
+        OrderSagaInstance save = orderSagaInstanceRepository.save(sagaInstance);
+        //when
+        //then
+        assertThatThrownBy(() -> sagaService.proceedTo(save.getId(), SagaStep.USER))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(SagaErrorCode.SAGA_NOT_STARTED);
+    }
+
     @Test
     @DisplayName("Saga 인스턴스를 다음 Saga 진행 인스턴스로 변경할때 Saga 인스턴스를 찾을 수 없으면 예외를 던진다")
     void proceedTo_notFound(){
@@ -292,35 +315,46 @@ public class SagaServiceTest extends ExcludeInfraTest {
     }
 
     @Test
-    @DisplayName("Saga 인스턴스중 STARTED 이면서 시작시간이 timeout 시간 이전인 SagaInstance를 조회한다")
+    @DisplayName("Saga 인스턴스중 입력받은 단계에서 STARTED 이면서 단계 시작시간이 timeout 시간 이전인 SagaInstance를 커서 이후부터 조회한다")
     void getTimeouts(){
         //given
-        String orderNo1 = ORDER_NO + "1";
-        String orderNo2 = ORDER_NO + "2";
-        String orderNo3 = ORDER_NO + "3";
         Payload payload = Payload.builder()
                 .userId(1L)
                 .sagaItems(List.of(Payload.SagaItem.builder().productVariantId(1L).quantity(3).build()))
                 .couponId(1L)
                 .useToPoint(1000L)
                 .build();
-        OrderSagaInstance sagaInstance1 = OrderSagaInstance.create(orderNo1, payload, SagaStep.PRODUCT);
-        ReflectionTestUtils.setField(sagaInstance1, "startedAt", LocalDateTime.of(2025,12,22, 23,59,59));
-        OrderSagaInstance sagaInstance2 = OrderSagaInstance.create(orderNo2, payload, SagaStep.PRODUCT);
-        ReflectionTestUtils.setField(sagaInstance2, "startedAt", LocalDateTime.of(2025,12,23, 0, 0, 30));
-        sagaInstance2.changeStatus(SagaStatus.COMPENSATING);
-        OrderSagaInstance sagaInstance3 = OrderSagaInstance.create(orderNo3, payload, SagaStep.PRODUCT);
-        ReflectionTestUtils.setField(sagaInstance3, "startedAt", LocalDateTime.of(2025,12,23,0,0,30));
+        OrderSagaInstance sagaInstance1 = OrderSagaInstance.create(ORDER_NO + "1", payload, SagaStep.PRODUCT);
+        ReflectionTestUtils.setField(sagaInstance1, "stepStartedAt", LocalDateTime.of(2025,12,22, 23,59,50));
+        OrderSagaInstance sagaInstance2 = OrderSagaInstance.create(ORDER_NO + "2", payload, SagaStep.PRODUCT);
+        ReflectionTestUtils.setField(sagaInstance2, "stepStartedAt", LocalDateTime.of(2025,12,22, 23,59,55));
+        OrderSagaInstance sagaInstance3 = OrderSagaInstance.create(ORDER_NO + "3", payload, SagaStep.PRODUCT);
+        ReflectionTestUtils.setField(sagaInstance3, "stepStartedAt", LocalDateTime.of(2025,12,22, 23,59,59));
+        OrderSagaInstance sagaInstance4 = OrderSagaInstance.create(ORDER_NO + "4", payload, SagaStep.PRODUCT);
+        ReflectionTestUtils.setField(sagaInstance4, "stepStartedAt", LocalDateTime.of(2025,12,22, 23,59,59));
+        sagaInstance4.changeStatus(SagaStatus.COMPENSATING);
+        OrderSagaInstance sagaInstance5 = OrderSagaInstance.create(ORDER_NO + "5", payload, SagaStep.COUPON);
+        ReflectionTestUtils.setField(sagaInstance5, "stepStartedAt", LocalDateTime.of(2025,12,22, 23,59,59));
+        OrderSagaInstance sagaInstance6 = OrderSagaInstance.create(ORDER_NO + "6", payload, SagaStep.PRODUCT);
+        ReflectionTestUtils.setField(sagaInstance6, "stepStartedAt", LocalDateTime.of(2025,12,23,0,0,30));
         OrderSagaInstance save1 = orderSagaInstanceRepository.save(sagaInstance1);
         OrderSagaInstance save2 = orderSagaInstanceRepository.save(sagaInstance2);
         OrderSagaInstance save3 = orderSagaInstanceRepository.save(sagaInstance3);
+        orderSagaInstanceRepository.saveAll(List.of(sagaInstance4, sagaInstance5, sagaInstance6));
+        LocalDateTime timeout = LocalDateTime.of(2025, 12, 23, 0, 0, 0);
         //when
-        List<SagaInstanceDto> timeouts = sagaService.getTimeouts(LocalDateTime.of(2025, 12, 23, 0, 0, 0));
+        List<SagaInstanceDto> firstPage = sagaService.getTimeouts(SagaStep.PRODUCT, timeout,
+                LocalDateTime.of(1970, 1, 1, 0, 0), 0L, 2);
+        List<SagaInstanceDto> secondPage = sagaService.getTimeouts(SagaStep.PRODUCT, timeout,
+                firstPage.get(1).getStepStartedAt(), firstPage.get(1).getId(), 2);
         //then
-        assertThat(timeouts).hasSize(1)
+        assertThat(firstPage)
+                .extracting(SagaInstanceDto::getId)
+                .containsExactly(save1.getId(), save2.getId());
+        assertThat(secondPage)
                 .extracting(SagaInstanceDto::getId, SagaInstanceDto::getSagaStatus)
                 .containsExactly(
-                        tuple(save1.getId(), save1.getSagaStatus())
+                        tuple(save3.getId(), SagaStatus.STARTED)
                 );
     }
 
@@ -356,4 +390,50 @@ public class SagaServiceTest extends ExcludeInfraTest {
                 .extracting("errorCode")
                 .isEqualTo(SagaErrorCode.SAGA_NOT_FOUND);
     }
+
+    @Test
+    @DisplayName("병렬 Saga 인스턴스는 예약 단계별 상태를 대기로 생성한다")
+    void initializeParallel() {
+        //given
+        Payload payload = Payload.builder()
+                .userId(1L)
+                .sagaItems(List.of(Payload.SagaItem.builder().productVariantId(1L).quantity(3).build()))
+                .couponId(1L)
+                .build();
+        //when
+        SagaInstanceDto result = sagaService.initializeParallel(ORDER_NO, payload, List.of(SagaStep.PRODUCT, SagaStep.COUPON));
+        //then
+        assertThat(result)
+                .extracting(SagaInstanceDto::getSagaMode, SagaInstanceDto::getSagaStatus, SagaInstanceDto::getSagaStep)
+                .containsExactly(SagaMode.PARALLEL, SagaStatus.STARTED, SagaStep.RESERVATION);
+        assertThat(result.getStepStates())
+                .containsEntry(SagaStep.PRODUCT, SagaStepStatus.PENDING)
+                .containsEntry(SagaStep.COUPON, SagaStepStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("병렬 보상을 시작하면 성공한 예약 단계만 보상중으로 변경한다")
+    void startParallelCompensation() {
+        //given
+        Payload payload = Payload.builder()
+                .userId(1L)
+                .sagaItems(List.of(Payload.SagaItem.builder().productVariantId(1L).quantity(3).build()))
+                .couponId(1L)
+                .useToPoint(1000L)
+                .build();
+        OrderSagaInstance save = orderSagaInstanceRepository.save(
+                OrderSagaInstance.createParallel(ORDER_NO, payload, List.of(SagaStep.PRODUCT, SagaStep.COUPON, SagaStep.USER)));
+        sagaService.changeStepStatus(save.getId(), SagaStep.PRODUCT, SagaStepStatus.SUCCEEDED);
+        sagaService.changeStepStatus(save.getId(), SagaStep.COUPON, SagaStepStatus.FAILED);
+        //when
+        SagaInstanceDto result = sagaService.startParallelCompensation(save.getId(), "유효하지 않은 쿠폰");
+        //then
+        assertThat(result)
+                .extracting(SagaInstanceDto::getSagaStatus, SagaInstanceDto::getFailureReason)
+                .containsExactly(SagaStatus.COMPENSATING, "유효하지 않은 쿠폰");
+        assertThat(result.getStepsIn(SagaStepStatus.COMPENSATING)).containsExactly(SagaStep.PRODUCT);
+        assertThat(result.getStepStates())
+                .containsEntry(SagaStep.COUPON, SagaStepStatus.FAILED)
+                .containsEntry(SagaStep.USER, SagaStepStatus.PENDING);
+    }
 }
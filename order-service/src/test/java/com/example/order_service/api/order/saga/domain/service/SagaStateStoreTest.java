@@ -0,0 +1,111 @@
+package com.example.order_service.api.order.saga.domain.service;
+
+import com.example.order_service.api.order.saga.domain.model.SagaStatus;
+import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.domain.service.dto.SagaInstanceDto;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaStateCacheProperties;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaTimeoutProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static com.example.order_service.api.support.fixture.saga.SagaManagerTestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SagaStateStoreTest {
+
+    @Mock
+    private SagaService sagaService;
+    private MeterRegistry meterRegistry;
+    private SagaStateStore sagaStateStore;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sagaStateStore = new SagaStateStore(sagaService, new SagaStateCacheProperties(100, Duration.ofMinutes(5)),
+                timeoutProperties(Duration.ofMinutes(10)), meterRegistry);
+    }
+
+    private SagaTimeoutProperties timeoutProperties(Duration paymentTimeout) {
+        return new SagaTimeoutProperties(Duration.ofMinutes(10), Map.of(SagaStep.PAYMENT, paymentTimeout),
+                500, Duration.ofMinutes(2));
+    }
+
+    @Test
+    @DisplayName("캐시 ttl 이 가장 짧은 단계 타임아웃보다 길면 생성할 수 없다")
+    void create_ttl_longer_than_timeout() {
+        //given
+        SagaStateCacheProperties properties = new SagaStateCacheProperties(100, Duration.ofMinutes(5));
+        //when
+        //then
+        assertThatThrownBy(() -> new SagaStateStore(sagaService, properties, timeoutProperties(Duration.ofMinutes(3)), meterRegistry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 Saga는 DB에서 로드하고 이후 조회는 캐시에서 반환한다")
+    void getSagaByOrderNo_cacheHit() {
+        //given
+        SagaInstanceDto saga = anSagaInstanceDto().build();
+        given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(saga);
+        //when
+        sagaStateStore.getSagaByOrderNo(ORDER_NO);
+        SagaInstanceDto result = sagaStateStore.getSagaByOrderNo(ORDER_NO);
+        //then
+        assertThat(result).isSameAs(saga);
+        verify(sagaService, times(1)).getSagaByOrderNo(ORDER_NO);
+        assertThat(lookupCount("db")).isEqualTo(1.0);
+        assertThat(lookupCount("cache")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("상태 변경 결과는 캐시에 기록되어 DB 조회 없이 반환된다")
+    void proceedTo_writeThrough() {
+        //given
+        SagaInstanceDto updated = anSagaInstanceDto().sagaStep(SagaStep.COUPON).build();
+        given(sagaService.proceedTo(SAGA_ID, SagaStep.COUPON)).willReturn(updated);
+        //when
+        sagaStateStore.proceedTo(SAGA_ID, SagaStep.COUPON);
+        SagaInstanceDto byOrderNo = sagaStateStore.getSagaByOrderNo(ORDER_NO);
+        SagaInstanceDto bySagaId = sagaStateStore.getSagaBySagaId(SAGA_ID);
+        //then
+        assertThat(byOrderNo.getSagaStep()).isEqualTo(SagaStep.COUPON);
+        assertThat(bySagaId.getSagaStep()).isEqualTo(SagaStep.COUPON);
+        assertThat(lookupCount("db")).isZero();
+    }
+
+    @Test
+    @DisplayName("종료된 Saga는 캐시에서 제거된다")
+    void finish_evict() {
+        //given
+        SagaInstanceDto started = anSagaInstanceDto().sagaStep(SagaStep.PAYMENT).build();
+        SagaInstanceDto finished = anSagaInstanceDto().sagaStep(SagaStep.PAYMENT).sagaStatus(SagaStatus.FINISHED).build();
+        given(sagaService.proceedTo(SAGA_ID, SagaStep.PAYMENT)).willReturn(started);
+        given(sagaService.finish(SAGA_ID)).willReturn(finished);
+        given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(finished);
+        sagaStateStore.proceedTo(SAGA_ID, SagaStep.PAYMENT);
+        //when
+        sagaStateStore.finish(SAGA_ID);
+        sagaStateStore.getSagaByOrderNo(ORDER_NO);
+        //then
+        verify(sagaService).getSagaByOrderNo(ORDER_NO);
+        assertThat(lookupCount("db")).isEqualTo(1.0);
+    }
+
+    private double lookupCount(String source) {
+        return meterRegistry.get("saga.state.lookup").tag("source", source).counter().count();
+    }
+}
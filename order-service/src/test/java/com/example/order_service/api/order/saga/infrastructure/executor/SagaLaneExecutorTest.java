@@ -0,0 +1,86 @@
+package com.example.order_service.api.order.saga.infrastructure.executor;
+
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaLaneProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SagaLaneExecutorTest {
+
+    private MeterRegistry meterRegistry;
+    private SagaLaneExecutor sagaLaneExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sagaLaneExecutor = new SagaLaneExecutor(new SagaLaneProperties(4, 100), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sagaLaneExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("같은 주문번호의 작업은 제출된 순서대로 하나의 스레드에서 실행된다")
+    void submit_sameOrderNo_keepOrder() {
+        //given
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        //when
+        CompletableFuture<?>[] futures = IntStream.range(0, 50)
+                .mapToObj(i -> sagaLaneExecutor.submit("ORD-1", () -> {
+                    executed.add(i);
+                    threadNames.add(Thread.currentThread().getName());
+                }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+        //then
+        assertThat(executed).containsExactlyElementsOf(IntStream.range(0, 50).boxed().toList());
+        assertThat(threadNames).containsOnly(threadNames.get(0));
+    }
+
+    @Test
+    @DisplayName("서로 다른 레인의 작업은 병렬로 실행된다")
+    void submit_differentLane_runInParallel() {
+        //given
+        String orderNo1 = "ORD-1";
+        String orderNo2 = IntStream.range(2, 100).mapToObj(i -> "ORD-" + i)
+                .filter(orderNo -> sagaLaneExecutor.laneIndex(orderNo) != sagaLaneExecutor.laneIndex(orderNo1))
+                .findFirst().orElseThrow();
+        CountDownLatch latch = new CountDownLatch(2);
+        Runnable awaitEachOther = () -> {
+            latch.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        //when
+        CompletableFuture<Void> future1 = sagaLaneExecutor.submit(orderNo1, awaitEachOther);
+        CompletableFuture<Void> future2 = sagaLaneExecutor.submit(orderNo2, awaitEachOther);
+        //then
+        CompletableFuture.allOf(future1, future2).orTimeout(3, TimeUnit.SECONDS).join();
+        assertThat(latch.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("레인별 대기 작업 수를 메트릭으로 노출한다")
+    void queueDepthMetric() {
+        assertThat(meterRegistry.find("saga.lane.queue.depth").gauges()).hasSize(4);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.order_service.api.order.saga.infrastructure.listener;
+
+import com.example.common.result.SagaProcessResult;
+import com.example.order_service.api.order.saga.infrastructure.executor.SagaLaneExecutor;
+import com.example.order_service.api.order.saga.infrastructure.kafka.listener.SagaEventListener;
+import com.example.order_service.api.order.saga.orchestrator.SagaManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SagaEventListenerBatchTest {
+
+    @InjectMocks
+    private SagaEventListener sagaEventListener;
+    @Mock
+    private SagaManager sagaManager;
+    @Mock
+    private SagaLaneExecutor sagaLaneExecutor;
+
+    @Test
+    @DisplayName("배치의 모든 응답이 처리되면 예외 없이 끝난다")
+    void dispatch_all_succeeded() {
+        //given
+        given(sagaLaneExecutor.submit(any(), any(Runnable.class))).willReturn(CompletableFuture.completedFuture(null));
+        //when
+        //then
+        assertThatCode(() -> sagaEventListener.handleProductResult(List.of(
+                SagaProcessResult.success(1L, "ORD-1"), SagaProcessResult.success(2L, "ORD-2"))))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 응답이 있으면 나머지 응답도 처리한 뒤 첫번째 실패 위치를 알린다")
+    void dispatch_failed_index() {
+        //given
+        given(sagaLaneExecutor.submit(eq("ORD-1"), any(Runnable.class))).willReturn(CompletableFuture.completedFuture(null));
+        given(sagaLaneExecutor.submit(eq("ORD-2"), any(Runnable.class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("saga 처리 실패")));
+        given(sagaLaneExecutor.submit(eq("ORD-3"), any(Runnable.class))).willReturn(CompletableFuture.completedFuture(null));
+        //when
+        //then
+        assertThatThrownBy(() -> sagaEventListener.handleProductResult(List.of(
+                SagaProcessResult.success(1L, "ORD-1"), SagaProcessResult.success(2L, "ORD-2"),
+                SagaProcessResult.success(3L, "ORD-3"))))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+        verify(sagaLaneExecutor).submit(eq("ORD-3"), any(Runnable.class));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.order_service.api.order.saga.infrastructure.listener;
 
 import com.example.common.result.SagaProcessResult;
 import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.infrastructure.kafka.producer.PaymentCompletedReply;
 import com.example.order_service.api.order.saga.orchestrator.SagaManager;
 import com.example.order_service.api.order.saga.orchestrator.dto.command.SagaStepResultCommand;
 import com.example.order_service.api.support.IncludeInfraTest;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,6 +26,8 @@ public class SagaEventListenerTest extends IncludeInfraTest {
     private static final String ORDER_NO = "ORD-20260101-AB12FVC";
     @Captor
     private ArgumentCaptor<SagaStepResultCommand> sagaCommandCaptor;
+    @Value("${order.topics.payment-saga-reply}")
+    private String paymentResultTopicName;
 
     @Nested
     @DisplayName("상품 서비스 응답 수신")
@@ -137,4 +141,24 @@ public class SagaEventListenerTest extends IncludeInfraTest {
                     .containsExactly(SagaStep.USER, ORDER_NO, false, "INSUFFICIENT_POINT", "포인트가 부족합니다");
         }
     }
+
+    @Nested
+    @DisplayName("결제 완료 응답 수신")
+    class HandlePaymentResult {
+        @Test
+        @DisplayName("outbox 로 발행된 결제 완료 응답을 수신하면 sagaManager를 통해 Saga를 진행한다")
+        void handlePaymentResult() {
+            //given
+            PaymentCompletedReply reply = PaymentCompletedReply.of(ORDER_NO);
+            //when
+            kafkaTemplate.send(paymentResultTopicName, ORDER_NO, reply);
+            //then
+            verify(sagaManager, timeout(1000)).handleStepResult(sagaCommandCaptor.capture());
+
+            assertThat(sagaCommandCaptor.getValue())
+                    .extracting(SagaStepResultCommand::getStep, SagaStepResultCommand::getOrderNo,
+                            SagaStepResultCommand::isSuccess, SagaStepResultCommand::getErrorCode, SagaStepResultCommand::getFailureReason)
+                    .containsExactly(SagaStep.PAYMENT, ORDER_NO, true, null, null);
+        }
+    }
 }
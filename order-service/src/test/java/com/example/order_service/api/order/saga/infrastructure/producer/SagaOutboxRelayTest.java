@@ -0,0 +1,120 @@
+package com.example.order_service.api.order.saga.infrastructure.producer;
+
+import com.example.common.product.Item;
+import com.example.common.product.ProductCommandType;
+import com.example.common.product.ProductSagaCommand;
+import com.example.order_service.api.order.saga.domain.model.SagaOutbox;
+import com.example.order_service.api.order.saga.domain.repository.SagaOutboxRepository;
+import com.example.order_service.api.order.saga.infrastructure.kafka.producer.SagaOutboxRelay;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaOutboxProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SagaOutboxRelayTest {
+
+    private static final String TOPIC = "product.saga.command";
+
+    @Mock
+    private SagaOutboxRepository sagaOutboxRepository;
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private SagaOutboxRelay sagaOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        sagaOutboxRelay = new SagaOutboxRelay(sagaOutboxRepository, kafkaTemplate, objectMapper,
+                new SagaOutboxProperties(10, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("outbox 메시지를 원래 타입으로 복원해 발행하고 발행된 메시지를 삭제한다")
+    void relay() throws Exception {
+        //given
+        SagaOutbox first = anOutbox(1L, 1L);
+        SagaOutbox second = anOutbox(2L, 2L);
+        given(sagaOutboxRepository.findRelayBatch(Limit.of(10))).willReturn(List.of(first, second));
+        given(kafkaTemplate.send(eq(TOPIC), any(String.class), any()))
+                .willReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+        //when
+        int sent = sagaOutboxRelay.relay();
+        //then
+        assertThat(sent).isEqualTo(2);
+        assertThat(sagaOutboxRelay.getLastBatchSize()).isEqualTo(2);
+        ArgumentCaptor<Object> messageCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate).send(eq(TOPIC), eq("1"), messageCaptor.capture());
+        assertThat(messageCaptor.getValue()).isInstanceOf(ProductSagaCommand.class);
+        assertThat(((ProductSagaCommand) messageCaptor.getValue()))
+                .extracting(ProductSagaCommand::getType, ProductSagaCommand::getSagaId)
+                .containsExactly(ProductCommandType.DEDUCT_STOCK, 1L);
+        verify(sagaOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("발행에 실패한 메시지는 삭제하지 않고 다음 주기에 재시도한다")
+    void relay_partialFailure() throws Exception {
+        //given
+        SagaOutbox first = anOutbox(1L, 1L);
+        SagaOutbox second = anOutbox(2L, 2L);
+        given(sagaOutboxRepository.findRelayBatch(Limit.of(10))).willReturn(List.of(first, second));
+        given(kafkaTemplate.send(eq(TOPIC), eq("1"), any()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+        given(kafkaTemplate.send(eq(TOPIC), eq("2"), any()))
+                .willReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+        //when
+        int sent = sagaOutboxRelay.relay();
+        //then
+        assertThat(sent).isEqualTo(1);
+        verify(sagaOutboxRepository).deleteAllByIdInBatch(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("발행할 메시지가 없으면 지연 시간을 0 으로 기록한다")
+    void relay_empty() {
+        //given
+        given(sagaOutboxRepository.findRelayBatch(Limit.of(10))).willReturn(List.of());
+        //when
+        int sent = sagaOutboxRelay.relay();
+        //then
+        assertThat(sent).isZero();
+        assertThat(sagaOutboxRelay.getLagMillis()).isZero();
+        verify(sagaOutboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private SagaOutbox anOutbox(Long id, Long sagaId) throws Exception {
+        ProductSagaCommand message = ProductSagaCommand.of(ProductCommandType.DEDUCT_STOCK, sagaId, "ORD-20260101-AB12FVC",
+                1L, List.of(Item.of(1L, 3)), LocalDateTime.now());
+        SagaOutbox outbox = SagaOutbox.of(TOPIC, String.valueOf(sagaId), ProductSagaCommand.class.getName(),
+                objectMapper.writeValueAsString(message));
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.order_service.api.order.saga.infrastructure.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class HashedTimingWheelTest {
+
+    private final List<String> expired = new CopyOnWriteArrayList<>();
+    private final HashedTimingWheel<String> wheel =
+            new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 8, expired::add);
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지나면 등록한 payload 로 만료 핸들러를 호출한다")
+    void schedule_expire() {
+        //given
+        wheel.start();
+        //when
+        wheel.schedule("ORD-1", "ORD-1:PRODUCT", Duration.ofMillis(50));
+        //then
+        await().atMost(1, TimeUnit.SECONDS).until(() -> expired.contains("ORD-1:PRODUCT"));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소된 만료는 핸들러를 호출하지 않는다")
+    void cancel() throws InterruptedException {
+        //given
+        wheel.start();
+        wheel.schedule("ORD-1", "ORD-1:PRODUCT", Duration.ofMillis(50));
+        //when
+        boolean cancelled = wheel.cancel("ORD-1");
+        //then
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(cancelled).isTrue();
+        assertThat(expired).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 등록하면 이전 만료는 교체된다")
+    void schedule_replace() {
+        //given
+        wheel.start();
+        wheel.schedule("ORD-1", "ORD-1:PRODUCT", Duration.ofMillis(30));
+        //when
+        wheel.schedule("ORD-1", "ORD-1:COUPON", Duration.ofMillis(60));
+        //then
+        await().atMost(1, TimeUnit.SECONDS).until(() -> expired.contains("ORD-1:COUPON"));
+        assertThat(expired).containsExactly("ORD-1:COUPON");
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 만료도 정확한 바퀴에서 만료된다")
+    void schedule_multipleRounds() {
+        //given
+        wheel.start();
+        long start = System.nanoTime();
+        //when
+        wheel.schedule("ORD-1", "ORD-1:PAYMENT", Duration.ofMillis(250));
+        //then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> !expired.isEmpty());
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(250);
+    }
+}
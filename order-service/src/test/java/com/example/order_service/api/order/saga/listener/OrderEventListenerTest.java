@@ -3,14 +3,16 @@ package com.example.order_service.api.order.saga.listener;
 import com.example.order_service.api.order.domain.model.OrderFailureCode;
 import com.example.order_service.api.order.facade.OrderFacade;
 import com.example.order_service.api.order.facade.event.OrderCreatedEvent;
-import com.example.order_service.api.order.facade.event.PaymentCompletedEvent;
 import com.example.order_service.api.order.facade.event.PaymentFailedEvent;
 import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.infrastructure.executor.SagaLaneExecutor;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaLaneProperties;
 import com.example.order_service.api.order.saga.orchestrator.SagaManager;
 import com.example.order_service.api.order.saga.orchestrator.dto.command.SagaStartCommand;
 import com.example.order_service.api.order.saga.orchestrator.dto.command.SagaStepResultCommand;
 import com.example.order_service.api.order.saga.orchestrator.event.SagaAbortEvent;
 import com.example.order_service.api.order.saga.orchestrator.event.SagaResourceSecuredEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
@@ -37,6 +40,8 @@ public class OrderEventListenerTest {
     private SagaManager sagaManager;
     @Mock
     private OrderFacade orderFacade;
+    @Spy
+    private SagaLaneExecutor sagaLaneExecutor = new SagaLaneExecutor(new SagaLaneProperties(1, 10), new SimpleMeterRegistry());
     public static final String ORDER_NO = "ORD-20260101-AB12FVC";
     @Captor
     private ArgumentCaptor<SagaStepResultCommand> sagaStepResultCaptor;
@@ -96,21 +101,6 @@ public class OrderEventListenerTest {
     @DisplayName("결제 이벤트 수신시")
     class PaymentEvent {
 
-        @Test
-        @DisplayName("결제 성공 이벤트 수신시 Saga를 완료한다")
-        void handlePaymentCompleted(){
-            //given
-            PaymentCompletedEvent event = PaymentCompletedEvent.of(ORDER_NO, 1L, List.of(1L, 2L));
-            //when
-            orderEventListener.handlePaymentCompleted(event);
-            //then
-            verify(sagaManager).handleStepResult(sagaStepResultCaptor.capture());
-            assertThat(sagaStepResultCaptor.getValue())
-                    .extracting(SagaStepResultCommand::getStep, SagaStepResultCommand::getOrderNo, SagaStepResultCommand::isSuccess,
-                            SagaStepResultCommand::getErrorCode, SagaStepResultCommand::getFailureReason)
-                    .containsExactly(SagaStep.PAYMENT, ORDER_NO, true, null, null);
-        }
-
         @Test
         @DisplayName("결제 실패 이벤트 수신시 Saga를 실패처리하고 보상로직을 실행한다")
         void handlePaymentFailed(){
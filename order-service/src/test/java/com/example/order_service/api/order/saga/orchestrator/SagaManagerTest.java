@@ -1,13 +1,18 @@
 package com.example.order_service.api.order.saga.orchestrator;
 
+import com.example.order_service.api.order.saga.domain.model.SagaMode;
 import com.example.order_service.api.order.saga.domain.model.SagaStatus;
 import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.domain.model.SagaStepStatus;
 import com.example.order_service.api.order.saga.domain.model.vo.Payload;
-import com.example.order_service.api.order.saga.domain.service.SagaService;
+import com.example.order_service.api.order.saga.domain.service.SagaStateStore;
 import com.example.order_service.api.order.saga.domain.service.dto.SagaInstanceDto;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaFlowProperties;
+import com.example.order_service.api.order.saga.infrastructure.timer.SagaDeadlineWheel;
 import com.example.order_service.api.order.saga.orchestrator.dto.command.SagaStartCommand;
 import com.example.order_service.api.order.saga.orchestrator.dto.command.SagaStepResultCommand;
 import com.example.order_service.api.order.saga.orchestrator.event.SagaAbortEvent;
+import com.example.order_service.api.order.saga.orchestrator.event.SagaDeadlineExceededEvent;
 import com.example.order_service.api.order.saga.orchestrator.handler.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,8 +25,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static com.example.order_service.api.support.fixture.saga.SagaManagerTestFixture.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,11 +41,15 @@ public class SagaManagerTest {
     private SagaManager sagaManager;
 
     @Mock
-    private SagaService sagaService;
+    private SagaStateStore sagaStateStore;
     @Mock
     private ApplicationEventPublisher eventPublisher;
     @Mock
     private SagaStepHandlerFactory handlerFactory;
+    @Mock
+    private SagaDeadlineWheel sagaDeadlineWheel;
+    @Mock
+    private SagaFlowProperties sagaFlowProperties;
 
     @Captor
     private ArgumentCaptor<Payload> payloadCaptor;
@@ -57,14 +66,14 @@ public class SagaManagerTest {
             SagaStartCommand command = anSagaStartCommand().build();
             SagaInstanceDto sagaInstanceDto = anSagaInstanceDto().build();
             ProductStepHandler mockHandler = mock(ProductStepHandler.class);
-            given(sagaService.initialize(anyString(), any(Payload.class), any(SagaStep.class)))
+            given(sagaStateStore.initialize(anyString(), any(Payload.class), any(SagaStep.class)))
                     .willReturn(sagaInstanceDto);
             given(handlerFactory.getHandler(SagaStep.PRODUCT))
                     .willReturn(mockHandler);
             //when
             sagaManager.startSaga(command);
             //then
-            verify(sagaService).initialize(
+            verify(sagaStateStore).initialize(
                     eq(ORDER_NO),
                     payloadCaptor.capture(),
                     eq(SagaStep.PRODUCT)
@@ -95,8 +104,8 @@ public class SagaManagerTest {
             SagaInstanceDto getSagaInstance = anSagaInstanceDto().sagaStatus(SagaStatus.STARTED).sagaStep(SagaStep.PRODUCT).build();
             SagaInstanceDto updateSagaInstance = anSagaInstanceDto().sagaStatus(SagaStatus.STARTED).sagaStep(SagaStep.COUPON).build();
             CouponStepHandler mockHandler = mock(CouponStepHandler.class);
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.proceedTo(SAGA_ID, SagaStep.COUPON)).willReturn(updateSagaInstance);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.proceedTo(SAGA_ID, SagaStep.COUPON)).willReturn(updateSagaInstance);
             given(handlerFactory.getHandler(SagaStep.COUPON))
                     .willReturn(mockHandler);
             SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.PRODUCT, ORDER_NO, true, null, null);
@@ -104,7 +113,7 @@ public class SagaManagerTest {
             sagaManager.handleStepResult(command);
             //then
             // 상태 변경 검증
-            verify(sagaService).proceedTo(SAGA_ID, SagaStep.COUPON);
+            verify(sagaStateStore).proceedTo(SAGA_ID, SagaStep.COUPON);
             // 이벤트 발행 검증
             verify(mockHandler).process(
                     eq(SAGA_ID),
@@ -128,15 +137,15 @@ public class SagaManagerTest {
                     .payload(anPayload().couponId(null).build())
                     .build();
             UserStepHandler mockHandler = mock(UserStepHandler.class);
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.proceedTo(SAGA_ID, SagaStep.USER)).willReturn(updateSagaInstance);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.proceedTo(SAGA_ID, SagaStep.USER)).willReturn(updateSagaInstance);
             given(handlerFactory.getHandler(SagaStep.USER))
                     .willReturn(mockHandler);
             SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.PRODUCT, ORDER_NO, true, null, null);
             //when
             sagaManager.handleStepResult(command);
             //then
-            verify(sagaService).proceedTo(SAGA_ID, SagaStep.USER);
+            verify(sagaStateStore).proceedTo(SAGA_ID, SagaStep.USER);
             verify(mockHandler).process(
                     eq(SAGA_ID),
                     eq(ORDER_NO),
@@ -159,8 +168,8 @@ public class SagaManagerTest {
                     .payload(anPayload().couponId(null).useToPoint(0L).build())
                     .build();
             PaymentStepHandler mockHandler = mock(PaymentStepHandler.class);
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.proceedTo(SAGA_ID, SagaStep.PAYMENT)).willReturn(updateSagaInstance);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.proceedTo(SAGA_ID, SagaStep.PAYMENT)).willReturn(updateSagaInstance);
             given(handlerFactory.getHandler(SagaStep.PAYMENT))
                     .willReturn(mockHandler);
             SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.PRODUCT, ORDER_NO,
@@ -169,7 +178,7 @@ public class SagaManagerTest {
             sagaManager.handleStepResult(command);
             //then
             // 결제 대기로 상태 변경 확인
-            verify(sagaService).proceedTo(SAGA_ID, SagaStep.PAYMENT);
+            verify(sagaStateStore).proceedTo(SAGA_ID, SagaStep.PAYMENT);
             verify(mockHandler).process(
                     eq(SAGA_ID),
                     eq(ORDER_NO),
@@ -194,14 +203,14 @@ public class SagaManagerTest {
                     .sagaStatus(SagaStatus.FAILED)
                     .sagaStep(SagaStep.PRODUCT)
                     .build();
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.fail(anyLong(), anyString())).willReturn(failSagaInstance);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.fail(anyLong(), anyString())).willReturn(failSagaInstance);
             SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.PRODUCT, ORDER_NO,
                     false, "SUFFICIENT_STOCK", "재고가 부족합니다");
             //when
             sagaManager.handleStepResult(command);
             //then
-            verify(sagaService).fail(SAGA_ID, "재고가 부족합니다");
+            verify(sagaStateStore).fail(SAGA_ID, "재고가 부족합니다");
             verify(eventPublisher).publishEvent(sagaAbortCaptor.capture());
 
             assertThat(sagaAbortCaptor.getValue())
@@ -226,8 +235,8 @@ public class SagaManagerTest {
                     .sagaStatus(SagaStatus.FAILED)
                     .sagaStep(SagaStep.PRODUCT)
                     .build();
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.fail(SAGA_ID, null)).willReturn(failSagaInstance);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.fail(SAGA_ID, null)).willReturn(failSagaInstance);
             SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.PRODUCT, ORDER_NO,
                     true, null, null);
 
@@ -235,7 +244,7 @@ public class SagaManagerTest {
             sagaManager.handleStepResult(command);
             //then
             //사가가 완료됨
-            verify(sagaService).fail(SAGA_ID, null);
+            verify(sagaStateStore).fail(SAGA_ID, null);
         }
     }
 
@@ -256,8 +265,8 @@ public class SagaManagerTest {
                     .sagaStep(SagaStep.USER)
                     .build();
             UserStepHandler mockHandler = mock(UserStepHandler.class);
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.proceedTo(SAGA_ID, SagaStep.USER)).willReturn(updateSagaInstance);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.proceedTo(SAGA_ID, SagaStep.USER)).willReturn(updateSagaInstance);
             given(handlerFactory.getHandler(SagaStep.USER))
                     .willReturn(mockHandler);
             SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.COUPON, ORDER_NO,
@@ -265,7 +274,7 @@ public class SagaManagerTest {
             //when
             sagaManager.handleStepResult(command);
             //then
-            verify(sagaService).proceedTo(SAGA_ID, SagaStep.USER);
+            verify(sagaStateStore).proceedTo(SAGA_ID, SagaStep.USER);
             verify(mockHandler).process(
                     eq(SAGA_ID),
                     eq(ORDER_NO),
@@ -288,8 +297,8 @@ public class SagaManagerTest {
                     .payload(anPayload().useToPoint(0L).build())
                     .build();
             PaymentStepHandler mockHandler = mock(PaymentStepHandler.class);
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.proceedTo(SAGA_ID, SagaStep.PAYMENT)).willReturn(updateSagaInstance);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.proceedTo(SAGA_ID, SagaStep.PAYMENT)).willReturn(updateSagaInstance);
             given(handlerFactory.getHandler(SagaStep.PAYMENT))
                     .willReturn(mockHandler);
             SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.COUPON, ORDER_NO,
@@ -297,7 +306,7 @@ public class SagaManagerTest {
             //when
             sagaManager.handleStepResult(command);
             //then
-            verify(sagaService).proceedTo(SAGA_ID, SagaStep.PAYMENT);
+            verify(sagaStateStore).proceedTo(SAGA_ID, SagaStep.PAYMENT);
             verify(mockHandler).process(
                     eq(SAGA_ID),
                     eq(ORDER_NO),
@@ -323,8 +332,8 @@ public class SagaManagerTest {
                     .sagaStep(SagaStep.PRODUCT)
                     .build();
             ProductStepHandler mockHandler = mock(ProductStepHandler.class);
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.startCompensation(SAGA_ID, SagaStep.PRODUCT, "유효하지 않은 쿠폰입니다"))
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.startCompensation(SAGA_ID, SagaStep.PRODUCT, "유효하지 않은 쿠폰입니다"))
                     .willReturn(updateSagaInstance);
             given(handlerFactory.getHandler(SagaStep.PRODUCT))
                     .willReturn(mockHandler);
@@ -333,7 +342,7 @@ public class SagaManagerTest {
             //when
             sagaManager.handleStepResult(command);
             //then
-            verify(sagaService).startCompensation(SAGA_ID, SagaStep.PRODUCT, "유효하지 않은 쿠폰입니다");
+            verify(sagaStateStore).startCompensation(SAGA_ID, SagaStep.PRODUCT, "유효하지 않은 쿠폰입니다");
             verify(eventPublisher).publishEvent(sagaAbortCaptor.capture());
             assertThat(sagaAbortCaptor.getValue())
                     .extracting(SagaAbortEvent::getSagaId, SagaAbortEvent::getOrderNo, SagaAbortEvent::getUserId, SagaAbortEvent::getFailureCode)
@@ -364,8 +373,8 @@ public class SagaManagerTest {
                     .sagaStep(SagaStep.PRODUCT)
                     .build();
             ProductStepHandler mockHandler = mock(ProductStepHandler.class);
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.continueCompensation(SAGA_ID, SagaStep.PRODUCT))
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.continueCompensation(SAGA_ID, SagaStep.PRODUCT))
                     .willReturn(updateSagaInstance);
             given(handlerFactory.getHandler(SagaStep.PRODUCT))
                     .willReturn(mockHandler);
@@ -375,7 +384,7 @@ public class SagaManagerTest {
             //when
             sagaManager.handleStepResult(command);
             //then
-            verify(sagaService).continueCompensation(SAGA_ID, SagaStep.PRODUCT);
+            verify(sagaStateStore).continueCompensation(SAGA_ID, SagaStep.PRODUCT);
             verify(mockHandler).compensate(
                     eq(SAGA_ID),
                     eq(ORDER_NO),
@@ -401,8 +410,8 @@ public class SagaManagerTest {
                     .sagaStep(SagaStep.PAYMENT)
                     .build();
             PaymentStepHandler mockHandler = mock(PaymentStepHandler.class);
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.proceedTo(SAGA_ID, SagaStep.PAYMENT)).willReturn(updateSagaInstance);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.proceedTo(SAGA_ID, SagaStep.PAYMENT)).willReturn(updateSagaInstance);
             given(handlerFactory.getHandler(SagaStep.PAYMENT))
                     .willReturn(mockHandler);
             SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.USER, ORDER_NO,
@@ -410,7 +419,7 @@ public class SagaManagerTest {
             //when
             sagaManager.handleStepResult(command);
             //then
-            verify(sagaService).proceedTo(SAGA_ID, SagaStep.PAYMENT);
+            verify(sagaStateStore).proceedTo(SAGA_ID, SagaStep.PAYMENT);
             verify(mockHandler).process(
                     eq(SAGA_ID),
                     eq(ORDER_NO),
@@ -436,8 +445,8 @@ public class SagaManagerTest {
                     .sagaStep(SagaStep.COUPON)
                     .build();
             CouponStepHandler mockHandler = mock(CouponStepHandler.class);
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.startCompensation(SAGA_ID, SagaStep.COUPON, "포인트가 부족합니다")).willReturn(updateSagaInstance);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.startCompensation(SAGA_ID, SagaStep.COUPON, "포인트가 부족합니다")).willReturn(updateSagaInstance);
             given(handlerFactory.getHandler(SagaStep.COUPON))
                     .willReturn(mockHandler);
             SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.USER, ORDER_NO,
@@ -445,7 +454,7 @@ public class SagaManagerTest {
             //when
             sagaManager.handleStepResult(command);
             //then
-            verify(sagaService).startCompensation(SAGA_ID, SagaStep.COUPON, "포인트가 부족합니다");
+            verify(sagaStateStore).startCompensation(SAGA_ID, SagaStep.COUPON, "포인트가 부족합니다");
             verify(eventPublisher).publishEvent(sagaAbortCaptor.capture());
             assertThat(sagaAbortCaptor.getValue())
                     .extracting(SagaAbortEvent::getSagaId, SagaAbortEvent::getOrderNo, SagaAbortEvent::getUserId,
@@ -474,8 +483,8 @@ public class SagaManagerTest {
                     .payload(anPayload().couponId(null).build())
                     .build();
             ProductStepHandler mockHandler = mock(ProductStepHandler.class);
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.startCompensation(SAGA_ID, SagaStep.PRODUCT, "포인트가 부족합니다")).willReturn(updateSagaInstance);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.startCompensation(SAGA_ID, SagaStep.PRODUCT, "포인트가 부족합니다")).willReturn(updateSagaInstance);
             given(handlerFactory.getHandler(SagaStep.PRODUCT))
                     .willReturn(mockHandler);
             SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.USER, ORDER_NO,
@@ -483,7 +492,7 @@ public class SagaManagerTest {
             //when
             sagaManager.handleStepResult(command);
             //then
-            verify(sagaService).startCompensation(SAGA_ID, SagaStep.PRODUCT, "포인트가 부족합니다");
+            verify(sagaStateStore).startCompensation(SAGA_ID, SagaStep.PRODUCT, "포인트가 부족합니다");
             verify(eventPublisher).publishEvent(sagaAbortCaptor.capture());
             assertThat(sagaAbortCaptor.getValue())
                     .extracting(SagaAbortEvent::getSagaId, SagaAbortEvent::getOrderNo, SagaAbortEvent::getUserId,
@@ -498,44 +507,183 @@ public class SagaManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("단계가 일치하지 않는 응답")
+    class StepMismatch {
+
+        @Test
+        @DisplayName("이미 종료된 Saga 의 응답이 다시 전달되면 무시한다")
+        void handleStepResult_ignore_terminated_saga() {
+            //given
+            SagaInstanceDto saga = anSagaInstanceDto().sagaStatus(SagaStatus.FINISHED).sagaStep(SagaStep.PAYMENT).build();
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(saga);
+            SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.PAYMENT, ORDER_NO, true, null, null);
+            //when
+            sagaManager.handleStepResult(command);
+            //then
+            verify(sagaStateStore, never()).finish(anyLong());
+            verify(sagaStateStore, never()).continueCompensation(anyLong(), any(SagaStep.class));
+            verifyNoInteractions(handlerFactory, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("행을 잠근 뒤 조회한 단계와 응답 단계가 다르면 응답을 무시한다")
+        void handleStepResult_ignore_stale_reply() {
+            //given
+            SagaInstanceDto saga = anSagaInstanceDto().sagaStatus(SagaStatus.STARTED).sagaStep(SagaStep.USER).build();
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(saga);
+            SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.COUPON, ORDER_NO, true, null, null);
+            //when
+            sagaManager.handleStepResult(command);
+            //then
+            verify(sagaStateStore, never()).proceedTo(anyLong(), any(SagaStep.class));
+            verifyNoInteractions(handlerFactory);
+        }
+    }
+
     @Nested
     @DisplayName("SAGA 타임아웃시")
     class TimeOutSaga {
 
         @Test
-        @DisplayName("타임아웃시 타임아웃된 SAGA를 조회하고 보상을 수행한다")
-        void processTimeouts(){
+        @DisplayName("타임아웃된 SAGA가 여전히 같은 단계에서 진행중이면 보상을 수행한다")
+        void handleTimeout(){
             //given
-            SagaInstanceDto saga1 = anSagaInstanceDto().id(1L).sagaStatus(SagaStatus.STARTED).sagaStep(SagaStep.COUPON).build();
-            SagaInstanceDto saga1_update = anSagaInstanceDto().id(1L).sagaStatus(SagaStatus.COMPENSATING).sagaStep(SagaStep.PRODUCT).build();
-            SagaInstanceDto saga2 = anSagaInstanceDto().id(2L).sagaStatus(SagaStatus.STARTED).sagaStep(SagaStep.COUPON).build();
-            SagaInstanceDto saga2_update = anSagaInstanceDto().id(2L).sagaStatus(SagaStatus.COMPENSATING).sagaStep(SagaStep.PRODUCT).build();
+            SagaInstanceDto saga = anSagaInstanceDto().sagaStatus(SagaStatus.STARTED).sagaStep(SagaStep.COUPON).build();
+            SagaInstanceDto sagaUpdate = anSagaInstanceDto().sagaStatus(SagaStatus.COMPENSATING).sagaStep(SagaStep.PRODUCT).build();
             ProductStepHandler mockHandler = mock(ProductStepHandler.class);
-            given(sagaService.getTimeouts(any(LocalDateTime.class)))
-                    .willReturn(List.of(saga1, saga2));
-            given(sagaService.startCompensation(saga1.getId(), SagaStep.PRODUCT, "사가 처리 지연"))
-                    .willReturn(saga1_update);
-            given(sagaService.startCompensation(saga2.getId(), SagaStep.PRODUCT, "사가 처리 지연"))
-                    .willReturn(saga2_update);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(saga);
+            given(sagaStateStore.startCompensation(SAGA_ID, SagaStep.PRODUCT, "사가 처리 지연"))
+                    .willReturn(sagaUpdate);
             given(handlerFactory.getHandler(SagaStep.PRODUCT))
                     .willReturn(mockHandler);
             //when
-            sagaManager.processTimeouts();
+            sagaManager.handleTimeout(saga);
             //then
-            verify(sagaService).startCompensation(saga1.getId(), SagaStep.PRODUCT, "사가 처리 지연");
-            verify(sagaService).startCompensation(saga2.getId(), SagaStep.PRODUCT, "사가 처리 지연");
-
-            verify(mockHandler).compensate(
-                    eq(saga1.getId()),
-                    eq(ORDER_NO),
-                    any(Payload.class)
-            );
+            verify(sagaStateStore).startCompensation(SAGA_ID, SagaStep.PRODUCT, "사가 처리 지연");
+            verify(eventPublisher).publishEvent(sagaAbortCaptor.capture());
+            assertThat(sagaAbortCaptor.getValue().getFailureCode()).isEqualTo("SAGA_TIMEOUT");
             verify(mockHandler).compensate(
-                    eq(saga2.getId()),
+                    eq(SAGA_ID),
                     eq(ORDER_NO),
                     any(Payload.class)
             );
         }
+
+        @Test
+        @DisplayName("타임아웃 조회 이후 SAGA가 다음 단계로 진행되었다면 보상하지 않는다")
+        void handleTimeout_alreadyProceeded(){
+            //given
+            SagaInstanceDto timedOut = anSagaInstanceDto().sagaStatus(SagaStatus.STARTED).sagaStep(SagaStep.COUPON).build();
+            SagaInstanceDto current = anSagaInstanceDto().sagaStatus(SagaStatus.STARTED).sagaStep(SagaStep.USER).build();
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(current);
+            //when
+            sagaManager.handleTimeout(timedOut);
+            //then
+            verify(sagaStateStore, never()).startCompensation(anyLong(), any(SagaStep.class), anyString());
+            verifyNoInteractions(eventPublisher, handlerFactory);
+        }
+    }
+
+    @Nested
+    @DisplayName("SAGA 단계 만료시")
+    class DeadlineExceeded {
+
+        @Test
+        @DisplayName("단계 명령을 발행하면 해당 단계의 만료를 등록한다")
+        void processStep_registerDeadline() {
+            //given
+            SagaInstanceDto sagaInstanceDto = anSagaInstanceDto().build();
+            given(sagaStateStore.initialize(anyString(), any(Payload.class), any(SagaStep.class)))
+                    .willReturn(sagaInstanceDto);
+            given(handlerFactory.getHandler(SagaStep.PRODUCT))
+                    .willReturn(mock(ProductStepHandler.class));
+            //when
+            sagaManager.startSaga(anSagaStartCommand().build());
+            //then
+            verify(sagaDeadlineWheel).register(sagaInstanceDto);
+        }
+
+        @Test
+        @DisplayName("진행중인 단계가 만료되면 보상을 시작한다")
+        void handleDeadlineExceeded_started() {
+            //given
+            SagaInstanceDto saga = anSagaInstanceDto().sagaStatus(SagaStatus.STARTED).sagaStep(SagaStep.COUPON).build();
+            SagaInstanceDto sagaUpdate = anSagaInstanceDto().sagaStatus(SagaStatus.COMPENSATING).sagaStep(SagaStep.PRODUCT).build();
+            ProductStepHandler mockHandler = mock(ProductStepHandler.class);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(saga);
+            given(sagaStateStore.startCompensation(SAGA_ID, SagaStep.PRODUCT, "사가 처리 지연")).willReturn(sagaUpdate);
+            given(handlerFactory.getHandler(SagaStep.PRODUCT)).willReturn(mockHandler);
+            SagaDeadlineExceededEvent event = SagaDeadlineExceededEvent.of(SAGA_ID, ORDER_NO, SagaStep.COUPON, SagaStatus.STARTED);
+            //when
+            sagaManager.handleDeadlineExceeded(event);
+            //then
+            verify(mockHandler).compensate(eq(SAGA_ID), eq(ORDER_NO), any(Payload.class));
+            verify(sagaDeadlineWheel).register(sagaUpdate);
+        }
+
+        @Test
+        @DisplayName("보상중인 단계가 만료되면 보상 명령을 재발행한다")
+        void handleDeadlineExceeded_compensating() {
+            //given
+            SagaInstanceDto saga = anSagaInstanceDto().sagaStatus(SagaStatus.COMPENSATING).sagaStep(SagaStep.PRODUCT).build();
+            SagaInstanceDto retrySaga = anSagaInstanceDto().sagaStatus(SagaStatus.COMPENSATING).sagaStep(SagaStep.PRODUCT)
+                    .compensationAttempts(1).build();
+            ProductStepHandler mockHandler = mock(ProductStepHandler.class);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(saga);
+            given(sagaStateStore.retryCompensation(SAGA_ID)).willReturn(retrySaga);
+            given(handlerFactory.getHandler(SagaStep.PRODUCT)).willReturn(mockHandler);
+            SagaDeadlineExceededEvent event = SagaDeadlineExceededEvent.of(SAGA_ID, ORDER_NO, SagaStep.PRODUCT, SagaStatus.COMPENSATING);
+            //when
+            sagaManager.handleDeadlineExceeded(event);
+            //then
+            verify(mockHandler).compensate(eq(SAGA_ID), eq(ORDER_NO), any(Payload.class));
+            verify(sagaDeadlineWheel).register(retrySaga);
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("보상 재발행 횟수를 모두 사용하면 더이상 재발행하지 않고 Saga 를 실패로 종료한다")
+        void handleDeadlineExceeded_compensationExhausted() {
+            //given
+            SagaInstanceDto saga = anSagaInstanceDto().sagaStatus(SagaStatus.COMPENSATING).sagaStep(SagaStep.PRODUCT)
+                    .compensationAttempts(10).build();
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(saga);
+            given(sagaDeadlineWheel.isCompensationExhausted(saga)).willReturn(true);
+            SagaDeadlineExceededEvent event = SagaDeadlineExceededEvent.of(SAGA_ID, ORDER_NO, SagaStep.PRODUCT, SagaStatus.COMPENSATING);
+            //when
+            sagaManager.handleDeadlineExceeded(event);
+            //then
+            verify(sagaStateStore).fail(SAGA_ID, "보상 재시도 횟수 초과");
+            verify(sagaDeadlineWheel).cancel(ORDER_NO);
+            verify(sagaStateStore, never()).retryCompensation(anyLong());
+            verifyNoInteractions(handlerFactory);
+        }
+
+        @Test
+        @DisplayName("만료된 단계가 이미 진행되었다면 무시한다")
+        void handleDeadlineExceeded_alreadyProceeded() {
+            //given
+            SagaInstanceDto saga = anSagaInstanceDto().sagaStatus(SagaStatus.STARTED).sagaStep(SagaStep.USER).build();
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(saga);
+            SagaDeadlineExceededEvent event = SagaDeadlineExceededEvent.of(SAGA_ID, ORDER_NO, SagaStep.COUPON, SagaStatus.STARTED);
+            //when
+            sagaManager.handleDeadlineExceeded(event);
+            //then
+            verifyNoInteractions(handlerFactory, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Saga가 종료되면 등록된 만료를 취소한다")
+        void finish_cancelDeadline() {
+            //given
+            SagaInstanceDto saga = anSagaInstanceDto().sagaStatus(SagaStatus.STARTED).sagaStep(SagaStep.PAYMENT).build();
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(saga);
+            //when
+            sagaManager.handleStepResult(SagaStepResultCommand.of(SagaStep.PAYMENT, ORDER_NO, true, null, null));
+            //then
+            verify(sagaDeadlineWheel).cancel(ORDER_NO);
+        }
     }
 
     @Nested
@@ -554,14 +702,14 @@ public class SagaManagerTest {
                     .sagaStatus(SagaStatus.FINISHED)
                     .sagaStep(SagaStep.PAYMENT)
                     .build();
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.finish(SAGA_ID)).willReturn(updateSagaInstance);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.finish(SAGA_ID)).willReturn(updateSagaInstance);
             SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.PAYMENT, ORDER_NO,
                     true, null, null);
             //when
             sagaManager.handleStepResult(command);
             //then
-            verify(sagaService, times(1)).finish(SAGA_ID);
+            verify(sagaStateStore, times(1)).finish(SAGA_ID);
         }
     }
 
@@ -582,8 +730,8 @@ public class SagaManagerTest {
                     .sagaStep(SagaStep.USER)
                     .build();
             UserStepHandler mockHandler = mock(UserStepHandler.class);
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.startCompensation(SAGA_ID, SagaStep.USER, "잔액이 부족합니다"))
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.startCompensation(SAGA_ID, SagaStep.USER, "잔액이 부족합니다"))
                     .willReturn(updateSagaInstance);
             given(handlerFactory.getHandler(SagaStep.USER))
                     .willReturn(mockHandler);
@@ -592,7 +740,7 @@ public class SagaManagerTest {
             //when
             sagaManager.handleStepResult(command);
             //then
-            verify(sagaService).startCompensation(SAGA_ID, SagaStep.USER, "잔액이 부족합니다");
+            verify(sagaStateStore).startCompensation(SAGA_ID, SagaStep.USER, "잔액이 부족합니다");
             verify(eventPublisher).publishEvent(sagaAbortCaptor.capture());
             assertThat(sagaAbortCaptor.getValue())
                     .extracting(SagaAbortEvent::getSagaId, SagaAbortEvent::getOrderNo, SagaAbortEvent::getUserId,
@@ -621,8 +769,8 @@ public class SagaManagerTest {
                     .payload(anPayload().useToPoint(0L).build())
                     .build();
             CouponStepHandler mockHandler = mock(CouponStepHandler.class);
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.startCompensation(SAGA_ID, SagaStep.COUPON, "잔액이 부족합니다"))
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.startCompensation(SAGA_ID, SagaStep.COUPON, "잔액이 부족합니다"))
                     .willReturn(updateSagaInstance);
             given(handlerFactory.getHandler(SagaStep.COUPON))
                     .willReturn(mockHandler);
@@ -631,7 +779,7 @@ public class SagaManagerTest {
             //when
             sagaManager.handleStepResult(command);
             //then
-            verify(sagaService).startCompensation(SAGA_ID, SagaStep.COUPON, "잔액이 부족합니다");
+            verify(sagaStateStore).startCompensation(SAGA_ID, SagaStep.COUPON, "잔액이 부족합니다");
             verify(eventPublisher).publishEvent(sagaAbortCaptor.capture());
             assertThat(sagaAbortCaptor.getValue())
                     .extracting(SagaAbortEvent::getSagaId, SagaAbortEvent::getOrderNo, SagaAbortEvent::getUserId,
@@ -660,8 +808,8 @@ public class SagaManagerTest {
                     .payload(anPayload().useToPoint(0L).couponId(null).build())
                     .build();
             ProductStepHandler mockHandler = mock(ProductStepHandler.class);
-            given(sagaService.getSagaByOrderNo(ORDER_NO)).willReturn(getSagaInstance);
-            given(sagaService.startCompensation(SAGA_ID, SagaStep.PRODUCT, "잔액이 부족합니다"))
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(getSagaInstance);
+            given(sagaStateStore.startCompensation(SAGA_ID, SagaStep.PRODUCT, "잔액이 부족합니다"))
                     .willReturn(updateSagaInstance);
             given(handlerFactory.getHandler(SagaStep.PRODUCT))
                     .willReturn(mockHandler);
@@ -670,7 +818,7 @@ public class SagaManagerTest {
             //when
             sagaManager.handleStepResult(command);
             //then
-            verify(sagaService).startCompensation(SAGA_ID, SagaStep.PRODUCT, "잔액이 부족합니다");
+            verify(sagaStateStore).startCompensation(SAGA_ID, SagaStep.PRODUCT, "잔액이 부족합니다");
             verify(eventPublisher).publishEvent(sagaAbortCaptor.capture());
             assertThat(sagaAbortCaptor.getValue())
                     .extracting(SagaAbortEvent::getSagaId, SagaAbortEvent::getOrderNo, SagaAbortEvent::getUserId,
@@ -684,4 +832,161 @@ public class SagaManagerTest {
             );
         }
     }
+
+    @Nested
+    @DisplayName("병렬 모드")
+    class ParallelSaga {
+
+        @Test
+        @DisplayName("병렬 모드에서는 상품, 쿠폰, 포인트 예약 명령을 한번에 발행한다")
+        void startSaga_parallel() {
+            //given
+            SagaStartCommand command = anSagaStartCommand().build();
+            SagaInstanceDto sagaInstanceDto = anParallelSagaInstanceDto().build();
+            ProductStepHandler productHandler = mock(ProductStepHandler.class);
+            CouponStepHandler couponHandler = mock(CouponStepHandler.class);
+            UserStepHandler userHandler = mock(UserStepHandler.class);
+            given(sagaFlowProperties.mode()).willReturn(SagaMode.PARALLEL);
+            given(sagaStateStore.initializeParallel(eq(ORDER_NO), any(Payload.class),
+                    eq(List.of(SagaStep.PRODUCT, SagaStep.COUPON, SagaStep.USER))))
+                    .willReturn(sagaInstanceDto);
+            given(handlerFactory.getHandler(SagaStep.PRODUCT)).willReturn(productHandler);
+            given(handlerFactory.getHandler(SagaStep.COUPON)).willReturn(couponHandler);
+            given(handlerFactory.getHandler(SagaStep.USER)).willReturn(userHandler);
+            //when
+            sagaManager.startSaga(command);
+            //then
+            verify(productHandler).process(eq(SAGA_ID), eq(ORDER_NO), any(Payload.class));
+            verify(couponHandler).process(eq(SAGA_ID), eq(ORDER_NO), any(Payload.class));
+            verify(userHandler).process(eq(SAGA_ID), eq(ORDER_NO), any(Payload.class));
+            verify(sagaDeadlineWheel).register(sagaInstanceDto);
+            verify(sagaStateStore, never()).initialize(anyString(), any(Payload.class), any(SagaStep.class));
+        }
+
+        @Test
+        @DisplayName("예약 단계 중 일부만 성공했다면 결제 단계로 진행하지 않는다")
+        void handleStepResult_parallel_partialSuccess() {
+            //given
+            SagaInstanceDto saga = anParallelSagaInstanceDto()
+                    .stepStates(Map.of(SagaStep.PRODUCT, SagaStepStatus.PENDING, SagaStep.COUPON, SagaStepStatus.PENDING))
+                    .build();
+            SagaInstanceDto updateSaga = anParallelSagaInstanceDto()
+                    .stepStates(Map.of(SagaStep.PRODUCT, SagaStepStatus.SUCCEEDED, SagaStep.COUPON, SagaStepStatus.PENDING))
+                    .build();
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(saga);
+            given(sagaStateStore.changeStepStatus(SAGA_ID, SagaStep.PRODUCT, SagaStepStatus.SUCCEEDED)).willReturn(updateSaga);
+            SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.PRODUCT, ORDER_NO, true, null, null);
+            //when
+            sagaManager.handleStepResult(command);
+            //then
+            verify(sagaStateStore).changeStepStatus(SAGA_ID, SagaStep.PRODUCT, SagaStepStatus.SUCCEEDED);
+            verify(sagaStateStore, never()).proceedTo(anyLong(), any(SagaStep.class));
+        }
+
+        @Test
+        @DisplayName("모든 예약 단계가 성공하면 결제 단계로 진행한다")
+        void handleStepResult_parallel_allSucceeded() {
+            //given
+            SagaInstanceDto saga = anParallelSagaInstanceDto()
+                    .stepStates(Map.of(SagaStep.PRODUCT, SagaStepStatus.SUCCEEDED, SagaStep.COUPON, SagaStepStatus.PENDING))
+                    .build();
+            SagaInstanceDto updateSaga = anParallelSagaInstanceDto()
+                    .stepStates(Map.of(SagaStep.PRODUCT, SagaStepStatus.SUCCEEDED, SagaStep.COUPON, SagaStepStatus.SUCCEEDED))
+                    .build();
+            SagaInstanceDto paymentSaga = anParallelSagaInstanceDto().sagaStep(SagaStep.PAYMENT).build();
+            PaymentStepHandler paymentHandler = mock(PaymentStepHandler.class);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(saga);
+            given(sagaStateStore.changeStepStatus(SAGA_ID, SagaStep.COUPON, SagaStepStatus.SUCCEEDED)).willReturn(updateSaga);
+            given(sagaStateStore.proceedTo(SAGA_ID, SagaStep.PAYMENT)).willReturn(paymentSaga);
+            given(handlerFactory.getHandler(SagaStep.PAYMENT)).willReturn(paymentHandler);
+            SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.COUPON, ORDER_NO, true, null, null);
+            //when
+            sagaManager.handleStepResult(command);
+            //then
+            verify(paymentHandler).process(eq(SAGA_ID), eq(ORDER_NO), any(Payload.class));
+            verify(sagaDeadlineWheel).register(paymentSaga);
+        }
+
+        @Test
+        @DisplayName("예약 단계가 실패하면 성공한 단계만 보상한다")
+        void handleStepResult_parallel_fail_compensateSucceededOnly() {
+            //given
+            SagaInstanceDto saga = anParallelSagaInstanceDto()
+                    .stepStates(Map.of(SagaStep.PRODUCT, SagaStepStatus.SUCCEEDED, SagaStep.COUPON, SagaStepStatus.PENDING,
+                            SagaStep.USER, SagaStepStatus.PENDING))
+                    .build();
+            SagaInstanceDto failedSaga = anParallelSagaInstanceDto()
+                    .stepStates(Map.of(SagaStep.PRODUCT, SagaStepStatus.SUCCEEDED, SagaStep.COUPON, SagaStepStatus.FAILED,
+                            SagaStep.USER, SagaStepStatus.PENDING))
+                    .build();
+            SagaInstanceDto compensatingSaga = anParallelSagaInstanceDto()
+                    .sagaStatus(SagaStatus.COMPENSATING)
+                    .stepStates(Map.of(SagaStep.PRODUCT, SagaStepStatus.COMPENSATING, SagaStep.COUPON, SagaStepStatus.FAILED,
+                            SagaStep.USER, SagaStepStatus.PENDING))
+                    .build();
+            ProductStepHandler productHandler = mock(ProductStepHandler.class);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(saga);
+            given(sagaStateStore.changeStepStatus(SAGA_ID, SagaStep.COUPON, SagaStepStatus.FAILED)).willReturn(failedSaga);
+            given(sagaStateStore.startParallelCompensation(SAGA_ID, "유효하지 않은 쿠폰")).willReturn(compensatingSaga);
+            given(handlerFactory.getHandler(SagaStep.PRODUCT)).willReturn(productHandler);
+            SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.COUPON, ORDER_NO, false,
+                    "INVALID_COUPON", "유효하지 않은 쿠폰");
+            //when
+            sagaManager.handleStepResult(command);
+            //then
+            verify(eventPublisher).publishEvent(sagaAbortCaptor.capture());
+            assertThat(sagaAbortCaptor.getValue().getFailureCode()).isEqualTo("INVALID_COUPON");
+            verify(productHandler).compensate(eq(SAGA_ID), eq(ORDER_NO), any(Payload.class));
+            verify(handlerFactory, never()).getHandler(SagaStep.COUPON);
+            verify(handlerFactory, never()).getHandler(SagaStep.USER);
+            verify(sagaDeadlineWheel).register(compensatingSaga);
+            verify(sagaStateStore, never()).fail(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("보상이 시작된 이후 늦게 도착한 성공 응답은 해당 단계를 보상한다")
+        void handleStepResult_parallel_lateSuccess() {
+            //given
+            SagaInstanceDto saga = anParallelSagaInstanceDto()
+                    .sagaStatus(SagaStatus.COMPENSATING)
+                    .stepStates(Map.of(SagaStep.PRODUCT, SagaStepStatus.COMPENSATING, SagaStep.USER, SagaStepStatus.PENDING))
+                    .build();
+            SagaInstanceDto updateSaga = anParallelSagaInstanceDto()
+                    .sagaStatus(SagaStatus.COMPENSATING)
+                    .stepStates(Map.of(SagaStep.PRODUCT, SagaStepStatus.COMPENSATING, SagaStep.USER, SagaStepStatus.COMPENSATING))
+                    .build();
+            UserStepHandler userHandler = mock(UserStepHandler.class);
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(saga);
+            given(sagaStateStore.changeStepStatus(SAGA_ID, SagaStep.USER, SagaStepStatus.COMPENSATING)).willReturn(updateSaga);
+            given(handlerFactory.getHandler(SagaStep.USER)).willReturn(userHandler);
+            SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.USER, ORDER_NO, true, null, null);
+            //when
+            sagaManager.handleStepResult(command);
+            //then
+            verify(userHandler).compensate(eq(SAGA_ID), eq(ORDER_NO), any(Payload.class));
+            verify(sagaStateStore, never()).fail(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("마지막 보상 단계가 완료되면 Saga 를 실패로 종료한다")
+        void handleStepResult_parallel_compensationCompleted() {
+            //given
+            SagaInstanceDto saga = anParallelSagaInstanceDto()
+                    .sagaStatus(SagaStatus.COMPENSATING)
+                    .stepStates(Map.of(SagaStep.PRODUCT, SagaStepStatus.COMPENSATING, SagaStep.COUPON, SagaStepStatus.FAILED))
+                    .build();
+            SagaInstanceDto updateSaga = anParallelSagaInstanceDto()
+                    .sagaStatus(SagaStatus.COMPENSATING)
+                    .stepStates(Map.of(SagaStep.PRODUCT, SagaStepStatus.COMPENSATED, SagaStep.COUPON, SagaStepStatus.FAILED))
+                    .build();
+            given(sagaStateStore.lock(ORDER_NO)).willReturn(saga);
+            given(sagaStateStore.changeStepStatus(SAGA_ID, SagaStep.PRODUCT, SagaStepStatus.COMPENSATED)).willReturn(updateSaga);
+            SagaStepResultCommand command = SagaStepResultCommand.of(SagaStep.PRODUCT, ORDER_NO, true, null, null);
+            //when
+            sagaManager.handleStepResult(command);
+            //then
+            verify(sagaStateStore).fail(SAGA_ID, null);
+            verify(sagaDeadlineWheel).cancel(ORDER_NO);
+        }
+    }
 }
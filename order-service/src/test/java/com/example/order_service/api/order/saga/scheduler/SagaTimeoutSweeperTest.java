@@ -0,0 +1,108 @@
+package com.example.order_service.api.order.saga.scheduler;
+
+import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.domain.service.SagaLeaseService;
+import com.example.order_service.api.order.saga.domain.service.SagaService;
+import com.example.order_service.api.order.saga.domain.service.dto.SagaInstanceDto;
+import com.example.order_service.api.order.saga.infrastructure.executor.SagaLaneExecutor;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaLaneProperties;
+import com.example.order_service.api.order.saga.infrastructure.properties.SagaTimeoutProperties;
+import com.example.order_service.api.order.saga.orchestrator.SagaManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.order_service.api.support.fixture.saga.SagaManagerTestFixture.anSagaInstanceDto;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SagaTimeoutSweeperTest {
+
+    @Mock
+    private SagaService sagaService;
+    @Mock
+    private SagaLeaseService sagaLeaseService;
+    @Mock
+    private SagaManager sagaManager;
+    private SagaLaneExecutor sagaLaneExecutor;
+    private SagaTimeoutSweeper sagaTimeoutSweeper;
+
+    @BeforeEach
+    void setUp() {
+        sagaLaneExecutor = new SagaLaneExecutor(new SagaLaneProperties(2, 10), new SimpleMeterRegistry());
+        SagaTimeoutProperties properties = new SagaTimeoutProperties(Duration.ofMinutes(10),
+                Map.of(SagaStep.PAYMENT, Duration.ofMinutes(30)), 2, Duration.ofMinutes(1));
+        sagaTimeoutSweeper = new SagaTimeoutSweeper(sagaService, sagaLeaseService, sagaManager, sagaLaneExecutor, properties);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sagaLaneExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("lease 를 획득하지 못하면 타임아웃을 조회하지 않는다")
+    void sweep_withoutLease() {
+        //given
+        given(sagaLeaseService.tryAcquire(eq(SagaTimeoutSweeper.LEASE_NAME), anyString(), any(Duration.class)))
+                .willReturn(false);
+        //when
+        sagaTimeoutSweeper.sweep();
+        //then
+        verifyNoInteractions(sagaService, sagaManager);
+    }
+
+    @Test
+    @DisplayName("타임아웃된 Saga 를 페이지 단위로 조회해 마지막 항목을 커서로 다음 페이지를 조회한다")
+    void sweep_keysetPaging() {
+        //given
+        LocalDateTime startedAt = LocalDateTime.of(2025, 12, 22, 23, 0, 0);
+        SagaInstanceDto saga1 = anSagaInstanceDto().id(1L).orderNo("ORD-1").stepStartedAt(startedAt).build();
+        SagaInstanceDto saga2 = anSagaInstanceDto().id(2L).orderNo("ORD-2").stepStartedAt(startedAt).build();
+        SagaInstanceDto saga3 = anSagaInstanceDto().id(3L).orderNo("ORD-3").stepStartedAt(startedAt.plusSeconds(1)).build();
+        given(sagaLeaseService.tryAcquire(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        given(sagaService.getTimeouts(any(SagaStep.class), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), eq(2)))
+                .willReturn(List.of());
+        given(sagaService.getTimeouts(eq(SagaStep.PRODUCT), any(LocalDateTime.class), eq(LocalDateTime.of(1970, 1, 1, 0, 0)), eq(0L), eq(2)))
+                .willReturn(List.of(saga1, saga2));
+        given(sagaService.getTimeouts(eq(SagaStep.PRODUCT), any(LocalDateTime.class), eq(startedAt), eq(2L), eq(2)))
+                .willReturn(List.of(saga3));
+        //when
+        sagaTimeoutSweeper.sweep();
+        //then
+        verify(sagaManager).handleTimeout(saga1);
+        verify(sagaManager).handleTimeout(saga2);
+        verify(sagaManager).handleTimeout(saga3);
+    }
+
+    @Test
+    @DisplayName("단계별로 설정된 타임아웃 시간을 기준으로 조회한다")
+    void sweep_stepTimeout() {
+        //given
+        given(sagaLeaseService.tryAcquire(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        given(sagaService.getTimeouts(any(SagaStep.class), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), anyInt()))
+                .willReturn(List.of());
+        LocalDateTime before = LocalDateTime.now();
+        //when
+        sagaTimeoutSweeper.sweep();
+        //then
+        verify(sagaService).getTimeouts(eq(SagaStep.PAYMENT),
+                argThat(timeout -> timeout.isBefore(before.minusMinutes(29)) && timeout.isAfter(before.minusMinutes(31))),
+                any(LocalDateTime.class), anyLong(), anyInt());
+        verify(sagaService).getTimeouts(eq(SagaStep.PRODUCT),
+                argThat(timeout -> timeout.isBefore(before.minusMinutes(9)) && timeout.isAfter(before.minusMinutes(11))),
+                any(LocalDateTime.class), anyLong(), anyInt());
+    }
+}
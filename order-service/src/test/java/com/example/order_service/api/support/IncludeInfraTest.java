@@ -38,7 +38,7 @@ import java.util.UUID;
         brokerProperties = {"listeners=PLAINTEXT://127.0.0.1:0"},
         topics = {
                 "product.saga.command", "coupon.saga.command", "user.saga.command",
-                "product.saga.reply", "coupon.saga.reply", "user.saga.reply"
+                "product.saga.reply", "coupon.saga.reply", "user.saga.reply", "order.payment.saga.reply"
         }
 )
 public abstract class IncludeInfraTest {
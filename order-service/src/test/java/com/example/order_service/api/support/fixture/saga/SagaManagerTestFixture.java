@@ -1,5 +1,6 @@
 package com.example.order_service.api.support.fixture.saga;
 
+import com.example.order_service.api.order.saga.domain.model.SagaMode;
 import com.example.order_service.api.order.saga.domain.model.SagaStatus;
 import com.example.order_service.api.order.saga.domain.model.SagaStep;
 import com.example.order_service.api.order.saga.domain.model.vo.Payload;
@@ -38,7 +39,14 @@ public class SagaManagerTestFixture {
                 .sagaStep(SagaStep.PRODUCT)
                 .sagaStatus(SagaStatus.STARTED)
                 .payload(anPayload().build())
-                .startedAt(LocalDateTime.now());
+                .startedAt(LocalDateTime.now())
+                .stepStartedAt(LocalDateTime.now());
+    }
+
+    public static SagaInstanceDto.SagaInstanceDtoBuilder anParallelSagaInstanceDto() {
+        return anSagaInstanceDto()
+                .sagaMode(SagaMode.PARALLEL)
+                .sagaStep(SagaStep.RESERVATION);
     }
 
     public static Payload.PayloadBuilder anPayload() {
@@ -0,0 +1,164 @@
+package com.example.order_service.benchmark.cart;
+
+import com.example.order_service.api.cart.domain.repository.CartItemRepository;
+import com.example.order_service.api.cart.domain.repository.CartRepository;
+import com.example.order_service.api.cart.domain.repository.CartStore;
+import com.example.order_service.api.cart.domain.service.dto.result.CartItemDto;
+import com.example.order_service.api.cart.facade.dto.command.CartCommand;
+import com.example.order_service.api.cart.infrastructure.store.JpaCartStore;
+import com.example.order_service.support.annotation.MockKafka;
+import com.example.order_service.support.annotation.WithRedis;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA 장바구니 저장소와 Redis 해시 장바구니 저장소의 상품 추가 / 조회 지연 시간 비교
+ * <p>
+ * 유저마다 상품을 담은 뒤 장바구니 조회와 같은 상품 추가를 반복한다.
+ * <p>
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest
+@WithRedis @MockKafka
+@TestPropertySource(properties = "order.cart.store=redis")
+public class CartStoreBenchmarkTest {
+    private static final int USERS = 200;
+    private static final int ITEMS_PER_CART = 20;
+    private static final int ROUNDS = 20;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private CartStore redisCartStore;
+    @Autowired
+    private CartRepository cartRepository;
+    @Autowired
+    private CartItemRepository cartItemRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("JPA 와 Redis 장바구니 저장소의 조회, 추가 지연 시간을 비교한다")
+    void compare() throws Exception {
+        //given
+        // 빈으로 등록되지 않은 JPA 저장소는 트랜잭션 템플릿으로 감싸 실행한다
+        JpaCartStore jpa = new JpaCartStore(cartRepository, cartItemRepository);
+        CartStore jpaCartStore = transactional(jpa);
+        //when
+        Result jpaResult = run(jpaCartStore, 1_000_000L);
+        Result redisResult = run(redisCartStore, 2_000_000L);
+        //then
+        System.out.printf("[JPA]   get p50=%dus p99=%dus, add p50=%dus p99=%dus%n",
+                jpaResult.getP50(), jpaResult.getP99(), jpaResult.addP50(), jpaResult.addP99());
+        System.out.printf("[Redis] get p50=%dus p99=%dus, add p50=%dus p99=%dus%n",
+                redisResult.getP50(), redisResult.getP99(), redisResult.addP50(), redisResult.addP99());
+        assertThat(redisResult.gets()).hasSize(USERS * ROUNDS);
+        assertThat(jpaResult.gets()).hasSize(USERS * ROUNDS);
+    }
+
+    private Result run(CartStore cartStore, long userIdOffset) throws Exception {
+        List<CartCommand.Item> items = LongStream.rangeClosed(1, ITEMS_PER_CART)
+                .mapToObj(id -> CartCommand.Item.builder().productVariantId(id).quantity(1).build())
+                .toList();
+        List<Long> gets = Collections.synchronizedList(new ArrayList<>());
+        List<Long> adds = Collections.synchronizedList(new ArrayList<>());
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long userId = userIdOffset; userId < userIdOffset + USERS; userId++) {
+                long id = userId;
+                futures.add(executor.submit(() -> {
+                    cartStore.addItems(id, items);
+                    for (int round = 0; round < ROUNDS; round++) {
+                        gets.add(measure(() -> cartStore.getItems(id)));
+                        adds.add(measure(() -> cartStore.addItems(id, List.of(items.get(0)))));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return new Result(gets, adds);
+    }
+
+    private long measure(Supplier<?> task) {
+        long start = System.nanoTime();
+        task.get();
+        return (System.nanoTime() - start) / 1_000;
+    }
+
+    private CartStore transactional(JpaCartStore store) {
+        return new CartStore() {
+            @Override
+            public List<CartItemDto> addItems(Long userId, List<CartCommand.Item> items) {
+                return transactionTemplate.execute(status -> store.addItems(userId, items));
+            }
+
+            @Override
+            public CartItemDto getItem(Long userId, Long cartItemId) {
+                return transactionTemplate.execute(status -> store.getItem(userId, cartItemId));
+            }
+
+            @Override
+            public List<CartItemDto> getItems(Long userId) {
+                return transactionTemplate.execute(status -> store.getItems(userId));
+            }
+
+            @Override
+            public CartItemDto updateQuantity(Long userId, Long cartItemId, int quantity) {
+                return transactionTemplate.execute(status -> store.updateQuantity(userId, cartItemId, quantity));
+            }
+
+            @Override
+            public void deleteItems(Long userId, List<Long> cartItemIds) {
+                transactionTemplate.executeWithoutResult(status -> store.deleteItems(userId, cartItemIds));
+            }
+
+            @Override
+            public void deleteByProductVariantIds(Long userId, List<Long> productVariantIds) {
+                transactionTemplate.executeWithoutResult(status -> store.deleteByProductVariantIds(userId, productVariantIds));
+            }
+        };
+    }
+
+    private record Result(List<Long> gets, List<Long> adds) {
+        long getP50() {
+            return percentile(gets, 0.50);
+        }
+
+        long getP99() {
+            return percentile(gets, 0.99);
+        }
+
+        long addP50() {
+            return percentile(adds, 0.50);
+        }
+
+        long addP99() {
+            return percentile(adds, 0.99);
+        }
+
+        private static long percentile(List<Long> latencies, double percentile) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            return sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.order_service.benchmark.order;
+
+import com.example.order_service.api.common.util.AsyncUtil;
+import com.example.order_service.api.order.domain.service.OrderCouponService;
+import com.example.order_service.api.order.domain.service.OrderPriceCalculator;
+import com.example.order_service.api.order.domain.service.OrderProductService;
+import com.example.order_service.api.order.domain.service.OrderUserService;
+import com.example.order_service.api.order.domain.service.dto.result.OrderCouponInfo;
+import com.example.order_service.api.order.domain.service.dto.result.OrderProductAmount;
+import com.example.order_service.api.order.domain.service.dto.result.OrderProductInfo;
+import com.example.order_service.api.order.domain.service.dto.result.OrderUserInfo;
+import com.example.order_service.api.order.facade.OrderPreparationPipeline;
+import com.example.order_service.api.order.facade.dto.OrderPreparationData;
+import com.example.order_service.api.order.facade.dto.command.CreateOrderCommand;
+import com.example.order_service.api.order.infrastructure.properties.OrderPreparationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+import static com.example.order_service.api.support.fixture.order.OrderCommandFixture.anOrderCommand;
+import static com.example.order_service.api.support.fixture.order.OrderCouponFixture.anOrderCouponInfo;
+import static com.example.order_service.api.support.fixture.order.OrderPriceFixture.anOrderProductAmount;
+import static com.example.order_service.api.support.fixture.order.OrderProductFixture.anOrderProductInfo;
+import static com.example.order_service.api.support.fixture.order.OrderUserFixture.anOrderUserInfo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 기존 applicationTaskExecutor 기반 조회와 가상 스레드 파이프라인의 p99 지연 시간 비교
+ * <p>
+ * 외부 서비스 호출은 고정 지연으로 대체하고, 톰캣 요청 스레드 수만큼 동시에 주문 준비를 요청한다.
+ * <p>
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+public class OrderPreparationBenchmarkTest {
+    private static final int REQUEST_THREADS = 200;
+    private static final int REQUESTS = 2000;
+    private static final long DEPENDENCY_LATENCY_MS = 50;
+
+    private final OrderUserService orderUserService = mock(OrderUserService.class);
+    private final OrderProductService orderProductService = mock(OrderProductService.class);
+    private final OrderCouponService orderCouponService = mock(OrderCouponService.class);
+    private final OrderPriceCalculator calculator = mock(OrderPriceCalculator.class);
+    private ThreadPoolTaskExecutor applicationTaskExecutor;
+
+    @BeforeEach
+    void setUp() {
+        willAnswer(invocation -> delay(anOrderUserInfo().build())).given(orderUserService).getUser(anyLong(), anyLong());
+        willAnswer(invocation -> delay(List.of(anOrderProductInfo().build()))).given(orderProductService).getProducts(anyList());
+        willAnswer(invocation -> delay(anOrderCouponInfo().build())).given(orderCouponService).calculateCouponDiscount(anyLong(), anyLong(), any());
+        willAnswer(invocation -> anOrderProductAmount().build()).given(calculator).calculateItemAmounts(anyList(), anyList());
+
+        // 스프링 부트 기본 applicationTaskExecutor 와 같은 설정
+        applicationTaskExecutor = new ThreadPoolTaskExecutor();
+        applicationTaskExecutor.setCorePoolSize(8);
+        applicationTaskExecutor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicationTaskExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("가상 스레드 파이프라인의 p99 지연 시간이 기존 실행기보다 짧다")
+    void compareP99() throws Exception {
+        //given
+        Duration timeout = Duration.ofSeconds(30);
+        OrderPreparationPipeline pipeline = new OrderPreparationPipeline(orderUserService, orderProductService,
+                orderCouponService, calculator, new OrderPreparationProperties(timeout, timeout, timeout));
+        CreateOrderCommand command = anOrderCommand().build();
+        //when
+        long legacyP99 = p99(this::legacyPrepare, command);
+        long pipelineP99 = p99(pipeline::prepare, command);
+        //then
+        System.out.printf("order preparation p99 - applicationTaskExecutor: %dms, virtual thread pipeline: %dms%n",
+                legacyP99, pipelineP99);
+        assertThat(pipelineP99).isLessThan(legacyP99);
+    }
+
+    private long p99(Function<CreateOrderCommand, OrderPreparationData> prepare, CreateOrderCommand command) throws Exception {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        try (ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(requestThreads.submit(() -> {
+                    long start = System.nanoTime();
+                    prepare.apply(command);
+                    latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        List<Long> sorted = latencies.stream().sorted().toList();
+        return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+    }
+
+    // 변경 전 OrderFacade 의 조회 방식
+    private OrderPreparationData legacyPrepare(CreateOrderCommand command) {
+        CompletableFuture<OrderUserInfo> userFuture = CompletableFuture.supplyAsync(
+                () -> orderUserService.getUser(command.getUserId(), command.getPointToUse()), applicationTaskExecutor);
+        CompletableFuture<List<OrderProductInfo>> productFuture = CompletableFuture.supplyAsync(
+                () -> orderProductService.getProducts(command.getOrderItemCommands()), applicationTaskExecutor);
+        CompletableFuture.allOf(userFuture, productFuture).join();
+
+        List<OrderProductInfo> products = AsyncUtil.join(productFuture);
+        OrderProductAmount productAmount = calculator.calculateItemAmounts(command.getOrderItemCommands(), products);
+        OrderCouponInfo coupon = orderCouponService.calculateCouponDiscount(command.getUserId(), command.getCouponId(), productAmount);
+        return OrderPreparationData.builder()
+                .user(AsyncUtil.join(userFuture))
+                .products(products)
+                .productAmount(productAmount)
+                .coupon(coupon)
+                .build();
+    }
+
+    private <T> T delay(T value) throws InterruptedException {
+        Thread.sleep(DEPENDENCY_LATENCY_MS);
+        return value;
+    }
+}
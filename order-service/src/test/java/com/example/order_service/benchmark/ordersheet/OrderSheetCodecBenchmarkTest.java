@@ -0,0 +1,122 @@
+package com.example.order_service.benchmark.ordersheet;
+
+import com.example.order_service.ordersheet.domain.OrderSheet;
+import com.example.order_service.ordersheet.domain.OrderSheetItem;
+import com.example.order_service.ordersheet.domain.vo.OrderSheetItemOptionSnapshot;
+import com.example.order_service.ordersheet.domain.vo.OrderSheetItemPriceSnapshot;
+import com.example.order_service.ordersheet.domain.vo.OrderSheetItemProductSnapshot;
+import com.example.order_service.ordersheet.infrastructure.config.OrderSheetCodecProperties;
+import com.example.order_service.ordersheet.infrastructure.persistence.codec.BinaryOrderSheetCodec;
+import com.example.order_service.ordersheet.infrastructure.persistence.codec.JsonOrderSheetCodec;
+import com.example.order_service.ordersheet.infrastructure.persistence.codec.OrderSheetCodec;
+import com.example.order_service.ordersheet.infrastructure.persistence.codec.OrderSheetFormat;
+import com.example.order_service.ordersheet.infrastructure.persistence.codec.OrderSheetSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문서 저장 형식별 직렬화 / 역직렬화 시간과 크기 비교
+ * <p>
+ * 기존 JSON 문자열 저장 방식과 헤더를 붙인 JSON, 바이너리 형식을 LZ4 압축 여부에 따라 비교한다.
+ * <p>
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+public class OrderSheetCodecBenchmarkTest {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+    private static final int[] ITEM_COUNTS = {1, 10, 50};
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final List<OrderSheetCodec> codecs = List.of(new JsonOrderSheetCodec(objectMapper), new BinaryOrderSheetCodec());
+
+    @Test
+    @DisplayName("주문서 형식별 직렬화, 역직렬화 시간과 저장 크기를 비교한다")
+    void compare() {
+        for (int itemCount : ITEM_COUNTS) {
+            OrderSheet orderSheet = createOrderSheet(itemCount);
+            System.out.printf("== 상품 %d개%n", itemCount);
+            // 기존 방식 : ObjectMapper 로 만든 JSON 문자열을 그대로 저장
+            report("legacy-json", orderSheet,
+                    sheet -> writeString(sheet).getBytes(StandardCharsets.UTF_8),
+                    bytes -> readString(new String(bytes, StandardCharsets.UTF_8)));
+            report("json", orderSheet, serializer(OrderSheetFormat.JSON, DataSize.ofMegabytes(1)));
+            report("json+lz4", orderSheet, serializer(OrderSheetFormat.JSON, DataSize.ofBytes(0)));
+            report("binary", orderSheet, serializer(OrderSheetFormat.BINARY, DataSize.ofMegabytes(1)));
+            report("binary+lz4", orderSheet, serializer(OrderSheetFormat.BINARY, DataSize.ofBytes(0)));
+        }
+    }
+
+    private void report(String name, OrderSheet orderSheet, OrderSheetSerializer serializer) {
+        report(name, orderSheet, serializer::serialize, serializer::deserialize);
+    }
+
+    private void report(String name, OrderSheet orderSheet,
+                        Function<OrderSheet, byte[]> encoder, Function<byte[], OrderSheet> decoder) {
+        byte[] bytes = encoder.apply(orderSheet);
+        for (int i = 0; i < WARMUP; i++) {
+            decoder.apply(encoder.apply(orderSheet));
+        }
+
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes = encoder.apply(orderSheet);
+        }
+        long encodeNanos = (System.nanoTime() - encodeStart) / ITERATIONS;
+
+        OrderSheet decoded = null;
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            decoded = decoder.apply(bytes);
+        }
+        long decodeNanos = (System.nanoTime() - decodeStart) / ITERATIONS;
+
+        System.out.printf("[%-11s] bytes=%6d encode=%6dns decode=%6dns%n", name, bytes.length, encodeNanos, decodeNanos);
+        assertThat(decoded.getItems()).hasSize(orderSheet.getItems().size());
+    }
+
+    private OrderSheetSerializer serializer(OrderSheetFormat format, DataSize compressionThreshold) {
+        return new OrderSheetSerializer(codecs, new OrderSheetCodecProperties(format, compressionThreshold), new SimpleMeterRegistry());
+    }
+
+    private String writeString(OrderSheet orderSheet) {
+        try {
+            return objectMapper.writeValueAsString(orderSheet);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private OrderSheet readString(String value) {
+        try {
+            return objectMapper.readValue(value, OrderSheet.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private OrderSheet createOrderSheet(int itemCount) {
+        List<OrderSheetItem> items = LongStream.rangeClosed(1, itemCount)
+                .mapToObj(id -> OrderSheetItem.create(
+                        OrderSheetItemProductSnapshot.of(id, id * 10, "PROD-" + id + "-XL", "테스트 상품 " + id,
+                                "https://cdn.example.com/product/" + id + "/thumbnail.jpg"),
+                        OrderSheetItemPriceSnapshot.of(29900L, 10, 2990L, 26910L),
+                        (int) (id % 3) + 1,
+                        List.of(OrderSheetItemOptionSnapshot.of("사이즈", "XL"), OrderSheetItemOptionSnapshot.of("색상", "검정"))))
+                .toList();
+        return OrderSheet.create("5f0e8c1a-6b7d-4c3e-9a21-0d4f8e2b7c90", items, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.order_service.benchmark.payment;
+
+import com.example.order_service.api.common.util.AsyncUtil;
+import com.example.order_service.api.order.infrastructure.client.payment.TossPaymentAdaptor;
+import com.example.order_service.api.order.infrastructure.client.payment.dto.response.TossPaymentConfirmResponse;
+import com.example.order_service.api.order.infrastructure.executor.PaymentConfirmExecutor;
+import com.example.order_service.api.support.ExcludeInfraTest;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답이 느린 토스 stub 에 결제 승인 요청을 몰아 보내 동시 호출 제한과 중복 요청 병합을 확인한다
+ * <p>
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@AutoConfigureWireMock(port = 0)
+public class PaymentConfirmLoadBenchmarkTest extends ExcludeInfraTest {
+
+    private static final int MAX_CONCURRENCY = 8;
+    private static final int TOSS_DELAY_MS = 200;
+
+    @Autowired
+    private PaymentConfirmExecutor executor;
+    @Autowired
+    private TossPaymentAdaptor tossPaymentAdaptor;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("payment.toss.url", () -> "http://localhost:${wiremock.server.port}");
+        registry.add("order.payment.confirm.max-concurrency", () -> MAX_CONCURRENCY);
+        registry.add("order.payment.confirm.acquire-timeout", () -> "30s");
+    }
+
+    @BeforeEach
+    void setUp() {
+        WireMock.reset();
+        stubFor(post(urlMatching("/v1/payments/confirm"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(TOSS_DELAY_MS)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                                { "status": "DONE", "method": "CARD" }
+                                """)));
+    }
+
+    @Test
+    @DisplayName("서로 다른 주문 200건: 토스 동시 호출 수는 제한값을 넘지 않는다")
+    void bounded_concurrency() {
+        //given
+        int orderCount = 200;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<TossPaymentConfirmResponse>> futures = new ArrayList<>();
+        //when
+        long start = System.nanoTime();
+        for (int i = 0; i < orderCount; i++) {
+            String orderNo = "ORD-LOAD-" + i;
+            futures.add(executor.submit(orderNo, "paymentKey-" + i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    return tossPaymentAdaptor.confirmPayment(orderNo, "paymentKey-" + orderNo, 1000L);
+                } finally {
+                    running.decrementAndGet();
+                }
+            }, response -> {}));
+        }
+        futures.forEach(AsyncUtil::join);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        //then
+        System.out.printf("[payment-confirm] orders=%d, maxConcurrency=%d, observedMax=%d, elapsed=%dms (이론상 최소 %dms)%n",
+                orderCount, MAX_CONCURRENCY, maxRunning.get(), elapsedMs, (long) orderCount / MAX_CONCURRENCY * TOSS_DELAY_MS);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(MAX_CONCURRENCY);
+        verify(orderCount, postRequestedFor(urlMatching("/v1/payments/confirm")));
+    }
+
+    @Test
+    @DisplayName("같은 주문에 대한 재시도 100건: 토스에는 한번만 승인을 요청한다")
+    void duplicated_retries() {
+        //given
+        int retryCount = 100;
+        List<CompletableFuture<TossPaymentConfirmResponse>> futures = new ArrayList<>();
+        //when
+        for (int i = 0; i < retryCount; i++) {
+            futures.add(executor.submit("ORD-RETRY", "paymentKey",
+                    () -> tossPaymentAdaptor.confirmPayment("ORD-RETRY", "paymentKey", 1000L), response -> {}));
+        }
+        futures.forEach(AsyncUtil::join);
+        //then
+        verify(1, postRequestedFor(urlMatching("/v1/payments/confirm"))
+                .withHeader("Idempotency-Key", equalTo("ORD-RETRY:paymentKey")));
+    }
+}
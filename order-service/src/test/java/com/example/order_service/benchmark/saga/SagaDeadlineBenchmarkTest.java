@@ -0,0 +1,125 @@
+package com.example.order_service.benchmark.saga;
+
+import com.example.order_service.api.order.saga.domain.model.OrderSagaInstance;
+import com.example.order_service.api.order.saga.domain.model.SagaStep;
+import com.example.order_service.api.order.saga.domain.model.vo.Payload;
+import com.example.order_service.api.order.saga.domain.repository.OrderSagaInstanceRepository;
+import com.example.order_service.api.order.saga.domain.service.SagaService;
+import com.example.order_service.api.order.saga.domain.service.dto.SagaInstanceDto;
+import com.example.order_service.api.order.saga.infrastructure.timer.HashedTimingWheel;
+import com.example.order_service.api.support.ExcludeInfraTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 10만개의 진행중 Saga 에 대해 타이밍 휠과 DB 폴링(SagaTimeoutSweeper) 의 만료 감지 비용을 비교한다
+ * <p>
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+public class SagaDeadlineBenchmarkTest extends ExcludeInfraTest {
+
+    private static final int SAGA_COUNT = 100_000;
+    private static final int PAGE_SIZE = 500;
+
+    @Autowired
+    private SagaService sagaService;
+    @Autowired
+    private OrderSagaInstanceRepository orderSagaInstanceRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderSagaInstanceRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("DB 폴링: 타임아웃된 10만개 Saga 를 keyset 페이징으로 한번 훑는 시간")
+    void polling() {
+        //given
+        Payload payload = Payload.builder()
+                .userId(1L)
+                .sagaItems(List.of(Payload.SagaItem.builder().productVariantId(1L).quantity(1).build()))
+                .build();
+        LocalDateTime startedAt = LocalDateTime.now().minusMinutes(30);
+        List<OrderSagaInstance> batch = new ArrayList<>();
+        for (int i = 0; i < SAGA_COUNT; i++) {
+            OrderSagaInstance saga = OrderSagaInstance.create("ORD-" + i, payload, SagaStep.PRODUCT);
+            ReflectionTestUtils.setField(saga, "stepStartedAt", startedAt);
+            batch.add(saga);
+            if (batch.size() == 1000) {
+                orderSagaInstanceRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        //when
+        long start = System.nanoTime();
+        LocalDateTime timeout = LocalDateTime.now().minusMinutes(10);
+        LocalDateTime lastStartedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+        Long lastId = 0L;
+        int found = 0;
+        while (true) {
+            List<SagaInstanceDto> page = sagaService.getTimeouts(SagaStep.PRODUCT, timeout, lastStartedAt, lastId, PAGE_SIZE);
+            found += page.size();
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            lastStartedAt = page.get(page.size() - 1).getStepStartedAt();
+            lastId = page.get(page.size() - 1).getId();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        //then
+        System.out.printf("[polling] sagas=%d, sweep=%dms, 감지 지연=최대 폴링 주기(60s) + sweep%n", found, elapsedMillis);
+        assertThat(found).isEqualTo(SAGA_COUNT);
+    }
+
+    @Test
+    @DisplayName("타이밍 휠: 10만개 Saga 만료 등록/취소 처리량과 만료 감지 지연")
+    void timingWheel() throws InterruptedException {
+        //given
+        Duration delay = Duration.ofMillis(500);
+        int completed = SAGA_COUNT * 9 / 10;
+        int expected = SAGA_COUNT - completed;
+        CountDownLatch latch = new CountDownLatch(expected);
+        AtomicLong maxLatenessNanos = new AtomicLong();
+        HashedTimingWheel<Long> wheel = new HashedTimingWheel<>("benchmark-wheel", Duration.ofMillis(10), 512,
+                deadlineNanos -> {
+                    maxLatenessNanos.accumulateAndGet(System.nanoTime() - deadlineNanos, Math::max);
+                    latch.countDown();
+                });
+        wheel.start();
+        //when
+        long registerStart = System.nanoTime();
+        for (int i = 0; i < SAGA_COUNT; i++) {
+            wheel.schedule("ORD-" + i, System.nanoTime() + delay.toNanos(), delay);
+        }
+        long registerNanos = System.nanoTime() - registerStart;
+        // 90% 의 Saga 는 만료 전에 다음 단계로 진행되어 취소된다
+        long cancelStart = System.nanoTime();
+        for (int i = 0; i < completed; i++) {
+            wheel.cancel("ORD-" + i);
+        }
+        long cancelNanos = System.nanoTime() - cancelStart;
+        boolean allExpired = latch.await(10, TimeUnit.SECONDS);
+        wheel.stop();
+        //then
+        System.out.printf("[wheel] register=%dms (%.0f ops/s), cancel=%dms, expired=%d, max lateness=%dms%n",
+                TimeUnit.NANOSECONDS.toMillis(registerNanos), SAGA_COUNT / (registerNanos / 1_000_000_000.0),
+                TimeUnit.NANOSECONDS.toMillis(cancelNanos), expected,
+                TimeUnit.NANOSECONDS.toMillis(maxLatenessNanos.get()));
+        assertThat(allExpired).isTrue();
+    }
+}
@@ -20,9 +20,11 @@ import org.springframework.http.MediaType;
 import org.springframework.restdocs.headers.HeaderDescriptor;
 import org.springframework.restdocs.payload.FieldDescriptor;
 import org.springframework.restdocs.request.ParameterDescriptor;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
@@ -35,6 +37,7 @@ import static org.springframework.restdocs.headers.HeaderDocumentation.requestHe
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -153,7 +156,7 @@ public class OrderControllerDocsTest extends RestDocSupport {
         OrderDetailResponse response = anOrderDetailResponse()
                 .payment(anPaymentResponse().build()).build();
         given(orderFacade.confirmOrderPayment(anyString(), anyLong(), anyString(), anyLong()))
-                .willReturn(response);
+                .willReturn(CompletableFuture.completedFuture(response));
 
         HeaderDescriptor[] requestHeaders = new HeaderDescriptor[] {
                 headerWithName("Authorization").description("JWT Access Token")
@@ -210,10 +213,12 @@ public class OrderControllerDocsTest extends RestDocSupport {
         };
         //when
         //then
-        mockMvc.perform(post("/orders/confirm")
+        MvcResult mvcResult = mockMvc.perform(post("/orders/confirm")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request))
                         .headers(roleUser))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andDo(document("01-order-02-confirm",
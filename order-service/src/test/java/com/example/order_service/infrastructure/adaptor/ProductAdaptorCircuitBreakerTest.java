@@ -1,8 +1,11 @@
 package com.example.order_service.infrastructure.adaptor;
 
+import com.example.order_service.api.common.client.product.ProductLookupClient;
+import com.example.order_service.api.common.client.product.ProductSnapshotCache;
+import com.example.order_service.api.common.exception.ExternalServiceErrorCode;
+import com.example.order_service.api.common.exception.business.BusinessException;
 import com.example.order_service.api.common.exception.external.ExternalClientException;
 import com.example.order_service.api.common.exception.external.ExternalSystemUnavailableException;
-import com.example.order_service.infrastructure.client.ProductFeignClient;
 import com.example.order_service.support.annotation.IsolatedTest;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,13 +36,16 @@ public class ProductAdaptorCircuitBreakerTest {
     @Autowired
     private ProductAdaptor adaptor;
     @MockitoBean
-    private ProductFeignClient client;
+    private ProductLookupClient client;
     @Autowired
     private CircuitBreakerRegistry circuitBreakerRegistry;
+    @Autowired
+    private ProductSnapshotCache productSnapshotCache;
 
     @BeforeEach
     void setUp() {
         circuitBreakerRegistry.circuitBreaker("productService").reset();
+        productSnapshotCache.evictAll();
     }
 
     @Test
@@ -48,7 +54,7 @@ public class ProductAdaptorCircuitBreakerTest {
         //given
         List<Long> ids = List.of(1L, 2L);
         // 타임 아웃 에러가 발생한다고 가정
-        given(client.getProductsByVariantIds(any()))
+        given(client.getVariants(any()))
                 .willThrow(new RuntimeException("Connection Timeout"));
         //when
         //then
@@ -65,7 +71,7 @@ public class ProductAdaptorCircuitBreakerTest {
                 .hasMessage("CircuitBreaker Open");
 
         //서킷브레이커가 열렸으므로 클라이언트는 4번의 요청중 3번만 호출됨
-        verify(client, times(3)).getProductsByVariantIds(any());
+        verify(client, times(3)).getVariants(any());
     }
     
     @Test
@@ -73,21 +79,21 @@ public class ProductAdaptorCircuitBreakerTest {
     void circuitbreaker_close_after_consecutive_client_failures() {
         //given
         List<Long> ids = List.of(1L, 2L);
-        given(client.getProductsByVariantIds(any()))
-                .willThrow(new ExternalClientException("Client Exception"));
+        given(client.getVariants(any()))
+                .willThrow(new BusinessException(ExternalServiceErrorCode.PRODUCT_NOT_FOUND));
         //when
         //then
         for (int i = 0; i < 3; i++) {
             assertThatThrownBy(() -> adaptor.getProductsByVariantIds(ids))
                     .isInstanceOf(ExternalClientException.class)
-                    .hasMessage("Client Exception");
+                    .hasMessage(ExternalServiceErrorCode.PRODUCT_NOT_FOUND.getMessage());
         }
         assertThatThrownBy(() -> adaptor.getProductsByVariantIds(ids))
                 .isInstanceOf(ExternalClientException.class)
-                .hasMessage("Client Exception");
+                .hasMessage(ExternalServiceErrorCode.PRODUCT_NOT_FOUND.getMessage());
 
         //반복된 에러가 클라이언트 예외이므로 정상 요청이 실행되어 4번 호출됨
-        verify(client, times(4)).getProductsByVariantIds(any());
+        verify(client, times(4)).getVariants(any());
 
     }
 }
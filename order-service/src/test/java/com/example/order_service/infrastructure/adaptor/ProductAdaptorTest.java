@@ -1,12 +1,19 @@
 package com.example.order_service.infrastructure.adaptor;
 
+import com.example.order_service.api.common.client.product.ProductLookupClient;
+import com.example.order_service.api.common.client.product.ProductSnapshotCache;
+import com.example.order_service.api.common.client.product.dto.ProductVariantResponse;
+import com.example.order_service.api.common.client.product.dto.ProductVariantsRequest;
+import com.example.order_service.api.common.exception.ExternalServiceErrorCode;
+import com.example.order_service.api.common.exception.business.BusinessException;
+import com.example.order_service.api.common.exception.external.ExternalClientException;
+import com.example.order_service.api.common.exception.external.ExternalServerException;
 import com.example.order_service.api.common.exception.external.ExternalSystemException;
 import com.example.order_service.api.common.exception.external.ExternalSystemUnavailableException;
-import com.example.order_service.infrastructure.client.ProductFeignClient;
-import com.example.order_service.infrastructure.dto.request.ProductClientRequest;
 import com.example.order_service.infrastructure.dto.response.ProductClientResponse;
 import com.example.order_service.support.annotation.IsolatedTest;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,17 +35,24 @@ public class ProductAdaptorTest {
     @Autowired
     private ProductAdaptor productAdaptor;
     @MockitoBean
-    private ProductFeignClient client;
+    private ProductLookupClient client;
+    @Autowired
+    private ProductSnapshotCache productSnapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        productSnapshotCache.evictAll();
+    }
 
     @Test
     @DisplayName("상품 서비스에 상품을 조회한다")
     void getProductsByVariantIds() {
         //given
         List<Long> productVariantIds = List.of(1L, 2L);
-        List<ProductClientResponse.Product> productResponses = productVariantIds.stream()
-                .map(id -> sample(fixtureMonkey.giveMeBuilder(ProductClientResponse.Product.class)
+        List<ProductVariantResponse> productResponses = productVariantIds.stream()
+                .map(id -> sample(fixtureMonkey.giveMeBuilder(ProductVariantResponse.class)
                         .set("productVariantId", id))).toList();
-        given(client.getProductsByVariantIds(any(ProductClientRequest.ProductVariantIds.class)))
+        given(client.getVariants(any(ProductVariantsRequest.class)))
                 .willReturn(productResponses);
         //when
         List<ProductClientResponse.Product> response = productAdaptor.getProductsByVariantIds(productVariantIds);
@@ -58,7 +72,7 @@ public class ProductAdaptorTest {
         CallNotPermittedException circuitException = CallNotPermittedException
                 .createCallNotPermittedException(ofDefaults("test"));
         willThrow(circuitException).given(client)
-                .getProductsByVariantIds(any());
+                .getVariants(any());
         //when
         //then
         assertThatThrownBy(() -> productAdaptor.getProductsByVariantIds(productVariantIds))
@@ -68,16 +82,31 @@ public class ProductAdaptorTest {
 
 
     @Test
-    @DisplayName("상품 서비스에서 상품을 조회할때 external System 예외가 던져지면 그대로 던진다")
-    void getProductsByVariantIds_external_system_exception() {
+    @DisplayName("상품 서비스에서 상품을 조회할때 클라이언트 오류가 발생하면 클라이언트 예외로 변환하여 던진다")
+    void getProductsByVariantIds_client_error() {
         //given
         List<Long> productVariantIds = List.of(1L, 2L);
-        willThrow(ExternalSystemException.class).given(client)
-                .getProductsByVariantIds(any());
+        willThrow(new BusinessException(ExternalServiceErrorCode.PRODUCT_NOT_FOUND)).given(client)
+                .getVariants(any());
         //when
         //then
         assertThatThrownBy(() -> productAdaptor.getProductsByVariantIds(productVariantIds))
-                .isInstanceOf(ExternalSystemException.class);
+                .isInstanceOf(ExternalClientException.class)
+                .hasMessage(ExternalServiceErrorCode.PRODUCT_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("상품 서비스에서 상품을 조회할때 서버 오류가 발생하면 서버 예외로 변환하여 던진다")
+    void getProductsByVariantIds_server_error() {
+        //given
+        List<Long> productVariantIds = List.of(1L, 2L);
+        willThrow(new BusinessException(ExternalServiceErrorCode.SYSTEM_ERROR)).given(client)
+                .getVariants(any());
+        //when
+        //then
+        assertThatThrownBy(() -> productAdaptor.getProductsByVariantIds(productVariantIds))
+                .isInstanceOf(ExternalServerException.class)
+                .hasMessage(ExternalServiceErrorCode.SYSTEM_ERROR.getMessage());
     }
 
     @Test
@@ -86,7 +115,7 @@ public class ProductAdaptorTest {
         //given
         List<Long> productVariantIds = List.of(1L, 2L);
         willThrow(RuntimeException.class).given(client)
-                .getProductsByVariantIds(any());
+                .getVariants(any());
         //when
         //then
         assertThatThrownBy(() -> productAdaptor.getProductsByVariantIds(productVariantIds))
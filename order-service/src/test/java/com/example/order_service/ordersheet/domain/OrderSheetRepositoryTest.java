@@ -13,6 +13,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -36,9 +37,46 @@ class OrderSheetRepositoryTest {
                 .isEqualTo(savedOrderSheet);
     }
 
+    @Test
+    @DisplayName("저장한 주문서를 조회한다")
+    void findById() {
+        //given
+        OrderSheet orderSheet = createOrderSheet("find-test");
+        repository.save(orderSheet, Duration.ofMinutes(30));
+        //when
+        Optional<OrderSheet> result = repository.findById("find-test");
+        //then
+        assertThat(result).isPresent();
+        assertThat(result.get())
+                .usingRecursiveComparison()
+                .isEqualTo(orderSheet);
+    }
+
+    @Test
+    @DisplayName("주문서를 소비하면 조회한 뒤 삭제되어 다시 소비할 수 없다")
+    void consume() {
+        //given
+        OrderSheet orderSheet = createOrderSheet("consume-test");
+        repository.save(orderSheet, Duration.ofMinutes(30));
+        //when
+        Optional<OrderSheet> first = repository.consume("consume-test");
+        Optional<OrderSheet> second = repository.consume("consume-test");
+        //then
+        assertThat(first).isPresent();
+        assertThat(first.get())
+                .usingRecursiveComparison()
+                .isEqualTo(orderSheet);
+        assertThat(second).isEmpty();
+        assertThat(repository.findById("consume-test")).isEmpty();
+    }
+
     private OrderSheet createOrderSheet() {
+        return createOrderSheet("test");
+    }
+
+    private OrderSheet createOrderSheet(String sheetId) {
         return OrderSheet.create(
-                "test",
+                sheetId,
                 List.of(createOrderSheetItem()),
                 LocalDateTime.now()
         );
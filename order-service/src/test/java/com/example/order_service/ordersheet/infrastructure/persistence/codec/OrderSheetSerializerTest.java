@@ -0,0 +1,133 @@
+package com.example.order_service.ordersheet.infrastructure.persistence.codec;
+
+import com.example.order_service.ordersheet.domain.OrderSheet;
+import com.example.order_service.ordersheet.domain.OrderSheetItem;
+import com.example.order_service.ordersheet.domain.vo.OrderSheetItemOptionSnapshot;
+import com.example.order_service.ordersheet.domain.vo.OrderSheetItemPriceSnapshot;
+import com.example.order_service.ordersheet.domain.vo.OrderSheetItemProductSnapshot;
+import com.example.order_service.ordersheet.infrastructure.config.OrderSheetCodecProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderSheetSerializerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final List<OrderSheetCodec> codecs = List.of(new JsonOrderSheetCodec(objectMapper), new BinaryOrderSheetCodec());
+
+    private OrderSheetSerializer serializer(OrderSheetFormat format, DataSize compressionThreshold) {
+        return new OrderSheetSerializer(codecs, new OrderSheetCodecProperties(format, compressionThreshold), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("바이너리 형식으로 저장한 주문서를 복원한다")
+    void serialize_binary() {
+        //given
+        OrderSheetSerializer serializer = serializer(OrderSheetFormat.BINARY, DataSize.ofMegabytes(1));
+        OrderSheet orderSheet = createOrderSheet(3);
+        //when
+        byte[] bytes = serializer.serialize(orderSheet);
+        //then
+        assertThat(bytes[0]).isEqualTo(OrderSheetFormat.BINARY.getCode());
+        assertThat(serializer.deserialize(bytes))
+                .usingRecursiveComparison()
+                .isEqualTo(orderSheet);
+    }
+
+    @Test
+    @DisplayName("압축 기준 크기 이상이면 LZ4 로 압축해 저장하고 복원한다")
+    void serialize_compressed() {
+        //given
+        OrderSheetSerializer serializer = serializer(OrderSheetFormat.BINARY, DataSize.ofBytes(64));
+        OrderSheetSerializer uncompressed = serializer(OrderSheetFormat.BINARY, DataSize.ofMegabytes(1));
+        OrderSheet orderSheet = createOrderSheet(30);
+        //when
+        byte[] bytes = serializer.serialize(orderSheet);
+        //then
+        assertThat(bytes[0] & 0x80).isNotZero();
+        assertThat(bytes.length).isLessThan(uncompressed.serialize(orderSheet).length);
+        assertThat(serializer.deserialize(bytes))
+                .usingRecursiveComparison()
+                .isEqualTo(orderSheet);
+    }
+
+    @Test
+    @DisplayName("저장 형식이 바뀌어도 헤더의 형식으로 기존 주문서를 읽는다")
+    void deserialize_other_format() {
+        //given
+        OrderSheet orderSheet = createOrderSheet(3);
+        byte[] json = serializer(OrderSheetFormat.JSON, DataSize.ofBytes(64)).serialize(orderSheet);
+        //when
+        OrderSheet result = serializer(OrderSheetFormat.BINARY, DataSize.ofMegabytes(1)).deserialize(json);
+        //then
+        assertThat(result)
+                .usingRecursiveComparison()
+                .isEqualTo(orderSheet);
+    }
+
+    @Test
+    @DisplayName("헤더 없이 저장된 이전 JSON 주문서를 읽는다")
+    void deserialize_legacy_json() throws Exception {
+        //given
+        OrderSheet orderSheet = createOrderSheet(1);
+        byte[] legacy = objectMapper.writeValueAsBytes(orderSheet);
+        //when
+        OrderSheet result = serializer(OrderSheetFormat.BINARY, DataSize.ofMegabytes(1)).deserialize(legacy);
+        //then
+        assertThat(result)
+                .usingRecursiveComparison()
+                .isEqualTo(orderSheet);
+    }
+
+    @Test
+    @DisplayName("압축 본문이 잘린 주문서는 복원에 실패한다")
+    void deserialize_truncated_compressed() {
+        //given
+        OrderSheetSerializer serializer = serializer(OrderSheetFormat.BINARY, DataSize.ofBytes(64));
+        byte[] bytes = serializer.serialize(createOrderSheet(30));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 10);
+        //when
+        //then
+        assertThatThrownBy(() -> serializer.deserialize(truncated))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("헤더의 원본 길이와 압축 해제한 길이가 다르면 복원에 실패한다")
+    void deserialize_length_mismatch() {
+        //given
+        OrderSheetSerializer serializer = serializer(OrderSheetFormat.BINARY, DataSize.ofBytes(64));
+        byte[] bytes = serializer.serialize(createOrderSheet(30));
+        ByteBuffer header = ByteBuffer.wrap(bytes, 1, Integer.BYTES);
+        int originalLength = header.getInt(1);
+        header.putInt(1, originalLength + 1);
+        //when
+        //then
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("원본 길이");
+    }
+
+    private OrderSheet createOrderSheet(int itemCount) {
+        List<OrderSheetItem> items = LongStream.rangeClosed(1, itemCount)
+                .mapToObj(id -> OrderSheetItem.create(
+                        OrderSheetItemProductSnapshot.of(id, id, "PROD_" + id, "테스트 상품" + id, null),
+                        OrderSheetItemPriceSnapshot.of(10000L, 10, 1000L, 9000L),
+                        2,
+                        List.of(OrderSheetItemOptionSnapshot.of("사이즈", "XL"), OrderSheetItemOptionSnapshot.of("색상", "검정"))))
+                .toList();
+        return OrderSheet.create("sheet-id", items, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.product_service.api.category.cache;
+
+/**
+ * 카테고리 트리 스냅샷을 만들기 위한 카테고리 행, 영속성 컨텍스트를 거치지 않고 DB 의 현재 값을 읽는다
+ */
+public record CategoryNode(
+        Long id,
+        String name,
+        Long parentId,
+        Integer depth,
+        String imagePath,
+        Long productCount
+) {
+}
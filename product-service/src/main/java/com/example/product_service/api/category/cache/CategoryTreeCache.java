@@ -0,0 +1,124 @@
+package com.example.product_service.api.category.cache;
+
+import com.example.product_service.api.category.domain.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 전체 카테고리 트리 스냅샷을 메모리에 보관한다
+ * <p>
+ * 카테고리는 하루에 몇번만 바뀌고 모든 페이지에서 조회되므로, 변경이 커밋되면 전체 트리를 다시 읽어 새 스냅샷으로 통째로 교체한다.
+ * 갱신마다 읽기 전에 버전을 발급하고 더 높은 버전의 스냅샷만 교체하므로, 늦게 끝난 이전 갱신이 최신 스냅샷을 덮어쓰지 않는다.
+ * 다른 인스턴스에는 무효화 채널로 알린다.
+ * <p>
+ * 이 인스턴스의 카테고리 구조 변경은 커밋 직후 바로 다시 읽는다.
+ * 상품 게시, 종료, 삭제마다 카테고리별 상품 수가 바뀌므로 상품 수 변경과 다른 인스턴스의 무효화 알림은 표시만 해두고,
+ * 짧은 주기로 한번만 다시 읽어 여러 변경을 하나의 갱신으로 합친다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+    public static final String INVALIDATION_CHANNEL = "product:category:tree:invalidation";
+
+    private final CategoryRepository categoryRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicReference<CategoryTreeSnapshot> snapshot = new AtomicReference<>();
+    // 이 인스턴스에서 커밋된 변경, 다시 읽은 뒤 다른 인스턴스에 알린다
+    private final AtomicBoolean changed = new AtomicBoolean();
+    // 다른 인스턴스에서 알려온 변경, 다시 읽기만 한다
+    private final AtomicBoolean stale = new AtomicBoolean();
+
+    public CategoryTreeSnapshot get() {
+        CategoryTreeSnapshot current = snapshot.get();
+        if (current == null) {
+            return refreshLocal();
+        }
+        return current;
+    }
+
+    public void markChanged() {
+        changed.set(true);
+    }
+
+    public void markStale() {
+        stale.set(true);
+    }
+
+    // 바로 다시 읽고 알린다, 실패하면 표시해두고 다음 주기에 다시 시도한다
+    public void refreshNow() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            markChanged();
+            log.warn("카테고리 트리 갱신 실패", e);
+        }
+    }
+
+    // 표시된 변경이 있으면 한번만 다시 읽고, 이 인스턴스의 변경이면 다른 인스턴스에 알린다
+    @Scheduled(fixedDelay = 1000)
+    public void refreshPending() {
+        boolean localChange = changed.getAndSet(false);
+        boolean remoteChange = stale.getAndSet(false);
+        if (!localChange && !remoteChange) {
+            return;
+        }
+        try {
+            if (localChange) {
+                refresh();
+            } else {
+                refreshLocal();
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도
+            changed.compareAndSet(false, localChange);
+            stale.compareAndSet(false, remoteChange);
+            log.warn("카테고리 트리 갱신 실패", e);
+        }
+    }
+
+    // 변경된 카테고리 트리를 다시 읽고 모든 인스턴스에 알린다
+    @Transactional(readOnly = true)
+    public void refresh() {
+        refreshLocal();
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(snapshot.get().version()));
+        } catch (RuntimeException e) {
+            log.warn("카테고리 트리 무효화 알림 실패", e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CategoryTreeSnapshot refreshLocal() {
+        long version = versions.incrementAndGet();
+        CategoryTreeSnapshot next = CategoryTreeSnapshot.of(version, categoryRepository.findAllNodes());
+        return snapshot.accumulateAndGet(next,
+                (current, candidate) -> current == null || current.version() < candidate.version() ? candidate : current);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refreshLocal();
+    }
+
+    // 다른 인스턴스의 무효화 메시지를 놓쳐도 주기적으로 다시 읽어 맞춘다
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void reload() {
+        try {
+            refreshLocal();
+        } catch (RuntimeException e) {
+            log.warn("카테고리 트리 갱신 실패", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.product_service.api.category.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스에서 카테고리가 변경되면 로컬 카테고리 트리를 다시 읽도록 표시한다
+ * <p>
+ * 여러 인스턴스의 알림이 몰려도 {@link CategoryTreeCache#refreshPending()} 에서 한번만 다시 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeInvalidationSubscriber implements MessageListener {
+    private final CategoryTreeCache categoryTreeCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        categoryTreeCache.markStale();
+    }
+}
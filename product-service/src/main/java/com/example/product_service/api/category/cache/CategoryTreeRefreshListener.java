@@ -0,0 +1,24 @@
+package com.example.product_service.api.category.cache;
+
+import com.example.product_service.api.category.service.event.CategoryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeRefreshListener {
+    private final CategoryTreeCache categoryTreeCache;
+
+    // 커밋 이전에 읽으면 롤백될 변경이 스냅샷에 들어갈 수 있으므로 커밋 이후에 반영한다
+    // 구조 변경은 변경한 요청 직후의 조회에도 보이도록 바로 다시 읽고, 상품 수 변경만 표시해두고 모아서 한번에 갱신한다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.structural()) {
+            categoryTreeCache.refreshNow();
+            return;
+        }
+        categoryTreeCache.markChanged();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.product_service.api.category.cache;
+
+import com.example.product_service.api.category.service.dto.result.CategoryResult;
+
+import java.util.*;
+
+/**
+ * 특정 시점의 전체 카테고리 트리
+ * <p>
+ * 만들어진 뒤에는 변경되지 않으며 카테고리가 변경되면 새 스냅샷으로 교체한다.
+ * 카테고리별 경로, 자식 목록을 미리 계산해 두어 트리와 네비게이션을 조회할때 계산이나 쿼리가 없다.
+ * 반환하는 결과 객체는 모든 요청이 공유하므로 수정하지 않는다.
+ */
+public final class CategoryTreeSnapshot {
+    private final long version;
+    private final Map<Long, CategoryResult.Detail> details;
+    private final Map<Long, List<CategoryResult.Detail>> paths;
+    private final Map<Long, List<CategoryResult.Detail>> children;
+    private final List<CategoryResult.Detail> roots;
+    private final List<CategoryResult.Tree> tree;
+
+    private CategoryTreeSnapshot(long version, Map<Long, CategoryResult.Detail> details,
+                                 Map<Long, List<CategoryResult.Detail>> paths, Map<Long, List<CategoryResult.Detail>> children,
+                                 List<CategoryResult.Detail> roots, List<CategoryResult.Tree> tree) {
+        this.version = version;
+        this.details = details;
+        this.paths = paths;
+        this.children = children;
+        this.roots = roots;
+        this.tree = tree;
+    }
+
+    /**
+     * @param nodes 깊이, id 순으로 정렬된 전체 카테고리, 부모가 자식보다 먼저 나와야 한다
+     */
+    public static CategoryTreeSnapshot of(long version, List<CategoryNode> nodes) {
+        Map<Long, CategoryResult.Detail> details = new HashMap<>();
+        Map<Long, List<CategoryResult.Detail>> paths = new HashMap<>();
+        Map<Long, List<CategoryResult.Detail>> children = new HashMap<>();
+        Map<Long, CategoryResult.Tree> treeNodes = new HashMap<>();
+        List<CategoryResult.Detail> roots = new ArrayList<>();
+        List<CategoryResult.Tree> tree = new ArrayList<>();
+
+        for (CategoryNode node : nodes) {
+            CategoryResult.Detail detail = toDetail(node);
+            CategoryResult.Tree treeNode = toTree(node);
+            details.put(node.id(), detail);
+            treeNodes.put(node.id(), treeNode);
+
+            List<CategoryResult.Detail> parentPath = node.parentId() == null ? List.of() : paths.get(node.parentId());
+            if (parentPath == null) {
+                // 부모가 먼저 오지 않은 경우는 정렬 조건을 어긴 것이므로 스냅샷을 만들지 않는다
+                throw new IllegalStateException("부모 카테고리가 먼저 정렬되지 않았습니다 categoryId=" + node.id());
+            }
+            List<CategoryResult.Detail> path = new ArrayList<>(parentPath.size() + 1);
+            path.addAll(parentPath);
+            path.add(detail);
+            paths.put(node.id(), List.copyOf(path));
+
+            if (node.parentId() == null) {
+                roots.add(detail);
+                tree.add(treeNode);
+            } else {
+                children.computeIfAbsent(node.parentId(), id -> new ArrayList<>()).add(detail);
+                treeNodes.get(node.parentId()).addChild(treeNode);
+            }
+        }
+
+        Map<Long, List<CategoryResult.Detail>> immutableChildren = new HashMap<>();
+        children.forEach((id, list) -> immutableChildren.put(id, List.copyOf(list)));
+        return new CategoryTreeSnapshot(version, Map.copyOf(details), Map.copyOf(paths), Map.copyOf(immutableChildren),
+                List.copyOf(roots), List.copyOf(tree));
+    }
+
+    public static CategoryTreeSnapshot empty() {
+        return of(0L, List.of());
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public List<CategoryResult.Tree> tree() {
+        return tree;
+    }
+
+    public Optional<CategoryResult.Detail> find(Long categoryId) {
+        return Optional.ofNullable(details.get(categoryId));
+    }
+
+    public Optional<CategoryResult.Navigation> navigation(Long categoryId) {
+        CategoryResult.Detail current = details.get(categoryId);
+        if (current == null) {
+            return Optional.empty();
+        }
+        List<CategoryResult.Detail> siblings = current.parentId() == null
+                ? roots
+                : children.getOrDefault(current.parentId(), List.of());
+        return Optional.of(CategoryResult.Navigation.builder()
+                .current(current)
+                .path(paths.get(categoryId))
+                .siblings(siblings)
+                .children(children.getOrDefault(categoryId, List.of()))
+                .build());
+    }
+
+    private static CategoryResult.Detail toDetail(CategoryNode node) {
+        return CategoryResult.Detail.builder()
+                .id(node.id())
+                .name(node.name())
+                .parentId(node.parentId())
+                .depth(node.depth())
+                .imagePath(node.imagePath())
+                .productCount(node.productCount())
+                .build();
+    }
+
+    private static CategoryResult.Tree toTree(CategoryNode node) {
+        return CategoryResult.Tree.builder()
+                .id(node.id())
+                .name(node.name())
+                .parentId(node.parentId())
+                .depth(node.depth())
+                .imagePath(node.imagePath())
+                .productCount(node.productCount())
+                .build();
+    }
+}
@@ -13,7 +13,8 @@ public class CategoryResponse {
             String name,
             Long parentId,
             Integer depth,
-            String imagePath
+            String imagePath,
+            Long productCount
     ) {
         public static Detail from(CategoryResult.Detail result) {
             return Detail.builder()
@@ -22,6 +23,7 @@ public class CategoryResponse {
                     .parentId(result.parentId())
                     .depth(result.depth())
                     .imagePath(result.imagePath())
+                    .productCount(result.productCount())
                     .build();
         }
     }
@@ -33,6 +35,7 @@ public class CategoryResponse {
             Long parentId,
             Integer depth,
             String imagePath,
+            Long productCount,
             List<Tree> children
     ) {
         public static Tree from (CategoryResult.Tree result) {
@@ -42,6 +45,7 @@ public class CategoryResponse {
                     .parentId(result.getParentId())
                     .depth(result.getDepth())
                     .imagePath(result.getImagePath())
+                    .productCount(result.getProductCount())
                     .children(result.getChildren().stream().map(Tree::from).toList())
                     .build();
         }
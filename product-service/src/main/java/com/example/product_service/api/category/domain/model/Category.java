@@ -28,6 +28,9 @@ public class Category extends BaseEntity {
     private Integer depth;
     private String path;
     private String imagePath;
+    // 하위 카테고리를 포함한 판매중인 상품 수, 상품 상태가 바뀔때 상위 카테고리까지 한번의 UPDATE 로 증감하므로 엔티티로는 수정하지 않는다
+    @Column(updatable = false)
+    private Long productCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
@@ -42,6 +45,7 @@ public class Category extends BaseEntity {
         this.depth = depth;
         this.path = path;
         this.imagePath = imagePath;
+        this.productCount = 0L;
     }
 
     public static Category create(String name, Category parent, String imagePath) {
@@ -96,13 +100,15 @@ public class Category extends BaseEntity {
             // 루트라면 depth 는 1
             this.depth = ROOT_DEPTH;
         }
-        // 자신 경로 최신화
+        // 자신 경로 최신화, 하위 카테고리의 경로와 깊이는 저장소에서 한번의 UPDATE 로 변경한다
         generatePath();
-        // 자식 경로 최신화
-        updateChildrenPath(this.children);
     }
 
+    // 루트부터 자신까지의 카테고리 id, 경로가 생성되기 전이면 자신만 포함한다
     public List<Long> getPathIds() {
+        if (this.path == null) {
+            return List.of(this.id);
+        }
         return Arrays.stream(this.path.split("/"))
                 .map(Long::parseLong)
                 .toList();
@@ -119,24 +125,6 @@ public class Category extends BaseEntity {
         }
     }
 
-    private void updateChildrenPath(List<Category> children) {
-        if (children == null || children.isEmpty()) {
-            return;
-        }
-
-        for (Category child : children) {
-            child.depth = generateDepth(child.getParent());
-            child.generatePath();
-
-            updateChildrenPath(child.getChildren());
-        }
-    }
-
-    // 부모가 존재하지 않으면 depth=1 , 부모가 존재하면 부모의 depth + 1
-    private static int generateDepth(Category parent) {
-        return (parent == null) ? 1 : parent.getDepth() + 1;
-    }
-
     private static Category create(String name, int depth, String imagePath){
         return Category.builder()
                 .name(name)
@@ -1,8 +1,10 @@
 package com.example.product_service.api.category.domain.repository;
 
+import com.example.product_service.api.category.cache.CategoryNode;
 import com.example.product_service.api.category.domain.model.Category;
 import com.example.product_service.api.category.domain.repository.query.CategoryQueryDslRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,4 +19,28 @@ public interface CategoryRepository extends JpaRepository<Category, Long>, Categ
 
     @Query("select c from Category c where c.parent.id = :parentId")
     List<Category> findByParentId(@Param("parentId") Long parentId);
+
+    @Query("""
+            select new com.example.product_service.api.category.cache.CategoryNode(c.id, c.name, p.id, c.depth, c.imagePath, c.productCount)
+            from Category c
+            left join c.parent p
+            order by c.depth asc, c.id asc
+            """)
+    List<CategoryNode> findAllNodes();
+
+    // 하위 카테고리 전체의 경로 접두사와 깊이를 한번에 변경한다, 변경 전 하위 카테고리 엔티티가 남지 않도록 영속성 컨텍스트를 비운다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Category c
+            set c.path = concat(:newPrefix, substring(c.path, :oldPrefixLength + 1)),
+                c.depth = c.depth + :depthDelta
+            where c.path like :oldPrefixPattern
+            """)
+    int moveDescendants(@Param("oldPrefixPattern") String oldPrefixPattern, @Param("oldPrefixLength") int oldPrefixLength,
+                        @Param("newPrefix") String newPrefix, @Param("depthDelta") int depthDelta);
+
+    // 영속성 컨텍스트의 상품 변경을 잃지 않도록 비우지 않는다, productCount 는 엔티티로 수정되지 않으므로 덮어쓰이지 않는다
+    @Modifying(flushAutomatically = true)
+    @Query("update Category c set c.productCount = c.productCount + :delta where c.id in :categoryIds")
+    int increaseProductCount(@Param("categoryIds") List<Long> categoryIds, @Param("delta") long delta);
 }
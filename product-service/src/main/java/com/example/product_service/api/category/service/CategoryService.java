@@ -1,24 +1,22 @@
 package com.example.product_service.api.category.service;
 
+import com.example.product_service.api.category.cache.CategoryTreeCache;
 import com.example.product_service.api.category.domain.model.Category;
 import com.example.product_service.api.category.domain.repository.CategoryRepository;
 import com.example.product_service.api.category.service.dto.command.CategoryCommand;
 import com.example.product_service.api.category.service.dto.result.CategoryResult;
+import com.example.product_service.api.category.service.event.CategoryChangedEvent;
 import com.example.product_service.api.common.exception.BusinessException;
 import com.example.product_service.api.common.exception.CategoryErrorCode;
 import com.example.product_service.api.product.domain.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -28,6 +26,8 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CategoryResult.Detail saveCategory(CategoryCommand.Create command) {
@@ -36,6 +36,7 @@ public class CategoryService {
         Category category = Category.create(command.name(), parent, command.imagePath());
         categoryRepository.save(category);
         category.generatePath();
+        eventPublisher.publishEvent(CategoryChangedEvent.structure(category.getId()));
         return CategoryResult.Detail.from(category);
     }
 
@@ -44,24 +45,14 @@ public class CategoryService {
         return CategoryResult.Detail.from(category);
     }
 
+    // 트리와 네비게이션은 메모리의 카테고리 트리 스냅샷에서 조회한다
     public List<CategoryResult.Tree> getTree() {
-        Sort sort = Sort.by(Sort.Direction.ASC, "depth", "id");
-        List<Category> allCategories = categoryRepository.findAll(sort);
-        return convertTree(allCategories);
+        return categoryTreeCache.get().tree();
     }
 
     public CategoryResult.Navigation getNavigation(Long categoryId) {
-        Category target = findCategoryOrThrow(categoryId);
-        CategoryResult.Detail current = CategoryResult.Detail.from(target);
-        List<CategoryResult.Detail> path = findCategoryPath(target);
-        List<CategoryResult.Detail> siblings = findSiblings(target);
-        List<CategoryResult.Detail> children = findChildren(target);
-        return CategoryResult.Navigation.builder()
-                .current(current)
-                .path(path)
-                .siblings(siblings)
-                .children(children)
-                .build();
+        return categoryTreeCache.get().navigation(categoryId)
+                .orElseThrow(() -> new BusinessException(CategoryErrorCode.CATEGORY_NOT_FOUND));
     }
 
     @Transactional
@@ -75,16 +66,25 @@ public class CategoryService {
         if (command.imagePath() != null) {
             category.changeImage(command.imagePath());
         }
+        eventPublisher.publishEvent(CategoryChangedEvent.structure(category.getId()));
         return CategoryResult.Detail.from(category);
     }
 
-    @Transactional
+    // 큰 하위 트리를 옮기더라도 카테고리 잠금을 오래 잡지 않도록 트랜잭션 시간을 제한한다
+    @Transactional(timeout = 10)
     public CategoryResult.Detail moveParent(Long categoryId, Long parentId) {
         // 카테고리 조회
         Category category = findCategoryOrThrow(categoryId);
         Category parent = getValidatedParent(parentId);
         validateDuplicateName(parent, category.getName());
+        String oldPath = category.getPath();
+        int oldDepth = category.getDepth();
+        // 하위 상품 수를 기존 상위 카테고리에서 빼고 새 상위 카테고리에 더한다
+        moveProductCount(category, -category.getProductCount());
         category.moveParent(parent);
+        moveDescendants(oldPath, oldDepth, category);
+        moveProductCount(category, category.getProductCount());
+        eventPublisher.publishEvent(CategoryChangedEvent.structure(category.getId()));
         return CategoryResult.Detail.from(category);
     }
 
@@ -98,6 +98,24 @@ public class CategoryService {
             throw new BusinessException(CategoryErrorCode.HAS_PRODUCT);
         }
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(CategoryChangedEvent.structure(category.getId()));
+    }
+
+    // 하위 카테고리를 하나씩 읽지 않고 경로 접두사를 바꾸는 한번의 UPDATE 로 옮긴다
+    private void moveDescendants(String oldPath, int oldDepth, Category category) {
+        String oldPrefix = oldPath + "/";
+        int moved = categoryRepository.moveDescendants(oldPrefix + "%", oldPrefix.length(),
+                category.getPath() + "/", category.getDepth() - oldDepth);
+        log.debug("하위 카테고리 이동 categoryId={}, count={}", category.getId(), moved);
+    }
+
+    private void moveProductCount(Category category, long delta) {
+        List<Long> ancestorIds = category.getPathIds().stream()
+                .filter(id -> !id.equals(category.getId()))
+                .toList();
+        if (delta != 0 && !ancestorIds.isEmpty()) {
+            categoryRepository.increaseProductCount(ancestorIds, delta);
+        }
     }
 
     // 형제중 같은 이름이 존재하면 예외를 던짐
@@ -112,48 +130,6 @@ public class CategoryService {
                 .orElseThrow(() -> new BusinessException(CategoryErrorCode.CATEGORY_NOT_FOUND));
     }
 
-    private List<CategoryResult.Detail> findCategoryPath(Category current) {
-        if (current.isRoot()) {
-            return List.of(CategoryResult.Detail.from(current));
-        }
-        List<Long> ancestorIds = current.getPathIds();
-        List<Category> ancestors = categoryRepository.findByInOrderDepth(ancestorIds);
-        return createCategoryResponses(ancestors);
-    }
-
-    private List<CategoryResult.Detail> findSiblings(Category current) {
-        if (current.isRoot()) {
-            List<Category> siblings = categoryRepository.findByParentIsNull();
-            return createCategoryResponses(siblings);
-        }
-        List<Category> siblings = categoryRepository.findByParentId(current.getParent().getId());
-        return createCategoryResponses(siblings);
-    }
-
-    private List<CategoryResult.Detail> findChildren(Category current) {
-        return createCategoryResponses(current.getChildren());
-    }
-
-    private List<CategoryResult.Tree> convertTree(List<Category> categories) {
-        List<CategoryResult.Tree> allDtoList = categories.stream().map(CategoryResult.Tree::from)
-                .toList();
-        Map<Long, CategoryResult.Tree> dtoMap = allDtoList.stream().collect(Collectors.toMap(CategoryResult.Tree::getId, Function.identity()));
-        List<CategoryResult.Tree> rootCategories = new ArrayList<>();
-        for (CategoryResult.Tree categoryResult : allDtoList) {
-            if (categoryResult.getDepth() == 1) {
-                rootCategories.add(categoryResult);
-            } else {
-                CategoryResult.Tree parent = dtoMap.get(categoryResult.getParentId());
-                parent.addChild(categoryResult);
-            }
-        }
-        return rootCategories;
-    }
-
-    private List<CategoryResult.Detail> createCategoryResponses(List<Category> categories) {
-        return categories.stream().map(CategoryResult.Detail::from).toList();
-    }
-
     // 부모 카테고리를 찾고 부모 카테고리에 속한 상품이 존재하는지 검증
     private Category getValidatedParent(Long parentId) {
         if (parentId == null) {
@@ -16,7 +16,8 @@ public class CategoryResult {
             String name,
             Long parentId,
             Integer depth,
-            String imagePath
+            String imagePath,
+            Long productCount
     ) {
         public static Detail from(Category category) {
             return Detail.builder()
@@ -25,6 +26,7 @@ public class CategoryResult {
                     .parentId(category.getParent() == null ? null : category.getParent().getId())
                     .depth(category.getDepth())
                     .imagePath(category.getImagePath())
+                    .productCount(category.getProductCount())
                     .build();
         }
     }
@@ -44,15 +46,17 @@ public class CategoryResult {
         private final Long parentId;
         private final Integer depth;
         private final String imagePath;
+        private final Long productCount;
         private final List<Tree> children;
 
         @Builder
-        public Tree(Long id, String name, Long parentId, Integer depth, String imagePath) {
+        public Tree(Long id, String name, Long parentId, Integer depth, String imagePath, Long productCount) {
             this.id = id;
             this.name = name;
             this.parentId = parentId;
             this.depth = depth;
             this.imagePath = imagePath;
+            this.productCount = productCount;
             this.children = new ArrayList<>();
         }
 
@@ -67,6 +71,7 @@ public class CategoryResult {
                     .parentId(category.getParent() == null ? null : category.getParent().getId())
                     .depth(category.getDepth())
                     .imagePath(category.getImagePath())
+                    .productCount(category.getProductCount())
                     .build();
         }
     }
@@ -0,0 +1,17 @@
+package com.example.product_service.api.category.service.event;
+
+/**
+ * 카테고리 구조, 정보 또는 카테고리별 판매중인 상품 수가 변경되었을때 발행
+ *
+ * @param structural 카테고리 생성, 수정, 이동, 삭제면 true, 판매중인 상품 수만 바뀌었으면 false
+ */
+public record CategoryChangedEvent(Long categoryId, boolean structural) {
+
+    public static CategoryChangedEvent structure(Long categoryId) {
+        return new CategoryChangedEvent(categoryId, true);
+    }
+
+    public static CategoryChangedEvent productCount(Long categoryId) {
+        return new CategoryChangedEvent(categoryId, false);
+    }
+}
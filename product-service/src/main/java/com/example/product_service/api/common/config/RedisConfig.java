@@ -0,0 +1,50 @@
+package com.example.product_service.api.common.config;
+
+import com.example.product_service.api.category.cache.CategoryTreeCache;
+import com.example.product_service.api.category.cache.CategoryTreeInvalidationSubscriber;
+import com.example.product_service.api.product.cache.VariantCacheInvalidationSubscriber;
+import com.example.product_service.api.product.cache.VariantSnapshotCache;
+import com.example.product_service.api.product.search.ProductSearchIndexSubscriber;
+import com.example.product_service.api.product.search.ProductSearchIndexUpdater;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "product.variant-cache.invalidation-listener-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       VariantCacheInvalidationSubscriber subscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(subscriber, new ChannelTopic(VariantSnapshotCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    // 검색 색인 변경 구독은 변형 캐시 설정과 관계없이 켜고 끌 수 있도록 별도 컨테이너로 등록한다
+    @Bean
+    @ConditionalOnProperty(name = "product.search.change-listener-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer productSearchListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       ProductSearchIndexSubscriber searchIndexSubscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(searchIndexSubscriber, new ChannelTopic(ProductSearchIndexUpdater.CHANGE_CHANNEL));
+        return container;
+    }
+
+    // 카테고리 트리 무효화 구독도 변형 캐시 설정과 관계없이 켜고 끌 수 있도록 별도 컨테이너로 등록한다
+    @Bean
+    @ConditionalOnProperty(name = "product.category-tree.invalidation-listener-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer categoryTreeListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                      CategoryTreeInvalidationSubscriber categoryTreeSubscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(categoryTreeSubscriber, new ChannelTopic(CategoryTreeCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -9,13 +9,18 @@ import com.example.product_service.api.option.domain.repository.OptionValueRepos
 import com.example.product_service.api.option.service.dto.command.OptionCommand;
 import com.example.product_service.api.option.service.dto.result.OptionResult;
 import com.example.product_service.api.option.service.dto.result.OptionValueResult;
+import com.example.product_service.api.product.domain.model.ProductVariant;
 import com.example.product_service.api.product.domain.repository.ProductOptionRepository;
 import com.example.product_service.api.product.domain.repository.ProductVariantOptionRepository;
+import com.example.product_service.api.product.service.event.ProductChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +31,7 @@ public class OptionService {
     private final OptionValueRepository optionValueRepository;
     private final ProductOptionRepository productOptionRepository;
     private final ProductVariantOptionRepository productVariantOptionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OptionResult saveOption(OptionCommand.Create command) {
         validateDuplicateTypeName(command.name());
@@ -48,6 +54,7 @@ public class OptionService {
         OptionType optionType = findOptionTypeOrThrow(command.id());
         validateDuplicateTypeName(command.name().trim());
         optionType.rename(command.name());
+        publishVariantsChanged(productVariantOptionRepository.findAllByOptionTypeId(optionType.getId()));
         return OptionResult.from(optionType);
     }
 
@@ -55,6 +62,7 @@ public class OptionService {
         OptionValue optionValue = findOptionValueOrThrow(command.id());
         validateDuplicateValueName(optionValue.getOptionType(), command.name());
         optionValue.rename(command.name());
+        publishVariantsChanged(productVariantOptionRepository.findAllByOptionValueId(optionValue.getId()));
         return OptionValueResult.from(optionValue);
     }
 
@@ -70,6 +78,14 @@ public class OptionService {
         optionValueRepository.delete(optionValue);
     }
 
+    // 옵션 이름은 상품 변형 조회 결과에 포함되므로 해당 옵션을 사용하는 상품마다 변경 이벤트를 발행한다
+    private void publishVariantsChanged(List<ProductVariant> variants) {
+        variants.stream()
+                .collect(Collectors.groupingBy(variant -> variant.getProduct().getId(), LinkedHashMap::new,
+                        Collectors.mapping(ProductVariant::getId, Collectors.toList())))
+                .forEach((productId, variantIds) -> eventPublisher.publishEvent(new ProductChangedEvent(productId, variantIds)));
+    }
+
     private OptionType findOptionTypeOrThrow(Long optionTypeId) {
         return optionTypeRepository.findById(optionTypeId)
                 .orElseThrow(() -> new BusinessException(OptionErrorCode.OPTION_NOT_FOUND));
@@ -0,0 +1,19 @@
+package com.example.product_service.api.product.cache;
+
+import com.example.product_service.api.product.service.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class VariantCacheEvictionListener {
+    private final VariantSnapshotCache variantSnapshotCache;
+
+    // 커밋 이전에 지우면 다른 요청이 변경 전 값을 다시 캐시할 수 있으므로 커밋 이후에 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        variantSnapshotCache.evict(event.variantIds());
+    }
+}
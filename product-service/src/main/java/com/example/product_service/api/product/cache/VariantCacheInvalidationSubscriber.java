@@ -0,0 +1,27 @@
+package com.example.product_service.api.product.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 다른 인스턴스에서 변경된 상품 변형을 로컬 캐시에서 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class VariantCacheInvalidationSubscriber implements MessageListener {
+    private final VariantSnapshotCache variantSnapshotCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        List<Long> variantIds = Arrays.stream(new String(message.getBody(), StandardCharsets.UTF_8).split(","))
+                .map(Long::valueOf)
+                .toList();
+        variantSnapshotCache.evictLocal(variantIds);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.product_service.api.product.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product.variant-cache")
+public class VariantCacheProperties {
+    private long localMaximumSize = 10_000;
+    // 다른 인스턴스의 무효화 메시지를 놓쳐도 이 시간이 지나면 로컬 캐시가 갱신된다
+    private Duration localTtl = Duration.ofSeconds(30);
+    private Duration redisTtl = Duration.ofMinutes(10);
+}
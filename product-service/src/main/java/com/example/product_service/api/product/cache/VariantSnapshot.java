@@ -0,0 +1,74 @@
+package com.example.product_service.api.product.cache;
+
+import com.example.product_service.api.product.domain.model.ProductStatus;
+import com.example.product_service.api.product.domain.model.ProductVariant;
+import com.example.product_service.api.product.service.dto.result.InternalVariantResponse;
+
+import java.util.List;
+
+/**
+ * 캐시에 저장하는 상품 변형 정보
+ * <p>
+ * 자주 바뀌는 재고는 포함하지 않고 응답을 만들때 DB 에서 조회한 값을 합친다.
+ */
+public record VariantSnapshot(
+        Long productId,
+        Long productVariantId,
+        ProductStatus status,
+        String sku,
+        String productName,
+        long originalPrice,
+        int discountRate,
+        long discountAmount,
+        long discountedPrice,
+        String thumbnailUrl,
+        List<Option> itemOptions
+) {
+
+    public record Option(String optionTypeName, String optionValueName) {
+    }
+
+    public static VariantSnapshot from(ProductVariant variant) {
+        List<Option> options = variant.getProductVariantOptions().stream()
+                .map(v -> new Option(v.getOptionValue().getOptionType().getName(), v.getOptionValue().getName()))
+                .toList();
+        return new VariantSnapshot(
+                variant.getProduct().getId(),
+                variant.getId(),
+                variant.getProduct().getStatus(),
+                variant.getSku(),
+                variant.getProduct().getName(),
+                variant.getOriginalPrice(),
+                variant.getDiscountRate(),
+                variant.getDiscountAmount(),
+                variant.getPrice(),
+                variant.getProduct().getThumbnail(),
+                options
+        );
+    }
+
+    public InternalVariantResponse toResponse(Integer stockQuantity) {
+        return InternalVariantResponse.builder()
+                .productId(productId)
+                .productVariantId(productVariantId)
+                .status(status)
+                .sku(sku)
+                .productName(productName)
+                .unitPrice(
+                        InternalVariantResponse.UnitPrice.builder()
+                                .originalPrice(originalPrice)
+                                .discountRate(discountRate)
+                                .discountAmount(discountAmount)
+                                .discountedPrice(discountedPrice)
+                                .build())
+                .stockQuantity(stockQuantity)
+                .thumbnailUrl(thumbnailUrl)
+                .itemOptions(itemOptions.stream()
+                        .map(option -> InternalVariantResponse.ItemOption.builder()
+                                .optionTypeName(option.optionTypeName())
+                                .optionValueName(option.optionValueName())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
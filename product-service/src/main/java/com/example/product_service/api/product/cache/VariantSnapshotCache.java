@@ -0,0 +1,240 @@
+package com.example.product_service.api.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 변형 정보의 2단계 캐시 (로컬 Caffeine -> Redis -> DB)
+ * <p>
+ * 상품 정보가 변경되면 커밋 이후 Redis 키를 지우고 무효화 채널로 알려 모든 인스턴스의 로컬 캐시를 비운다.
+ * Redis 장애시에는 로컬 캐시와 DB 만으로 조회한다.
+ * <p>
+ * 조회가 끝나기 전에 무효화가 먼저 처리되면 조회한 이전 값이 다시 캐시에 남을 수 있다.
+ * 무효화할 때마다 변형별 세대를 올리고, 조회 시작 시점의 세대가 그대로일 때만 캐시에 저장한다.
+ * Redis 는 세대 키와 값 저장을 스크립트로 묶어 비교하고, 로컬 캐시는 id 를 나눈 세대 배열로 비교한다.
+ */
+@Slf4j
+@Component
+public class VariantSnapshotCache {
+    public static final String INVALIDATION_CHANNEL = "product:variant:snapshot:invalidation";
+    private static final String KEY_PREFIX = "product:variant:snapshot:";
+    private static final String GENERATION_KEY_PREFIX = "product:variant:snapshot:generation:";
+    private static final int LOCAL_GENERATION_STRIPES = 4096;
+    // 조회 시작 시점의 세대와 같을 때만 저장, 세대 키가 없으면 빈 문자열로 비교한다
+    private static final RedisScript<Long> SET_IF_GENERATION_UNCHANGED = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final Cache<Long, VariantSnapshot> localCache;
+    // 변형 id 를 나눈 로컬 세대, 다른 변형과 세대를 공유하면 저장을 한 번 건너뛸 뿐이다
+    private final AtomicLongArray localGenerations = new AtomicLongArray(LOCAL_GENERATION_STRIPES);
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final VariantCacheProperties properties;
+    private final Counter localHit;
+    private final Counter localMiss;
+    private final Counter redisHit;
+    private final Counter redisMiss;
+
+    public VariantSnapshotCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                VariantCacheProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .build();
+        this.localHit = requestCounter(meterRegistry, "local", "hit");
+        this.localMiss = requestCounter(meterRegistry, "local", "miss");
+        this.redisHit = requestCounter(meterRegistry, "redis", "hit");
+        this.redisMiss = requestCounter(meterRegistry, "redis", "miss");
+    }
+
+    /**
+     * 로컬 캐시, Redis 순으로 조회하고 남은 변형만 loader 로 조회해 두 캐시에 채운다
+     *
+     * @param loader 캐시에 없는 변형 id 목록으로 DB 를 조회하는 함수
+     * @return 변형 id 별 캐시된 정보, 존재하지 않는 변형은 포함되지 않는다
+     */
+    public Map<Long, VariantSnapshot> getAll(Collection<Long> variantIds, Function<List<Long>, List<VariantSnapshot>> loader) {
+        Set<Long> ids = new LinkedHashSet<>(variantIds);
+        Map<Long, VariantSnapshot> result = new HashMap<>(localCache.getAllPresent(ids));
+        localHit.increment(result.size());
+        List<Long> localMissIds = ids.stream().filter(id -> !result.containsKey(id)).toList();
+        localMiss.increment(localMissIds.size());
+        if (localMissIds.isEmpty()) {
+            return result;
+        }
+        Map<Long, Long> localGenerationsAtLoad = new HashMap<>();
+        localMissIds.forEach(id -> localGenerationsAtLoad.put(id, localGeneration(id)));
+
+        Map<Long, VariantSnapshot> fromRedis = readRedis(localMissIds);
+        redisHit.increment(fromRedis.size());
+        redisMiss.increment(localMissIds.size() - fromRedis.size());
+        fromRedis.values().forEach(snapshot -> putLocalIfUnchanged(snapshot, localGenerationsAtLoad));
+        result.putAll(fromRedis);
+
+        List<Long> dbIds = localMissIds.stream().filter(id -> !fromRedis.containsKey(id)).toList();
+        if (dbIds.isEmpty()) {
+            return result;
+        }
+        Map<Long, String> redisGenerationsAtLoad = readRedisGenerations(dbIds);
+        List<VariantSnapshot> loaded = loader.apply(dbIds);
+        writeRedisIfUnchanged(loaded, redisGenerationsAtLoad);
+        loaded.forEach(snapshot -> {
+            putLocalIfUnchanged(snapshot, localGenerationsAtLoad);
+            result.put(snapshot.productVariantId(), snapshot);
+        });
+        return result;
+    }
+
+    // 변경된 변형을 Redis 와 모든 인스턴스의 로컬 캐시에서 제거
+    public void evict(Collection<Long> variantIds) {
+        if (variantIds.isEmpty()) {
+            return;
+        }
+        evictLocal(variantIds);
+        try {
+            // 세대를 먼저 올려 진행 중인 조회가 삭제 뒤에 이전 값을 저장하지 못하게 한다
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                variantIds.forEach(id -> connection.stringCommands().incr(bytes(generationKey(id))));
+                return null;
+            });
+            redisTemplate.delete(variantIds.stream().map(this::key).toList());
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    variantIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (RuntimeException e) {
+            log.warn("상품 변형 캐시 무효화 실패 variantIds={}", variantIds, e);
+        }
+    }
+
+    public void evictLocal(Collection<Long> variantIds) {
+        variantIds.forEach(id -> localGenerations.incrementAndGet(localGenerationIndex(id)));
+        localCache.invalidateAll(variantIds);
+    }
+
+    private long localGeneration(Long variantId) {
+        return localGenerations.get(localGenerationIndex(variantId));
+    }
+
+    private int localGenerationIndex(Long variantId) {
+        return Long.hashCode(variantId) & (LOCAL_GENERATION_STRIPES - 1);
+    }
+
+    // 세대 비교와 저장을 같은 키의 compute 안에서 해 그 사이에 무효화가 끼어들지 못하게 한다
+    private void putLocalIfUnchanged(VariantSnapshot snapshot, Map<Long, Long> generationsAtLoad) {
+        Long variantId = snapshot.productVariantId();
+        Long generationAtLoad = generationsAtLoad.get(variantId);
+        if (generationAtLoad == null) {
+            return;
+        }
+        localCache.asMap().compute(variantId,
+                (id, current) -> localGeneration(id) == generationAtLoad ? snapshot : current);
+    }
+
+    private Map<Long, VariantSnapshot> readRedis(List<Long> ids) {
+        Map<Long, VariantSnapshot> found = new HashMap<>();
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(this::key).toList());
+            if (values == null) {
+                return found;
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    found.put(ids.get(i), objectMapper.readValue(value, VariantSnapshot.class));
+                }
+            }
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("상품 변형 캐시 조회 실패", e);
+        }
+        return found;
+    }
+
+    // 세대를 읽지 못하면 null 을 반환하고 Redis 에는 저장하지 않는다
+    private Map<Long, String> readRedisGenerations(List<Long> ids) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(this::generationKey).toList());
+            if (values == null) {
+                return null;
+            }
+            Map<Long, String> generations = new HashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                String value = values.get(i);
+                generations.put(ids.get(i), value == null ? "" : value);
+            }
+            return generations;
+        } catch (RuntimeException e) {
+            log.warn("상품 변형 캐시 세대 조회 실패", e);
+            return null;
+        }
+    }
+
+    private void writeRedisIfUnchanged(List<VariantSnapshot> snapshots, Map<Long, String> generationsAtLoad) {
+        if (snapshots.isEmpty() || generationsAtLoad == null) {
+            return;
+        }
+        try {
+            List<byte[][]> keysAndArgs = new ArrayList<>();
+            byte[] ttlMillis = bytes(String.valueOf(properties.getRedisTtl().toMillis()));
+            for (VariantSnapshot snapshot : snapshots) {
+                Long variantId = snapshot.productVariantId();
+                String generation = generationsAtLoad.get(variantId);
+                if (generation == null) {
+                    continue;
+                }
+                keysAndArgs.add(new byte[][]{bytes(key(variantId)), bytes(generationKey(variantId)),
+                        bytes(generation), objectMapper.writeValueAsBytes(snapshot), ttlMillis});
+            }
+            byte[] script = bytes(SET_IF_GENERATION_UNCHANGED.getScriptAsString());
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                keysAndArgs.forEach(entry -> connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2, entry));
+                return null;
+            });
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("상품 변형 캐시 저장 실패", e);
+        }
+    }
+
+    private String key(Long variantId) {
+        return KEY_PREFIX + variantId;
+    }
+
+    private String generationKey(Long variantId) {
+        return GENERATION_KEY_PREFIX + variantId;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("product.variant.cache.requests")
+                .description("상품 변형 캐시 조회 수, tier 별 hit / (hit + miss) 로 적중률을 구한다")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
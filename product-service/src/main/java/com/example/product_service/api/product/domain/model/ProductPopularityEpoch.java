@@ -0,0 +1,42 @@
+package com.example.product_service.api.product.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 상품 인기도 가중치 계산 기준 시각
+ * <p>
+ * 모든 인스턴스와 저장된 점수가 같은 기준 시각을 쓰도록 한 행만 둔다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductPopularityEpoch {
+    public static final Long ID = 1L;
+
+    @Id
+    private Long id;
+    private Long epochMillis;
+
+    private ProductPopularityEpoch(Long id, Long epochMillis) {
+        this.id = id;
+        this.epochMillis = epochMillis;
+    }
+
+    public static ProductPopularityEpoch of(Instant epoch) {
+        return new ProductPopularityEpoch(ID, epoch.toEpochMilli());
+    }
+
+    public Instant toInstant() {
+        return Instant.ofEpochMilli(epochMillis);
+    }
+
+    public void moveTo(Instant epoch) {
+        this.epochMillis = epoch.toEpochMilli();
+    }
+}
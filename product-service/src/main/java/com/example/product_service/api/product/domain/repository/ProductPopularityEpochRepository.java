@@ -0,0 +1,21 @@
+package com.example.product_service.api.product.domain.repository;
+
+import com.example.product_service.api.product.domain.model.ProductPopularityEpoch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ProductPopularityEpochRepository extends JpaRepository<ProductPopularityEpoch, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select e from ProductPopularityEpoch e where e.id = :id")
+    Optional<ProductPopularityEpoch> findWithShareLockById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from ProductPopularityEpoch e where e.id = :id")
+    Optional<ProductPopularityEpoch> findWithLockById(@Param("id") Long id);
+}
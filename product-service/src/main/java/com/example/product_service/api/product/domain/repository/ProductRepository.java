@@ -1,14 +1,36 @@
 package com.example.product_service.api.product.domain.repository;
 
 import com.example.product_service.api.product.domain.model.Product;
+import com.example.product_service.api.product.domain.model.ProductStatus;
 import com.example.product_service.api.product.domain.repository.query.ProductQueryDslRepository;
+import com.example.product_service.api.product.search.ProductSearchDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface ProductRepository extends JpaRepository<Product, Long>, ProductQueryDslRepository {
 
     @Query("select count(p) > 0 from Product p where p.category.id = :categoryId")
     boolean existsByCategoryId(@Param("categoryId") Long categoryId);
 
+    @Query("""
+            select new com.example.product_service.api.product.search.ProductSearchDocument(p.id, p.name)
+            from Product p
+            where p.status = :status and p.id > :lastProductId
+            order by p.id
+            """)
+    List<ProductSearchDocument> findSearchDocuments(@Param("status") ProductStatus status,
+                                                    @Param("lastProductId") Long lastProductId, Pageable pageable);
+
+    @Query("""
+            select new com.example.product_service.api.product.search.ProductSearchDocument(p.id, p.name)
+            from Product p
+            where p.id = :productId and p.status = :status
+            """)
+    Optional<ProductSearchDocument> findSearchDocument(@Param("productId") Long productId, @Param("status") ProductStatus status);
+
 }
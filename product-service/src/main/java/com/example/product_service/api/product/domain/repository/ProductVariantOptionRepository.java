@@ -5,7 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface ProductVariantOptionRepository extends JpaRepository<ProductVariant, Long> {
     @Query("select count(pvo) > 0 from ProductVariantOption pvo where pvo.optionValue.id = :optionValueId")
     boolean existByOptionValueId(@Param("optionValueId") Long optionValueId);
+
+    @Query("select distinct pv from ProductVariant pv join pv.productVariantOptions pvo where pvo.optionValue.id = :optionValueId")
+    List<ProductVariant> findAllByOptionValueId(@Param("optionValueId") Long optionValueId);
+
+    @Query("select distinct pv from ProductVariant pv join pv.productVariantOptions pvo where pvo.optionValue.optionType.id = :optionTypeId")
+    List<ProductVariant> findAllByOptionTypeId(@Param("optionTypeId") Long optionTypeId);
 }
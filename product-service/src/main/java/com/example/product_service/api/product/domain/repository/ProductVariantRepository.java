@@ -1,7 +1,9 @@
 package com.example.product_service.api.product.domain.repository;
 
 import com.example.product_service.api.product.domain.model.ProductVariant;
+import com.example.product_service.api.product.popularity.VariantProductId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -34,4 +36,18 @@ public interface ProductVariantRepository extends JpaRepository<ProductVariant,
 
     @Query("select pv from ProductVariant pv where pv.id in :ids")
     List<ProductVariant> findByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("select new com.example.product_service.api.product.popularity.VariantProductId(pv.id, pv.product.id) " +
+            "from ProductVariant pv where pv.id in :ids")
+    List<VariantProductId> findProductIds(@Param("ids") List<Long> ids);
+
+    // 재고가 충분한 경우에만 차감되므로 동시에 주문이 몰려도 재고가 음수가 되지 않는다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProductVariant pv set pv.stockQuantity = pv.stockQuantity - :quantity " +
+            "where pv.id = :id and pv.stockQuantity >= :quantity")
+    int deductStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProductVariant pv set pv.stockQuantity = pv.stockQuantity + :quantity where pv.id = :id")
+    int restoreStock(@Param("id") Long id, @Param("quantity") int quantity);
 }
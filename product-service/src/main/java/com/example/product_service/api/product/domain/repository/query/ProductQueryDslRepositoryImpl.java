@@ -12,7 +12,9 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.example.product_service.api.category.domain.model.QCategory.category;
 import static com.example.product_service.api.product.domain.model.QProduct.product;
@@ -29,12 +31,19 @@ public class ProductQueryDslRepositoryImpl implements ProductQueryDslRepository{
     @Override
     public Page<Product> findProductsByCondition(ProductCommand.Search command) {
         Pageable pageable = command.pageable();
+        if (command.productIds() != null && command.productIds().isEmpty()) {
+            return Page.empty(pageable);
+        }
+        BooleanExpression categoryCondition = inCategoryTree(command.categoryId());
+        if (command.productIds() != null && ProductQueryMapper.isRelevance(command.sort())) {
+            return findProductsByRelevance(command, categoryCondition);
+        }
         OrderSpecifier<?> sortOrder = ProductQueryMapper.toOrderSpecifier(command.sort());
         List<Product> result = factory.select(product)
                 .from(product)
                 .join(product.category, category).fetchJoin()
-                .where(eqCategory(command.categoryId()),
-                        containName(command.name()),
+                .where(categoryCondition,
+                        matchName(command),
                         filterRating(command.rating()),
                         product.status.eq(ProductStatus.ON_SALE))
                 .offset(pageable.getOffset())
@@ -45,8 +54,8 @@ public class ProductQueryDslRepositoryImpl implements ProductQueryDslRepository{
         Long totalElement = factory.select(product.countDistinct())
                 .from(product)
                 .join(product.category, category)
-                .where(eqCategory(command.categoryId()),
-                        containName(command.name()),
+                .where(categoryCondition,
+                        matchName(command),
                         filterRating(command.rating()),
                         product.status.eq(ProductStatus.ON_SALE))
                 .fetchOne();
@@ -58,11 +67,61 @@ public class ProductQueryDslRepositoryImpl implements ProductQueryDslRepository{
         );
     }
 
-    private BooleanExpression eqCategory(Long categoryId) {
+    // 검색 색인의 순서를 유지하기 위해 조건에 맞는 id 만 먼저 조회하고 현재 페이지의 상품만 가져온다
+    private Page<Product> findProductsByRelevance(ProductCommand.Search command, BooleanExpression categoryCondition) {
+        Pageable pageable = command.pageable();
+        Set<Long> matchedIds = new HashSet<>(factory.select(product.id)
+                .from(product)
+                .join(product.category, category)
+                .where(categoryCondition,
+                        matchName(command),
+                        filterRating(command.rating()),
+                        product.status.eq(ProductStatus.ON_SALE))
+                .fetch());
+
+        List<Long> pageIds = command.productIds().stream()
+                .filter(matchedIds::contains)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, matchedIds.size());
+        }
+
+        Map<Long, Product> productMap = factory.select(product)
+                .from(product)
+                .join(product.category, category).fetchJoin()
+                .where(product.id.in(pageIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> result = pageIds.stream()
+                .map(productMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(result, pageable, matchedIds.size());
+    }
+
+    private BooleanExpression matchName(ProductCommand.Search command) {
+        if (command.productIds() != null) {
+            return product.id.in(command.productIds());
+        }
+        return containName(command.name());
+    }
+
+    // 선택한 카테고리와 모든 하위 카테고리의 상품을 path 인덱스 범위 조건으로 조회한다
+    private BooleanExpression inCategoryTree(Long categoryId) {
         if (categoryId == null) {
             return null;
         }
-        return category.id.eq(categoryId);
+        String path = factory.select(category.path)
+                .from(category)
+                .where(category.id.eq(categoryId))
+                .fetchOne();
+        if (path == null) {
+            return category.id.eq(categoryId);
+        }
+        return category.path.eq(path).or(category.path.startsWith(path + "/"));
     }
 
     private BooleanExpression containName(String name) {
@@ -9,6 +9,8 @@ import java.util.Arrays;
 import static com.example.product_service.api.product.domain.model.QProduct.product;
 
 public class ProductQueryMapper {
+    // DB 정렬이 아닌 검색 색인의 관련도 순서를 사용하는 정렬, 색인을 사용할 수 없으면 최신순으로 정렬한다
+    private static final String RELEVANCE = "relevance";
 
     @AllArgsConstructor
     private enum SortType {
@@ -36,4 +38,8 @@ public class ProductQueryMapper {
     public static OrderSpecifier<?> toOrderSpecifier(String code) {
         return SortType.fromCode(code).getSpecifier();
     }
+
+    public static boolean isRelevance(String code) {
+        return RELEVANCE.equalsIgnoreCase(code);
+    }
 }
@@ -0,0 +1,43 @@
+package com.example.product_service.api.product.popularity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 주문 서비스의 결제 완료 알림을 인기도 가중치로 모은다
+ * <p>
+ * 메시지 타입이 주문 서비스 패키지에 있으므로 문자열로 받아 필요한 필드만 읽는다.
+ * 인기도는 정렬에만 쓰이므로 읽을 수 없는 메시지는 로그만 남기고 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCompletedListener {
+    private final ProductPopularityAggregator aggregator;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "${product.topics.order-completed}",
+            groupId = "product-service-popularity",
+            batch = "true",
+            properties = "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer")
+    public void handleOrderCompleted(@Payload List<String> messages) {
+        for (String message : messages) {
+            try {
+                OrderCompletedMessage order = objectMapper.readValue(message, OrderCompletedMessage.class);
+                Instant completedAt = order.completedAt() == null ? Instant.now() : order.completedAt();
+                aggregator.record(order.productVariantIds(), completedAt);
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.warn("결제 완료 알림 파싱 실패 message={}", message, e);
+            }
+        }
+    }
+}
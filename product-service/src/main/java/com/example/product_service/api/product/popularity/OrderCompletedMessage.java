@@ -0,0 +1,13 @@
+package com.example.product_service.api.product.popularity;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 주문 서비스의 결제 완료 알림 중 인기도 계산에 필요한 필드
+ */
+public record OrderCompletedMessage(String orderNo, List<Long> productVariantIds, Instant completedAt) {
+    public OrderCompletedMessage {
+        productVariantIds = productVariantIds == null ? List.of() : productVariantIds;
+    }
+}
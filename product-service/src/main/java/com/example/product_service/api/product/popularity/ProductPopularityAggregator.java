@@ -0,0 +1,99 @@
+package com.example.product_service.api.product.popularity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결제 완료된 주문의 상품 변형별 인기도 가중치를 메모리에 모은다
+ * <p>
+ * 주문 가중치는 2^((완료 시각 - epoch) / halfLife) 로 최근 주문일수록 크다. 모든 상품이 같은 기준 시각으로 계산되므로
+ * 저장된 점수를 주기적으로 줄이지 않고 더하기만 해도 halfLife 마다 과거 주문의 비중이 절반이 되는 것과 같은 순서가 된다.
+ * 모은 가중치는 {@link ProductPopularityFlusher} 가 주기적으로 꺼내 상품 점수에 한번에 더한다.
+ * epoch 는 DB 에 저장된 기준 시각을 따르며, {@link ProductPopularityRebaser} 가 옮기면 모아둔 가중치도 같은 비율로 줄인다.
+ */
+@Component
+public class ProductPopularityAggregator {
+    private final ProductPopularityProperties properties;
+    private final Counter recorded;
+
+    private Map<Long, Double> window = new HashMap<>();
+    private Instant epoch;
+
+    public ProductPopularityAggregator(ProductPopularityProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.recorded = Counter.builder("product.popularity.orders")
+                .description("인기도에 반영된 결제 완료 주문 수")
+                .register(meterRegistry);
+        Gauge.builder("product.popularity.pending.variants", this, ProductPopularityAggregator::pendingSize)
+                .description("DB 에 반영되기를 기다리는 상품 변형 수")
+                .register(meterRegistry);
+        this.epoch = properties.getEpoch();
+    }
+
+    public void record(List<Long> variantIds, Instant completedAt) {
+        synchronized (this) {
+            double weight = weight(completedAt);
+            // 한 주문에 같은 변형이 여러번 있어도 주문 하나로 센다
+            variantIds.stream().distinct().forEach(variantId -> window.merge(variantId, weight, Double::sum));
+        }
+        recorded.increment();
+    }
+
+    /**
+     * 지금까지 모은 가중치를 꺼내고 새 window 를 시작한다
+     */
+    public synchronized Map<Long, Double> drain() {
+        Map<Long, Double> drained = window;
+        window = new HashMap<>();
+        return drained;
+    }
+
+    // DB 반영에 실패한 가중치를 다음 window 에 되돌린다
+    public synchronized void restore(Map<Long, Double> weights) {
+        weights.forEach((variantId, weight) -> window.merge(variantId, weight, Double::sum));
+    }
+
+    public synchronized int pendingSize() {
+        return window.size();
+    }
+
+    public synchronized Instant epoch() {
+        return epoch;
+    }
+
+    /**
+     * 가중치 기준 시각을 바꾸고 모아둔 가중치를 새 기준 시각으로 맞춘다
+     *
+     * @return 모아둔 가중치에 곱한 비율
+     */
+    public synchronized double changeEpoch(Instant next) {
+        if (next.equals(epoch)) {
+            return 1.0;
+        }
+        double factor = rescale(epoch, next);
+        window.replaceAll((variantId, weight) -> weight * factor);
+        epoch = next;
+        return factor;
+    }
+
+    /**
+     * @return from 기준 가중치를 to 기준 가중치로 바꾸는 비율
+     */
+    public double rescale(Instant from, Instant to) {
+        return Math.pow(2, (double) Duration.between(to, from).toMillis() / properties.getHalfLife().toMillis());
+    }
+
+    synchronized double weight(Instant completedAt) {
+        double halfLives = (double) Duration.between(epoch, completedAt).toMillis()
+                / properties.getHalfLife().toMillis();
+        return Math.pow(2, halfLives);
+    }
+}
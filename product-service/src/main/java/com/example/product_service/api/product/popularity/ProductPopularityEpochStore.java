@@ -0,0 +1,44 @@
+package com.example.product_service.api.product.popularity;
+
+import com.example.product_service.api.product.domain.model.ProductPopularityEpoch;
+import com.example.product_service.api.product.domain.repository.ProductPopularityEpochRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * DB 에 저장된 인기도 가중치 기준 시각을 조회한다
+ * <p>
+ * 기준 시각 행이 없으면 설정의 epoch 로 만든다.
+ * 점수를 더하는 트랜잭션은 공유 잠금을, 기준 시각을 옮기는 트랜잭션은 배타 잠금을 걸어 서로 겹치지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductPopularityEpochStore {
+    private final ProductPopularityEpochRepository repository;
+    private final ProductPopularityProperties properties;
+
+    public Instant current() {
+        return repository.findById(ProductPopularityEpoch.ID)
+                .orElseGet(this::create)
+                .toInstant();
+    }
+
+    // 트랜잭션 안에서 호출해야 한다
+    public Instant lockShared() {
+        return repository.findWithShareLockById(ProductPopularityEpoch.ID)
+                .orElseGet(this::create)
+                .toInstant();
+    }
+
+    // 트랜잭션 안에서 호출해야 한다
+    public ProductPopularityEpoch lock() {
+        return repository.findWithLockById(ProductPopularityEpoch.ID)
+                .orElseGet(this::create);
+    }
+
+    private ProductPopularityEpoch create() {
+        return repository.saveAndFlush(ProductPopularityEpoch.of(properties.getEpoch()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.product_service.api.product.popularity;
+
+import com.example.product_service.api.product.domain.repository.ProductVariantRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 메모리에 모은 인기도 가중치를 주기적으로 상품 점수에 더한다
+ * <p>
+ * 주문마다 상품 행을 갱신하지 않고 window 동안 상품별로 합친 값을 batch UPDATE 로 반영하므로
+ * 인기 상품에 주문이 몰려도 같은 행에 대한 쓰기는 window 당 한번이다.
+ * 여러 인스턴스가 같은 상품을 갱신할 때 서로 기다리지 않도록 항상 상품 id 순서로 갱신한다.
+ * 점수를 더하는 동안에는 기준 시각 행에 공유 잠금을 걸어 {@link ProductPopularityRebaser} 가 점수를 줄이는 것과 겹치지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductPopularityFlusher {
+    private static final String INCREASE_SCORE =
+            "update product set popularity_score = coalesce(popularity_score, 0) + ? where id = ?";
+
+    private final ProductPopularityAggregator aggregator;
+    private final ProductVariantRepository productVariantRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductPopularityProperties properties;
+    private final ProductPopularityEpochStore epochStore;
+    private final TransactionTemplate transactionTemplate;
+
+    // 반영에 실패해 다음 주기에 다시 반영할 상품별 가중치, aggregator 의 기준 시각 기준
+    private final Map<Long, Double> unwritten = new HashMap<>();
+
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * @return 점수가 갱신된 상품 수
+     */
+    public synchronized int flush() {
+        // 다른 인스턴스가 기준 시각을 옮겼다면 모아둔 가중치도 새 기준 시각으로 맞춘다
+        try {
+            double factor = aggregator.changeEpoch(epochStore.current());
+            unwritten.replaceAll((productId, weight) -> weight * factor);
+        } catch (RuntimeException e) {
+            log.warn("상품 인기도 기준 시각 조회 실패, 다음 주기에 다시 반영", e);
+            return 0;
+        }
+        Instant epoch = aggregator.epoch();
+        Map<Long, Double> variantWeights = aggregator.drain();
+        SortedMap<Long, Double> productWeights = new TreeMap<>(unwritten);
+        unwritten.clear();
+        try {
+            productWeights(variantWeights).forEach((productId, weight) -> productWeights.merge(productId, weight, Double::sum));
+        } catch (RuntimeException e) {
+            log.warn("상품 인기도 반영 실패, 다음 주기에 다시 반영 variants={}", variantWeights.size(), e);
+            aggregator.restore(variantWeights);
+            unwritten.putAll(productWeights);
+            return 0;
+        }
+
+        int updated = 0;
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(productWeights.entrySet());
+        for (int from = 0; from < entries.size(); from += properties.getWriteBatchSize()) {
+            List<Map.Entry<Long, Double>> batch = entries.subList(from, Math.min(from + properties.getWriteBatchSize(), entries.size()));
+            try {
+                increaseScores(epoch, batch);
+                updated += batch.size();
+            } catch (RuntimeException e) {
+                log.warn("상품 인기도 반영 실패, 다음 주기에 다시 반영 products={}", batch.size(), e);
+                batch.forEach(entry -> unwritten.put(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (updated > 0) {
+            log.debug("상품 인기도 반영 : {}건", updated);
+        }
+        return updated;
+    }
+
+    // 더하는 사이에 기준 시각이 옮겨졌다면 가중치를 새 기준 시각으로 바꿔 더한다
+    private void increaseScores(Instant epoch, List<Map.Entry<Long, Double>> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            double factor = aggregator.rescale(epoch, epochStore.lockShared());
+            jdbcTemplate.batchUpdate(INCREASE_SCORE, batch.stream()
+                    .map(entry -> new Object[]{entry.getValue() * factor, entry.getKey()})
+                    .toList());
+        });
+    }
+
+    // 상품 변형의 가중치를 상품별로 합친다, 삭제된 변형은 제외된다
+    private Map<Long, Double> productWeights(Map<Long, Double> variantWeights) {
+        Map<Long, Double> result = new HashMap<>();
+        List<Long> variantIds = new ArrayList<>(variantWeights.keySet());
+        for (int from = 0; from < variantIds.size(); from += properties.getWriteBatchSize()) {
+            List<Long> ids = variantIds.subList(from, Math.min(from + properties.getWriteBatchSize(), variantIds.size()));
+            for (VariantProductId id : productVariantRepository.findProductIds(ids)) {
+                result.merge(id.productId(), variantWeights.get(id.variantId()), Double::sum);
+            }
+        }
+        return result;
+    }
+}
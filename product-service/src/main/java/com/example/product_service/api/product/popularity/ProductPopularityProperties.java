@@ -0,0 +1,24 @@
+package com.example.product_service.api.product.popularity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product.popularity")
+public class ProductPopularityProperties {
+    // 이 시간이 지날때마다 같은 주문의 가중치가 최근 주문의 절반이 된다
+    private Duration halfLife = Duration.ofDays(7);
+    // 최초 가중치 계산 기준 시각, 이후에는 DB 에 저장된 기준 시각을 사용한다
+    private Instant epoch = Instant.parse("2025-01-01T00:00:00Z");
+    // 기준 시각 이후 이만큼 halfLife 가 지나면 기준 시각을 옮기고 점수를 줄인다, 가중치는 1024 halfLife 에서 double 범위를 넘는다
+    private int rebaseAfterHalfLives = 512;
+    // DB 에 한번에 반영하는 상품 수
+    private int writeBatchSize = 500;
+}
@@ -0,0 +1,61 @@
+package com.example.product_service.api.product.popularity;
+
+import com.example.product_service.api.product.domain.model.ProductPopularityEpoch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 인기도 가중치가 double 범위를 넘지 않도록 기준 시각을 옮긴다
+ * <p>
+ * 가중치 2^((완료 시각 - epoch) / halfLife) 는 epoch 이후 1024 halfLife 가 지나면 무한대가 된다 (halfLife 가 1시간이면 약 43일).
+ * rebaseAfterHalfLives 만큼 지나면 기준 시각을 halfLife 의 정수배만큼 옮기고 모든 점수를 같은 2 의 거듭제곱으로 나누므로 순서는 그대로다.
+ * 기준 시각 행을 배타 잠금한 트랜잭션에서 한번의 UPDATE 로 줄이므로 공유 잠금을 걸고 점수를 더하는 {@link ProductPopularityFlusher} 와 겹치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductPopularityRebaser {
+    private static final String SCALE_SCORE =
+            "update product set popularity_score = popularity_score * ? where popularity_score is not null";
+
+    private final ProductPopularityEpochStore epochStore;
+    private final ProductPopularityProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelay = 3600000, initialDelay = 60000)
+    public void scheduledRebase() {
+        try {
+            rebase(Instant.now());
+        } catch (RuntimeException e) {
+            log.warn("상품 인기도 기준 시각 이동 실패", e);
+        }
+    }
+
+    /**
+     * @return 기준 시각을 옮긴 halfLife 수, 옮기지 않았으면 0
+     */
+    public long rebase(Instant now) {
+        Long shifted = transactionTemplate.execute(status -> {
+            ProductPopularityEpoch epoch = epochStore.lock();
+            Duration halfLife = properties.getHalfLife();
+            long shift = Duration.between(epoch.toInstant(), now).toMillis() / halfLife.toMillis();
+            if (shift < properties.getRebaseAfterHalfLives()) {
+                return 0L;
+            }
+            int updated = jdbcTemplate.update(SCALE_SCORE, Math.pow(2, -shift));
+            Instant next = epoch.toInstant().plus(halfLife.multipliedBy(shift));
+            epoch.moveTo(next);
+            log.info("상품 인기도 기준 시각 이동 epoch={}, halfLives={}, products={}", next, shift, updated);
+            return shift;
+        });
+        return shifted == null ? 0L : shifted;
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.product_service.api.product.popularity;
+
+public record VariantProductId(Long variantId, Long productId) {
+}
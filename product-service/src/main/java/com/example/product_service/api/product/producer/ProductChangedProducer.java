@@ -0,0 +1,36 @@
+package com.example.product_service.api.product.producer;
+
+import com.example.product_service.api.product.saga.properties.ProductTopicProperties;
+import com.example.product_service.api.product.service.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 정보 변경을 다른 서비스에 알린다
+ * <p>
+ * 주문 서비스는 이 메시지로 로컬에 캐시한 상품 정보를 무효화한다.
+ * 메시지를 놓치더라도 주문 서비스의 캐시 TTL 이 지나면 갱신되므로 전송 실패는 로그만 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductChangedProducer {
+    private final ProductTopicProperties productTopicProperties;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.variantIds().isEmpty()) {
+            return;
+        }
+        try {
+            kafkaTemplate.send(productTopicProperties.getProductChanged(), String.valueOf(event.productId()), event);
+        } catch (RuntimeException e) {
+            log.warn("상품 변경 알림 전송 실패 productId={}", event.productId(), e);
+        }
+    }
+}
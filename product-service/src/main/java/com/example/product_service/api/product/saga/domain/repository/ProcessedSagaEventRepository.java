@@ -2,7 +2,22 @@ package com.example.product_service.api.product.saga.domain.repository;
 
 import com.example.product_service.api.product.saga.domain.model.ProcessedSagaEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface ProcessedSagaEventRepository extends JpaRepository<ProcessedSagaEvent, Long> {
     boolean existsBySagaIdAndCommandType(Long sagaId, String commandType);
+
+    List<ProcessedSagaEvent> findBySagaIdIn(Collection<Long> sagaIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from processed_saga_event where processed_at < :threshold limit :limit", nativeQuery = true)
+    int deleteProcessedBefore(@Param("threshold") LocalDateTime threshold, @Param("limit") int limit);
 }
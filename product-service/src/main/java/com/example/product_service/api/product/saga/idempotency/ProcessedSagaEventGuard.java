@@ -0,0 +1,33 @@
+package com.example.product_service.api.product.saga.idempotency;
+
+import com.example.product_service.api.product.saga.properties.SagaIdempotencyProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 처리된 Saga 명령 중복 확인 앞단의 메모리 필터
+ * <p>
+ * 이 인스턴스가 최근에 처리한 적 없는 명령은 처리 내역 조회를 건너뛴다.
+ * 다른 인스턴스나 재시작 이전에 처리된 명령이 다시 들어온 경우에는 processed_saga_event 의
+ * (saga_id, command_type) 유니크 인덱스가 처리 내역 저장을 막아 트랜잭션이 롤백된다.
+ */
+@Component
+public class ProcessedSagaEventGuard {
+
+    private final RollingBloomFilter filter;
+
+    public ProcessedSagaEventGuard(SagaIdempotencyProperties properties) {
+        this.filter = new RollingBloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+    }
+
+    public boolean mightBeProcessed(Long sagaId, String commandType) {
+        return filter.mightContain(key(sagaId, commandType));
+    }
+
+    public void markProcessed(Long sagaId, String commandType) {
+        filter.put(key(sagaId, commandType));
+    }
+
+    private String key(Long sagaId, String commandType) {
+        return sagaId + ":" + commandType;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.product_service.api.product.saga.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근에 기록된 키를 기억하는 Bloom filter
+ * <p>
+ * mightContain 이 false 이면 최근에 기록된 적 없는 키임이 확실하고, true 이면 기록되었을 수도 있다.
+ * 두 세대의 필터를 사용해 현재 세대에 expectedInsertions 만큼 기록되면 이전 세대를 버리므로 메모리 사용량이 고정된다.
+ */
+public class RollingBloomFilter {
+
+    private final int bitSize;
+    private final int hashCount;
+    private final int generationCapacity;
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    public RollingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        this.bitSize = optimalBitSize(expectedInsertions, falsePositiveRate);
+        this.hashCount = optimalHashCount(expectedInsertions, bitSize);
+        this.generationCapacity = expectedInsertions;
+        this.current = new Generation(bitSize);
+        this.previous = new Generation(bitSize);
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        return current.mightContain(hash) || previous.mightContain(hash);
+    }
+
+    public void put(String key) {
+        Generation generation = current;
+        generation.put(hash(key));
+        if (generation.count.incrementAndGet() >= generationCapacity) {
+            rotate(generation);
+        }
+    }
+
+    private synchronized void rotate(Generation full) {
+        if (current != full) {
+            return;
+        }
+        previous = full;
+        current = new Generation(bitSize);
+    }
+
+    // FNV-1a 64bit
+    private long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static int optimalBitSize(int expectedInsertions, double falsePositiveRate) {
+        return (int) Math.max(64, -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    }
+
+    private static int optimalHashCount(int expectedInsertions, int bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    private class Generation {
+        private final AtomicLongArray bits;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Generation(int bitSize) {
+            this.bits = new AtomicLongArray((bitSize + 63) / 64);
+        }
+
+        private void put(long hash) {
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int index = Math.floorMod(hash1 + i * hash2, bitSize);
+                long mask = 1L << (index & 63);
+                bits.getAndAccumulate(index >>> 6, mask, (value, bit) -> value | bit);
+            }
+        }
+
+        private boolean mightContain(long hash) {
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int index = Math.floorMod(hash1 + i * hash2, bitSize);
+                if ((bits.get(index >>> 6) & (1L << (index & 63))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.product_service.api.product.saga.listener;
+
+import com.example.common.product.ProductSagaCommand;
+import com.example.product_service.api.product.saga.service.SagaProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 재고 차감/복구 명령을 poll 단위로 모아 한 트랜잭션에서 처리하는 리스너
+ * <p>
+ * product.saga.batch.enabled=true 인 경우 {@link SagaEventListener} 대신 사용된다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.saga.batch", name = "enabled", havingValue = "true")
+public class SagaBatchEventListener {
+    private final SagaProcessor sagaProcessor;
+
+    @KafkaListener(topics = "${product.topics.product-saga-command}", batch = "true")
+    public void handleOrderEvents(@Payload List<ProductSagaCommand> events) {
+        log.info("상품 재고 명령 {}건 수신", events.size());
+        sagaProcessor.productSagaBatchProcess(events);
+    }
+}
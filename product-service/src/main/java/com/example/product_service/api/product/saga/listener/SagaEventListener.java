@@ -4,12 +4,14 @@ import com.example.common.product.ProductSagaCommand;
 import com.example.product_service.api.product.saga.service.SagaProcessor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "product.saga.batch", name = "enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 public class SagaEventListener {
     private final SagaProcessor sagaProcessor;
@@ -12,4 +12,8 @@ import org.springframework.context.annotation.Configuration;
 public class ProductTopicProperties {
     private String productSagaCommand;
     private String productSagaReply;
+    // 상품 정보 변경 알림 (주문 서비스 상품 캐시 무효화)
+    private String productChanged;
+    // 주문 결제 완료 알림 (상품 인기도 계산)
+    private String orderCompleted;
 }
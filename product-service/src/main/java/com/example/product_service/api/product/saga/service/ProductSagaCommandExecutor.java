@@ -4,13 +4,15 @@ import com.example.common.product.ProductCommandType;
 import com.example.common.product.ProductSagaCommand;
 import com.example.product_service.api.product.saga.domain.model.ProcessedSagaEvent;
 import com.example.product_service.api.product.saga.domain.repository.ProcessedSagaEventRepository;
+import com.example.product_service.api.product.saga.idempotency.ProcessedSagaEventGuard;
 import com.example.product_service.api.product.service.VariantService;
 import com.example.product_service.api.product.service.dto.command.VariantStockCommand;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -18,9 +20,12 @@ import java.util.List;
 public class ProductSagaCommandExecutor {
     private final VariantService variantService;
     private final ProcessedSagaEventRepository eventRepository;
+    private final ProcessedSagaEventGuard processedSagaEventGuard;
 
     public boolean processSagaCommand(ProductSagaCommand command) {
-        if (eventRepository.existsBySagaIdAndCommandType(command.getSagaId(), command.getType().name())){
+        // 최근에 처리한 적 없는 명령은 조회를 건너뛰고, 놓친 중복은 처리 내역의 유니크 인덱스가 막는다
+        if (processedSagaEventGuard.mightBeProcessed(command.getSagaId(), command.getType().name())
+                && eventRepository.existsBySagaIdAndCommandType(command.getSagaId(), command.getType().name())){
             return true;
         }
         List<VariantStockCommand> stockCommands = mapToStockCommand(command);
@@ -32,9 +37,74 @@ public class ProductSagaCommandExecutor {
 
         ProcessedSagaEvent event = ProcessedSagaEvent.create(command.getSagaId(), command.getType().name());
         eventRepository.save(event);
+        processedSagaEventGuard.markProcessed(command.getSagaId(), command.getType().name());
         return false;
     }
 
+    /**
+     * 필터를 거치지 않고 처리 내역에서 명령이 이미 처리되었는지 확인한다
+     * <p>
+     * 재시작 직후처럼 필터가 비어 있으면 중복 명령이 다시 실행되어 실패할 수 있으므로, 실패를 응답하기 전에 확인한다
+     */
+    @Transactional(readOnly = true)
+    public boolean isProcessed(ProductSagaCommand command) {
+        return eventRepository.existsBySagaIdAndCommandType(command.getSagaId(), command.getType().name());
+    }
+
+    /**
+     * 여러 Saga 명령을 하나의 트랜잭션에서 처리한다
+     * <p>
+     * 처리 내역은 필터에서 처리되었을 수 있다고 판단된 명령만 모아 한번의 조회로 중복을 걸러내고, 같은 상품 변형에 대한 수량은 합산해 변형마다 한번만 변경한다.
+     * 하나라도 실패하면 전체가 롤백되므로 호출하는 쪽에서 명령 단위 처리로 재시도해야 한다.
+     *
+     * @return 이미 처리되어 건너뛴 명령 수
+     */
+    public int processSagaCommands(List<ProductSagaCommand> commands) {
+        Set<Long> candidateSagaIds = commands.stream()
+                .filter(command -> processedSagaEventGuard.mightBeProcessed(command.getSagaId(), command.getType().name()))
+                .map(ProductSagaCommand::getSagaId)
+                .collect(Collectors.toSet());
+        Set<String> processedKeys = candidateSagaIds.isEmpty() ? new HashSet<>() :
+                eventRepository.findBySagaIdIn(candidateSagaIds).stream()
+                        .map(event -> processedKey(event.getSagaId(), event.getCommandType()))
+                        .collect(Collectors.toSet());
+
+        Map<Long, Integer> deductions = new HashMap<>();
+        Map<Long, Integer> restorations = new HashMap<>();
+        List<ProcessedSagaEvent> events = new ArrayList<>();
+        int skipped = 0;
+        for (ProductSagaCommand command : commands) {
+            // 이미 처리되었거나 같은 배치 안에서 중복된 명령은 건너뛴다
+            if (!processedKeys.add(processedKey(command.getSagaId(), command.getType().name()))) {
+                skipped++;
+                continue;
+            }
+            Map<Long, Integer> target = command.getType() == ProductCommandType.DEDUCT_STOCK ? deductions : restorations;
+            command.getItems().forEach(item -> target.merge(item.getProductVariantId(), item.getQuantity(), Integer::sum));
+            events.add(ProcessedSagaEvent.create(command.getSagaId(), command.getType().name()));
+        }
+
+        if (!restorations.isEmpty()) {
+            variantService.restoreVariantsStock(toStockCommands(restorations));
+        }
+        if (!deductions.isEmpty()) {
+            variantService.deductVariantsStock(toStockCommands(deductions));
+        }
+        eventRepository.saveAll(events);
+        events.forEach(event -> processedSagaEventGuard.markProcessed(event.getSagaId(), event.getCommandType()));
+        return skipped;
+    }
+
+    private String processedKey(Long sagaId, String commandType) {
+        return sagaId + ":" + commandType;
+    }
+
+    private List<VariantStockCommand> toStockCommands(Map<Long, Integer> quantities) {
+        return quantities.entrySet().stream()
+                .map(entry -> VariantStockCommand.of(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
     private List<VariantStockCommand> mapToStockCommand(ProductSagaCommand command) {
         return command.getItems().stream().map(item -> VariantStockCommand.of(item.getProductVariantId(), item.getQuantity()))
                 .toList();
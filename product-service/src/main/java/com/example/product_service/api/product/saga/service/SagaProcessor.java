@@ -7,8 +7,11 @@ import com.example.product_service.api.common.exception.SagaErrorCode;
 import com.example.product_service.api.product.saga.producer.SagaEventProducer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +26,10 @@ public class SagaProcessor {
                 log.info("이미 처리된 Saga Command");
             }
             sagaEventProducer.sendSagaSuccess(command.getSagaId(), command.getOrderNo());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 처리해 처리 내역 유니크 인덱스에 걸린 경우, 변경은 롤백되었으므로 성공으로 응답
+            log.info("이미 처리된 Saga Command");
+            sagaEventProducer.sendSagaSuccess(command.getSagaId(), command.getOrderNo());
         } catch (BusinessException e) {
             handleException(command, e.getErrorCode().name(), e.getMessage());
         } catch (Exception e) {
@@ -30,7 +37,32 @@ public class SagaProcessor {
         }
     }
 
+    /**
+     * 여러 Saga 명령을 한번에 처리하고 각 Saga 에 결과를 응답한다
+     * <p>
+     * 배치 처리에 실패하면 어떤 명령이 실패했는지 알 수 없으므로 명령 단위 처리로 다시 시도한다
+     */
+    public void productSagaBatchProcess(List<ProductSagaCommand> commands) {
+        try {
+            int skipped = executor.processSagaCommands(commands);
+            if (skipped > 0) {
+                log.info("이미 처리된 Saga Command {}건", skipped);
+            }
+        } catch (Exception e) {
+            log.warn("재고 배치 처리 실패, 명령 단위로 재처리합니다. size={}", commands.size(), e);
+            commands.forEach(this::productSagaProcess);
+            return;
+        }
+        commands.forEach(command -> sagaEventProducer.sendSagaSuccess(command.getSagaId(), command.getOrderNo()));
+    }
+
     private void handleException(ProductSagaCommand command, String code, String message) {
+        // 이미 성공한 명령이 다시 실행되어 실패한 경우 실패로 응답하지 않고 성공을 다시 응답한다
+        if (isProcessed(command)) {
+            log.info("이미 처리된 Saga Command 의 재실행 실패. SagaID: {}", command.getSagaId());
+            sagaEventProducer.sendSagaSuccess(command.getSagaId(), command.getOrderNo());
+            return;
+        }
         if (command.getType() == ProductCommandType.RESTORE_STOCK) {
             log.error("🚨 재고 복구 실패! 재시도 필요. SagaID: {}", command.getSagaId());
             throw new BusinessException(SagaErrorCode.STOCK_RESTORE_FAIL);
@@ -39,4 +71,13 @@ public class SagaProcessor {
         log.warn("재고 차감 실패. SagaID: {}", command.getSagaId());
         sagaEventProducer.sendSagaFailure(command.getSagaId(), command.getOrderNo(), code, message);
     }
+
+    private boolean isProcessed(ProductSagaCommand command) {
+        try {
+            return executor.isProcessed(command);
+        } catch (Exception e) {
+            log.warn("Saga Command 처리 내역 조회 실패. SagaID: {}", command.getSagaId(), e);
+            return false;
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package com.example.product_service.api.product.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 상품 이름을 2-gram 으로 나누는 토크나이저
+ * <p>
+ * 한글은 형태소 분석 없이도 음절 2-gram 으로 부분 일치를 찾을 수 있어 한글과 영문 이름에 같은 규칙을 적용한다.
+ * NFKC 로 전각 문자와 호환 자모를 정규화하고 소문자로 바꾼 뒤 공백을 제거하므로 "반팔 티" 로 "반팔티셔츠" 를 찾을 수 있다.
+ */
+final class NgramTokenizer {
+    static final int GRAM_SIZE = 2;
+
+    private NgramTokenizer() {
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 정규화된 문자열의 중복 없는 2-gram 키 목록, 두 UTF-16 문자를 하나의 int 로 묶는다
+     */
+    static int[] grams(String normalized) {
+        int count = normalized.length() - GRAM_SIZE + 1;
+        if (count <= 0) {
+            return new int[0];
+        }
+        int[] grams = new int[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = (normalized.charAt(i) << 16) | normalized.charAt(i + 1);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+}
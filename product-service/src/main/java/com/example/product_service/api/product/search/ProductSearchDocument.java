@@ -0,0 +1,7 @@
+package com.example.product_service.api.product.search;
+
+/**
+ * 검색 색인에 들어가는 판매중인 상품의 이름
+ */
+public record ProductSearchDocument(Long productId, String name) {
+}
@@ -0,0 +1,311 @@
+package com.example.product_service.api.product.search;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 판매중인 상품 이름의 2-gram 역색인
+ * <p>
+ * 검색어의 2-gram 을 모두 포함하는 상품을 포스팅 목록의 교집합으로 찾고, 정규화된 이름에 정규화된 검색어가 그대로 포함되는
+ * 상품만 남긴다. 정규화로 비교하므로 DB 의 LIKE 검색과 결과가 다를 수 있다.
+ * 결과는 이름 일치, 접두 일치, 일치 위치, 이름 길이 순으로 정렬된 상품 id 이다.
+ * <p>
+ * 색인이 준비되기 전이거나 비활성화되어 있으면 빈 결과 대신 {@link Optional#empty()} 를 반환해 호출자가 LIKE 검색으로 대체한다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+    private final ProductSearchProperties properties;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private final Counter indexed;
+    private final Counter fallback;
+
+    private Segment segment = new Segment();
+    // 재색인 중에 들어온 변경, 새 색인으로 교체하기 전에 다시 적용한다 (name 이 null 이면 삭제)
+    private List<ProductSearchDocument> pendingChanges;
+    private volatile boolean ready;
+
+    public ProductSearchIndex(ProductSearchProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.indexed = requestCounter(meterRegistry, "index");
+        this.fallback = requestCounter(meterRegistry, "fallback");
+        Gauge.builder("product.search.index.documents", this, ProductSearchIndex::size)
+                .description("검색 색인에 들어있는 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이름에 검색어가 포함된 판매중인 상품 id 를 관련도 순으로 조회한다
+     *
+     * @return 최대 maxResults 개의 상품 id, 색인을 사용할 수 없으면 empty
+     */
+    public Optional<List<Long>> search(String keyword) {
+        String normalized = NgramTokenizer.normalize(keyword);
+        if (!ready || normalized.isEmpty()) {
+            fallback.increment();
+            return Optional.empty();
+        }
+        indexed.increment();
+        lock.readLock().lock();
+        try {
+            return Optional.of(segment.search(normalized, properties.getMaxResults()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 검색 결과가 maxResults 개로 잘려 관련도가 낮은 상품이 빠졌을 수 있으면 true
+     */
+    public boolean isTruncated(List<Long> productIds) {
+        return productIds.size() >= properties.getMaxResults();
+    }
+
+    public void put(Long productId, String name) {
+        apply(new ProductSearchDocument(productId, name));
+    }
+
+    public void remove(Long productId) {
+        apply(new ProductSearchDocument(productId, null));
+    }
+
+    /**
+     * 전체 상품으로 새 색인을 만들어 교체한다
+     * <p>
+     * 새 색인은 잠금 없이 만들고 그 사이의 변경은 모아두었다가 교체 직전에 적용하므로 재색인 중에도 검색과 변경이 막히지 않는다.
+     */
+    public void rebuild(Iterator<ProductSearchDocument> documents) {
+        synchronized (rebuildLock) {
+            withWriteLock(() -> pendingChanges = new ArrayList<>());
+            try {
+                Segment next = new Segment();
+                while (documents.hasNext()) {
+                    ProductSearchDocument document = documents.next();
+                    next.put(document.productId(), NgramTokenizer.normalize(document.name()));
+                }
+                withWriteLock(() -> {
+                    pendingChanges.forEach(change -> applyTo(next, change));
+                    segment = next;
+                    ready = true;
+                });
+                log.info("상품 검색 색인 생성 완료 : {}건", next.size());
+            } finally {
+                withWriteLock(() -> pendingChanges = null);
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(ProductSearchDocument change) {
+        withWriteLock(() -> {
+            applyTo(segment, change);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            if (segment.needsCompaction()) {
+                segment = segment.compact();
+            }
+        });
+    }
+
+    private void applyTo(Segment target, ProductSearchDocument change) {
+        if (change.name() == null) {
+            target.remove(change.productId());
+        } else {
+            target.put(change.productId(), NgramTokenizer.normalize(change.name()));
+        }
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String path) {
+        return Counter.builder("product.search.requests")
+                .description("상품 이름 검색 수, path 별로 색인 사용과 LIKE 대체 비율을 구한다")
+                .tag("path", path)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 문서 번호는 추가 순서대로 증가하므로 포스팅 목록은 항상 정렬되어 있다.
+     * 변경된 상품은 기존 문서를 지운 것으로 표시하고 새 문서로 추가하며, 지워진 문서가 많아지면 새 Segment 로 압축한다.
+     */
+    private static final class Segment {
+        private static final int COMPACTION_THRESHOLD = 10_000;
+        private static final Comparator<Match> RELEVANCE = Comparator.comparingInt(Match::rank)
+                .thenComparingInt(Match::position)
+                .thenComparingInt(Match::length)
+                .thenComparing(Comparator.comparingLong(Match::productId).reversed());
+
+        private final Map<Integer, Postings> postings = new HashMap<>();
+        private final Map<Long, Integer> docByProduct = new HashMap<>();
+        private String[] names = new String[1024];
+        private long[] productIds = new long[1024];
+        private int docCount;
+        private int deletedCount;
+
+        void put(Long productId, String name) {
+            remove(productId);
+            if (name.isEmpty()) {
+                return;
+            }
+            if (docCount == names.length) {
+                names = Arrays.copyOf(names, docCount * 2);
+                productIds = Arrays.copyOf(productIds, docCount * 2);
+            }
+            int doc = docCount++;
+            names[doc] = name;
+            productIds[doc] = productId;
+            docByProduct.put(productId, doc);
+            for (int gram : NgramTokenizer.grams(name)) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(doc);
+            }
+        }
+
+        void remove(Long productId) {
+            Integer doc = docByProduct.remove(productId);
+            if (doc != null) {
+                names[doc] = null;
+                deletedCount++;
+            }
+        }
+
+        int size() {
+            return docByProduct.size();
+        }
+
+        boolean needsCompaction() {
+            return deletedCount > COMPACTION_THRESHOLD && deletedCount > docByProduct.size();
+        }
+
+        Segment compact() {
+            Segment next = new Segment();
+            for (int doc = 0; doc < docCount; doc++) {
+                if (names[doc] != null) {
+                    next.put(productIds[doc], names[doc]);
+                }
+            }
+            return next;
+        }
+
+        List<Long> search(String keyword, int limit) {
+            // 관련도가 가장 낮은 결과가 맨 앞에 오도록 해 상위 limit 개만 유지한다
+            PriorityQueue<Match> top = new PriorityQueue<>(RELEVANCE.reversed());
+            int[] grams = NgramTokenizer.grams(keyword);
+            if (grams.length == 0) {
+                // 한 글자 검색어는 포스팅이 없으므로 메모리의 이름을 순회한다
+                for (int doc = 0; doc < docCount; doc++) {
+                    collect(top, doc, keyword, limit);
+                }
+            } else {
+                int[] candidates = candidates(grams);
+                for (int doc : candidates) {
+                    collect(top, doc, keyword, limit);
+                }
+            }
+
+            List<Match> matches = new ArrayList<>(top);
+            matches.sort(RELEVANCE);
+            return matches.stream().map(Match::productId).toList();
+        }
+
+        // 가장 짧은 포스팅 목록부터 교집합을 구한다
+        private int[] candidates(int[] grams) {
+            List<Postings> lists = new ArrayList<>(grams.length);
+            for (int gram : grams) {
+                Postings list = postings.get(gram);
+                if (list == null) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Postings::size));
+
+            int[] result = Arrays.copyOf(lists.get(0).docs, lists.get(0).size);
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = lists.get(i).intersect(result);
+            }
+            return result;
+        }
+
+        private void collect(PriorityQueue<Match> top, int doc, String keyword, int limit) {
+            String name = names[doc];
+            if (name == null) {
+                return;
+            }
+            // 2-gram 이 모두 있어도 연속해서 나오지 않을 수 있으므로 실제 포함 여부를 확인한다
+            int position = name.indexOf(keyword);
+            if (position < 0) {
+                return;
+            }
+            int rank = position > 0 ? 2 : name.length() == keyword.length() ? 0 : 1;
+            top.offer(new Match(productIds[doc], rank, position, name.length()));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] intersect(int[] sorted) {
+            int[] result = new int[Math.min(sorted.length, size)];
+            int count = 0;
+            int from = 0;
+            for (int doc : sorted) {
+                int index = Arrays.binarySearch(docs, from, size, doc);
+                if (index >= 0) {
+                    result[count++] = doc;
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+                if (from >= size) {
+                    break;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+
+    private record Match(long productId, int rank, int position, int length) {
+    }
+}
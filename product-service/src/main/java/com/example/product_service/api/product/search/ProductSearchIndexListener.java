@@ -0,0 +1,19 @@
+package com.example.product_service.api.product.search;
+
+import com.example.product_service.api.product.service.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexListener {
+    private final ProductSearchIndexUpdater productSearchIndexUpdater;
+
+    // 롤백된 변경이 검색되지 않도록 커밋 이후에 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        productSearchIndexUpdater.update(event.productId());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.product_service.api.product.search;
+
+import com.example.product_service.api.product.domain.model.ProductStatus;
+import com.example.product_service.api.product.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 판매중인 상품 전체로 검색 색인을 만든다
+ * <p>
+ * 시작을 늦추지 않도록 가상 스레드에서 만들고 완료되기 전까지는 LIKE 검색을 사용한다.
+ * 다른 인스턴스의 변경 알림을 놓쳐도 주기적으로 다시 만들어 DB 와 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexLoader {
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSearchProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (properties.isEnabled()) {
+            Thread.ofVirtual().name("product-search-index-loader").start(this::load);
+        }
+    }
+
+    @Scheduled(fixedDelay = 3600000, initialDelay = 3600000)
+    public void reload() {
+        if (properties.isEnabled()) {
+            load();
+        }
+    }
+
+    private void load() {
+        try {
+            productSearchIndex.rebuild(new DocumentIterator());
+        } catch (RuntimeException e) {
+            log.error("상품 검색 색인 생성 실패", e);
+        }
+    }
+
+    // 상품 id 기준 keyset 페이지로 나눠 읽어 전체 상품을 한번에 메모리에 올리지 않는다
+    private class DocumentIterator implements Iterator<ProductSearchDocument> {
+        private Iterator<ProductSearchDocument> page = Collections.emptyIterator();
+        private long lastProductId = 0;
+        private boolean lastPage;
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext() && !lastPage) {
+                int batchSize = properties.getLoadBatchSize();
+                List<ProductSearchDocument> documents = productRepository.findSearchDocuments(
+                        ProductStatus.ON_SALE, lastProductId, PageRequest.ofSize(batchSize));
+                lastPage = documents.size() < batchSize;
+                if (!documents.isEmpty()) {
+                    lastProductId = documents.get(documents.size() - 1).productId();
+                }
+                page = documents.iterator();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public ProductSearchDocument next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+    }
+}
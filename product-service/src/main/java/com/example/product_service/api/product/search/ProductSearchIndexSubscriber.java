@@ -0,0 +1,23 @@
+package com.example.product_service.api.product.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 인스턴스에서 변경된 상품을 로컬 검색 색인에 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexSubscriber implements MessageListener {
+    private final ProductSearchIndexUpdater productSearchIndexUpdater;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Long productId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+        productSearchIndexUpdater.updateLocal(productId);
+    }
+}
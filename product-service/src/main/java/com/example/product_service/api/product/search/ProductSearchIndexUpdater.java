@@ -0,0 +1,50 @@
+package com.example.product_service.api.product.search;
+
+import com.example.product_service.api.product.domain.model.ProductStatus;
+import com.example.product_service.api.product.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변경된 상품을 DB 에서 다시 읽어 검색 색인에 반영한다
+ * <p>
+ * 판매중인 상품은 이름을 다시 색인하고 그 외 상태는 색인에서 제거한다.
+ * 색인은 인스턴스마다 따로 있으므로 변경 채널로 다른 인스턴스에도 알린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexUpdater {
+    public static final String CHANGE_CHANNEL = "product:search:changed";
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSearchProperties properties;
+    private final StringRedisTemplate redisTemplate;
+
+    public void update(Long productId) {
+        updateLocal(productId);
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, String.valueOf(productId));
+        } catch (RuntimeException e) {
+            log.warn("상품 검색 색인 변경 알림 실패 productId={}", productId, e);
+        }
+    }
+
+    public void updateLocal(Long productId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            productRepository.findSearchDocument(productId, ProductStatus.ON_SALE)
+                    .ifPresentOrElse(
+                            document -> productSearchIndex.put(document.productId(), document.name()),
+                            () -> productSearchIndex.remove(productId)
+                    );
+        } catch (RuntimeException e) {
+            log.warn("상품 검색 색인 갱신 실패 productId={}", productId, e);
+        }
+    }
+}
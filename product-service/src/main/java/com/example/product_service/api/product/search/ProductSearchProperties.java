@@ -0,0 +1,19 @@
+package com.example.product_service.api.product.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product.search")
+public class ProductSearchProperties {
+    // false 면 색인을 만들지 않고 기존 LIKE 검색만 사용한다
+    private boolean enabled = true;
+    // 관련도 상위 몇개의 상품까지 조회 조건으로 넘길지, 이보다 많이 일치하면 관련도가 낮은 상품은 검색되지 않는다
+    private int maxResults = 1_000;
+    // 시작시 색인을 만들때 한번에 읽어오는 상품 수
+    private int loadBatchSize = 10_000;
+}
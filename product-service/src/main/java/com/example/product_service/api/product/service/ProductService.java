@@ -2,6 +2,7 @@ package com.example.product_service.api.product.service;
 
 import com.example.product_service.api.category.domain.model.Category;
 import com.example.product_service.api.category.domain.repository.CategoryRepository;
+import com.example.product_service.api.category.service.event.CategoryChangedEvent;
 import com.example.product_service.api.common.exception.BusinessException;
 import com.example.product_service.api.common.exception.CategoryErrorCode;
 import com.example.product_service.api.common.exception.OptionErrorCode;
@@ -11,11 +12,15 @@ import com.example.product_service.api.option.domain.model.OptionValue;
 import com.example.product_service.api.option.domain.repository.OptionTypeRepository;
 import com.example.product_service.api.option.domain.repository.OptionValueRepository;
 import com.example.product_service.api.product.domain.model.Product;
+import com.example.product_service.api.product.domain.model.ProductStatus;
 import com.example.product_service.api.product.domain.model.ProductVariant;
 import com.example.product_service.api.product.domain.repository.ProductRepository;
+import com.example.product_service.api.product.search.ProductSearchIndex;
 import com.example.product_service.api.product.service.dto.command.ProductCommand;
 import com.example.product_service.api.product.service.dto.result.ProductResult;
+import com.example.product_service.api.product.service.event.ProductChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +29,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -37,6 +43,8 @@ public class ProductService {
     private final OptionTypeRepository optionTypeRepository;
     private final OptionValueRepository optionValueRepository;
     private final SkuGenerator skuGenerator;
+    private final ProductSearchIndex productSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProductResult.Create createProduct(ProductCommand.Create command) {
         Category category = findCategoryByIdOrThrow(command.categoryId());
@@ -78,6 +86,7 @@ public class ProductService {
         Product product = findProductByIdOrThrow(command.productId());
         product.replaceImages(command.images());
         productRepository.flush();
+        eventPublisher.publishEvent(ProductChangedEvent.from(product));
         return ProductResult.AddImage.of(product.getId(), product.getImages());
     }
 
@@ -90,7 +99,10 @@ public class ProductService {
 
     public ProductResult.Publish publish(Long productId) {
         Product product = findProductByIdOrThrow(productId);
+        Category before = saleCategory(product);
         product.publish();
+        updateProductCount(before, saleCategory(product));
+        eventPublisher.publishEvent(ProductChangedEvent.from(product));
         return ProductResult.Publish.from(product);
     }
 
@@ -102,28 +114,71 @@ public class ProductService {
 
     @Transactional(readOnly = true)
     public Page<ProductResult.Summary> getProducts(ProductCommand.Search condition){
-        Page<Product> products = productRepository.findProductsByCondition(condition);
+        Page<Product> products = productRepository.findProductsByCondition(withSearchIndex(condition));
         return products.map(ProductResult.Summary::from);
     }
 
+    // 이름 검색은 검색 색인이 찾은 상품 id 로 조회하고, 색인을 사용할 수 없으면 LIKE 로 검색한다
+    // 색인 결과가 잘렸다면 빠진 상품이 필터, 정렬, 페이지 결과에 들어가야 할 수 있으므로 LIKE 로 검색한다
+    private ProductCommand.Search withSearchIndex(ProductCommand.Search condition) {
+        if (condition.name() == null || condition.name().isBlank()) {
+            return condition;
+        }
+        return productSearchIndex.search(condition.name())
+                .filter(productIds -> !productSearchIndex.isTruncated(productIds))
+                .map(condition::withProductIds)
+                .orElse(condition);
+    }
+
     public ProductResult.Update updateProduct(ProductCommand.Update command) {
         Product product = findProductByIdOrThrow(command.productId());
         Category category = findCategoryByIdOrThrow(command.categoryId());
+        Category before = saleCategory(product);
         product.updateProductInfo(command.name(), command.description(), category);
+        updateProductCount(before, saleCategory(product));
+        eventPublisher.publishEvent(ProductChangedEvent.from(product));
         return ProductResult.Update.from(product);
     }
 
     public void deleteProduct(Long productId) {
         Product product = findProductByIdOrThrow(productId);
+        Category before = saleCategory(product);
         product.deleted();
+        updateProductCount(before, saleCategory(product));
+        eventPublisher.publishEvent(ProductChangedEvent.from(product));
     }
 
     public ProductResult.Close closedProduct(Long productId) {
         Product product = findProductByIdOrThrow(productId);
+        Category before = saleCategory(product);
         product.closed();
+        updateProductCount(before, saleCategory(product));
+        eventPublisher.publishEvent(ProductChangedEvent.from(product));
         return ProductResult.Close.from(product);
     }
 
+    // 판매중인 상품이 빠지거나 추가된 카테고리와 모든 상위 카테고리의 상품 수를 증감한다
+    private void updateProductCount(Category before, Category after) {
+        Long beforeId = before == null ? null : before.getId();
+        Long afterId = after == null ? null : after.getId();
+        if (Objects.equals(beforeId, afterId)) {
+            return;
+        }
+        if (before != null) {
+            categoryRepository.increaseProductCount(before.getPathIds(), -1);
+            eventPublisher.publishEvent(CategoryChangedEvent.productCount(beforeId));
+        }
+        if (after != null) {
+            categoryRepository.increaseProductCount(after.getPathIds(), 1);
+            eventPublisher.publishEvent(CategoryChangedEvent.productCount(afterId));
+        }
+    }
+
+    // 판매중인 상품만 카테고리 상품 수에 집계된다
+    private Category saleCategory(Product product) {
+        return product.getStatus() == ProductStatus.ON_SALE ? product.getCategory() : null;
+    }
+
     private List<OptionType> findOptionTypes(List<Long> optionTypeIds) {
         List<OptionType> optionTypes = optionTypeRepository.findByIdIn(optionTypeIds);
         if (optionTypes.size() != optionTypeIds.size()) {
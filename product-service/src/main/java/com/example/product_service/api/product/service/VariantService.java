@@ -2,6 +2,8 @@ package com.example.product_service.api.product.service;
 
 import com.example.product_service.api.common.exception.BusinessException;
 import com.example.product_service.api.common.exception.ProductErrorCode;
+import com.example.product_service.api.product.cache.VariantSnapshot;
+import com.example.product_service.api.product.cache.VariantSnapshotCache;
 import com.example.product_service.api.product.domain.model.ProductVariant;
 import com.example.product_service.api.product.domain.repository.ProductVariantRepository;
 import com.example.product_service.api.product.service.dto.command.VariantStockCommand;
@@ -12,7 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,36 +22,64 @@ import java.util.stream.Collectors;
 @Transactional
 public class VariantService {
     private final ProductVariantRepository productVariantRepository;
+    private final VariantSnapshotCache variantSnapshotCache;
 
     @Transactional(readOnly = true)
     public InternalVariantResponse getVariant(Long variantId){
-        ProductVariant variant = findVariantOrThrow(variantId);
-        return InternalVariantResponse.from(variant);
+        VariantSnapshot snapshot = variantSnapshotCache.getAll(List.of(variantId),
+                        ids -> List.of(VariantSnapshot.from(findVariantOrThrow(variantId))))
+                .get(variantId);
+        ProductVariant variant = productVariantRepository.findById(variantId)
+                .orElseThrow(() -> new BusinessException(ProductErrorCode.PRODUCT_VARIANT_NOT_FOUND));
+        return snapshot.toResponse(variant.getStockQuantity());
     }
 
+    /**
+     * 상품 변형 정보는 캐시에서, 재고는 DB 에서 조회해 합친다
+     * <p>
+     * 재고는 주문마다 바뀌므로 캐시하지 않고 변형 테이블만 id 로 조회한다.
+     * 응답은 요청한 id 순서를 따르며 존재하지 않는 변형은 제외된다.
+     */
     @Transactional(readOnly = true)
     public List<InternalVariantResponse> getVariants(List<Long> variantIds) {
-        List<ProductVariant> variants = productVariantRepository.findByIdInWithProductAndOption(variantIds);
-        return variants.stream().map(InternalVariantResponse::from).toList();
+        Map<Long, VariantSnapshot> snapshots = variantSnapshotCache.getAll(variantIds,
+                ids -> productVariantRepository.findByIdInWithProductAndOption(ids).stream().map(VariantSnapshot::from).toList());
+        Map<Long, Integer> stocks = productVariantRepository.findByIdIn(variantIds).stream()
+                .collect(Collectors.toMap(ProductVariant::getId, ProductVariant::getStockQuantity));
+        return variantIds.stream().distinct()
+                .filter(id -> snapshots.containsKey(id) && stocks.containsKey(id))
+                .map(id -> snapshots.get(id).toResponse(stocks.get(id)))
+                .toList();
     }
 
+    /**
+     * 재고를 조건부 UPDATE 로 차감한다
+     * <p>
+     * 엔티티를 읽어 수정하면 동시에 들어온 주문끼리 갱신이 유실되므로 DB 에서 원자적으로 차감한다.
+     * 여러 변형을 차감할때 교착상태가 생기지 않도록 항상 id 순서로 갱신하고,
+     * 하나라도 실패하면 트랜잭션이 롤백되어 먼저 차감된 변형도 되돌려진다.
+     */
     public void deductVariantsStock(List<VariantStockCommand> commands) {
         Map<Long, Integer> stockMap = mapToCommands(commands);
-        List<ProductVariant> variants = findVariantsOrThrow(stockMap.keySet());
 
-        for (ProductVariant variant : variants) {
-            Integer deductStock = stockMap.get(variant.getId());
-            variant.deductStock(deductStock);
+        for (Long variantId : new TreeSet<>(stockMap.keySet())) {
+            int updated = productVariantRepository.deductStock(variantId, stockMap.get(variantId));
+            if (updated == 0) {
+                throw productVariantRepository.existsById(variantId)
+                        ? new BusinessException(ProductErrorCode.VARIANT_OUT_OF_STOCK)
+                        : new BusinessException(ProductErrorCode.PRODUCT_VARIANT_NOT_FOUND);
+            }
         }
     }
 
     public void restoreVariantsStock(List<VariantStockCommand> commands) {
         Map<Long, Integer> stockMap = mapToCommands(commands);
-        List<ProductVariant> variants = findVariantsOrThrow(stockMap.keySet());
 
-        for (ProductVariant variant : variants) {
-            Integer restoreStock = stockMap.get(variant.getId());
-            variant.restoreStock(restoreStock);
+        for (Long variantId : new TreeSet<>(stockMap.keySet())) {
+            int updated = productVariantRepository.restoreStock(variantId, stockMap.get(variantId));
+            if (updated == 0) {
+                throw new BusinessException(ProductErrorCode.PRODUCT_VARIANT_NOT_FOUND);
+            }
         }
     }
 
@@ -58,14 +88,6 @@ public class VariantService {
                 .orElseThrow(() -> new BusinessException(ProductErrorCode.PRODUCT_VARIANT_NOT_FOUND));
     }
 
-    private List<ProductVariant> findVariantsOrThrow(Set<Long> variantIds) {
-        List<ProductVariant> variants = productVariantRepository.findByIdIn(List.copyOf(variantIds));
-        if (variants.size() != variantIds.size()) {
-            throw new BusinessException(ProductErrorCode.PRODUCT_VARIANT_NOT_FOUND);
-        }
-        return variants;
-    }
-
     private Map<Long, Integer> mapToCommands(List<VariantStockCommand> commands) {
         return commands.stream()
                 .collect(Collectors.toMap(VariantStockCommand::getVariantId, VariantStockCommand::getQuantity));
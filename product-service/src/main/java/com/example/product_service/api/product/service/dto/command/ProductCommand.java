@@ -60,6 +60,12 @@ public class ProductCommand {
             String name,
             Integer rating,
             Pageable pageable,
-            String sort
-    ) {}
+            String sort,
+            // 검색 색인이 관련도 순으로 찾은 상품 id, null 이면 이름을 LIKE 로 검색한다
+            List<Long> productIds
+    ) {
+        public Search withProductIds(List<Long> productIds) {
+            return new Search(categoryId, name, rating, pageable, sort, productIds);
+        }
+    }
 }
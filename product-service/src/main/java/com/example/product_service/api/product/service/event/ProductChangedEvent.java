@@ -0,0 +1,19 @@
+package com.example.product_service.api.product.service.event;
+
+import com.example.product_service.api.product.domain.model.Product;
+import com.example.product_service.api.product.domain.model.ProductVariant;
+
+import java.util.List;
+
+/**
+ * 상품 변형 조회 결과에 포함되는 상품 정보가 변경되었을때 발행
+ */
+public record ProductChangedEvent(Long productId, List<Long> variantIds) {
+
+    public static ProductChangedEvent from(Product product) {
+        return new ProductChangedEvent(
+                product.getId(),
+                product.getVariants().stream().map(ProductVariant::getId).toList()
+        );
+    }
+}
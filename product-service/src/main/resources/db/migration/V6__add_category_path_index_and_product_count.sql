@@ -0,0 +1,19 @@
+-- 하위 카테고리 상품 조회 (path = ? or path like '?/%')
+create index idx_category_path
+    on category (path);
+
+alter table category
+    add column product_count bigint not null default 0;
+
+-- 하위 카테고리를 포함한 판매중인 상품 수 초기화, 이후에는 상품 상태가 바뀔때 증감한다
+update category c
+    join (
+        select ancestor.id as category_id, count(p.id) as product_count
+        from category ancestor
+            join category descendant
+                on descendant.id = ancestor.id or descendant.path like concat(ancestor.path, '/%')
+            join product p
+                on p.category_id = descendant.id and p.status = 'ON_SALE'
+        group by ancestor.id
+    ) counts on counts.category_id = c.id
+set c.product_count = counts.product_count;
@@ -0,0 +1,9 @@
+-- 인기도 가중치 기준 시각 : 가중치가 double 범위를 넘지 않도록 주기적으로 옮기고 점수를 같은 비율로 줄인다
+create table if not exists product_popularity_epoch (
+    id bigint primary key,
+    epoch_millis bigint not null
+);
+
+-- 2025-01-01T00:00:00Z (product.popularity.epoch 기본값)
+insert into product_popularity_epoch (id, epoch_millis)
+values (1, 1735689600000);
@@ -0,0 +1,98 @@
+package com.example.product_service.api.category.cache;
+
+import com.example.product_service.api.category.domain.repository.CategoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeCacheTest {
+
+    @InjectMocks
+    private CategoryTreeCache categoryTreeCache;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    @DisplayName("여러번 변경되어도 카테고리 트리는 한번만 다시 읽고 한번만 알린다")
+    void refreshPending_coalesce_changes() {
+        //given
+        given(categoryRepository.findAllNodes()).willReturn(List.of());
+        categoryTreeCache.markChanged();
+        categoryTreeCache.markChanged();
+        categoryTreeCache.markChanged();
+        //when
+        categoryTreeCache.refreshPending();
+        categoryTreeCache.refreshPending();
+        //then
+        verify(categoryRepository, times(1)).findAllNodes();
+        verify(redisTemplate, times(1)).convertAndSend(eq(CategoryTreeCache.INVALIDATION_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 변경은 다시 읽기만 하고 알리지 않는다")
+    void refreshPending_remote_change() {
+        //given
+        given(categoryRepository.findAllNodes()).willReturn(List.of());
+        categoryTreeCache.markStale();
+        categoryTreeCache.markStale();
+        //when
+        categoryTreeCache.refreshPending();
+        //then
+        verify(categoryRepository, times(1)).findAllNodes();
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("표시된 변경이 없으면 다시 읽지 않는다")
+    void refreshPending_nothing() {
+        //given
+        //when
+        categoryTreeCache.refreshPending();
+        //then
+        verify(categoryRepository, never()).findAllNodes();
+    }
+
+    @Test
+    @DisplayName("카테고리 구조 변경은 바로 다시 읽고 다른 인스턴스에 알린다")
+    void refreshNow() {
+        //given
+        given(categoryRepository.findAllNodes()).willReturn(List.of());
+        //when
+        categoryTreeCache.refreshNow();
+        categoryTreeCache.refreshPending();
+        //then
+        verify(categoryRepository, times(1)).findAllNodes();
+        verify(redisTemplate, times(1)).convertAndSend(eq(CategoryTreeCache.INVALIDATION_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("카테고리 구조 변경을 바로 다시 읽지 못하면 다음 주기에 다시 읽는다")
+    void refreshNow_failure() {
+        //given
+        given(categoryRepository.findAllNodes())
+                .willThrow(new IllegalStateException("connection refused"))
+                .willReturn(List.of());
+        //when
+        categoryTreeCache.refreshNow();
+        categoryTreeCache.refreshPending();
+        //then
+        verify(categoryRepository, times(2)).findAllNodes();
+        verify(redisTemplate, times(1)).convertAndSend(eq(CategoryTreeCache.INVALIDATION_CHANNEL), anyString());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.product_service.api.category.cache;
+
+import com.example.product_service.api.category.service.dto.result.CategoryResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CategoryTreeSnapshotTest {
+
+    private CategoryNode node(Long id, String name, Long parentId, int depth) {
+        return new CategoryNode(id, name, parentId, depth, "/test/image.jpg", 0L);
+    }
+
+    private CategoryTreeSnapshot snapshot() {
+        return CategoryTreeSnapshot.of(1L, List.of(
+                node(1L, "전자", null, 1),
+                node(2L, "식품", null, 1),
+                node(3L, "컴퓨터", 1L, 2),
+                node(4L, "노트북", 3L, 3),
+                node(5L, "데스크탑", 3L, 3),
+                node(6L, "삼성", 4L, 4)
+        ));
+    }
+
+    @Test
+    @DisplayName("깊이, id 순으로 정렬된 카테고리로 트리를 만든다")
+    void tree() {
+        //given
+        CategoryTreeSnapshot snapshot = snapshot();
+        //when
+        List<CategoryResult.Tree> tree = snapshot.tree();
+        //then
+        assertThat(tree).extracting(CategoryResult.Tree::getId).containsExactly(1L, 2L);
+        assertThat(tree.getFirst().getChildren().getFirst().getChildren())
+                .extracting(CategoryResult.Tree::getId)
+                .containsExactly(4L, 5L);
+    }
+
+    @Test
+    @DisplayName("카테고리의 경로, 형제, 자식을 조회한다")
+    void navigation() {
+        //given
+        CategoryTreeSnapshot snapshot = snapshot();
+        //when
+        CategoryResult.Navigation navigation = snapshot.navigation(4L).orElseThrow();
+        //then
+        assertThat(navigation.current().name()).isEqualTo("노트북");
+        assertThat(navigation.path()).extracting(CategoryResult.Detail::id).containsExactly(1L, 3L, 4L);
+        assertThat(navigation.siblings()).extracting(CategoryResult.Detail::id).containsExactly(4L, 5L);
+        assertThat(navigation.children()).extracting(CategoryResult.Detail::id, CategoryResult.Detail::depth)
+                .containsExactly(tuple(6L, 4));
+    }
+
+    @Test
+    @DisplayName("최상위 카테고리의 형제는 모든 최상위 카테고리이다")
+    void navigation_root() {
+        //given
+        CategoryTreeSnapshot snapshot = snapshot();
+        //when
+        CategoryResult.Navigation navigation = snapshot.navigation(2L).orElseThrow();
+        //then
+        assertThat(navigation.path()).extracting(CategoryResult.Detail::id).containsExactly(2L);
+        assertThat(navigation.siblings()).extracting(CategoryResult.Detail::id).containsExactly(1L, 2L);
+        assertThat(navigation.children()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("없는 카테고리는 조회되지 않는다")
+    void navigation_notFound() {
+        //given
+        CategoryTreeSnapshot snapshot = snapshot();
+        //when
+        //then
+        assertThat(snapshot.navigation(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷의 목록은 수정할 수 없다")
+    void immutable() {
+        //given
+        CategoryTreeSnapshot snapshot = snapshot();
+        //when
+        //then
+        assertThatThrownBy(() -> snapshot.tree().add(snapshot.tree().getFirst()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.navigation(3L).orElseThrow().children().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -214,20 +214,13 @@ public class CategoryTest {
                     .withId(3L)
                     .withParent(oldParent)
                     .build();
-            Category targetChild = CategoryTestBuilder.aCategory()
-                    .withId(4L)
-                    .withParent(target)
-                    .build();
             //when
             target.moveParent(null);
             //then
             assertThat(target.getParent()).isNull();
             assertThat(target.getDepth()).isEqualTo(1);
             assertThat(target.getPath()).isEqualTo(String.valueOf(3L));
-
-            assertThat(targetChild)
-                    .extracting(Category::getDepth, Category::getPath)
-                    .containsExactly(2, 3L + "/" + 4L);
+            assertThat(oldParent.getChildren()).doesNotContain(target);
         }
 
         @Test
@@ -237,17 +230,13 @@ public class CategoryTest {
             Category oldParent = CategoryTestBuilder.aCategory().withId(2L).build();
             Category newParent = CategoryTestBuilder.aCategory().withId(3L).build();
             Category target = CategoryTestBuilder.aCategory().withId(4L).withParent(oldParent).build();
-            Category targetChild = CategoryTestBuilder.aCategory().withId(5L).withParent(target).build();
             //when
             target.moveParent(newParent);
             //then
             assertThat(target.getParent()).isEqualTo(newParent);
             assertThat(target.getDepth()).isEqualTo(2);
             assertThat(target.getPath()).isEqualTo(3L + "/" + 4L);
-
-            assertThat(targetChild)
-                    .extracting(Category::getDepth, Category::getPath)
-                    .containsExactly(3, 3L + "/" + 4L + "/" + 5L);
+            assertThat(newParent.getChildren()).contains(target);
         }
         
         @Test
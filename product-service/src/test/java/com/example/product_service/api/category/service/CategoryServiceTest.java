@@ -1,5 +1,6 @@
 package com.example.product_service.api.category.service;
 
+import com.example.product_service.api.category.cache.CategoryTreeCache;
 import com.example.product_service.api.category.domain.model.Category;
 import com.example.product_service.api.category.domain.repository.CategoryRepository;
 import com.example.product_service.api.category.service.dto.command.CategoryCommand;
@@ -14,8 +15,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,7 +37,29 @@ public class CategoryServiceTest extends ExcludeInfraTest {
     @Autowired
     private ProductRepository productRepository;
     @Autowired
+    private CategoryTreeCache categoryTreeCache;
+    @Autowired
     private EntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 엔티티를 하나씩 저장하지 않고 자식 childCount 개와 각 자식의 자식 grandChildCount 개를 한번에 추가한다
+    private void setupDescendants(Category parent, int childCount, int grandChildCount) {
+        long nextId = 1_000_000L;
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < childCount; i++) {
+            long childId = nextId++;
+            String childPath = parent.getPath() + "/" + childId;
+            rows.add(new Object[]{childId, "자식" + i, parent.getDepth() + 1, childPath, DEFAULT_IMAGE_PATH, parent.getId()});
+            for (int j = 0; j < grandChildCount; j++) {
+                long grandChildId = nextId++;
+                rows.add(new Object[]{grandChildId, "손자" + j, parent.getDepth() + 2, childPath + "/" + grandChildId, DEFAULT_IMAGE_PATH, childId});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into category (id, name, depth, path, image_path, parent_id, product_count) values (?, ?, ?, ?, ?, ?, 0)",
+                rows);
+    }
 
     private Category setupCategory(String name, Category parent) {
         Category category = Category.create(name, parent, DEFAULT_IMAGE_PATH);
@@ -207,6 +232,7 @@ public class CategoryServiceTest extends ExcludeInfraTest {
 
             setupCategory("노트북", root1);
             setupCategory("냉장고", root1);
+            categoryTreeCache.refreshLocal();
             //when
             List<CategoryResult.Tree> result = categoryService.getTree();
             //then
@@ -233,6 +259,7 @@ public class CategoryServiceTest extends ExcludeInfraTest {
             Category target = setupCategory("노트북", depth2);
             setupCategory("데스크탑", depth2);
             setupCategory("삼성", target);
+            categoryTreeCache.refreshLocal();
             //when
             CategoryResult.Navigation result = categoryService.getNavigation(target.getId());
             //then
@@ -261,6 +288,19 @@ public class CategoryServiceTest extends ExcludeInfraTest {
                             tuple("삼성", 4)
                     );
         }
+
+        @Test
+        @DisplayName("카테고리 트리에 없는 카테고리의 네비게이션을 조회하면 예외를 던진다")
+        void getNavigation_notFound(){
+            //given
+            categoryTreeCache.refreshLocal();
+            //when
+            //then
+            assertThatThrownBy(() -> categoryService.getNavigation(NOT_FOUNT_ID))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(CategoryErrorCode.CATEGORY_NOT_FOUND);
+        }
     }
 
     @Nested
@@ -369,6 +409,51 @@ public class CategoryServiceTest extends ExcludeInfraTest {
                     .isEqualTo(root2.getId() + "/" + target.getId() + "/" + child.getId());
         }
 
+        @Test
+        @DisplayName("이동한 카테고리의 상품 수를 기존 상위 카테고리에서 빼고 새 상위 카테고리에 더한다")
+        void move_product_count(){
+            //given
+            Category root1 = setupCategory("전자", null);
+            Category target = setupCategory("컴퓨터", root1);
+            Category child = setupCategory("노트북", target);
+            Category root2 = setupCategory("식품", null);
+            categoryRepository.increaseProductCount(List.of(root1.getId(), target.getId(), child.getId()), 3);
+            em.clear();
+            //when
+            categoryService.moveParent(target.getId(), root2.getId());
+            em.flush();
+            em.clear();
+            //then
+            assertThat(categoryRepository.findAllById(List.of(root1.getId(), root2.getId(), target.getId(), child.getId())))
+                    .extracting(Category::getId, Category::getProductCount)
+                    .containsExactlyInAnyOrder(
+                            tuple(root1.getId(), 0L),
+                            tuple(root2.getId(), 3L),
+                            tuple(target.getId(), 3L),
+                            tuple(child.getId(), 3L)
+                    );
+        }
+
+        @Test
+        @DisplayName("하위 카테고리가 1만개인 카테고리를 이동하면 모든 하위 카테고리의 경로와 깊이를 변경한다")
+        void move_large_branch(){
+            //given
+            Category root = setupCategory("전자", null);
+            Category target = setupCategory("컴퓨터", root);
+            setupDescendants(target, 100, 99);
+            em.clear();
+            //when
+            categoryService.moveParent(target.getId(), null);
+            //then
+            String newPrefix = target.getId() + "/";
+            assertThat(jdbcTemplate.queryForObject(
+                    "select count(*) from category where path like ? and depth in (2, 3)", Integer.class, newPrefix + "%"))
+                    .isEqualTo(10_000);
+            assertThat(jdbcTemplate.queryForObject(
+                    "select count(*) from category where path like ?", Integer.class, root.getPath() + "/%"))
+                    .isZero();
+        }
+
         @Test
         @DisplayName("카테고리를 최상위 카테고리로 변경한다")
         void move_root(){
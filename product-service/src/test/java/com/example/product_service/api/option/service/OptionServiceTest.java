@@ -13,12 +13,15 @@ import com.example.product_service.api.option.service.dto.result.OptionValueResu
 import com.example.product_service.api.product.domain.model.Product;
 import com.example.product_service.api.product.domain.model.ProductVariant;
 import com.example.product_service.api.product.domain.repository.ProductRepository;
+import com.example.product_service.api.product.service.event.ProductChangedEvent;
 import com.example.product_service.support.ExcludeInfraTest;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -28,6 +31,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Transactional
+@RecordApplicationEvents
 public class OptionServiceTest extends ExcludeInfraTest {
 
     @Autowired
@@ -40,6 +44,8 @@ public class OptionServiceTest extends ExcludeInfraTest {
     private ProductRepository productRepository;
     @Autowired
     private EntityManager em;
+    @Autowired
+    private ApplicationEvents events;
 
     private OptionType saveTestOption(String name, List<String> values) {
         OptionType optionType = OptionType.create(name, values);
@@ -52,14 +58,14 @@ public class OptionServiceTest extends ExcludeInfraTest {
                 .orElseThrow();
     }
 
-    private void settingProductOption(OptionType optionType, OptionValue optionValue) {
+    private Product settingProductOption(OptionType optionType, OptionValue optionValue) {
         Category category = categoryRepository.save(Category.create("카테고리", null, "/test/image.jpg"));
         ProductVariant variant = ProductVariant.create("TEST", 1000L, 100, 10);
         variant.addProductVariantOptions(List.of(optionValue));
         Product product = Product.create("상품", "상품 설명", category);
         product.updateOptions(List.of(optionType));
         product.addVariant(variant);
-        productRepository.save(product);
+        return productRepository.save(product);
     }
 
     @Nested
@@ -196,6 +202,41 @@ public class OptionServiceTest extends ExcludeInfraTest {
                     .containsExactly("XL", "L", "M", "S");
         }
 
+        @Test
+        @DisplayName("옵션 이름을 수정하면 옵션을 사용하는 상품의 변경 이벤트를 발행한다")
+        void updateOptionTypeName_publish_product_changed(){
+            //given
+            OptionType optionType = saveTestOption("사이즈", List.of("XL", "L"));
+            Product product = settingProductOption(optionType, findOptionValue(optionType, "XL"));
+            OptionCommand.UpdateOptionType command = OptionCommand.UpdateOptionType.builder()
+                    .id(optionType.getId())
+                    .name("용량")
+                    .build();
+            //when
+            optionService.updateOptionTypeName(command);
+            //then
+            assertThat(events.stream(ProductChangedEvent.class))
+                    .containsExactly(new ProductChangedEvent(product.getId(), List.of(product.getVariants().get(0).getId())));
+        }
+
+        @Test
+        @DisplayName("옵션 값 이름을 수정하면 옵션 값을 사용하는 상품의 변경 이벤트를 발행한다")
+        void updateOptionValueName_publish_product_changed(){
+            //given
+            OptionType optionType = saveTestOption("사이즈", List.of("XL", "L"));
+            OptionValue optionValue = findOptionValue(optionType, "XL");
+            Product product = settingProductOption(optionType, optionValue);
+            OptionCommand.UpdateOptionValue command = OptionCommand.UpdateOptionValue.builder()
+                    .id(optionValue.getId())
+                    .name("XXL")
+                    .build();
+            //when
+            optionService.updateOptionValueName(command);
+            //then
+            assertThat(events.stream(ProductChangedEvent.class))
+                    .containsExactly(new ProductChangedEvent(product.getId(), List.of(product.getVariants().get(0).getId())));
+        }
+
         @Test
         @DisplayName("수정할 옵션을 찾을 수 없으면 옵션 이름을 수정할 수 없다")
         void updateOptionTypeName_notFound(){
@@ -0,0 +1,143 @@
+package com.example.product_service.api.product.cache;
+
+import com.example.product_service.api.product.domain.model.ProductStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class VariantSnapshotCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private VariantSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VariantSnapshotCache(redisTemplate, objectMapper, new VariantCacheProperties(), meterRegistry);
+    }
+
+    private VariantSnapshot snapshot(Long variantId) {
+        return new VariantSnapshot(1L, variantId, ProductStatus.ON_SALE, "SKU-" + variantId, "상품",
+                10000L, 10, 1000L, 9000L, "/thumbnail.jpg", List.of(new VariantSnapshot.Option("사이즈", "XL")));
+    }
+
+    private double requests(String tier, String result) {
+        return meterRegistry.get("product.variant.cache.requests").tag("tier", tier).tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 변형은 DB 에서 조회하고 다음 조회부터는 로컬 캐시에서 반환한다")
+    void getAll_load_then_local_hit() {
+        //given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList((String) null));
+        List<List<Long>> loadedIds = new ArrayList<>();
+        //when
+        cache.getAll(List.of(1L), ids -> {
+            loadedIds.add(ids);
+            return List.of(snapshot(1L));
+        });
+        Map<Long, VariantSnapshot> result = cache.getAll(List.of(1L), ids -> {
+            loadedIds.add(ids);
+            return List.of();
+        });
+        //then
+        assertThat(loadedIds).containsExactly(List.of(1L));
+        assertThat(result.get(1L)).isEqualTo(snapshot(1L));
+        assertThat(requests("local", "hit")).isEqualTo(1);
+        assertThat(requests("local", "miss")).isEqualTo(1);
+        assertThat(requests("redis", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 에 있는 변형은 DB 를 조회하지 않는다")
+    void getAll_redis_hit() throws Exception {
+        //given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyList()))
+                .willReturn(Arrays.asList(objectMapper.writeValueAsString(snapshot(1L)), null));
+        List<List<Long>> loadedIds = new ArrayList<>();
+        //when
+        Map<Long, VariantSnapshot> result = cache.getAll(List.of(1L, 2L), ids -> {
+            loadedIds.add(ids);
+            return List.of(snapshot(2L));
+        });
+        //then
+        assertThat(loadedIds).containsExactly(List.of(2L));
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        assertThat(requests("redis", "hit")).isEqualTo(1);
+        assertThat(requests("redis", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애시에도 DB 에서 조회한다")
+    void getAll_redis_failure() {
+        //given
+        given(redisTemplate.opsForValue()).willThrow(new IllegalStateException("connection refused"));
+        //when
+        Map<Long, VariantSnapshot> result = cache.getAll(List.of(1L), ids -> List.of(snapshot(1L)));
+        //then
+        assertThat(result).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("무효화된 변형은 다시 조회한다")
+    void evictLocal() {
+        //given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList((String) null));
+        cache.getAll(List.of(1L), ids -> List.of(snapshot(1L)));
+        List<List<Long>> loadedIds = new ArrayList<>();
+        //when
+        cache.evictLocal(List.of(1L));
+        cache.getAll(List.of(1L), ids -> {
+            loadedIds.add(ids);
+            return List.of(snapshot(1L));
+        });
+        //then
+        assertThat(loadedIds).containsExactly(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화된 변형은 조회한 값을 로컬 캐시에 저장하지 않는다")
+    void getAll_evicted_while_loading() {
+        //given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList((String) null));
+        List<List<Long>> loadedIds = new ArrayList<>();
+        //when
+        Map<Long, VariantSnapshot> result = cache.getAll(List.of(1L), ids -> {
+            cache.evictLocal(List.of(1L));
+            return List.of(snapshot(1L));
+        });
+        cache.getAll(List.of(1L), ids -> {
+            loadedIds.add(ids);
+            return List.of(snapshot(1L));
+        });
+        //then
+        assertThat(result).containsOnlyKeys(1L);
+        assertThat(loadedIds).containsExactly(List.of(1L));
+    }
+}
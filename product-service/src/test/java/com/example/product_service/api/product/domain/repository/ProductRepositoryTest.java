@@ -87,6 +87,61 @@ class ProductRepositoryTest extends ExcludeInfraTest {
                 );
     }
 
+    @Test
+    @DisplayName("상위 카테고리로 조회하면 하위 카테고리의 상품까지 조회한다")
+    void findProductsByCondition_category_subtree(){
+        //given
+        Category electron = saveCategory("전자기기");
+        electron.generatePath();
+        Category phone = categoryRepository.save(Category.create("핸드폰", electron, "/test/image.jpg"));
+        phone.generatePath();
+        Category laptop = categoryRepository.save(Category.create("노트북", electron, "/test/image.jpg"));
+        laptop.generatePath();
+        Category food = saveCategory("식품");
+        food.generatePath();
+        Product galaxy = saveProduct(phone, ProductStatus.ON_SALE,"갤럭시 24", 12000L, 13000L, 10, 4.0, 3.5);
+        Product gram = saveProduct(laptop, ProductStatus.ON_SALE,"그램", 15000L, 16000L, 10, 4.0, 3.5);
+        saveProduct(food, ProductStatus.ON_SALE,"오렌지", 9000L, 12000L, 10, 3.9, 4.0);
+        ProductCommand.Search command = ProductCommand.Search.builder()
+                .pageable(PageRequest.of(0, 10))
+                .categoryId(electron.getId())
+                .build();
+        //when
+        Page<Product> result = productRepository.findProductsByCondition(command);
+        //then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent())
+                .extracting(Product::getId)
+                .containsExactlyInAnyOrder(galaxy.getId(), gram.getId());
+    }
+
+    @Test
+    @DisplayName("검색 색인이 찾은 상품 id 를 관련도 순서대로 조회한다")
+    void findProductsByCondition_relevance(){
+        //given
+        Category phone = saveCategory("핸드폰");
+        Product galaxy23 = saveProduct(phone, ProductStatus.ON_SALE,"갤럭시 23", 11000L, 12000L, 10, 4.0, 3.5);
+        Product galaxy24 = saveProduct(phone, ProductStatus.ON_SALE,"갤럭시 24", 12000L, 13000L, 10, 4.5, 3.5);
+        Product galaxy25 = saveProduct(phone, ProductStatus.STOP_SALE,"갤럭시 25", 12000L, 13000L, 10, 4.5, 3.5);
+        Pageable pageable = PageRequest.of(0, 10);
+        ProductCommand.Search command = ProductCommand.Search.builder()
+                .pageable(pageable)
+                .name("갤럭시")
+                .sort("relevance")
+                .productIds(List.of(galaxy23.getId(), galaxy25.getId(), galaxy24.getId()))
+                .build();
+        //when
+        Page<Product> result = productRepository.findProductsByCondition(command);
+        //then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent())
+                .extracting(Product::getId, Product::getName)
+                .containsExactly(
+                        tuple(galaxy23.getId(), galaxy23.getName()),
+                        tuple(galaxy24.getId(), galaxy24.getName())
+                );
+    }
+
     private Category saveCategory(String name) {
         return categoryRepository.save(Category.create(name, null, "/test/image.jpg"));
     }
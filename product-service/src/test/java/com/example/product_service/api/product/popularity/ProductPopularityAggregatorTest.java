@@ -0,0 +1,81 @@
+package com.example.product_service.api.product.popularity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class ProductPopularityAggregatorTest {
+
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    private ProductPopularityAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        ProductPopularityProperties properties = new ProductPopularityProperties();
+        properties.setEpoch(EPOCH);
+        properties.setHalfLife(Duration.ofDays(7));
+        aggregator = new ProductPopularityAggregator(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("halfLife 만큼 늦게 완료된 주문은 가중치가 두배다")
+    void weight_doubles_every_half_life() {
+        //given
+        //when
+        double first = aggregator.weight(EPOCH);
+        double later = aggregator.weight(EPOCH.plus(Duration.ofDays(7)));
+        //then
+        assertThat(first).isEqualTo(1.0);
+        assertThat(later).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("상품 변형별로 가중치를 합치고 한 주문의 같은 변형은 한번만 더한다")
+    void record() {
+        //given
+        //when
+        aggregator.record(List.of(1L, 2L, 1L), EPOCH);
+        aggregator.record(List.of(1L), EPOCH.plus(Duration.ofDays(7)));
+        //then
+        assertThat(aggregator.drain()).containsOnly(entry(1L, 3.0), entry(2L, 1.0));
+    }
+
+    @Test
+    @DisplayName("꺼낸 가중치는 다음 window 에 포함되지 않고 되돌린 가중치는 다음 window 에 더해진다")
+    void drain_and_restore() {
+        //given
+        aggregator.record(List.of(1L), EPOCH);
+        Map<Long, Double> drained = aggregator.drain();
+        //when
+        aggregator.record(List.of(1L), EPOCH);
+        aggregator.restore(drained);
+        //then
+        assertThat(aggregator.drain()).containsOnly(entry(1L, 2.0));
+        assertThat(aggregator.pendingSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("기준 시각을 옮기면 모아둔 가중치와 이후 가중치를 새 기준 시각으로 계산한다")
+    void changeEpoch() {
+        //given
+        Instant next = EPOCH.plus(Duration.ofDays(14));
+        aggregator.record(List.of(1L), EPOCH.plus(Duration.ofDays(14)));
+        //when
+        double factor = aggregator.changeEpoch(next);
+        aggregator.record(List.of(2L), next);
+        //then
+        assertThat(factor).isEqualTo(0.25);
+        assertThat(aggregator.epoch()).isEqualTo(next);
+        assertThat(aggregator.drain()).containsOnly(entry(1L, 1.0), entry(2L, 1.0));
+    }
+}
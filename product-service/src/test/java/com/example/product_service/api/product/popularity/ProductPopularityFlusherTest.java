@@ -0,0 +1,84 @@
+package com.example.product_service.api.product.popularity;
+
+import com.example.product_service.api.category.domain.model.Category;
+import com.example.product_service.api.category.domain.repository.CategoryRepository;
+import com.example.product_service.api.product.domain.model.Product;
+import com.example.product_service.api.product.domain.model.ProductVariant;
+import com.example.product_service.api.product.domain.repository.ProductRepository;
+import com.example.product_service.api.product.service.dto.command.ProductCommand;
+import com.example.product_service.support.ExcludeInfraTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@Transactional
+class ProductPopularityFlusherTest extends ExcludeInfraTest {
+    @Autowired
+    private ProductPopularityFlusher flusher;
+    @Autowired
+    private ProductPopularityAggregator aggregator;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        aggregator.drain();
+    }
+
+    private Product saveProduct(Category category, String name) {
+        Product product = Product.create(name, "상품 설명", category);
+        product.addVariant(ProductVariant.create("TEST", 10000L, 100, 10));
+        product.replaceImages(List.of("/test/image.jpg"));
+        product.replaceDescriptionImage(List.of("/test/description.jpg"));
+        product.publish();
+        return productRepository.save(product);
+    }
+
+    @Test
+    @DisplayName("모은 가중치를 상품별로 합쳐 점수에 더하고 인기순 정렬에 반영한다")
+    void flush() {
+        //given
+        Category category = categoryRepository.save(Category.create("식품", null, "/test/image.jpg"));
+        Product apple = saveProduct(category, "사과");
+        Product orange = saveProduct(category, "오렌지");
+        Long appleVariantId = apple.getVariants().get(0).getId();
+        Long orangeVariantId = orange.getVariants().get(0).getId();
+        em.flush();
+        Instant now = Instant.now();
+        aggregator.record(List.of(orangeVariantId), now);
+        aggregator.record(List.of(orangeVariantId, appleVariantId), now);
+        // 삭제된 상품 변형은 무시한다
+        aggregator.record(List.of(Long.MAX_VALUE), now);
+        //when
+        int updated = flusher.flush();
+        em.clear();
+        //then
+        assertThat(updated).isEqualTo(2);
+        double appleScore = productRepository.findById(apple.getId()).orElseThrow().getPopularityScore();
+        double orangeScore = productRepository.findById(orange.getId()).orElseThrow().getPopularityScore();
+        assertThat(orangeScore / appleScore).isCloseTo(2.0, within(1e-6));
+        assertThat(aggregator.pendingSize()).isZero();
+
+        ProductCommand.Search command = ProductCommand.Search.builder()
+                .pageable(PageRequest.of(0, 10))
+                .sort("popularity")
+                .build();
+        assertThat(productRepository.findProductsByCondition(command).getContent())
+                .extracting(Product::getId)
+                .containsExactly(orange.getId(), apple.getId());
+    }
+}
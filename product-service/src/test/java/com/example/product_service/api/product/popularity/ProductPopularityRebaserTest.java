@@ -0,0 +1,88 @@
+package com.example.product_service.api.product.popularity;
+
+import com.example.product_service.api.category.domain.model.Category;
+import com.example.product_service.api.category.domain.repository.CategoryRepository;
+import com.example.product_service.api.product.domain.model.Product;
+import com.example.product_service.api.product.domain.model.ProductVariant;
+import com.example.product_service.api.product.domain.repository.ProductRepository;
+import com.example.product_service.support.ExcludeInfraTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+class ProductPopularityRebaserTest extends ExcludeInfraTest {
+    @Autowired
+    private ProductPopularityRebaser rebaser;
+    @Autowired
+    private ProductPopularityEpochStore epochStore;
+    @Autowired
+    private ProductPopularityProperties properties;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager em;
+
+    private Product saveProduct(double score) {
+        Category category = categoryRepository.save(Category.create("식품", null, "/test/image.jpg"));
+        Product product = Product.create("사과", "상품 설명", category);
+        product.addVariant(ProductVariant.create("TEST", 10000L, 100, 10));
+        product.replaceImages(List.of("/test/image.jpg"));
+        product.replaceDescriptionImage(List.of("/test/description.jpg"));
+        product.publish();
+        productRepository.save(product);
+        em.flush();
+        jdbcTemplate.update("update product set popularity_score = ? where id = ?", score, product.getId());
+        return product;
+    }
+
+    private double score(Product product) {
+        em.clear();
+        return productRepository.findById(product.getId()).orElseThrow().getPopularityScore();
+    }
+
+    @Test
+    @DisplayName("기준 시각 이후 rebaseAfterHalfLives 가 지나면 기준 시각을 halfLife 의 정수배만큼 옮기고 점수를 같은 비율로 줄인다")
+    void rebase() {
+        //given
+        Product product = saveProduct(8.0);
+        Instant epoch = epochStore.current();
+        Duration halfLife = properties.getHalfLife();
+        long halfLives = properties.getRebaseAfterHalfLives() + 3;
+        Instant now = epoch.plus(halfLife.multipliedBy(halfLives)).plusSeconds(1);
+        //when
+        long shifted = rebaser.rebase(now);
+        //then
+        assertThat(shifted).isEqualTo(halfLives);
+        assertThat(score(product)).isEqualTo(8.0 * Math.pow(2, -halfLives));
+        assertThat(epochStore.current()).isEqualTo(epoch.plus(halfLife.multipliedBy(halfLives)));
+    }
+
+    @Test
+    @DisplayName("rebaseAfterHalfLives 가 지나지 않았으면 기준 시각과 점수를 그대로 둔다")
+    void rebase_not_needed() {
+        //given
+        Product product = saveProduct(8.0);
+        Instant epoch = epochStore.current();
+        Instant now = epoch.plus(properties.getHalfLife().multipliedBy(properties.getRebaseAfterHalfLives() - 1));
+        //when
+        long shifted = rebaser.rebase(now);
+        //then
+        assertThat(shifted).isZero();
+        assertThat(score(product)).isEqualTo(8.0);
+        assertThat(epochStore.current()).isEqualTo(epoch);
+    }
+}
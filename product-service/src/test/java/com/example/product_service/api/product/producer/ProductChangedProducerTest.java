@@ -0,0 +1,71 @@
+package com.example.product_service.api.product.producer;
+
+import com.example.product_service.api.product.saga.properties.ProductTopicProperties;
+import com.example.product_service.api.product.service.event.ProductChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductChangedProducerTest {
+    private static final String TOPIC = "product.changed";
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private ProductChangedProducer producer;
+
+    @BeforeEach
+    void setUp() {
+        ProductTopicProperties properties = new ProductTopicProperties();
+        properties.setProductChanged(TOPIC);
+        producer = new ProductChangedProducer(properties, kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("옵션 이름 변경으로 발행된 상품 변경 이벤트를 상품 ID 를 키로 전송한다")
+    void onProductChanged() {
+        //given
+        ProductChangedEvent event = new ProductChangedEvent(1L, List.of(10L, 11L));
+        //when
+        producer.onProductChanged(event);
+        //then
+        verify(kafkaTemplate, times(1)).send(TOPIC, "1", event);
+    }
+
+    @Test
+    @DisplayName("변경된 상품 변형이 없으면 전송하지 않는다")
+    void onProductChanged_empty_variants() {
+        //given
+        ProductChangedEvent event = new ProductChangedEvent(1L, List.of());
+        //when
+        producer.onProductChanged(event);
+        //then
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("전송에 실패해도 예외를 던지지 않는다")
+    void onProductChanged_send_failure() {
+        //given
+        ProductChangedEvent event = new ProductChangedEvent(1L, List.of(10L));
+        willThrow(new RuntimeException("broker down")).given(kafkaTemplate).send(TOPIC, "1", event);
+        //when
+        producer.onProductChanged(event);
+        //then
+        verify(kafkaTemplate, times(1)).send(TOPIC, "1", event);
+    }
+}
@@ -5,11 +5,14 @@ import com.example.common.product.ProductCommandType;
 import com.example.common.product.ProductSagaCommand;
 import com.example.product_service.api.product.saga.domain.model.ProcessedSagaEvent;
 import com.example.product_service.api.product.saga.domain.repository.ProcessedSagaEventRepository;
+import com.example.product_service.api.product.saga.idempotency.ProcessedSagaEventGuard;
 import com.example.product_service.api.product.service.VariantService;
+import com.example.product_service.api.product.service.dto.command.VariantStockCommand;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -18,8 +21,12 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -33,6 +40,8 @@ public class ProductSagaCommandExecutorTest {
     private VariantService variantService;
     @Mock
     private ProcessedSagaEventRepository repository;
+    @Mock
+    private ProcessedSagaEventGuard processedSagaEventGuard;
 
     @Nested
     @DisplayName("상품 재고 사가")
@@ -44,6 +53,7 @@ public class ProductSagaCommandExecutorTest {
             //given
             ProductSagaCommand command = ProductSagaCommand
                     .of(ProductCommandType.DEDUCT_STOCK, 1L, "ORDER_NO", 1L, List.of(Item.of(1L, 3)), LocalDateTime.now());
+            given(processedSagaEventGuard.mightBeProcessed(anyLong(), anyString())).willReturn(true);
             given(repository.existsBySagaIdAndCommandType(1L, command.getType().name()))
                     .willReturn(false);
             //when
@@ -54,12 +64,30 @@ public class ProductSagaCommandExecutorTest {
             verify(repository, times(1)).save(any(ProcessedSagaEvent.class));
         }
 
+        @Test
+        @DisplayName("최근에 처리한 적 없는 명령은 처리 내역을 조회하지 않고 처리한다")
+        void processSagaCommand_skip_lookup_for_new_command() {
+            //given
+            ProductSagaCommand command = ProductSagaCommand
+                    .of(ProductCommandType.DEDUCT_STOCK, 1L, "ORDER_NO", 1L, List.of(Item.of(1L, 3)), LocalDateTime.now());
+            given(processedSagaEventGuard.mightBeProcessed(1L, command.getType().name())).willReturn(false);
+            //when
+            boolean isProcessed = executor.processSagaCommand(command);
+            //then
+            assertThat(isProcessed).isFalse();
+            verify(repository, never()).existsBySagaIdAndCommandType(anyLong(), anyString());
+            verify(variantService, times(1)).deductVariantsStock(anyList());
+            verify(repository, times(1)).save(any(ProcessedSagaEvent.class));
+            verify(processedSagaEventGuard).markProcessed(1L, command.getType().name());
+        }
+
         @Test
         @DisplayName("중복 요청시 재고 차감과 처리 내역 저장은 건너뛴다")
         void processSagaCommand_deduct_stock_duplicate_skip() {
             //given
             ProductSagaCommand command = ProductSagaCommand
                     .of(ProductCommandType.DEDUCT_STOCK, 1L, "ORDER_NO", 1L, List.of(Item.of(1L, 3)), LocalDateTime.now());
+            given(processedSagaEventGuard.mightBeProcessed(anyLong(), anyString())).willReturn(true);
             given(repository.existsBySagaIdAndCommandType(command.getSagaId(), command.getType().name()))
                     .willReturn(true);
             //when
@@ -76,6 +104,7 @@ public class ProductSagaCommandExecutorTest {
             //given
             ProductSagaCommand command = ProductSagaCommand
                     .of(ProductCommandType.RESTORE_STOCK, 1L, "ORDER_NO", 1L, List.of(Item.of(1L, 3)), LocalDateTime.now());
+            given(processedSagaEventGuard.mightBeProcessed(anyLong(), anyString())).willReturn(true);
             given(repository.existsBySagaIdAndCommandType(1L, command.getType().name()))
                     .willReturn(false);
             //when
@@ -92,6 +121,7 @@ public class ProductSagaCommandExecutorTest {
             //given
             ProductSagaCommand command = ProductSagaCommand
                     .of(ProductCommandType.RESTORE_STOCK, 1L, "ORDER_NO", 1L, List.of(Item.of(1L, 3)), LocalDateTime.now());
+            given(processedSagaEventGuard.mightBeProcessed(anyLong(), anyString())).willReturn(true);
             given(repository.existsBySagaIdAndCommandType(command.getSagaId(), command.getType().name()))
                     .willReturn(true);
             //when
@@ -102,4 +132,56 @@ public class ProductSagaCommandExecutorTest {
             verify(repository, never()).save(any());
         }
     }
+
+    @Nested
+    @DisplayName("상품 재고 사가 배치")
+    class ProcessSagaCommands {
+
+        @Test
+        @DisplayName("같은 상품 변형의 차감 수량을 합산해 한번에 차감하고 처리 내역을 저장한다")
+        void processSagaCommands_merge_deduction() {
+            //given
+            ProductSagaCommand first = ProductSagaCommand
+                    .of(ProductCommandType.DEDUCT_STOCK, 1L, "ORDER_NO_1", 1L, List.of(Item.of(1L, 3), Item.of(2L, 1)), LocalDateTime.now());
+            ProductSagaCommand second = ProductSagaCommand
+                    .of(ProductCommandType.DEDUCT_STOCK, 2L, "ORDER_NO_2", 2L, List.of(Item.of(1L, 2)), LocalDateTime.now());
+            given(processedSagaEventGuard.mightBeProcessed(anyLong(), anyString())).willReturn(true);
+            given(repository.findBySagaIdIn(anySet())).willReturn(List.of());
+            ArgumentCaptor<List<VariantStockCommand>> captor = ArgumentCaptor.forClass(List.class);
+            //when
+            int skipped = executor.processSagaCommands(List.of(first, second));
+            //then
+            assertThat(skipped).isZero();
+            verify(variantService, times(1)).deductVariantsStock(captor.capture());
+            verify(variantService, never()).restoreVariantsStock(anyList());
+            assertThat(captor.getValue())
+                    .extracting(VariantStockCommand::getVariantId, VariantStockCommand::getQuantity)
+                    .containsExactlyInAnyOrder(tuple(1L, 5), tuple(2L, 1));
+            ArgumentCaptor<List<ProcessedSagaEvent>> eventCaptor = ArgumentCaptor.forClass(List.class);
+            verify(repository, times(1)).saveAll(eventCaptor.capture());
+            assertThat(eventCaptor.getValue()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("이미 처리되었거나 배치 안에서 중복된 명령은 건너뛴다")
+        void processSagaCommands_skip_duplicate() {
+            //given
+            ProductSagaCommand processed = ProductSagaCommand
+                    .of(ProductCommandType.DEDUCT_STOCK, 1L, "ORDER_NO_1", 1L, List.of(Item.of(1L, 3)), LocalDateTime.now());
+            ProductSagaCommand command = ProductSagaCommand
+                    .of(ProductCommandType.DEDUCT_STOCK, 2L, "ORDER_NO_2", 2L, List.of(Item.of(1L, 2)), LocalDateTime.now());
+            given(processedSagaEventGuard.mightBeProcessed(anyLong(), anyString())).willReturn(true);
+            given(repository.findBySagaIdIn(anySet()))
+                    .willReturn(List.of(ProcessedSagaEvent.create(1L, ProductCommandType.DEDUCT_STOCK.name())));
+            ArgumentCaptor<List<VariantStockCommand>> captor = ArgumentCaptor.forClass(List.class);
+            //when
+            int skipped = executor.processSagaCommands(List.of(processed, command, command));
+            //then
+            assertThat(skipped).isEqualTo(2);
+            verify(variantService, times(1)).deductVariantsStock(captor.capture());
+            assertThat(captor.getValue())
+                    .extracting(VariantStockCommand::getVariantId, VariantStockCommand::getQuantity)
+                    .containsExactly(tuple(1L, 2));
+        }
+    }
 }
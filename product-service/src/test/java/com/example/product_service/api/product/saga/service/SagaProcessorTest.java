@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -75,6 +76,22 @@ public class SagaProcessorTest {
         verify(sagaEventProducer, times(1)).sendSagaFailure(anyLong(), anyString(), anyString(), anyString());
     }
 
+    @Test
+    @DisplayName("필터가 놓친 중복 재고 감소 명령이 재실행되어 실패하면 처리 내역을 확인해 성공 메시지를 보낸다")
+    void productSagaProcess_duplicate_failure_after_filter_miss(){
+        //given
+        List<Item> items = List.of(Item.builder().productVariantId(1L).quantity(3).build());
+        ProductSagaCommand command = ProductSagaCommand.of(ProductCommandType.DEDUCT_STOCK, 1L, "ORDER_NO", 1L, items, LocalDateTime.now());
+        willThrow(new BusinessException(ProductErrorCode.VARIANT_OUT_OF_STOCK))
+                .given(executor).processSagaCommand(command);
+        given(executor.isProcessed(command)).willReturn(true);
+        //when
+        sagaProcessor.productSagaProcess(command);
+        //then
+        verify(sagaEventProducer, times(1)).sendSagaSuccess(1L, "ORDER_NO");
+        verify(sagaEventProducer, never()).sendSagaFailure(anyLong(), anyString(), anyString(), anyString());
+    }
+
     @Test
     @DisplayName("이미 처리된 SAGA를 중복 수신시 성공 이벤트를 재발행한다")
     void productSagaProcess_duplicate_event(){
@@ -115,4 +132,40 @@ public class SagaProcessorTest {
                 .extracting("errorCode")
                 .isEqualTo(SagaErrorCode.STOCK_RESTORE_FAIL);
     }
+
+    @Test
+    @DisplayName("배치 처리에 성공하면 모든 Saga 에 성공 메시지를 보낸다")
+    void productSagaBatchProcess_success() {
+        //given
+        List<Item> items = List.of(Item.builder().productVariantId(1L).quantity(3).build());
+        ProductSagaCommand first = ProductSagaCommand.of(ProductCommandType.DEDUCT_STOCK, 1L, "ORDER_NO_1", 1L, items, LocalDateTime.now());
+        ProductSagaCommand second = ProductSagaCommand.of(ProductCommandType.DEDUCT_STOCK, 2L, "ORDER_NO_2", 1L, items, LocalDateTime.now());
+        given(executor.processSagaCommands(List.of(first, second))).willReturn(0);
+        //when
+        sagaProcessor.productSagaBatchProcess(List.of(first, second));
+        //then
+        verify(sagaEventProducer).sendSagaSuccess(1L, "ORDER_NO_1");
+        verify(sagaEventProducer).sendSagaSuccess(2L, "ORDER_NO_2");
+        verify(executor, never()).processSagaCommand(any());
+    }
+
+    @Test
+    @DisplayName("배치 처리에 실패하면 명령 단위로 다시 처리해 실패한 Saga 에만 실패 메시지를 보낸다")
+    void productSagaBatchProcess_fallback() {
+        //given
+        List<Item> items = List.of(Item.builder().productVariantId(1L).quantity(3).build());
+        ProductSagaCommand first = ProductSagaCommand.of(ProductCommandType.DEDUCT_STOCK, 1L, "ORDER_NO_1", 1L, items, LocalDateTime.now());
+        ProductSagaCommand second = ProductSagaCommand.of(ProductCommandType.DEDUCT_STOCK, 2L, "ORDER_NO_2", 1L, items, LocalDateTime.now());
+        willThrow(new BusinessException(ProductErrorCode.VARIANT_OUT_OF_STOCK))
+                .given(executor).processSagaCommands(anyList());
+        given(executor.processSagaCommand(first)).willReturn(false);
+        willThrow(new BusinessException(ProductErrorCode.VARIANT_OUT_OF_STOCK))
+                .given(executor).processSagaCommand(second);
+        //when
+        sagaProcessor.productSagaBatchProcess(List.of(first, second));
+        //then
+        verify(sagaEventProducer).sendSagaSuccess(1L, "ORDER_NO_1");
+        verify(sagaEventProducer).sendSagaFailure(eq(2L), eq("ORDER_NO_2"), anyString(), any());
+        verify(sagaEventProducer, never()).sendSagaSuccess(2L, "ORDER_NO_2");
+    }
 }
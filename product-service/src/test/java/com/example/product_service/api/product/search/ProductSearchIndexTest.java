@@ -0,0 +1,153 @@
+package com.example.product_service.api.product.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        ProductSearchProperties properties = new ProductSearchProperties();
+        properties.setMaxResults(3);
+        index = new ProductSearchIndex(properties, new SimpleMeterRegistry());
+    }
+
+    private void rebuild(ProductSearchDocument... documents) {
+        index.rebuild(List.of(documents).iterator());
+    }
+
+    @Test
+    @DisplayName("색인이 만들어지기 전에는 LIKE 검색으로 대체하도록 empty 를 반환한다")
+    void search_not_ready() {
+        //given
+        //when
+        //then
+        assertThat(index.search("반팔")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름 일치, 접두 일치, 일치 위치, 이름 길이 순으로 상품 id 를 반환한다")
+    void search_ranking() {
+        //given
+        rebuild(
+                new ProductSearchDocument(1L, "오버핏 반팔 티셔츠"),
+                new ProductSearchDocument(2L, "반팔 티셔츠"),
+                new ProductSearchDocument(3L, "반팔"),
+                new ProductSearchDocument(4L, "긴팔 티셔츠")
+        );
+        //when
+        //then
+        assertThat(index.search("반팔")).hasValue(List.of(3L, 2L, 1L));
+    }
+
+    @Test
+    @DisplayName("대소문자, 공백, 전각 문자를 구분하지 않고 검색어가 연속으로 포함된 상품만 찾는다")
+    void search_normalize() {
+        //given
+        rebuild(
+                new ProductSearchDocument(1L, "Nike Air Max"),
+                new ProductSearchDocument(2L, "ＮＩＫＥ 에어"),
+                new ProductSearchDocument(3L, "Kenike")
+        );
+        //when
+        //then
+        assertThat(index.search("nikeair")).hasValue(List.of(1L));
+        assertThat(index.search("NIKE")).hasValue(List.of(2L, 1L, 3L));
+        assertThat(index.search("에어맥스")).hasValue(List.of());
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 색인된 이름을 순회해 찾는다")
+    void search_single_character() {
+        //given
+        rebuild(
+                new ProductSearchDocument(1L, "반팔 티셔츠"),
+                new ProductSearchDocument(2L, "청바지")
+        );
+        //when
+        //then
+        assertThat(index.search("팔")).hasValue(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("최대 결과 수를 넘으면 관련도가 높은 상품만 반환한다")
+    void search_max_results() {
+        //given
+        rebuild(
+                new ProductSearchDocument(1L, "셔츠 A"),
+                new ProductSearchDocument(2L, "셔츠 B"),
+                new ProductSearchDocument(3L, "셔츠"),
+                new ProductSearchDocument(4L, "린넨 셔츠"),
+                new ProductSearchDocument(5L, "셔츠 C")
+        );
+        //when
+        //then
+        assertThat(index.search("셔츠")).hasValue(List.of(3L, 5L, 2L));
+    }
+
+    @Test
+    @DisplayName("검색 결과가 최대 결과 수만큼이면 잘린 결과로 판단한다")
+    void isTruncated() {
+        //given
+        //when
+        //then
+        assertThat(index.isTruncated(List.of(3L, 5L, 2L))).isTrue();
+        assertThat(index.isTruncated(List.of(3L, 5L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("변경된 이름은 다시 색인하고 제거된 상품은 검색되지 않는다")
+    void put_and_remove() {
+        //given
+        rebuild(
+                new ProductSearchDocument(1L, "반팔 티셔츠"),
+                new ProductSearchDocument(2L, "반팔 셔츠")
+        );
+        //when
+        index.put(1L, "긴팔 티셔츠");
+        index.remove(2L);
+        index.put(3L, "반팔 니트");
+        //then
+        assertThat(index.search("반팔")).hasValue(List.of(3L));
+        assertThat(index.search("긴팔")).hasValue(List.of(1L));
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재색인 중에 들어온 변경은 새 색인에도 반영된다")
+    void rebuild_with_concurrent_changes() {
+        //given
+        rebuild(new ProductSearchDocument(1L, "반팔 티셔츠"));
+        Iterator<ProductSearchDocument> documents = List.of(
+                new ProductSearchDocument(1L, "반팔 티셔츠"),
+                new ProductSearchDocument(2L, "반팔 셔츠")
+        ).iterator();
+        //when
+        index.rebuild(new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return documents.hasNext();
+            }
+
+            @Override
+            public ProductSearchDocument next() {
+                ProductSearchDocument document = documents.next();
+                if (!documents.hasNext()) {
+                    index.remove(1L);
+                }
+                return document;
+            }
+        });
+        //then
+        assertThat(index.search("반팔")).hasValue(List.of(2L));
+    }
+}
@@ -17,6 +17,7 @@ import com.example.product_service.api.product.service.ProductService;
 import com.example.product_service.api.product.service.dto.command.ProductCommand;
 import com.example.product_service.api.product.service.dto.result.ProductResult;
 import com.example.product_service.support.ExcludeInfraTest;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -41,6 +42,8 @@ public class ProductServiceTest extends ExcludeInfraTest {
     private CategoryRepository categoryRepository;
     @Autowired
     private OptionTypeRepository optionTypeRepository;
+    @Autowired
+    private EntityManager em;
 
     private ProductCommand.Create createProductCommand(Long categoryId){
         return ProductCommand.Create.builder()
@@ -66,6 +69,16 @@ public class ProductServiceTest extends ExcludeInfraTest {
         return categoryRepository.save(Category.create("카테고리", null, "/test/image.jpg"));
     }
 
+    private Category saveCategoryWithPath(String name, Category parent) {
+        Category category = categoryRepository.save(Category.create(name, parent, "/test/image.jpg"));
+        category.generatePath();
+        return category;
+    }
+
+    private Long productCount(Category category) {
+        return categoryRepository.findById(category.getId()).orElseThrow().getProductCount();
+    }
+
     private Product saveProduct(Category category) {
         return productRepository.save(Product.create("상품", "설명", category));
     }
@@ -432,6 +445,30 @@ public class ProductServiceTest extends ExcludeInfraTest {
             assertThat(result.publishedAt()).isNotNull();
         }
 
+        @Test
+        @DisplayName("상품을 게시하면 카테고리와 상위 카테고리의 판매중인 상품 수가 증가하고 판매 중지하면 감소한다")
+        void publish_product_count(){
+            //given
+            Category root = saveCategoryWithPath("전자", null);
+            Category leaf = saveCategoryWithPath("노트북", root);
+            Product product = Product.create("상품", "상품 설명", leaf);
+            product.addVariant(ProductVariant.create("TEST", 3000L, 100, 10));
+            product.replaceImages(List.of("/test/image.jpg"));
+            product.replaceDescriptionImage(List.of("/test/description.jpg"));
+            productRepository.save(product);
+            //when
+            productService.publish(product.getId());
+            em.flush();
+            em.clear();
+            List<Long> published = List.of(productCount(root), productCount(leaf));
+            productService.closedProduct(product.getId());
+            em.flush();
+            em.clear();
+            //then
+            assertThat(published).containsExactly(1L, 1L);
+            assertThat(List.of(productCount(root), productCount(leaf))).containsExactly(0L, 0L);
+        }
+
         @Test
         @DisplayName("상품을 찾을 수 없는 경우 예외를 던진다")
         void publish_notFound_product(){
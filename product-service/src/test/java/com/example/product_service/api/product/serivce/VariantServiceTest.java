@@ -138,6 +138,24 @@ public class VariantServiceTest extends ExcludeInfraTest {
             //then
             assertThat(result).hasSize(2);
         }
+
+        @Test
+        @DisplayName("캐시된 상품 변형을 조회해도 재고는 최신 값을 반환한다")
+        void getVariants_cached_with_latest_stock(){
+            //given
+            Category category = saveCategory();
+            ProductVariant variant = ProductVariant.create("TEST", 10000L, 100, 10);
+            Product product = saveProduct(category);
+            settingProduct(product, List.of(), List.of(variant));
+            variantService.getVariants(List.of(variant.getId()));
+            variantService.deductVariantsStock(List.of(VariantStockCommand.of(variant.getId(), 3)));
+            //when
+            List<InternalVariantResponse> result = variantService.getVariants(List.of(variant.getId()));
+            //then
+            assertThat(result)
+                    .extracting(InternalVariantResponse::getProductVariantId, InternalVariantResponse::getStockQuantity)
+                    .containsExactly(tuple(variant.getId(), 97));
+        }
     }
 
     @Nested
@@ -156,7 +174,7 @@ public class VariantServiceTest extends ExcludeInfraTest {
             //when
             variantService.deductVariantsStock(List.of(command));
             //then
-            assertThat(variant.getStockQuantity()).isEqualTo(97);
+            assertThat(em.find(ProductVariant.class, variant.getId()).getStockQuantity()).isEqualTo(97);
         }
 
         @Test
@@ -174,6 +192,7 @@ public class VariantServiceTest extends ExcludeInfraTest {
                     .isInstanceOf(BusinessException.class)
                     .extracting("errorCode")
                     .isEqualTo(ProductErrorCode.VARIANT_OUT_OF_STOCK);
+            assertThat(em.find(ProductVariant.class, variant.getId()).getStockQuantity()).isEqualTo(10);
         }
 
         @Test
@@ -206,7 +225,7 @@ public class VariantServiceTest extends ExcludeInfraTest {
             //when
             variantService.restoreVariantsStock(List.of(command));
             //then
-            assertThat(variant.getStockQuantity()).isEqualTo(103);
+            assertThat(em.find(ProductVariant.class, variant.getId()).getStockQuantity()).isEqualTo(103);
         }
 
 
@@ -0,0 +1,121 @@
+package com.example.product_service.api.product.serivce;
+
+import com.example.product_service.api.category.domain.model.Category;
+import com.example.product_service.api.category.domain.repository.CategoryRepository;
+import com.example.product_service.api.common.exception.BusinessException;
+import com.example.product_service.api.common.exception.ProductErrorCode;
+import com.example.product_service.api.product.domain.model.Product;
+import com.example.product_service.api.product.domain.model.ProductVariant;
+import com.example.product_service.api.product.domain.repository.ProductRepository;
+import com.example.product_service.api.product.domain.repository.ProductVariantRepository;
+import com.example.product_service.api.product.service.VariantService;
+import com.example.product_service.api.product.service.dto.command.VariantStockCommand;
+import com.example.product_service.support.ExcludeInfraTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+public class VariantStockConcurrencyTest extends ExcludeInfraTest {
+
+    private static final int REQUEST_COUNT = 1000;
+    private static final int THREAD_COUNT = 64;
+    private static final int STOCK = 300;
+
+    @Autowired
+    private VariantService variantService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long productId;
+    private Long categoryId;
+
+    @AfterEach
+    void tearDown() {
+        if (productId != null) {
+            productRepository.deleteById(productId);
+        }
+        if (categoryId != null) {
+            categoryRepository.deleteById(categoryId);
+        }
+    }
+
+    @Test
+    @DisplayName("한 상품 변형에 1,000건의 재고 차감이 동시에 들어와도 재고보다 많이 차감되지 않는다")
+    void deductVariantsStock_concurrently() throws InterruptedException {
+        //given
+        Long variantId = saveVariant(STOCK);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    variantService.deductVariantsStock(List.of(VariantStockCommand.of(variantId, 1)));
+                    success.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ProductErrorCode.VARIANT_OUT_OF_STOCK) {
+                        outOfStock.incrementAndGet();
+                    } else {
+                        unexpected.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    unexpected.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        //when
+        long startedAt = System.nanoTime();
+        start.countDown();
+        boolean completed = done.await(60, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+        //then
+        log.info("재고 동시 차감 {}건 처리 {}ms ({} req/s), 성공 {}건, 재고 부족 {}건",
+                REQUEST_COUNT, elapsedMillis, REQUEST_COUNT * 1000L / Math.max(1, elapsedMillis),
+                success.get(), outOfStock.get());
+        assertThat(completed).isTrue();
+        assertThat(unexpected.get()).isZero();
+        assertThat(success.get()).isEqualTo(STOCK);
+        assertThat(outOfStock.get()).isEqualTo(REQUEST_COUNT - STOCK);
+        assertThat(productVariantRepository.findById(variantId).orElseThrow().getStockQuantity()).isZero();
+    }
+
+    private Long saveVariant(int stock) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Category category = categoryRepository.save(Category.create("카테고리", null, "/test/image.jpg"));
+            Product product = Product.create("상품", "설명", category);
+            ProductVariant variant = ProductVariant.create("HOT-SKU", 10000L, stock, 10);
+            product.addVariant(variant);
+            productRepository.saveAndFlush(product);
+            categoryId = category.getId();
+            productId = product.getId();
+            return variant.getId();
+        });
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.product_service.benchmark.search;
+
+import com.example.product_service.api.product.search.ProductSearchDocument;
+import com.example.product_service.api.product.search.ProductSearchIndex;
+import com.example.product_service.api.product.search.ProductSearchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 이름 검색의 LIKE '%검색어%' 조회와 검색 색인 조회 시간 비교
+ * <p>
+ * 100만개의 판매중인 상품을 H2 메모리 DB 와 색인에 넣고 목록 조회와 같은 방식(페이지 조회 + count)으로 LIKE 검색한다.
+ * 메모리 DB 라 디스크를 읽는 MySQL 보다 LIKE 가 유리한 조건이다.
+ * <p>
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+public class ProductSearchBenchmarkTest {
+    private static final int PRODUCT_COUNT = 1_000_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+    private static final String[] KEYWORDS = {"반팔", "린넨 셔츠", "나이키 에어", "gore-tex", "오버핏 데님 자켓", "없는상품"};
+
+    private static final String[] BRANDS = {"나이키", "아디다스", "뉴발란스", "Nike", "Adidas", "무신사", "유니클로", "자라", "H&M", "노스페이스"};
+    private static final String[] STYLES = {"오버핏", "슬림핏", "와이드", "린넨", "데님", "코튼", "울", "gore-tex", "에어", "빈티지"};
+    private static final String[] ITEMS = {"반팔 티셔츠", "긴팔 티셔츠", "셔츠", "후드티", "맨투맨", "청바지", "슬랙스", "자켓", "패딩", "운동화",
+            "스니커즈", "원피스", "니트", "가디건", "조거팬츠", "반바지", "코트", "베스트", "레깅스", "캡모자"};
+
+    @Test
+    @DisplayName("100만개 상품에서 LIKE 검색과 색인 검색 시간을 비교한다")
+    void compare() throws SQLException {
+        List<ProductSearchDocument> documents = createDocuments();
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:product-search-benchmark;DB_CLOSE_DELAY=-1")) {
+            insert(connection, documents);
+
+            ProductSearchProperties properties = new ProductSearchProperties();
+            ProductSearchIndex index = new ProductSearchIndex(properties, new SimpleMeterRegistry());
+            long buildStart = System.nanoTime();
+            index.rebuild(documents.iterator());
+            System.out.printf("색인 생성 %d건 : %d ms%n", index.size(), (System.nanoTime() - buildStart) / 1_000_000);
+
+            for (String keyword : KEYWORDS) {
+                long likeCount = 0;
+                for (int i = 0; i < WARMUP; i++) {
+                    likeCount = searchByLike(connection, keyword);
+                    index.search(keyword);
+                }
+
+                long likeStart = System.nanoTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    searchByLike(connection, keyword);
+                }
+                double likeMillis = (System.nanoTime() - likeStart) / 1_000_000.0 / ITERATIONS;
+
+                List<Long> productIds = List.of();
+                long indexStart = System.nanoTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    productIds = index.search(keyword).orElseThrow();
+                }
+                double indexMillis = (System.nanoTime() - indexStart) / 1_000_000.0 / ITERATIONS;
+
+                System.out.printf("%-12s like=%9.3f ms (%d건)  index=%7.3f ms (%d건)%n",
+                        keyword, likeMillis, likeCount, indexMillis, productIds.size());
+                // 생성한 이름은 단어 사이 공백이 하나라 공백을 무시하는 색인도 LIKE 와 같은 상품을 최대 결과 수까지 찾는다
+                assertThat(productIds).hasSize((int) Math.min(likeCount, properties.getMaxResults()));
+            }
+        }
+    }
+
+    private List<ProductSearchDocument> createDocuments() {
+        Random random = new Random(42);
+        List<ProductSearchDocument> documents = new ArrayList<>(PRODUCT_COUNT);
+        for (long id = 1; id <= PRODUCT_COUNT; id++) {
+            String name = BRANDS[random.nextInt(BRANDS.length)] + " "
+                    + STYLES[random.nextInt(STYLES.length)] + " "
+                    + ITEMS[random.nextInt(ITEMS.length)] + " "
+                    + random.nextInt(10_000);
+            documents.add(new ProductSearchDocument(id, name));
+        }
+        return documents;
+    }
+
+    private void insert(Connection connection, List<ProductSearchDocument> documents) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table product (id bigint primary key, name varchar(255), status varchar(20), published_at timestamp)");
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into product (id, name, status, published_at) values (?, ?, 'ON_SALE', current_timestamp)")) {
+            for (ProductSearchDocument document : documents) {
+                statement.setLong(1, document.productId());
+                statement.setString(2, document.name());
+                statement.addBatch();
+                if (document.productId() % 10_000 == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    // 기존 목록 조회와 같이 첫 페이지와 전체 건수를 조회한다
+    private long searchByLike(Connection connection, String keyword) throws SQLException {
+        String pattern = "%" + keyword + "%";
+        try (PreparedStatement page = connection.prepareStatement(
+                "select id from product where name like ? and status = 'ON_SALE' order by published_at desc, id desc limit 20");
+             PreparedStatement count = connection.prepareStatement(
+                     "select count(*) from product where name like ? and status = 'ON_SALE'")) {
+            page.setString(1, pattern);
+            try (ResultSet resultSet = page.executeQuery()) {
+                while (resultSet.next()) {
+                    resultSet.getLong(1);
+                }
+            }
+            count.setString(1, pattern);
+            try (ResultSet resultSet = count.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+}
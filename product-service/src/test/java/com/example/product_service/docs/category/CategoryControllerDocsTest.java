@@ -280,6 +280,7 @@ class CategoryControllerDocsTest extends RestDocsSupport {
                 .parentId(parentId)
                 .depth(depth)
                 .imagePath(imagePath)
+                .productCount(10L)
                 .build();
     }
 
@@ -12,6 +12,7 @@ public class CategoryDescriptor {
     public static final FieldDescriptor PARENT_ID = fieldWithPath("parentId").description("부모 카테고리 ID").type(JsonFieldType.NUMBER).optional();
     public static final FieldDescriptor DEPTH = fieldWithPath("depth").description("카테고리 깊이");
     public static final FieldDescriptor IMAGE_PATH = fieldWithPath("imagePath").description("카테고리 이미지 경로").optional().type(JsonFieldType.STRING);
+    public static final FieldDescriptor PRODUCT_COUNT = fieldWithPath("productCount").description("하위 카테고리를 포함한 판매중인 상품 수").optional().type(JsonFieldType.NUMBER);
 
     public static FieldDescriptor[] getCreateRequest() {
         return new FieldDescriptor[] {
@@ -23,7 +24,7 @@ public class CategoryDescriptor {
 
     public static FieldDescriptor[] getCategoryResponse() {
         return new FieldDescriptor[] {
-                ID, NAME, PARENT_ID, DEPTH, IMAGE_PATH
+                ID, NAME, PARENT_ID, DEPTH, IMAGE_PATH, PRODUCT_COUNT
         };
     }
 
@@ -34,6 +35,7 @@ public class CategoryDescriptor {
                 fieldWithPath("[].parentId").description("부모 카테고리 ID").optional(),
                 fieldWithPath("[].depth").description("카테고리 깊이"),
                 fieldWithPath("[].imagePath").description("카테고리 이미지 URL"),
+                fieldWithPath("[].productCount").description("하위 카테고리를 포함한 판매중인 상품 수").optional().type(JsonFieldType.NUMBER),
                 subsectionWithPath("[].children").description("하위 카테고리 목록 (상위 구조와 동일)")
         };
     }
@@ -1,6 +1,7 @@
 package com.example.product_service.support;
 
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -10,4 +11,6 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 public abstract class ExcludeInfraTest {
     @MockitoBean
     private KafkaTemplate<String, Object> kafkaTemplate;
+    @MockitoBean
+    private StringRedisTemplate stringRedisTemplate;
 }
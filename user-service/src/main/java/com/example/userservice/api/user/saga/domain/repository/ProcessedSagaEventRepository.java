@@ -2,7 +2,18 @@ package com.example.userservice.api.user.saga.domain.repository;
 
 import com.example.userservice.api.user.saga.domain.model.ProcessedSagaEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 public interface ProcessedSagaEventRepository extends JpaRepository<ProcessedSagaEvent, Long> {
     boolean existsBySagaIdAndCommandType(Long sagaId, String commandType);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from processed_saga_event where processed_at < :threshold limit :limit", nativeQuery = true)
+    int deleteProcessedBefore(@Param("threshold") LocalDateTime threshold, @Param("limit") int limit);
 }
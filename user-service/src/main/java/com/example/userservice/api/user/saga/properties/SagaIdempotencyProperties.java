@@ -0,0 +1,21 @@
+package com.example.userservice.api.user.saga.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "user.saga.idempotency")
+public class SagaIdempotencyProperties {
+    // 필터 한 세대에 기록할 명령 수
+    private int expectedInsertions = 100_000;
+    private double falsePositiveRate = 0.01;
+    // 처리 내역 보관 기간, 지난 내역은 삭제된다
+    private Duration retention = Duration.ofDays(7);
+    private int purgeBatchSize = 1000;
+}
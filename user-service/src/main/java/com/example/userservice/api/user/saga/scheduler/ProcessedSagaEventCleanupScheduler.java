@@ -0,0 +1,33 @@
+package com.example.userservice.api.user.saga.scheduler;
+
+import com.example.userservice.api.user.saga.domain.repository.ProcessedSagaEventRepository;
+import com.example.userservice.api.user.saga.properties.SagaIdempotencyProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessedSagaEventCleanupScheduler {
+    private final ProcessedSagaEventRepository processedSagaEventRepository;
+    private final SagaIdempotencyProperties properties;
+
+    // 보관 기간이 지난 처리 내역을 나눠서 삭제해 테이블과 잠금 범위를 작게 유지
+    @Scheduled(fixedDelay = 3600000, initialDelay = 60000)
+    public void purge() {
+        LocalDateTime threshold = LocalDateTime.now().minus(properties.getRetention());
+        int total = 0;
+        int deleted;
+        do {
+            deleted = processedSagaEventRepository.deleteProcessedBefore(threshold, properties.getPurgeBatchSize());
+            total += deleted;
+        } while (deleted == properties.getPurgeBatchSize());
+        if (total > 0) {
+            log.info("보관 기간이 지난 Saga 처리 내역 삭제 : {}건", total);
+        }
+    }
+}
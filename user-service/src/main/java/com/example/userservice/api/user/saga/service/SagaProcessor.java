@@ -7,6 +7,7 @@ import com.example.userservice.api.common.exception.SagaErrorCode;
 import com.example.userservice.api.user.saga.producer.SagaEventProducer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -23,6 +24,10 @@ public class SagaProcessor {
                 log.info("이미 처리된 Saga Command");
             }
             sagaEventProducer.sendSagaSuccess(command.getSagaId(), command.getOrderNo());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 처리해 처리 내역 유니크 인덱스에 걸린 경우, 변경은 롤백되었으므로 성공으로 응답
+            log.info("이미 처리된 Saga Command");
+            sagaEventProducer.sendSagaSuccess(command.getSagaId(), command.getOrderNo());
         } catch (BusinessException e) {
             handleException(command, e.getErrorCode().name(), e.getMessage());
         } catch (Exception e) {
@@ -31,6 +36,12 @@ public class SagaProcessor {
     }
 
     private void handleException(UserSagaCommand command, String code, String message) {
+        // 이미 성공한 명령이 다시 실행되어 실패한 경우 실패로 응답하지 않고 성공을 다시 응답한다
+        if (isProcessed(command)) {
+            log.info("이미 처리된 Saga Command 의 재실행 실패. SagaID: {}", command.getSagaId());
+            sagaEventProducer.sendSagaSuccess(command.getSagaId(), command.getOrderNo());
+            return;
+        }
         if (command.getType() == UserCommandType.REFUND_POINT) {
             log.error("포인트 복구 실패! 재시도 필요. SagaID: {}", command.getSagaId());
             throw new BusinessException(SagaErrorCode.POINT_REFOUND_FAILED);
@@ -39,4 +50,13 @@ public class SagaProcessor {
         log.warn("재고 차감 실패. SagaID: {}", command.getSagaId());
         sagaEventProducer.sendSagaFailure(command.getSagaId(), command.getOrderNo(), code, message);
     }
+
+    private boolean isProcessed(UserSagaCommand command) {
+        try {
+            return executor.isProcessed(command);
+        } catch (Exception e) {
+            log.warn("Saga Command 처리 내역 조회 실패. SagaID: {}", command.getSagaId(), e);
+            return false;
+        }
+    }
 }
@@ -4,6 +4,7 @@ import com.example.common.user.UserCommandType;
 import com.example.common.user.UserSagaCommand;
 import com.example.userservice.api.user.saga.domain.model.ProcessedSagaEvent;
 import com.example.userservice.api.user.saga.domain.repository.ProcessedSagaEventRepository;
+import com.example.userservice.api.user.saga.idempotency.ProcessedSagaEventGuard;
 import com.example.userservice.api.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,9 +17,12 @@ public class UserSagaCommandExecutor {
 
     private final UserService userService;
     private final ProcessedSagaEventRepository eventRepository;
+    private final ProcessedSagaEventGuard processedSagaEventGuard;
 
     public boolean processSagaCommand(UserSagaCommand command) {
-        if (eventRepository.existsBySagaIdAndCommandType(command.getSagaId(), command.getType().name())){
+        // 최근에 처리한 적 없는 명령은 조회를 건너뛰고, 놓친 중복은 처리 내역의 유니크 인덱스가 막는다
+        if (processedSagaEventGuard.mightBeProcessed(command.getSagaId(), command.getType().name())
+                && eventRepository.existsBySagaIdAndCommandType(command.getSagaId(), command.getType().name())){
             return true;
         }
 
@@ -30,6 +34,17 @@ public class UserSagaCommandExecutor {
 
         ProcessedSagaEvent event = ProcessedSagaEvent.create(command.getSagaId(), command.getType().name());
         eventRepository.save(event);
+        processedSagaEventGuard.markProcessed(command.getSagaId(), command.getType().name());
         return false;
     }
+
+    /**
+     * 필터를 거치지 않고 처리 내역에서 명령이 이미 처리되었는지 확인한다
+     * <p>
+     * 재시작 직후처럼 필터가 비어 있으면 중복 명령이 다시 실행되어 실패할 수 있으므로, 실패를 응답하기 전에 확인한다
+     */
+    @Transactional(readOnly = true)
+    public boolean isProcessed(UserSagaCommand command) {
+        return eventRepository.existsBySagaIdAndCommandType(command.getSagaId(), command.getType().name());
+    }
 }
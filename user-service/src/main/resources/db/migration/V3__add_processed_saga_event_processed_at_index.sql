@@ -0,0 +1,2 @@
+create index idx_processed_saga_event_processed_at
+    on processed_saga_event (processed_at);
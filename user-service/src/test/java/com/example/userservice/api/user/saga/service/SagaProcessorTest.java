@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -72,6 +73,21 @@ class SagaProcessorTest {
         verify(sagaEventProducer, times(1)).sendSagaFailure(anyLong(), anyString(), anyString(), anyString());
     }
 
+    @Test
+    @DisplayName("필터가 놓친 중복 포인트 차감 명령이 재실행되어 실패하면 처리 내역을 확인해 성공 메시지를 보낸다")
+    void userSagaProcess_duplicate_failure_after_filter_miss(){
+        //given
+        UserSagaCommand command = UserSagaCommand.of(UserCommandType.USE_POINT, 1L, "ORDER_NO", 1L, 1000L, LocalDateTime.now());
+        willThrow(new BusinessException(UserErrorCode.INSUFFICIENT_POINT))
+                .given(executor).processSagaCommand(command);
+        given(executor.isProcessed(command)).willReturn(true);
+        //when
+        sagaProcessor.userSagaProcess(command);
+        //then
+        verify(sagaEventProducer, times(1)).sendSagaSuccess(1L, "ORDER_NO");
+        verify(sagaEventProducer, never()).sendSagaFailure(anyLong(), anyString(), anyString(), anyString());
+    }
+
     @Test
     @DisplayName("이미 처리된 SAGA를 중복 수신시 성공 이벤트를 재발행한다")
     void userSagaProcess_duplicate_event(){
@@ -4,6 +4,7 @@ import com.example.common.user.UserCommandType;
 import com.example.common.user.UserSagaCommand;
 import com.example.userservice.api.user.saga.domain.model.ProcessedSagaEvent;
 import com.example.userservice.api.user.saga.domain.repository.ProcessedSagaEventRepository;
+import com.example.userservice.api.user.saga.idempotency.ProcessedSagaEventGuard;
 import com.example.userservice.api.user.service.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +18,7 @@ import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +32,8 @@ class UserSagaCommandExecutorTest {
     private UserService userService;
     @Mock
     private ProcessedSagaEventRepository repository;
+    @Mock
+    private ProcessedSagaEventGuard processedSagaEventGuard;
 
     @Nested
     @DisplayName("유저 포인트 차감 사가 처리")
@@ -41,6 +45,7 @@ class UserSagaCommandExecutorTest {
             //given
             UserSagaCommand command = UserSagaCommand
                     .of(UserCommandType.USE_POINT, 1L, "ORDER_NO", 1L, 1000L, LocalDateTime.now());
+            given(processedSagaEventGuard.mightBeProcessed(command.getSagaId(), command.getType().name())).willReturn(true);
             given(repository.existsBySagaIdAndCommandType(command.getSagaId(), command.getType().name()))
                     .willReturn(false);
             //when
@@ -50,13 +55,30 @@ class UserSagaCommandExecutorTest {
             verify(userService, times(1)).deductPoints(command.getUserId(), command.getUsedPoint());
             verify(repository, times(1)).save(any(ProcessedSagaEvent.class));
         }
-        
+
+        @Test
+        @DisplayName("최근에 처리한 적 없는 명령은 처리 내역을 조회하지 않고 처리한다")
+        void processSagaCommand_skip_lookup_for_new_command() {
+            //given
+            UserSagaCommand command = UserSagaCommand
+                    .of(UserCommandType.USE_POINT, 1L, "ORDER_NO", 1L, 1000L, LocalDateTime.now());
+            given(processedSagaEventGuard.mightBeProcessed(command.getSagaId(), command.getType().name())).willReturn(false);
+            //when
+            boolean isProcessed = executor.processSagaCommand(command);
+            //then
+            assertThat(isProcessed).isFalse();
+            verify(repository, never()).existsBySagaIdAndCommandType(anyLong(), anyString());
+            verify(userService, times(1)).deductPoints(command.getUserId(), command.getUsedPoint());
+            verify(processedSagaEventGuard).markProcessed(command.getSagaId(), command.getType().name());
+        }
+
         @Test
         @DisplayName("중복 요청시 포인트 차감과 처리 내역 저장은 건너뛴다")
         void processSagaCommand_duplicate_skip() {
             //given
             UserSagaCommand command = UserSagaCommand
                     .of(UserCommandType.USE_POINT, 1L, "ORDER_NO", 1L, 1000L, LocalDateTime.now());
+            given(processedSagaEventGuard.mightBeProcessed(command.getSagaId(), command.getType().name())).willReturn(true);
             given(repository.existsBySagaIdAndCommandType(command.getSagaId(), command.getType().name()))
                     .willReturn(true);
             //when